@@ -1,241 +1,140 @@
 package com.clotzer.property;
 
 import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.LoaderThreadFactory;
 import com.clotzer.property.repository.PropertyRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.clotzer.property.service.PropertyLoadService;
+import com.clotzer.property.service.PropertyLoadStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Data loader component responsible for loading property data from JSON files into the database.
  *
  * <p>This component implements {@link CommandLineRunner} to execute automatically on application startup.
- * It parses JSON property data from {@code /propertyFiles.json} in the classpath and saves it to the
- * MySQL database using batch operations for optimal performance.
+ * It decides whether and where the load runs, and leaves the load itself to {@link PropertyLoadService},
+ * which selects the feed and loading mode and records the outcome in {@link PropertyLoadStatus}.
  *
  * <p>Key features:
  * <ul>
  *   <li>Automatic execution on application startup</li>
- *   <li>JSON parsing and validation with detailed error reporting</li>
- *   <li>Configurable concurrent processing via application properties</li>
- *   <li>Robust error handling with graceful failure recovery</li>
- *   <li>Performance monitoring and timing reports</li>
- *   <li>Debug logging for the first few processed properties</li>
+ *   <li>Optional background loading with readiness held back until the load completes</li>
+ *   <li>Hand-off to the Spring Batch {@code propertyLoadJob} when the batch engine is selected</li>
  * </ul>
  *
  * <p>Configuration properties:
  * <ul>
- *   <li>{@code property.loader.concurrent-threads} - Number of concurrent threads (default: 10)</li>
  *   <li>{@code property.loader.enabled} - Enable/disable the loader (default: true)</li>
+ *   <li>{@code property.loader.async} - Load on a background thread so startup finishes at once, with
+ *       readiness held back until the load completes, see {@link PropertyLoadStatus} (default: false)</li>
+ *   <li>{@code property.loader.engine} - {@code runner} to load in-process, {@code batch} to
+ *       delegate to the Spring Batch {@code propertyLoadJob} (default: runner)</li>
  * </ul>
+ * The properties selecting the feed and how it is loaded are listed on {@link PropertyLoadService}.
  *
  * @author Carey Lotzer
  * @version 1.0
  * @since 1.0
  * @see Property
  * @see PropertyRepository
- * @see com.clotzer.property.PropertyService
+ * @see PropertyLoadService
  */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class DataLoader implements CommandLineRunner {
 
-    /** Repository for property database operations */
-    private final PropertyRepository propertyRepository;
+    /** Logger for this runner */
+    private static final Logger logger = LoggerFactory.getLogger(DataLoader.class);
 
-    /** Jackson ObjectMapper for JSON parsing */
-    private final ObjectMapper objectMapper;
+    /** Service loading the configured feed */
+    private final PropertyLoadService loadService;
 
-    /** Service layer for transactional property operations */
-    private final com.clotzer.property.PropertyService propertyService;
-
-    /** Number of concurrent threads for property processing (configurable via properties) */
-    @Value("${property.loader.concurrent-threads:10}")
-    private int concurrentThreads;
+    /** Load state gating the application's readiness */
+    private final PropertyLoadStatus loadStatus;
 
     /** Flag to enable/disable the property loader (configurable via properties) */
     @Value("${property.loader.enabled:true}")
     private boolean loaderEnabled;
 
+    /**
+     * Loading engine: {@code runner} loads in-process, {@code batch} leaves loading to
+     * {@code propertyLoadJob} (configurable via properties)
+     */
+    @Value("${property.loader.engine:runner}")
+    private String engine;
+
+    /** Whether to load on a background thread instead of blocking startup (configurable via properties) */
+    @Value("${property.loader.async:false}")
+    private boolean async;
+
+    /** Executor running the load in async mode, or {@code null} */
+    private volatile ExecutorService loadExecutor;
+
     /**
      * Constructs a new DataLoader with required dependencies.
      *
-     * @param propertyRepository the repository for property database operations
-     * @param objectMapper the Jackson ObjectMapper for JSON parsing
-     * @param propertyService the service layer for transactional operations
+     * @param loadService the service loading the configured feed
+     * @param loadStatus the load state gating the application's readiness
      */
-    public DataLoader(PropertyRepository propertyRepository, ObjectMapper objectMapper, com.clotzer.property.PropertyService propertyService) {
-        this.propertyRepository = propertyRepository;
-        this.objectMapper = objectMapper;
-        this.propertyService = propertyService;
+    public DataLoader(PropertyLoadService loadService, PropertyLoadStatus loadStatus) {
+        this.loadService = loadService;
+        this.loadStatus = loadStatus;
     }
 
     /**
      * Executes the property data loading process on application startup.
      *
      * <p>This method is automatically called by Spring Boot after the application context is loaded.
-     * It performs the following operations:
-     * <ol>
-     *   <li>Checks if the loader is enabled via configuration</li>
-     *   <li>Locates and validates the JSON file in the classpath</li>
-     *   <li>Parses the JSON structure and validates the format</li>
-     *   <li>Converts JSON objects to Property entities</li>
-     *   <li>Saves properties to the database using batch operations</li>
-     *   <li>Reports performance metrics and completion status</li>
-     * </ol>
-     *
-     * <p>Error handling:
-     * <ul>
-     *   <li>Missing JSON file - logs error and returns gracefully</li>
-     *   <li>Invalid JSON structure - logs detailed error information</li>
-     *   <li>Property parsing errors - logs up to 5 errors with stack traces</li>
-     *   <li>Database errors - logs full exception details</li>
-     * </ul>
+     * A disabled loader marks the status as ready at once. With the batch engine the status stays
+     * {@link PropertyLoadStatus.State#LOADING} until {@code PropertyLoadJobRunner}, which runs after this
+     * runner, records the job's outcome. Otherwise the load runs through
+     * {@link PropertyLoadService#load()}: on this thread, or with {@code property.loader.async=true} on a
+     * {@code property-load} thread, so startup finishes while the load runs and
+     * {@link PropertyLoadStatus} keeps the application refusing traffic until it completes.
      *
      * @param args command line arguments (not used in this implementation)
      */
     @Override
     public void run(String... args) {
         if (!loaderEnabled) {
-            System.out.println("Property loader is disabled");
+            logger.info("Property loader is disabled");
+            loadStatus.ready();
             return;
         }
 
-        System.out.println("Starting property data loading...");
-        
-        long start = System.currentTimeMillis();
-        try {
-            // First, let's check if the resource file exists
-            InputStream inputStream = DataLoader.class.getResourceAsStream("/propertyFiles.json");
-            if (inputStream == null) {
-                System.err.println("ERROR: Could not find /propertyFiles.json in classpath");
-                System.err.println("Make sure the file is in src/main/resources/");
-                return;
-            }
-            
-            System.out.println("Found propertyFiles.json, parsing...");
-            
-            JsonNode root = objectMapper.readTree(inputStream);
-            System.out.println("Parsed JSON root: " + (root != null ? "SUCCESS" : "FAILED"));
-            
-            JsonNode propertiesNode = root.get("properties");
-            if (propertiesNode == null) {
-                System.err.println("ERROR: No 'properties' node found in JSON");
-                return;
-            }
-            
-            if (!propertiesNode.isArray()) {
-                System.err.println("ERROR: 'properties' node is not an array");
-                return;
-            }
-            
-            System.out.println("Found " + propertiesNode.size() + " properties in JSON");
-            
-            List<Property> properties = new ArrayList<>();
-            int successCount = 0;
-            int errorCount = 0;
-            
-            // Parse all properties
-            for (JsonNode node : propertiesNode) {
-                try {
-                    // Debug: print first few properties
-                    if (properties.size() < 3) {
-                        System.out.println("Processing property: " + node.toString());
-                    }
-                    
-                    Property property = new Property(
-                        node.get("id").asLong(),
-                        node.get("propertyName").asText(),
-                        node.get("propertyLocation").asText(),
-                        node.get("propertyCity").asText(),
-                        node.get("propertyState").asText(),
-                        node.get("propertyCountry").asText(),
-                        node.get("propertyAddress").asText(),
-                        node.get("propertyPhoneNumber").asText(),
-                        node.get("propertyEmailAddress").asText(),
-                        node.get("propertyAirportProximity").asText(),
-                        node.get("propertyDescription").asText(),
-                        node.get("propertyPricePerNight").asText(),
-                        node.get("propertyCommissionAmount").asText(),
-                        node.get("propertyCancellationPenalty").asText()
-                    );
-                    properties.add(property);
-                    successCount++;
-                    
-                } catch (Exception e) {
-                    System.err.println("Error parsing property: " + e.getMessage());
-                    errorCount++;
-                    if (errorCount < 5) { // Only show first 5 errors
-                        e.printStackTrace();
-                    }
-                }
-            }
-            
-            System.out.println("Parsed " + successCount + " properties successfully, " + errorCount + " errors");
-            
-            if (!properties.isEmpty()) {
-                System.out.println("Saving properties to database...");
-                
-                // Save all at once for debugging
-                try {
-                    propertyService.savePropertiesBatch(properties);
-                    long count = propertyRepository.count();
-                    System.out.println("Database now contains " + count + " properties");
-                } catch (Exception e) {
-                    System.err.println("Error saving properties: " + e.getMessage());
-                    e.printStackTrace();
-                }
-            }
-            
-            long end = System.currentTimeMillis();
-            System.out.println("Property loading completed in " + (end - start) + " ms");
-            
-        } catch (Exception e) {
-            System.err.println("Failed to load properties: " + e.getMessage());
-            e.printStackTrace();
+        loadStatus.loading();
+        if ("batch".equals(engine)) {
+            logger.info("Property loading is delegated to the Spring Batch job");
+            return;
         }
+        if (async) {
+            ExecutorService executor = Executors.newSingleThreadExecutor(new LoaderThreadFactory("property-load"));
+            loadExecutor = executor;
+            executor.execute(loadService::load);
+            executor.shutdown();
+            logger.info("Property loading started in the background");
+            return;
+        }
+        loadService.load();
     }
-    
-    /**
-     * Safely extracts a string value from a JSON node.
-     *
-     * <p>This utility method provides null-safe extraction of string values from JSON nodes.
-     * If the field is missing or null, an empty string is returned.
-     *
-     * @param node the JSON node to extract from
-     * @param fieldName the name of the field to extract
-     * @return the string value of the field, or empty string if null/missing
-     */
-    private String getStringValue(JsonNode node, String fieldName) {
-        JsonNode field = node.get(fieldName);
-        return field != null ? field.asText() : "";
-    }
-    
+
     /**
-     * Safely extracts a numeric value from a JSON node as a string.
-     *
-     * <p>This utility method handles both numeric and string representations of numbers
-     * in JSON. It converts numeric values to their string representation and returns
-     * "0" for missing or null fields.
-     *
-     * @param node the JSON node to extract from
-     * @param fieldName the name of the numeric field to extract
-     * @return the string representation of the numeric value, or "0" if null/missing
+     * Interrupts a background load that is still running when the application shuts down.
      */
-    private String getNumericValue(JsonNode node, String fieldName) {
-        JsonNode field = node.get(fieldName);
-        if (field != null) {
-            if (field.isNumber()) {
-                return String.valueOf(field.asDouble());
-            } else {
-                return field.asText();
-            }
+    @PreDestroy
+    public void stop() {
+        ExecutorService executor = loadExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
         }
-        return "0";
     }
-}
\ No newline at end of file
+}
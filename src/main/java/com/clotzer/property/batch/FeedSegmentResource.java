@@ -0,0 +1,83 @@
+package com.clotzer.property.batch;
+
+import com.clotzer.property.loader.JsonFeedSegmenter;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Resource exposing one {@link JsonFeedSegmenter.Segment} of a feed as a standalone JSON array.
+ *
+ * <p>File-backed feeds are positioned with a {@link FileChannel} seek, so opening a segment near the
+ * end of a large file costs no extra I/O. Other resources fall back to skipping bytes.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyFileSegmentPartitioner
+ */
+public class FeedSegmentResource extends AbstractResource {
+
+    /** The complete feed */
+    private final Resource feed;
+
+    /** The segment of the feed exposed by this resource */
+    private final JsonFeedSegmenter.Segment segment;
+
+    /**
+     * Creates a resource for one segment of a feed.
+     *
+     * @param feed the complete feed
+     * @param segment the segment to expose
+     */
+    public FeedSegmentResource(Resource feed, JsonFeedSegmenter.Segment segment) {
+        this.feed = feed;
+        this.segment = segment;
+    }
+
+    /**
+     * Opens the segment as a JSON array.
+     *
+     * @return a stream containing the segment's records wrapped in {@code [} and {@code ]}
+     * @throws IOException if the feed cannot be opened or positioned
+     */
+    @Override
+    public InputStream getInputStream() throws IOException {
+        InputStream positioned;
+        if (feed.isFile()) {
+            FileChannel channel = FileChannel.open(feed.getFile().toPath(), StandardOpenOption.READ);
+            channel.position(segment.startOffset());
+            positioned = Channels.newInputStream(channel);
+        } else {
+            positioned = feed.getInputStream();
+            positioned.skipNBytes(segment.startOffset());
+        }
+        return segment.wrap(positioned);
+    }
+
+    /**
+     * Returns whether the underlying feed exists.
+     *
+     * @return {@code true} if the feed exists
+     */
+    @Override
+    public boolean exists() {
+        return feed.exists();
+    }
+
+    /**
+     * Describes the segment for log and error messages.
+     *
+     * @return a description of the feed and byte range
+     */
+    @Override
+    public String getDescription() {
+        return "segment " + segment.index() + " [" + segment.startOffset() + ", " + segment.endOffset() + ") of "
+            + feed.getDescription();
+    }
+}
@@ -0,0 +1,302 @@
+package com.clotzer.property.batch;
+
+import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.JsonFeedSegmenter;
+import com.clotzer.property.loader.PropertyChunkWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.json.JsonItemReader;
+import org.springframework.batch.item.json.builder.JsonItemReaderBuilder;
+import org.springframework.batch.item.validator.ValidationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Spring Batch configuration for the chunk-oriented property load job.
+ *
+ * <p>Active when {@code property.loader.engine=batch}. The job replaces the in-process loading
+ * performed by {@link com.clotzer.property.DataLoader} with a single chunk-oriented step:
+ * <ul>
+ *   <li>Reader: {@link JsonItemReader} over {@code property.loader.input}, using
+ *       {@link PropertyJsonObjectReader} to stream the {@code properties} array</li>
+ *   <li>Processor: {@link PropertyValidationProcessor}</li>
+ *   <li>Writer: {@link PropertyItemWriter} delegating to the {@link PropertyChunkWriter} selected by
+ *       {@code property.loader.write-mode}</li>
+ * </ul>
+ *
+ * <p>With {@code property.loader.batch.partitioned=true} the job instead starts with
+ * {@code propertyLoadManagerStep}, which uses {@link PropertyFileSegmentPartitioner} to cut the feed
+ * into {@code property.loader.concurrent-threads} file segments and runs one
+ * {@code propertyLoadWorkerStep} per segment on a thread pool of the same size. Each partition keeps
+ * its own execution context, so only failed partitions are re-run on restart.
+ *
+ * <p>Each chunk of {@code property.loader.batch.commit-interval} items is committed in its own
+ * transaction and the reader position is stored in the step execution context, so a failed or
+ * interrupted execution restarts from the last committed chunk. Unmappable and invalid records are
+ * skipped up to {@code property.loader.batch.skip-limit} and reported in the step's skip counts.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyLoadJobRunner
+ */
+@Configuration
+@ConditionalOnProperty(name = "property.loader.engine", havingValue = "batch")
+public class PropertyBatchConfig {
+
+    /** Name of the property load job */
+    public static final String JOB_NAME = "propertyLoadJob";
+
+    /** Name of the single-threaded property load step */
+    public static final String STEP_NAME = "propertyLoadStep";
+
+    /** Name of the partitioned manager step */
+    public static final String MANAGER_STEP_NAME = "propertyLoadManagerStep";
+
+    /** Name of the partition worker step */
+    public static final String WORKER_STEP_NAME = "propertyLoadWorkerStep";
+
+    /** Job parameter holding the input resource location */
+    public static final String INPUT_PARAMETER = "input";
+
+    /** Logger for the load step */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyBatchConfig.class);
+
+    /** Number of items committed per chunk (configurable via properties) */
+    @Value("${property.loader.batch.commit-interval:1000}")
+    private int commitInterval;
+
+    /** Maximum number of records skipped before the step fails (configurable via properties) */
+    @Value("${property.loader.batch.skip-limit:100}")
+    private int skipLimit;
+
+    /** Flag to load file segments in parallel partitions (configurable via properties) */
+    @Value("${property.loader.batch.partitioned:false}")
+    private boolean partitioned;
+
+    /** Number of partitions and partition worker threads (configurable via properties) */
+    @Value("${property.loader.concurrent-threads:10}")
+    private int concurrentThreads;
+
+    /**
+     * Step-scoped reader over the input resource named by the {@code input} job parameter.
+     *
+     * @param input the resource location, e.g. {@code classpath:/propertyFiles.json}
+     * @param resourceLoader the loader used to resolve the location
+     * @param objectMapper the Jackson ObjectMapper used for parsing
+     * @return the item reader
+     */
+    @Bean
+    @StepScope
+    public JsonItemReader<Property> propertyItemReader(@Value("#{jobParameters['input']}") String input,
+                                                       ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        return new JsonItemReaderBuilder<Property>()
+            .name("propertyItemReader")
+            .resource(resourceLoader.getResource(input))
+            .jsonObjectReader(new PropertyJsonObjectReader(objectMapper))
+            .build();
+    }
+
+    /**
+     * Processor validating each property before it is written.
+     *
+     * @return the validation processor
+     */
+    @Bean
+    public PropertyValidationProcessor propertyValidationProcessor() {
+        return new PropertyValidationProcessor();
+    }
+
+    /**
+     * Writer persisting each chunk with the configured chunk writer.
+     *
+     * @param propertyChunkWriter the chunk writer selected by {@code property.loader.write-mode}
+     * @return the item writer
+     */
+    @Bean
+    public PropertyItemWriter propertyItemWriter(PropertyChunkWriter propertyChunkWriter) {
+        return new PropertyItemWriter(propertyChunkWriter);
+    }
+
+    /**
+     * The chunk-oriented load step reading the whole feed on one thread.
+     *
+     * @param jobRepository the job repository storing step state
+     * @param transactionManager the transaction manager used for chunk commits
+     * @param propertyItemReader the item reader
+     * @param propertyValidationProcessor the item processor
+     * @param propertyItemWriter the item writer
+     * @return the load step
+     */
+    @Bean
+    public Step propertyLoadStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                                 @Qualifier("propertyItemReader") ItemReader<Property> propertyItemReader,
+                                 PropertyValidationProcessor propertyValidationProcessor,
+                                 PropertyItemWriter propertyItemWriter) {
+        return chunkStep(STEP_NAME, jobRepository, transactionManager, propertyItemReader,
+            propertyValidationProcessor, propertyItemWriter);
+    }
+
+    /**
+     * Step-scoped partitioner splitting the feed named by the {@code input} job parameter into
+     * file segments.
+     *
+     * @param input the resource location
+     * @param resourceLoader the loader used to resolve the location
+     * @param objectMapper the Jackson ObjectMapper used to scan the feed
+     * @return the partitioner
+     */
+    @Bean
+    @StepScope
+    public PropertyFileSegmentPartitioner propertyFileSegmentPartitioner(
+            @Value("#{jobParameters['input']}") String input, ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        return new PropertyFileSegmentPartitioner(resourceLoader.getResource(input), objectMapper);
+    }
+
+    /**
+     * Step-scoped reader over the file segment assigned to the current partition.
+     *
+     * @param input the resource location
+     * @param stepExecution the worker step execution holding the partition context
+     * @param resourceLoader the loader used to resolve the location
+     * @param objectMapper the Jackson ObjectMapper used for parsing
+     * @return the item reader
+     */
+    @Bean
+    @StepScope
+    public JsonItemReader<Property> propertySegmentItemReader(@Value("#{jobParameters['input']}") String input,
+                                                              @Value("#{stepExecution}") StepExecution stepExecution,
+                                                              ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        JsonFeedSegmenter.Segment segment = PropertyFileSegmentPartitioner.segmentOf(stepExecution.getExecutionContext());
+        return new JsonItemReaderBuilder<Property>()
+            .name("propertySegmentItemReader")
+            .resource(new FeedSegmentResource(resourceLoader.getResource(input), segment))
+            .jsonObjectReader(new PropertyJsonObjectReader(objectMapper))
+            .build();
+    }
+
+    /**
+     * Task executor running partition worker steps, sized from {@code property.loader.concurrent-threads}.
+     *
+     * @return the partition task executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor propertyPartitionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize());
+        executor.setMaxPoolSize(gridSize());
+        executor.setThreadNamePrefix("property-partition-");
+        return executor;
+    }
+
+    /**
+     * Worker step loading one file segment.
+     *
+     * @param jobRepository the job repository storing step state
+     * @param transactionManager the transaction manager used for chunk commits
+     * @param propertySegmentItemReader the segment item reader
+     * @param propertyValidationProcessor the item processor
+     * @param propertyItemWriter the item writer
+     * @return the worker step
+     */
+    @Bean
+    public Step propertyLoadWorkerStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                                       @Qualifier("propertySegmentItemReader") ItemReader<Property> propertySegmentItemReader,
+                                       PropertyValidationProcessor propertyValidationProcessor,
+                                       PropertyItemWriter propertyItemWriter) {
+        return chunkStep(WORKER_STEP_NAME, jobRepository, transactionManager, propertySegmentItemReader,
+            propertyValidationProcessor, propertyItemWriter);
+    }
+
+    /**
+     * Manager step fanning the feed out to {@code property.loader.concurrent-threads} worker steps.
+     *
+     * @param jobRepository the job repository storing partition state
+     * @param propertyFileSegmentPartitioner the partitioner splitting the feed
+     * @param propertyLoadWorkerStep the worker step
+     * @param propertyPartitionTaskExecutor the executor running worker steps
+     * @return the manager step
+     */
+    @Bean
+    public Step propertyLoadManagerStep(JobRepository jobRepository,
+                                        PropertyFileSegmentPartitioner propertyFileSegmentPartitioner,
+                                        @Qualifier("propertyLoadWorkerStep") Step propertyLoadWorkerStep,
+                                        ThreadPoolTaskExecutor propertyPartitionTaskExecutor) {
+        return new StepBuilder(MANAGER_STEP_NAME, jobRepository)
+            .partitioner(WORKER_STEP_NAME, propertyFileSegmentPartitioner)
+            .step(propertyLoadWorkerStep)
+            .gridSize(gridSize())
+            .taskExecutor(propertyPartitionTaskExecutor)
+            .build();
+    }
+
+    /**
+     * The property load job.
+     *
+     * <p>Starts with the partitioned manager step when {@code property.loader.batch.partitioned=true},
+     * otherwise with the single-threaded load step.
+     *
+     * @param jobRepository the job repository storing job state
+     * @param propertyLoadStep the single-threaded load step
+     * @param propertyLoadManagerStep the partitioned manager step
+     * @return the load job
+     */
+    @Bean
+    public Job propertyLoadJob(JobRepository jobRepository, @Qualifier("propertyLoadStep") Step propertyLoadStep,
+                               @Qualifier("propertyLoadManagerStep") Step propertyLoadManagerStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+            .start(partitioned ? propertyLoadManagerStep : propertyLoadStep)
+            .build();
+    }
+
+    /**
+     * Builds a fault-tolerant chunk step with the configured commit interval and skip limit.
+     */
+    private Step chunkStep(String name, JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                           ItemReader<Property> reader, PropertyValidationProcessor processor,
+                           PropertyItemWriter writer) {
+        return new StepBuilder(name, jobRepository)
+            .<Property, Property>chunk(Math.max(1, commitInterval), transactionManager)
+            .reader(reader)
+            .processor(processor)
+            .writer(writer)
+            .faultTolerant()
+            .skip(IllegalArgumentException.class)
+            .skip(ValidationException.class)
+            .skipLimit(skipLimit)
+            .listener(new StepExecutionListener() {
+                @Override
+                public ExitStatus afterStep(StepExecution stepExecution) {
+                    logger.info("{} finished with status {}: read={}, written={}, readSkips={}, processSkips={}, "
+                            + "writeSkips={}, commits={}, rollbacks={}",
+                        stepExecution.getStepName(), stepExecution.getStatus(), stepExecution.getReadCount(),
+                        stepExecution.getWriteCount(), stepExecution.getReadSkipCount(),
+                        stepExecution.getProcessSkipCount(), stepExecution.getWriteSkipCount(),
+                        stepExecution.getCommitCount(), stepExecution.getRollbackCount());
+                    return stepExecution.getExitStatus();
+                }
+            })
+            .build();
+    }
+
+    private int gridSize() {
+        return Math.max(1, concurrentThreads);
+    }
+}
@@ -0,0 +1,116 @@
+package com.clotzer.property.batch;
+
+import com.clotzer.property.loader.JsonFeedSegmenter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Partitioner that splits a property feed into contiguous file segments.
+ *
+ * <p>The feed is scanned once with {@link JsonFeedSegmenter}, which tokenizes the records without
+ * binding them. The feed is then cut between records into byte ranges of roughly equal size. Each
+ * partition's execution context holds its byte range and record range, so a worker step reads only
+ * its own segment. Because partition contexts are stored by the job repository, a restart re-runs
+ * only the partitions that did not complete.
+ *
+ * <p>Execution context keys:
+ * <ul>
+ *   <li>{@code segment.index} - position of the segment in the feed</li>
+ *   <li>{@code segment.start} / {@code segment.end} - byte range of the segment</li>
+ *   <li>{@code segment.firstRecord} / {@code segment.recordCount} - record range of the segment</li>
+ * </ul>
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see FeedSegmentResource
+ */
+public class PropertyFileSegmentPartitioner implements Partitioner {
+
+    /** Execution context key for the segment index */
+    public static final String SEGMENT_INDEX = "segment.index";
+
+    /** Execution context key for the segment start offset */
+    public static final String SEGMENT_START = "segment.start";
+
+    /** Execution context key for the segment end offset */
+    public static final String SEGMENT_END = "segment.end";
+
+    /** Execution context key for the index of the first record in the segment */
+    public static final String SEGMENT_FIRST_RECORD = "segment.firstRecord";
+
+    /** Execution context key for the number of records in the segment */
+    public static final String SEGMENT_RECORD_COUNT = "segment.recordCount";
+
+    /** Logger for this partitioner */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyFileSegmentPartitioner.class);
+
+    /** The feed to partition */
+    private final Resource feed;
+
+    /** Jackson ObjectMapper used to scan the feed */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a partitioner for the given feed.
+     *
+     * @param feed the property feed to partition
+     * @param objectMapper the Jackson ObjectMapper used to scan the feed
+     */
+    public PropertyFileSegmentPartitioner(Resource feed, ObjectMapper objectMapper) {
+        this.feed = feed;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Splits the feed into at most {@code gridSize} partitions.
+     *
+     * @param gridSize the desired number of partitions
+     * @return execution contexts keyed by partition name
+     * @throws ItemStreamException if the feed cannot be scanned
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        List<JsonFeedSegmenter.Segment> segments;
+        try {
+            segments = JsonFeedSegmenter.split(objectMapper, feed.getInputStream(), feed.contentLength(), gridSize);
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to partition " + feed.getDescription(), e);
+        }
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (JsonFeedSegmenter.Segment segment : segments) {
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(SEGMENT_INDEX, segment.index());
+            context.putLong(SEGMENT_START, segment.startOffset());
+            context.putLong(SEGMENT_END, segment.endOffset());
+            context.putLong(SEGMENT_FIRST_RECORD, segment.firstRecord());
+            context.putLong(SEGMENT_RECORD_COUNT, segment.recordCount());
+            partitions.put("partition" + segment.index(), context);
+            logger.info("Partition {}: records {}..{}, bytes {}..{}", segment.index(), segment.firstRecord(),
+                segment.firstRecord() + segment.recordCount() - 1, segment.startOffset(), segment.endOffset());
+        }
+        return partitions;
+    }
+
+    /**
+     * Rebuilds the segment described by a partition's execution context.
+     *
+     * @param context the partition execution context
+     * @return the segment
+     */
+    public static JsonFeedSegmenter.Segment segmentOf(ExecutionContext context) {
+        return new JsonFeedSegmenter.Segment(context.getInt(SEGMENT_INDEX), context.getLong(SEGMENT_START),
+            context.getLong(SEGMENT_END), context.getLong(SEGMENT_FIRST_RECORD), context.getLong(SEGMENT_RECORD_COUNT));
+    }
+}
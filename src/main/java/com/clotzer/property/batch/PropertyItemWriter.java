@@ -0,0 +1,43 @@
+package com.clotzer.property.batch;
+
+import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.PropertyChunkWriter;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+
+/**
+ * Spring Batch {@link ItemWriter} that hands each chunk to a {@link PropertyChunkWriter}.
+ *
+ * <p>The chunk is written inside the step's chunk transaction, so a crash never leaves a
+ * partially written chunk behind and a restart resumes at the first uncommitted chunk.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class PropertyItemWriter implements ItemWriter<Property> {
+
+    /** Destination for written chunks */
+    private final PropertyChunkWriter delegate;
+
+    /**
+     * Creates a new item writer.
+     *
+     * @param delegate the chunk writer that persists the properties
+     */
+    public PropertyItemWriter(PropertyChunkWriter delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Writes a chunk of properties.
+     *
+     * @param chunk the properties to write
+     */
+    @Override
+    public void write(Chunk<? extends Property> chunk) {
+        delegate.write(new ArrayList<>(chunk.getItems()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.clotzer.property.batch;
+
+import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.JsonStreamingPropertyReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.json.JsonObjectReader;
+import org.springframework.core.io.Resource;
+
+/**
+ * Spring Batch {@link JsonObjectReader} for property feeds.
+ *
+ * <p>Spring Batch's built-in {@code JacksonJsonObjectReader} only accepts a top-level JSON array,
+ * whereas property feeds wrap the array in a {@code {"properties": [...]}} envelope. This adapter
+ * delegates to {@link JsonStreamingPropertyReader}, which handles both layouts and binds one record
+ * at a time.
+ *
+ * <p>On restart, {@link #jumpToItem(int)} skips already committed records by tokenizing them
+ * without binding, so resuming near the end of a large feed stays cheap.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see org.springframework.batch.item.json.JsonItemReader
+ */
+public class PropertyJsonObjectReader implements JsonObjectReader<Property> {
+
+    /** Jackson ObjectMapper used to create the streaming parser */
+    private final ObjectMapper objectMapper;
+
+    /** Reader over the currently open resource */
+    private JsonStreamingPropertyReader delegate;
+
+    /**
+     * Creates a new object reader.
+     *
+     * @param objectMapper the Jackson ObjectMapper used to create the streaming parser
+     */
+    public PropertyJsonObjectReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Opens the given resource for reading.
+     *
+     * @param resource the property feed
+     * @throws Exception if the resource cannot be opened
+     */
+    @Override
+    public void open(Resource resource) throws Exception {
+        delegate = new JsonStreamingPropertyReader(objectMapper, resource.getInputStream());
+    }
+
+    /**
+     * Reads the next property.
+     *
+     * @return the next property, or {@code null} at the end of the feed
+     * @throws Exception if the feed cannot be read or the record cannot be mapped
+     */
+    @Override
+    public Property read() throws Exception {
+        return delegate.read();
+    }
+
+    /**
+     * Skips records until the given item index without binding them.
+     *
+     * @param itemIndex the number of records to skip
+     * @throws Exception if the feed ends before the requested index
+     */
+    @Override
+    public void jumpToItem(int itemIndex) throws Exception {
+        for (int i = 0; i < itemIndex; i++) {
+            if (!delegate.skip()) {
+                throw new ItemStreamException("Feed ended after " + i + " records while restarting at record " + itemIndex);
+            }
+        }
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws Exception if closing fails
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate != null) {
+            delegate.close();
+            delegate = null;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.clotzer.property.batch;
+
+import com.clotzer.property.service.PropertyLoadStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Launches {@code propertyLoadJob} on application startup when the batch engine is selected.
+ *
+ * <p>If the most recent execution of the job failed or was stopped for the same input, it is
+ * restarted with its original parameters so loading resumes from the last committed chunk.
+ * Otherwise a new job instance is started with a fresh {@code run.id}.
+ *
+ * <p>The job's outcome is recorded in {@link PropertyLoadStatus}: {@code READY} once it completes, and
+ * {@code FAILED} if it ends with any other status or cannot be launched, so readiness is held back
+ * until the job has loaded the full dataset. {@link com.clotzer.property.DataLoader} runs first and
+ * marks the status as {@code LOADING}.
+ *
+ * <p>Spring Boot's own job runner should be disabled ({@code spring.batch.job.enabled=false}) so the
+ * job is not launched twice.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyBatchConfig
+ */
+@Component
+@ConditionalOnProperty(name = "property.loader.engine", havingValue = "batch")
+public class PropertyLoadJobRunner implements CommandLineRunner {
+
+    /** Logger for this runner */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyLoadJobRunner.class);
+
+    /** Launcher used to start or restart the job */
+    private final JobLauncher jobLauncher;
+
+    /** Explorer used to find the previous execution */
+    private final JobExplorer jobExplorer;
+
+    /** The property load job */
+    private final Job propertyLoadJob;
+
+    /** Load state gating the application's readiness */
+    private final PropertyLoadStatus loadStatus;
+
+    /** Input resource location (configurable via properties) */
+    @Value("${property.loader.input:classpath:/propertyFiles.json}")
+    private String input;
+
+    /** Flag to enable/disable the property loader (configurable via properties) */
+    @Value("${property.loader.enabled:true}")
+    private boolean loaderEnabled;
+
+    /**
+     * Constructs a new PropertyLoadJobRunner with required dependencies.
+     *
+     * @param jobLauncher the launcher used to start the job
+     * @param jobExplorer the explorer used to find previous executions
+     * @param propertyLoadJob the property load job
+     * @param loadStatus the load state gating the application's readiness
+     */
+    public PropertyLoadJobRunner(JobLauncher jobLauncher, JobExplorer jobExplorer, Job propertyLoadJob,
+                                 PropertyLoadStatus loadStatus) {
+        this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.propertyLoadJob = propertyLoadJob;
+        this.loadStatus = loadStatus;
+    }
+
+    /**
+     * Starts or restarts the property load job and records its outcome in the load status.
+     *
+     * @param args command line arguments (not used in this implementation)
+     * @throws Exception if the job cannot be launched
+     */
+    @Override
+    public void run(String... args) throws Exception {
+        if (!loaderEnabled) {
+            logger.info("Property loader is disabled");
+            return;
+        }
+
+        JobParameters parameters = restartParameters();
+        if (parameters != null) {
+            logger.info("Restarting {} from the last committed chunk of {}", PropertyBatchConfig.JOB_NAME, input);
+        } else {
+            parameters = new JobParametersBuilder()
+                .addString(PropertyBatchConfig.INPUT_PARAMETER, input)
+                .addLong("run.id", System.currentTimeMillis())
+                .toJobParameters();
+        }
+
+        JobExecution execution;
+        try {
+            execution = jobLauncher.run(propertyLoadJob, parameters);
+        } catch (Exception e) {
+            loadStatus.failed("Could not launch " + PropertyBatchConfig.JOB_NAME + ": " + e.getMessage());
+            throw e;
+        }
+        BatchStatus status = execution.getStatus();
+        logger.info("{} finished with status {}", PropertyBatchConfig.JOB_NAME, status);
+        if (status == BatchStatus.COMPLETED) {
+            loadStatus.ready();
+        } else {
+            loadStatus.failed(PropertyBatchConfig.JOB_NAME + " finished with status " + status);
+        }
+    }
+
+    /**
+     * Returns the parameters of the last execution if it should be restarted.
+     *
+     * @return the parameters to restart with, or {@code null} to start a new instance
+     */
+    private JobParameters restartParameters() {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(PropertyBatchConfig.JOB_NAME);
+        if (lastInstance == null) {
+            return null;
+        }
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution == null) {
+            return null;
+        }
+        BatchStatus status = lastExecution.getStatus();
+        boolean restartable = status == BatchStatus.FAILED || status == BatchStatus.STOPPED;
+        boolean sameInput = input.equals(lastExecution.getJobParameters().getString(PropertyBatchConfig.INPUT_PARAMETER));
+        return restartable && sameInput ? lastExecution.getJobParameters() : null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.clotzer.property.batch;
+
+import com.clotzer.property.entity.Property;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.validator.ValidationException;
+
+import java.math.BigDecimal;
+
+/**
+ * Item processor that validates properties before they are written.
+ *
+ * <p>Invalid properties are rejected with a {@link ValidationException}, which the load step treats
+ * as skippable: the record is counted in the step's process-skip count and the chunk continues.
+ *
+ * <p>Validation rules:
+ * <ul>
+ *   <li>The ID must be positive</li>
+ *   <li>Name, city, country and email address must not be blank</li>
+ *   <li>Price per night and commission amount must be present and not negative</li>
+ *   <li>The description must fit the 1000 character column</li>
+ * </ul>
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class PropertyValidationProcessor implements ItemProcessor<Property, Property> {
+
+    /** Maximum length of the description column */
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    /**
+     * Validates a property.
+     *
+     * @param property the property to validate
+     * @return the same property if it is valid
+     * @throws ValidationException if the property violates a validation rule
+     */
+    @Override
+    public Property process(Property property) {
+        if (property.getId() <= 0) {
+            throw new ValidationException("Property id must be positive but was " + property.getId());
+        }
+        requireText(property, property.getPropertyName(), "propertyName");
+        requireText(property, property.getPropertyCity(), "propertyCity");
+        requireText(property, property.getPropertyCountry(), "propertyCountry");
+        requireText(property, property.getPropertyEmailAddress(), "propertyEmailAddress");
+        requireAmount(property, property.getPropertyPricePerNight(), "propertyPricePerNight");
+        requireAmount(property, property.getPropertyCommissionAmount(), "propertyCommissionAmount");
+
+        String description = property.getPropertyDescription();
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new ValidationException("Property id=" + property.getId() + " has a description longer than "
+                + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        return property;
+    }
+
+    private static void requireText(Property property, String value, String fieldName) {
+        if (value == null || value.isBlank()) {
+            throw new ValidationException("Property id=" + property.getId() + " has a blank " + fieldName);
+        }
+    }
+
+    private static void requireAmount(Property property, BigDecimal value, String fieldName) {
+        if (value == null) {
+            throw new ValidationException("Property id=" + property.getId() + " has no " + fieldName);
+        }
+        if (value.signum() < 0) {
+            throw new ValidationException("Property id=" + property.getId() + " has a negative " + fieldName
+                + ": " + value.toPlainString());
+        }
+    }
+}
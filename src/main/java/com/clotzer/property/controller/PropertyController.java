@@ -3,15 +3,22 @@ package com.clotzer.property.controller;
 import com.clotzer.property.entity.Property;
 import com.clotzer.property.repository.PropertyRepository;
 import com.clotzer.property.PropertyService;
+import com.clotzer.property.loader.PropertyLoadProgress;
+import com.clotzer.property.service.PropertyLoadStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +37,10 @@ import java.util.Map;
  * <ul>
  *   <li>{@code GET /api/property} - Retrieve all properties</li>
  *   <li>{@code GET /api/property/count} - Get total property count</li>
+ *   <li>{@code GET /api/property/price?min=&max=} - Retrieve properties within a price range</li>
+ *   <li>{@code GET /api/property/price/stats} - Get price and commission statistics</li>
+ *   <li>{@code GET /api/property/load/ready} - Get the load state, with status 503 until the load completes</li>
+ *   <li>{@code GET /api/property/load/status} - Get the progress and throughput of the current or last load</li>
  * </ul>
  *
  * <p>Response formats:
@@ -58,15 +69,21 @@ public class PropertyController {
     /** Service layer for property business operations */
     private final PropertyService propertyService;
 
+    /** State of the property load on this node */
+    private final PropertyLoadStatus loadStatus;
+
     /**
      * Constructs a new PropertyController with required dependencies.
      *
      * @param propertyRepository the repository for property database operations
      * @param propertyService the service layer for property business operations
+     * @param loadStatus the state of the property load on this node
      */
-    public PropertyController(PropertyRepository propertyRepository, PropertyService propertyService) {
+    public PropertyController(PropertyRepository propertyRepository, PropertyService propertyService,
+                              PropertyLoadStatus loadStatus) {
         this.propertyRepository = propertyRepository;
         this.propertyService = propertyService;
+        this.loadStatus = loadStatus;
     }
 
     /**
@@ -98,8 +115,8 @@ public class PropertyController {
      *     "propertyEmailAddress": "info@sunsetresort.com",
      *     "propertyAirportProximity": "10 miles from Miami International",
      *     "propertyDescription": "Beautiful beachfront resort with ocean views",
-     *     "propertyPricePerNight": "299.99",
-     *     "propertyCommissionAmount": "45.00",
+     *     "propertyPricePerNight": 299.99,
+     *     "propertyCommissionAmount": 45.00,
      *     "propertyCancellationPenalty": "50% if cancelled within 48 hours"
      *   },
      *   ...
@@ -151,6 +168,185 @@ public class PropertyController {
         }
     }
 
+    /**
+     * Retrieves the properties whose price per night lies within a range.
+     *
+     * <p>Both bounds are inclusive and compared as decimal amounts. Properties are returned cheapest
+     * first, in the same format as {@link #findAllProperties()}; properties without a price are omitted.
+     *
+     * <p>HTTP Method: GET<br>
+     * Path: {@code /api/property/price?min=100&max=250}<br>
+     * Response: JSON array of property objects, or status 400 for a missing, non-numeric or inverted range
+     *
+     * @param min the lowest price per night
+     * @param max the highest price per night
+     * @return the properties within the range
+     */
+    @GetMapping("/price")
+    public List<Property> findPropertiesByPrice(@RequestParam BigDecimal min, @RequestParam BigDecimal max) {
+        if (min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("min must not be greater than max");
+        }
+        try {
+            return propertyService.findPropertiesByPriceRange(min, max);
+        } catch (Exception e) {
+            logger.error("Error retrieving properties priced from {} to {}", min, max, e);
+            throw new RuntimeException("Database error");
+        }
+    }
+
+    /**
+     * Retrieves statistics of the price and commission amounts.
+     *
+     * <p>The count, bounds and totals are aggregated by the database. The average is the total price
+     * divided by the number of priced properties, rounded half-even to cents. Amounts are {@code null}
+     * while no property has a price.
+     *
+     * <p>HTTP Method: GET<br>
+     * Path: {@code /api/property/price/stats}<br>
+     * Response: JSON object with the price count, bounds, average and totals
+     *
+     * <p>Example response:
+     * <pre>
+     * {
+     *   "count": 1000,
+     *   "minimumPrice": 52.10,
+     *   "maximumPrice": 498.75,
+     *   "averagePrice": 276.43,
+     *   "totalPrice": 276430.00,
+     *   "totalCommission": 41464.50
+     * }
+     * </pre>
+     *
+     * @return the price statistics
+     */
+    @GetMapping("/price/stats")
+    public Map<String, Object> getPriceStatistics() {
+        PropertyRepository.PriceStatistics statistics;
+        try {
+            statistics = propertyService.getPriceStatistics();
+        } catch (Exception e) {
+            logger.error("Error retrieving price statistics", e);
+            throw new RuntimeException("Service error");
+        }
+        long count = statistics.getPricedCount() != null ? statistics.getPricedCount() : 0;
+        BigDecimal totalPrice = statistics.getTotalPrice();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("count", count);
+        body.put("minimumPrice", statistics.getMinimumPrice());
+        body.put("maximumPrice", statistics.getMaximumPrice());
+        body.put("averagePrice", count > 0 && totalPrice != null
+            ? totalPrice.divide(BigDecimal.valueOf(count), Property.AMOUNT_SCALE, RoundingMode.HALF_EVEN) : null);
+        body.put("totalPrice", totalPrice);
+        body.put("totalCommission", statistics.getTotalCommission());
+        return body;
+    }
+
+    /**
+     * Reports whether this node holds a full dataset.
+     *
+     * <p>Load balancer health checks can target this endpoint: it answers {@code 200 OK} once the load
+     * has completed and {@code 503 Service Unavailable} while it is running or after it failed.
+     *
+     * <p>HTTP Method: GET<br>
+     * Path: {@code /api/property/load/ready}<br>
+     * Response: JSON object with the load state and, after a failure, its reason
+     *
+     * <p>Example response:
+     * <pre>
+     * {
+     *   "state": "LOADING",
+     *   "startedAt": "2025-01-15T09:30:00Z"
+     * }
+     * </pre>
+     *
+     * @return the load state, with status 200 when {@code READY} and 503 otherwise
+     */
+    @GetMapping("/load/ready")
+    public ResponseEntity<Map<String, Object>> getLoadReadiness() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("state", loadStatus.getState());
+        if (loadStatus.getStartedAt() != null) {
+            body.put("startedAt", loadStatus.getStartedAt().toString());
+        }
+        if (loadStatus.getFinishedAt() != null) {
+            body.put("finishedAt", loadStatus.getFinishedAt().toString());
+        }
+        if (loadStatus.getFailure() != null) {
+            body.put("failure", loadStatus.getFailure());
+        }
+        return ResponseEntity.status(loadStatus.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(body);
+    }
+
+    /**
+     * Reports the progress of the current or last load.
+     *
+     * <p>The counters are read from {@link PropertyLoadProgress} without pausing the load, so they may
+     * be a few records apart from each other. Rates cover the last ten seconds. {@code bytesTotal} is
+     * {@code -1} when the feed size is unknown, and {@code etaSeconds} is {@code null} while the feed
+     * size or the rate is unknown.
+     *
+     * <p>HTTP Method: GET<br>
+     * Path: {@code /api/property/load/status}<br>
+     * Response: JSON object with the load state, phase, counters, rates and estimate
+     *
+     * <p>Example response:
+     * <pre>
+     * {
+     *   "state": "LOADING",
+     *   "phase": "LOADING",
+     *   "recordsParsed": 412000,
+     *   "recordsPersisted": 405000,
+     *   "recordsRejected": 12,
+     *   "recordsFailed": 0,
+     *   "errors": 12,
+     *   "bytesRead": 318767104,
+     *   "bytesTotal": 1073741824,
+     *   "recordsPerSecond": 52340.5,
+     *   "bytesPerSecond": 41201000.0,
+     *   "etaSeconds": 19,
+     *   "elapsedMillis": 7950
+     * }
+     * </pre>
+     *
+     * @return the load progress
+     */
+    @GetMapping("/load/status")
+    public Map<String, Object> getLoadStatus() {
+        PropertyLoadProgress.Report report = loadStatus.getProgress().report();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("state", loadStatus.getState());
+        body.put("phase", report.phase());
+        body.put("recordsParsed", report.parsed());
+        body.put("recordsPersisted", report.persisted());
+        body.put("recordsRejected", report.rejected());
+        body.put("recordsFailed", report.failed());
+        body.put("errors", report.errors());
+        body.put("bytesRead", report.bytesRead());
+        body.put("bytesTotal", report.bytesTotal());
+        body.put("recordsPerSecond", Math.round(report.recordsPerSecond() * 10) / 10.0);
+        body.put("bytesPerSecond", Math.round(report.bytesPerSecond() * 10) / 10.0);
+        body.put("etaSeconds", report.etaSeconds());
+        body.put("elapsedMillis", report.elapsedMillis());
+        if (loadStatus.getFailure() != null) {
+            body.put("failure", loadStatus.getFailure());
+        }
+        return body;
+    }
+
+    /**
+     * Exception handler for invalid request parameters.
+     *
+     * @param e the exception describing the invalid parameter
+     * @return a response entity with bad request status
+     */
+    @ExceptionHandler({IllegalArgumentException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<Map<String, String>> handleBadRequest(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", e.getMessage()));
+    }
+
     /**
      * Global exception handler for runtime exceptions.
      *
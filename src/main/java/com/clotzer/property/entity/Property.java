@@ -1,10 +1,14 @@
 package com.clotzer.property.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
+import java.math.BigDecimal;
+
 /**
  * JPA entity representing a property in the real estate system.
  *
@@ -15,10 +19,10 @@ import jakarta.persistence.Table;
  * <p>Key features:
  * <ul>
  *   <li>Complete property information including name, location, and contact details</li>
- *   <li>Pricing information with commission amounts and cancellation policies</li>
+ *   <li>Pricing information with fixed-point nightly rates, commission amounts and cancellation policies</li>
  *   <li>Extended property descriptions up to 1000 characters</li>
  *   <li>Airport proximity information for travel convenience</li>
- *   <li>Flexible string-based storage for all attributes to handle various data formats</li>
+ *   <li>Flexible string-based storage for descriptive attributes to handle various data formats</li>
  * </ul>
  *
  * <p>Database mapping:
@@ -26,6 +30,8 @@ import jakarta.persistence.Table;
  *   <li>Table: {@code property}</li>
  *   <li>Primary key: {@code id} (long)</li>
  *   <li>Property description: VARCHAR(1000) to accommodate longer descriptions</li>
+ *   <li>Price per night and commission amount: DECIMAL(12,2), nullable; the price is indexed for range queries</li>
+ *   <li>Content hash: BIGINT, nullable, used by incremental reloads and left out of JSON</li>
  *   <li>All other fields: Default VARCHAR(255)</li>
  * </ul>
  *
@@ -34,9 +40,15 @@ import jakarta.persistence.Table;
  * @since 1.0
  */
 @Entity
-@Table(name = "property")
+@Table(name = "property", indexes = @Index(name = "idx_property_price_per_night", columnList = "propertyPricePerNight"))
 public class Property {
 
+    /** Total number of digits of the price and commission columns */
+    public static final int AMOUNT_PRECISION = 12;
+
+    /** Number of decimal places of the price and commission columns */
+    public static final int AMOUNT_SCALE = 2;
+
     /** Unique identifier for the property */
     @Id
     private long id;
@@ -75,15 +87,25 @@ public class Property {
     @Column(length = 1000)
     private String propertyDescription;
 
-    /** Nightly rate for the property as a string to handle various formats */
-    private String propertyPricePerNight;
+    /** Nightly rate for the property, with two decimal places */
+    @Column(precision = AMOUNT_PRECISION, scale = AMOUNT_SCALE)
+    private BigDecimal propertyPricePerNight;
 
-    /** Commission amount earned from bookings */
-    private String propertyCommissionAmount;
+    /** Commission amount earned from bookings, with two decimal places */
+    @Column(precision = AMOUNT_PRECISION, scale = AMOUNT_SCALE)
+    private BigDecimal propertyCommissionAmount;
 
     /** Cancellation policy and penalty information */
     private String propertyCancellationPenalty;
 
+    /**
+     * 64-bit hash of the descriptive fields, set when the property is loaded from a feed.
+     * Incremental reloads compare it to skip unchanged rows; {@code null} means unknown.
+     * It is internal to change detection, so it is neither written to nor read from JSON.
+     */
+    @JsonIgnore
+    private Long contentHash;
+
     /**
      * Default constructor required by JPA.
      * Creates an empty Property instance.
@@ -113,7 +135,7 @@ public class Property {
      */
     public Property(long id, String propertyName, String propertyLocation, String propertyCity, String propertyState,
                     String propertyCountry, String propertyAddress, String propertyPhoneNumber, String propertyEmailAddress,
-                    String propertyAirportProximity, String propertyDescription, String propertyPricePerNight, String propertyCommissionAmount,
+                    String propertyAirportProximity, String propertyDescription, BigDecimal propertyPricePerNight, BigDecimal propertyCommissionAmount,
                     String propertyCancellationPenalty) {
         this.id = id;
         this.propertyName = propertyName;
@@ -269,25 +291,25 @@ public class Property {
      * Gets the nightly rate for the property.
      * @return the property price per night
      */
-    public String getPropertyPricePerNight() { return propertyPricePerNight; }
+    public BigDecimal getPropertyPricePerNight() { return propertyPricePerNight; }
 
     /**
      * Sets the nightly rate for the property.
      * @param propertyPricePerNight the property price per night to set
      */
-    public void setPropertyPricePerNight(String propertyPricePerNight) { this.propertyPricePerNight = propertyPricePerNight; }
+    public void setPropertyPricePerNight(BigDecimal propertyPricePerNight) { this.propertyPricePerNight = propertyPricePerNight; }
 
     /**
      * Gets the commission amount earned from property bookings.
      * @return the property commission amount
      */
-    public String getPropertyCommissionAmount() { return propertyCommissionAmount; }
+    public BigDecimal getPropertyCommissionAmount() { return propertyCommissionAmount; }
 
     /**
      * Sets the commission amount earned from property bookings.
      * @param propertyCommissionAmount the property commission amount to set
      */
-    public void setPropertyCommissionAmount(String propertyCommissionAmount) { this.propertyCommissionAmount = propertyCommissionAmount; }
+    public void setPropertyCommissionAmount(BigDecimal propertyCommissionAmount) { this.propertyCommissionAmount = propertyCommissionAmount; }
 
     /**
      * Gets the cancellation policy and penalty information.
@@ -300,4 +322,16 @@ public class Property {
      * @param propertyCancellationPenalty the property cancellation penalty details to set
      */
     public void setPropertyCancellationPenalty(String propertyCancellationPenalty) { this.propertyCancellationPenalty = propertyCancellationPenalty; }
+
+    /**
+     * Gets the content hash recorded when the property was loaded.
+     * @return the content hash, or {@code null} if unknown
+     */
+    public Long getContentHash() { return contentHash; }
+
+    /**
+     * Sets the content hash of the property.
+     * @param contentHash the content hash to set
+     */
+    public void setContentHash(Long contentHash) { this.contentHash = contentHash; }
 }
@@ -0,0 +1,72 @@
+package com.clotzer.property.loader;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that stops after a fixed number of bytes.
+ *
+ * <p>Used to confine a reader positioned at the start of a byte range to that range.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class BoundedInputStream extends FilterInputStream {
+
+    /** Bytes left before the bound is reached */
+    private long remaining;
+
+    /**
+     * Creates a stream returning at most {@code limit} bytes of {@code in}.
+     *
+     * @param in the underlying stream; closed when this stream is closed
+     * @param limit the number of bytes to return
+     */
+    BoundedInputStream(InputStream in, long limit) {
+        super(in);
+        this.remaining = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+        int b = in.read();
+        if (b >= 0) {
+            remaining--;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+        int n = in.read(buffer, offset, (int) Math.min(length, remaining));
+        if (n > 0) {
+            remaining -= n;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(Math.min(n, remaining));
+        remaining -= skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(in.available(), remaining);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -0,0 +1,101 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Reader that presents several feed files as one continuous stream of records.
+ *
+ * <p>Files are opened one at a time, in order, when the previous file is exhausted. Each file is read
+ * in its own {@link FeedFormat}, and compressed files are decompressed inline by {@link FeedCompression}.
+ * This is used
+ * where a whole feed must be seen by a single consumer, such as an incremental reload that deletes
+ * rows missing from the feed.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertySourceResolver
+ */
+public class ConcatenatingPropertyRecordReader implements PropertyRecordReader {
+
+    /** Mapper used to create each file's reader */
+    private final ObjectMapper objectMapper;
+
+    /** Files not yet opened */
+    private final Iterator<Path> files;
+
+    /** Reader over the current file, or {@code null} before the first file and after the last */
+    private PropertyRecordReader current;
+
+    /** File being read, or {@code null} before the first file */
+    private Path currentFile;
+
+    /**
+     * Creates a reader over the given files.
+     *
+     * @param objectMapper the mapper used to parse each file
+     * @param files the feed files, in reading order
+     */
+    public ConcatenatingPropertyRecordReader(ObjectMapper objectMapper, List<Path> files) {
+        this.objectMapper = objectMapper;
+        this.files = List.copyOf(files).iterator();
+    }
+
+    /**
+     * Reads the next property, moving on to the next file when the current one is exhausted.
+     *
+     * @return the next property, or {@code null} when every file is exhausted
+     * @throws IOException if a file cannot be opened or is not a property feed
+     * @throws IllegalArgumentException if the current element cannot be mapped to a property
+     */
+    @Override
+    public Property read() throws IOException {
+        while (true) {
+            if (current == null) {
+                if (!files.hasNext()) {
+                    return null;
+                }
+                Path file = files.next();
+                currentFile = file;
+                current = FeedFormat.of(file).reader(objectMapper,
+                    FeedCompression.open(file, new BufferedInputStream(Files.newInputStream(file))));
+            }
+            Property property = current.read();
+            if (property != null) {
+                return property;
+            }
+            current.close();
+            current = null;
+        }
+    }
+
+    /**
+     * Returns the file currently being read.
+     *
+     * @return the current file, or {@code null} before the first read
+     */
+    public Path getCurrentFile() {
+        return currentFile;
+    }
+
+    /**
+     * Closes the file currently being read, if any.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+    }
+}
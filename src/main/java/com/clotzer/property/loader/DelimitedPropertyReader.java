@@ -0,0 +1,389 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reader for CSV and TSV property feeds with a header row.
+ *
+ * <p>The header maps columns to property fields by name, so columns may appear in any order and extra
+ * columns are ignored. Names are matched ignoring case, underscores, hyphens and spaces, so
+ * {@code propertyName}, {@code property_name} and {@code Property Name} all name the same field. All
+ * fields read by {@link JsonStreamingPropertyReader#toProperty} are required. Price and commission are
+ * parsed by {@link PropertyAmounts}; an empty value leaves them unset.
+ *
+ * <p>Fields follow RFC 4180: a field enclosed in double quotes may contain the delimiter, line breaks
+ * and doubled quotes. Rows end with {@code \n} or {@code \r\n}, and blank rows are skipped.
+ *
+ * <p>The parser scans a reused character buffer by hand. An unquoted field, and a quoted field without
+ * escaped quotes, becomes a string straight from the buffer, so a row allocates little beyond its
+ * field values and the property itself.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see FeedFormat#CSV
+ * @see FeedFormat#TSV
+ */
+public class DelimitedPropertyReader implements PropertyRecordReader {
+
+    /** Property fields in constructor order, as named in JSON feeds */
+    static final List<String> FIELDS = List.of("id", "propertyName", "propertyLocation", "propertyCity",
+        "propertyState", "propertyCountry", "propertyAddress", "propertyPhoneNumber", "propertyEmailAddress",
+        "propertyAirportProximity", "propertyDescription", "propertyPricePerNight", "propertyCommissionAmount",
+        "propertyCancellationPenalty");
+
+    /** Initial size of the character buffer */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Decoded feed */
+    private final Reader input;
+
+    /** Field separator */
+    private final char delimiter;
+
+    /** Characters read from the feed */
+    private char[] buffer = new char[BUFFER_SIZE];
+
+    /** Index of the next unconsumed character in {@link #buffer} */
+    private int position;
+
+    /** Index just past the last valid character in {@link #buffer} */
+    private int limit;
+
+    /** Fields of the current row; reused between rows */
+    private String[] fields = new String[FIELDS.size()];
+
+    /** Number of fields in the current row */
+    private int fieldCount;
+
+    /** Reason the current row is malformed, or {@code null} */
+    private String malformed;
+
+    /** Builder for quoted fields containing escaped quotes; reused between fields */
+    private final StringBuilder unescaped = new StringBuilder();
+
+    /** Column index of each entry of {@link #FIELDS}, or {@code null} before the header is read */
+    private int[] columns;
+
+    /** Minimum number of fields a row needs to cover every mapped column */
+    private int requiredFields;
+
+    /** Number of data rows consumed so far, including those that failed to map */
+    private long recordCount;
+
+    /**
+     * Creates a reader over UTF-8 input.
+     *
+     * @param inputStream the feed, starting with the header row; closed when this reader is closed
+     * @param delimiter the field separator, typically {@code ','} or {@code '\t'}
+     * @throws IllegalArgumentException if the delimiter is a quote or line break
+     */
+    public DelimitedPropertyReader(InputStream inputStream, char delimiter) {
+        if (delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+        }
+        this.input = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Reads the property on the next non-blank row.
+     *
+     * <p>The reader always advances past the current row, even when mapping fails, so a caller may
+     * catch the exception, account for the bad record and keep reading.
+     *
+     * @return the next property, or {@code null} at the end of the feed
+     * @throws IOException if the feed cannot be read, the header lacks a required column, or a quoted
+     *                     field is not terminated
+     * @throws RejectedRecordException if the row cannot be mapped to a property
+     */
+    @Override
+    public Property read() throws IOException {
+        if (columns == null) {
+            readHeader();
+        }
+        if (!readRow()) {
+            return null;
+        }
+        recordCount++;
+        if (malformed != null) {
+            throw rejection(malformed + " at record " + recordCount);
+        }
+        if (fieldCount < requiredFields) {
+            throw rejection("Expected at least " + requiredFields + " fields at record "
+                + recordCount + " but found " + fieldCount);
+        }
+
+        long id;
+        try {
+            id = Long.parseLong(field(0).trim());
+        } catch (NumberFormatException e) {
+            throw rejection("Invalid id '" + field(0) + "' at record " + recordCount);
+        }
+        BigDecimal price;
+        BigDecimal commission;
+        try {
+            price = PropertyAmounts.parse(FIELDS.get(11), field(11));
+            commission = PropertyAmounts.parse(FIELDS.get(12), field(12));
+        } catch (IllegalArgumentException e) {
+            throw rejection(e.getMessage() + " at record " + recordCount);
+        }
+        Property property = new Property(id, field(1), field(2), field(3), field(4), field(5), field(6),
+            field(7), field(8), field(9), field(10), price, commission, field(13));
+        property.setContentHash(PropertyContentHasher.hash(property));
+        return property;
+    }
+
+    /**
+     * Creates the rejection for the current row, re-encoding its fields as the raw record.
+     */
+    private RejectedRecordException rejection(String message) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < fieldCount; i++) {
+            if (i > 0) {
+                raw.append(delimiter);
+            }
+            String value = fields[i];
+            if (value.indexOf('"') >= 0 || value.indexOf(delimiter) >= 0 || value.indexOf('\n') >= 0
+                    || value.indexOf('\r') >= 0) {
+                raw.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                raw.append(value);
+            }
+        }
+        return new RejectedRecordException(message, recordCount, -1, raw.toString());
+    }
+
+    /**
+     * Returns the number of data rows consumed so far.
+     *
+     * @return the number of records read, including those that failed to map
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Closes the underlying input stream.
+     *
+     * @throws IOException if closing the input fails
+     */
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    /**
+     * Reads the header row and maps each property field to its column.
+     */
+    private void readHeader() throws IOException {
+        if (fill(position) && buffer[position] == '\uFEFF') {
+            position++;
+        }
+        if (!readRow()) {
+            throw new IOException("Missing header row");
+        }
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < fieldCount; i++) {
+            byName.putIfAbsent(normalize(fields[i]), i);
+        }
+
+        int[] mapped = new int[FIELDS.size()];
+        int maxColumn = 0;
+        for (int i = 0; i < FIELDS.size(); i++) {
+            Integer column = byName.get(normalize(FIELDS.get(i)));
+            if (column == null) {
+                throw new IOException("Missing column '" + FIELDS.get(i) + "' in header");
+            }
+            mapped[i] = column;
+            maxColumn = Math.max(maxColumn, column);
+        }
+        columns = mapped;
+        requiredFields = maxColumn + 1;
+    }
+
+    /**
+     * Returns the value of a property field in the current row.
+     */
+    private String field(int index) {
+        return fields[columns[index]];
+    }
+
+    /**
+     * Reads the next non-blank row into {@link #fields}.
+     *
+     * @return {@code false} at the end of the feed
+     */
+    private boolean readRow() throws IOException {
+        fieldCount = 0;
+        malformed = null;
+        while (true) {
+            if (position >= limit && !fill(position)) {
+                return false;
+            }
+            char c = buffer[position];
+            if (c != '\n' && c != '\r') {
+                break;
+            }
+            position++;
+        }
+
+        while (true) {
+            addField(buffer[position] == '"' ? readQuoted() : readUnquoted());
+            if ((position < limit || fill(position)) && !isTerminator(buffer[position])) {
+                malformed = "Unexpected character after quoted field";
+                readUnquoted();
+            }
+            if (position >= limit && !fill(position)) {
+                return true;
+            }
+            char c = buffer[position++];
+            if (c == '\r') {
+                if ((position < limit || fill(position)) && buffer[position] == '\n') {
+                    position++;
+                }
+                return true;
+            }
+            if (c == '\n') {
+                return true;
+            }
+            if (position >= limit && !fill(position)) {
+                addField("");
+                return true;
+            }
+        }
+    }
+
+    private boolean isTerminator(char c) {
+        return c == delimiter || c == '\n' || c == '\r';
+    }
+
+    /**
+     * Reads an unquoted field, leaving the position at its terminator.
+     */
+    private String readUnquoted() throws IOException {
+        int start = position;
+        while (true) {
+            while (position < limit) {
+                if (isTerminator(buffer[position])) {
+                    return new String(buffer, start, position - start);
+                }
+                position++;
+            }
+            if (!fill(start)) {
+                return new String(buffer, 0, position);
+            }
+            start = 0;
+        }
+    }
+
+    /**
+     * Reads a quoted field starting at its opening quote, leaving the position after the closing quote.
+     */
+    private String readQuoted() throws IOException {
+        position++;
+        int start = position;
+        boolean escaped = false;
+        unescaped.setLength(0);
+        while (true) {
+            while (position < limit) {
+                if (buffer[position] != '"') {
+                    position++;
+                    continue;
+                }
+                if (position + 1 >= limit) {
+                    boolean more = fill(start);
+                    start = 0;
+                    if (!more) {
+                        break;
+                    }
+                }
+                if (position + 1 < limit && buffer[position + 1] == '"') {
+                    unescaped.append(buffer, start, position + 1 - start);
+                    escaped = true;
+                    position += 2;
+                    start = position;
+                    continue;
+                }
+                String value = escaped
+                    ? unescaped.append(buffer, start, position - start).toString()
+                    : new String(buffer, start, position - start);
+                position++;
+                return value;
+            }
+            if (position < limit) {
+                // Closing quote at the very end of the feed
+                String value = escaped
+                    ? unescaped.append(buffer, start, position - start).toString()
+                    : new String(buffer, start, position - start);
+                position++;
+                return value;
+            }
+            if (!fill(start)) {
+                throw new IOException("Unterminated quoted field at record " + (recordCount + 1));
+            }
+            start = 0;
+        }
+    }
+
+    private void addField(String value) {
+        if (fieldCount == fields.length) {
+            fields = Arrays.copyOf(fields, fields.length * 2);
+        }
+        fields[fieldCount++] = value;
+    }
+
+    /**
+     * Moves the characters from {@code keepFrom} to the front of the buffer, growing it if it is full,
+     * and reads more input after them. {@link #position} is shifted along with the kept characters.
+     *
+     * @return {@code false} if the end of the feed was reached and nothing was read
+     */
+    private boolean fill(int keepFrom) throws IOException {
+        if (keepFrom > 0) {
+            System.arraycopy(buffer, keepFrom, buffer, 0, limit - keepFrom);
+            limit -= keepFrom;
+            position -= keepFrom;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int n;
+        do {
+            n = input.read(buffer, limit, buffer.length - limit);
+        } while (n == 0);
+        if (n < 0) {
+            return false;
+        }
+        limit += n;
+        return true;
+    }
+
+    /**
+     * Normalizes a column name for matching.
+     */
+    private static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '_' && c != '-' && c != ' ') {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().trim().toLowerCase(Locale.ROOT);
+    }
+}
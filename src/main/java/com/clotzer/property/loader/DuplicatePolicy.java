@@ -0,0 +1,35 @@
+package com.clotzer.property.loader;
+
+import java.util.Locale;
+
+/**
+ * What a load does with a record whose ID, or email address, was already read.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyDeduplicator
+ */
+public enum DuplicatePolicy {
+
+    /** Keep the first record and drop later duplicates */
+    FIRST_WINS,
+
+    /** Keep the last record; later duplicates are merged over the first once the load has written it */
+    LAST_WINS,
+
+    /** Keep the first record and reject later duplicates like unparseable records */
+    REJECT;
+
+    /**
+     * Parses a configuration value such as {@code first-wins} or {@code REJECT}.
+     *
+     * @param value the configured value
+     * @return the matching policy, or {@code null} for {@code none} or a blank value
+     * @throws IllegalArgumentException if the value does not name a policy
+     */
+    public static DuplicatePolicy from(String value) {
+        String name = value == null ? "" : value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+        return name.isEmpty() || name.equals("NONE") ? null : valueOf(name);
+    }
+}
@@ -0,0 +1,115 @@
+package com.clotzer.property.loader;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Detects compressed feed files by extension and decompresses them inline.
+ *
+ * <p>Supported formats:
+ * <ul>
+ *   <li>{@code .gz} - gzip, through the JDK's {@link GZIPInputStream}</li>
+ *   <li>{@code .zst} - Zstandard, through {@code com.github.luben:zstd-jni}. The library is an
+ *       optional dependency, loaded reflectively so the loader still runs without it for plain and
+ *       gzip feeds.</li>
+ * </ul>
+ *
+ * <p>{@link #open(Path, InputStream)} returns a {@link ReadAheadInputStream} over the decompressing
+ * stream. Decompression then runs on its own thread, pipelined with parsing, instead of requiring
+ * the feed to be expanded to disk first.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public final class FeedCompression {
+
+    /** Zstandard stream class of the optional zstd-jni library */
+    static final String ZSTD_INPUT_STREAM = "com.github.luben.zstd.ZstdInputStream";
+
+    /** Buffer size for the compressed input */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private FeedCompression() {
+    }
+
+    /**
+     * Returns whether a file name has a supported compression extension.
+     *
+     * @param file the file
+     * @return {@code true} for {@code .gz} and {@code .zst} files
+     */
+    public static boolean isCompressed(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".gz") || name.endsWith(".zst");
+    }
+
+    /**
+     * Returns the file name without any compression extension.
+     *
+     * @param file the file
+     * @return the name of the uncompressed content, such as {@code feed.json} for {@code feed.json.gz}
+     */
+    public static String contentName(Path file) {
+        String name = file.getFileName().toString();
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".gz")) {
+            return name.substring(0, name.length() - 3);
+        }
+        if (lower.endsWith(".zst")) {
+            return name.substring(0, name.length() - 4);
+        }
+        return name;
+    }
+
+    /**
+     * Wraps the raw bytes of a file so that they are read uncompressed.
+     *
+     * @param file the file the bytes come from, used to detect the format
+     * @param raw the raw file content; closed when the returned stream is closed
+     * @return a read-ahead decompressing stream for compressed files, or {@code raw} otherwise
+     * @throws IOException if the compressed header is invalid or zstd-jni is not on the classpath
+     */
+    public static InputStream open(Path file, InputStream raw) throws IOException {
+        if (!isCompressed(file)) {
+            return raw;
+        }
+        InputStream buffered = raw instanceof BufferedInputStream ? raw : new BufferedInputStream(raw, BUFFER_SIZE);
+        try {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            InputStream decompressed = name.endsWith(".gz")
+                ? new GZIPInputStream(buffered, BUFFER_SIZE)
+                : zstd(buffered);
+            return new ReadAheadInputStream(decompressed);
+        } catch (IOException | RuntimeException e) {
+            buffered.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a Zstandard decompressing stream through the optional zstd-jni library.
+     */
+    private static InputStream zstd(InputStream in) throws IOException {
+        try {
+            Class<?> type = Class.forName(ZSTD_INPUT_STREAM, true, FeedCompression.class.getClassLoader());
+            Constructor<?> constructor = type.getConstructor(InputStream.class);
+            return (InputStream) constructor.newInstance(in);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Reading .zst feeds requires com.github.luben:zstd-jni on the classpath", e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("Cannot open Zstandard stream", e.getCause());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IOException("Cannot open Zstandard stream", e);
+        }
+    }
+}
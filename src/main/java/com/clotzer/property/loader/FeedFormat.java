@@ -0,0 +1,91 @@
+package com.clotzer.property.loader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Layout of a property feed.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertySourceResolver
+ */
+public enum FeedFormat {
+
+    /** A JSON array of properties, bare or in a {@code {"properties": [...]}} envelope */
+    JSON,
+
+    /** Newline-delimited JSON with one property object per line */
+    NDJSON,
+
+    /** Comma-separated values with a header row */
+    CSV,
+
+    /** Tab-separated values with a header row */
+    TSV;
+
+    /**
+     * Detects the format of a file from its name, ignoring any compression extension.
+     *
+     * @param file the file
+     * @return {@link #NDJSON} for {@code .ndjson} and {@code .jsonl} files, {@link #CSV} for {@code .csv}
+     *         files, {@link #TSV} for {@code .tsv} files, {@link #JSON} otherwise
+     */
+    public static FeedFormat of(Path file) {
+        String name = FeedCompression.contentName(file).toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        return name.endsWith(".tsv") ? TSV : JSON;
+    }
+
+    /**
+     * Returns whether a file name, ignoring any compression extension, is a recognized feed.
+     *
+     * @param file the file
+     * @return {@code true} for {@code .json}, {@code .ndjson}, {@code .jsonl}, {@code .csv} and
+     *         {@code .tsv} files
+     */
+    public static boolean isFeed(Path file) {
+        String name = FeedCompression.contentName(file).toLowerCase(Locale.ROOT);
+        return name.endsWith(".json") || name.endsWith(".ndjson") || name.endsWith(".jsonl")
+            || name.endsWith(".csv") || name.endsWith(".tsv");
+    }
+
+    /**
+     * Returns whether files in this format can be split into byte ranges parsed concurrently.
+     *
+     * <p>Quoted CSV and TSV fields may contain line breaks, so a row boundary cannot be found without
+     * reading from the start of the file.
+     *
+     * @return {@code true} for {@link #JSON} and {@link #NDJSON}
+     */
+    public boolean isSplittable() {
+        return this == JSON || this == NDJSON;
+    }
+
+    /**
+     * Creates a reader for a feed in this format.
+     *
+     * @param objectMapper the mapper used to parse records
+     * @param inputStream the uncompressed feed; closed when the reader is closed
+     * @return the reader
+     * @throws IOException if the reader cannot be created
+     */
+    public PropertyRecordReader reader(ObjectMapper objectMapper, InputStream inputStream) throws IOException {
+        return switch (this) {
+            case JSON -> new JsonStreamingPropertyReader(objectMapper, inputStream);
+            case NDJSON -> new NdjsonPropertyReader(objectMapper, inputStream);
+            case CSV -> new DelimitedPropertyReader(inputStream, ',');
+            case TSV -> new DelimitedPropertyReader(inputStream, '\t');
+        };
+    }
+}
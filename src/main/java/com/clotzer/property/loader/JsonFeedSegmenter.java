@@ -0,0 +1,117 @@
+package com.clotzer.property.loader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits a JSON property feed into byte ranges that can be parsed independently.
+ *
+ * <p>The segmenter makes one token-level pass over the feed with
+ * {@link JsonStreamingPropertyReader#skip()}. It never binds a record, so the pass is much cheaper
+ * than a full parse. Segment boundaries always fall between array elements and are chosen so that
+ * every segment covers roughly the same number of bytes.
+ *
+ * <p>Each {@link Segment} covers whole records only. {@link Segment#wrap(InputStream)} turns an input
+ * positioned at {@link Segment#startOffset()} into a standalone JSON array, which any
+ * {@link JsonStreamingPropertyReader} can consume.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public final class JsonFeedSegmenter {
+
+    private JsonFeedSegmenter() {
+    }
+
+    /**
+     * Scans a feed and splits it into at most {@code segmentCount} contiguous segments.
+     *
+     * @param objectMapper the mapper used to create the parser
+     * @param inputStream the feed; consumed and closed by this method
+     * @param totalBytes the size of the feed in bytes, or a non-positive value if unknown
+     * @param segmentCount the desired number of segments
+     * @return the segments in feed order; empty if the feed has no records
+     * @throws IOException if the feed cannot be read or is not a property feed
+     */
+    public static List<Segment> split(ObjectMapper objectMapper, InputStream inputStream, long totalBytes,
+                                      int segmentCount) throws IOException {
+        int count = Math.max(1, segmentCount);
+        long targetBytes = totalBytes > 0 ? Math.max(1, totalBytes / count) : Long.MAX_VALUE;
+        List<Segment> segments = new ArrayList<>(count);
+
+        try (JsonStreamingPropertyReader reader = new JsonStreamingPropertyReader(objectMapper, inputStream)) {
+            long segmentStart = -1;
+            long segmentEnd = -1;
+            long firstRecord = 0;
+            long nextBoundary = targetBytes;
+
+            while (reader.skip()) {
+                long recordIndex = reader.getRecordCount() - 1;
+                if (segmentStart < 0) {
+                    segmentStart = reader.getRecordStartOffset();
+                    firstRecord = recordIndex;
+                } else if (reader.getRecordStartOffset() >= nextBoundary && segments.size() < count - 1) {
+                    segments.add(new Segment(segments.size(), segmentStart, segmentEnd, firstRecord, recordIndex - firstRecord));
+                    segmentStart = reader.getRecordStartOffset();
+                    firstRecord = recordIndex;
+                    while (nextBoundary <= segmentStart) {
+                        nextBoundary += targetBytes;
+                    }
+                }
+                segmentEnd = reader.getRecordEndOffset();
+            }
+            if (segmentStart >= 0) {
+                segments.add(new Segment(segments.size(), segmentStart, segmentEnd, firstRecord,
+                    reader.getRecordCount() - firstRecord));
+            }
+        }
+        return Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * A contiguous run of whole records within a feed.
+     *
+     * @param index the zero-based position of this segment in the feed
+     * @param startOffset the byte offset of the first record in the segment
+     * @param endOffset the byte offset just past the last record in the segment
+     * @param firstRecord the zero-based index of the first record in the feed
+     * @param recordCount the number of records in the segment
+     */
+    public record Segment(int index, long startOffset, long endOffset, long firstRecord, long recordCount) {
+
+        /**
+         * Returns the number of bytes covered by this segment.
+         *
+         * @return the segment length in bytes
+         */
+        public long length() {
+            return endOffset - startOffset;
+        }
+
+        /**
+         * Wraps an input positioned at {@link #startOffset()} into a standalone JSON array.
+         *
+         * <p>The returned stream yields {@code [}, then exactly {@link #length()} bytes of the
+         * underlying input, then {@code ]}. Closing it closes the underlying input.
+         *
+         * @param positionedInput the feed, already positioned at the segment start
+         * @return a stream containing the segment as a JSON array
+         */
+        public InputStream wrap(InputStream positionedInput) {
+            InputStream body = new BoundedInputStream(positionedInput, length());
+            return new SequenceInputStream(Collections.enumeration(List.of(
+                new ByteArrayInputStream("[".getBytes(StandardCharsets.US_ASCII)),
+                body,
+                new ByteArrayInputStream("]".getBytes(StandardCharsets.US_ASCII)))));
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+
+/**
+ * Streaming reader that walks the {@code properties} array of a property feed one element at a time.
+ *
+ * <p>Unlike {@link ObjectMapper#readTree(InputStream)}, this reader never materializes the whole
+ * document. It drives Jackson's token-level {@link JsonParser} to the {@code properties} array and
+ * binds each array element to a {@link Property} on demand with a {@link PropertyJsonBinder}, so
+ * memory use is bounded by a single record regardless of the size of the feed, and no record is
+ * built as a {@link JsonNode} tree first.
+ *
+ * <p>The input is read through a {@link RecordCapturingInputStream}, so a rejected record carries its
+ * exact text from the feed, including unknown fields and everything after the bad value.
+ *
+ * <p>Supported layouts:
+ * <ul>
+ *   <li>The standard envelope: {@code {"properties": [ {...}, {...} ]}}</li>
+ *   <li>A bare top-level array: {@code [ {...}, {...} ]}</li>
+ * </ul>
+ *
+ * <p>Instances are not thread-safe and are intended to be consumed by a single reader thread.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see Property
+ */
+public class JsonStreamingPropertyReader implements PropertyRecordReader {
+
+    /** Name of the envelope field holding the property array */
+    public static final String PROPERTIES_FIELD = "properties";
+
+    /** Input keeping the bytes of the current record for rejections */
+    private final RecordCapturingInputStream input;
+
+    /** Underlying token stream */
+    private final JsonParser parser;
+
+    /** Binder filling each property from the token stream */
+    private final PropertyJsonBinder binder;
+
+    /** Whether the parser has been positioned inside the property array */
+    private boolean positioned;
+
+    /** Whether the end of the property array has been reached */
+    private boolean exhausted;
+
+    /** Number of array elements consumed so far, including those that failed to map */
+    private long recordCount;
+
+    /** Byte offset of the first byte of the last consumed element */
+    private long recordStartOffset = -1;
+
+    /** Byte offset just past the last byte of the last consumed element */
+    private long recordEndOffset = -1;
+
+    /**
+     * Creates a streaming reader over the given input.
+     *
+     * @param objectMapper the mapper used to create the parser
+     * @param inputStream the JSON input; closed when this reader is closed
+     * @throws IOException if the parser cannot be created
+     */
+    public JsonStreamingPropertyReader(ObjectMapper objectMapper, InputStream inputStream) throws IOException {
+        this.input = new RecordCapturingInputStream(inputStream);
+        this.parser = objectMapper.createParser(input);
+        this.binder = new PropertyJsonBinder();
+    }
+
+    /**
+     * Reads the next property from the array.
+     *
+     * <p>The parser always advances past the current array element, even when mapping fails, so
+     * a caller may catch the exception, account for the bad record and keep reading.
+     *
+     * @return the next property, or {@code null} when the array is exhausted
+     * @throws IOException if the input is not well-formed JSON or has no property array
+     * @throws RejectedRecordException if the current element cannot be mapped to a property
+     */
+    @Override
+    public Property read() throws IOException {
+        if (exhausted) {
+            return null;
+        }
+        if (!positioned) {
+            positionAtArray();
+            positioned = true;
+        }
+
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY || token == null) {
+            exhausted = true;
+            return null;
+        }
+        recordStartOffset = parser.currentTokenLocation().getByteOffset();
+        input.retainFrom(recordStartOffset);
+        recordCount++;
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            recordEndOffset = parser.currentLocation().getByteOffset();
+            throw new RejectedRecordException("Expected a JSON object at record " + recordCount + " but found " + token,
+                recordCount, recordStartOffset, input.slice(recordStartOffset, recordEndOffset));
+        }
+
+        try {
+            return binder.bind(parser);
+        } catch (IllegalArgumentException e) {
+            recordEndOffset = parser.currentLocation().getByteOffset();
+            throw new RejectedRecordException(e.getMessage() + " at record " + recordCount, recordCount,
+                recordStartOffset, input.slice(recordStartOffset, recordEndOffset));
+        } finally {
+            recordEndOffset = parser.currentLocation().getByteOffset();
+        }
+    }
+
+    /**
+     * Skips the next array element without binding it.
+     *
+     * <p>Skipping only tokenizes the element, which makes it much cheaper than {@link #read()} when
+     * fast-forwarding to a restart position.
+     *
+     * @return {@code true} if an element was skipped, {@code false} if the array is exhausted
+     * @throws IOException if the input is not well-formed JSON or has no property array
+     */
+    public boolean skip() throws IOException {
+        if (exhausted) {
+            return false;
+        }
+        if (!positioned) {
+            positionAtArray();
+            positioned = true;
+        }
+
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY || token == null) {
+            exhausted = true;
+            return false;
+        }
+        recordStartOffset = parser.currentTokenLocation().getByteOffset();
+        input.retainFrom(recordStartOffset);
+        parser.skipChildren();
+        recordEndOffset = parser.currentLocation().getByteOffset();
+        recordCount++;
+        return true;
+    }
+
+    /**
+     * Returns the number of array elements consumed so far.
+     *
+     * @return the number of records read, including those that failed to map
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the byte offset at which the last consumed element starts.
+     *
+     * @return the start offset in the input, or {@code -1} if no element has been consumed
+     */
+    public long getRecordStartOffset() {
+        return recordStartOffset;
+    }
+
+    /**
+     * Returns the byte offset just past the end of the last consumed element.
+     *
+     * @return the exclusive end offset in the input, or {@code -1} if no element has been consumed
+     */
+    public long getRecordEndOffset() {
+        return recordEndOffset;
+    }
+
+    /**
+     * Closes the underlying parser and input stream.
+     *
+     * @throws IOException if closing the input fails
+     */
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * Advances the parser to the first token inside the property array.
+     *
+     * <p>Unrelated top-level fields that precede {@code properties} are skipped without being bound.
+     *
+     * @throws IOException if no property array can be found
+     */
+    private void positionAtArray() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object or array at the document root but found " + token);
+        }
+
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (PROPERTIES_FIELD.equals(fieldName)) {
+                if (value != JsonToken.START_ARRAY) {
+                    throw new IOException("'" + PROPERTIES_FIELD + "' node is not an array");
+                }
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new IOException("No '" + PROPERTIES_FIELD + "' node found in JSON");
+    }
+
+    /**
+     * Maps a single JSON record tree to a {@link Property}.
+     *
+     * <p>Price and commission may be JSON numbers or numeric strings and are normalized by
+     * {@link PropertyAmounts}; JSON {@code null} or an empty string leaves them unset. The content
+     * hash is computed with {@link PropertyContentHasher} while the record is being parsed. Streaming
+     * readers bind records without a tree through {@link PropertyJsonBinder}, which produces the same
+     * result.
+     *
+     * @param node the JSON object describing one property
+     * @return the mapped property
+     * @throws IllegalArgumentException if a required field is missing or an amount is not a valid number
+     */
+    public static Property toProperty(JsonNode node) {
+        Property property = new Property(
+            required(node, "id").asLong(),
+            required(node, "propertyName").asText(),
+            required(node, "propertyLocation").asText(),
+            required(node, "propertyCity").asText(),
+            required(node, "propertyState").asText(),
+            required(node, "propertyCountry").asText(),
+            required(node, "propertyAddress").asText(),
+            required(node, "propertyPhoneNumber").asText(),
+            required(node, "propertyEmailAddress").asText(),
+            required(node, "propertyAirportProximity").asText(),
+            required(node, "propertyDescription").asText(),
+            amount(node, "propertyPricePerNight"),
+            amount(node, "propertyCommissionAmount"),
+            required(node, "propertyCancellationPenalty").asText()
+        );
+        property.setContentHash(PropertyContentHasher.hash(property));
+        return property;
+    }
+
+    /**
+     * Returns a required amount field of a record.
+     *
+     * @param node the JSON object describing one property
+     * @param fieldName the field to read
+     * @return the normalized amount, or {@code null} for JSON {@code null} or an empty string
+     * @throws IllegalArgumentException if the field is missing or not a valid amount
+     */
+    private static BigDecimal amount(JsonNode node, String fieldName) {
+        JsonNode field = required(node, fieldName);
+        if (field.isNumber()) {
+            return PropertyAmounts.normalize(fieldName, field.decimalValue());
+        }
+        if (field.isTextual()) {
+            return PropertyAmounts.parse(fieldName, field.textValue());
+        }
+        if (field.isNull()) {
+            return null;
+        }
+        throw new IllegalArgumentException("Field '" + fieldName + "' is not a number");
+    }
+
+    /**
+     * Returns a required field of a record.
+     *
+     * @param node the JSON object describing one property
+     * @param fieldName the field to look up
+     * @return the field value
+     * @throws IllegalArgumentException if the field is missing
+     */
+    private static JsonNode required(JsonNode node, String fieldName) {
+        JsonNode field = node.get(fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("Missing field '" + fieldName + "'");
+        }
+        return field;
+    }
+}
@@ -0,0 +1,43 @@
+package com.clotzer.property.loader;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factory producing sequentially numbered threads for loader executors.
+ *
+ * <p>Naming loader threads ({@code property-writer-1}, {@code property-writer-2}, ...) makes them
+ * easy to identify in thread dumps and log output.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class LoaderThreadFactory implements ThreadFactory {
+
+    /** Prefix for every thread name */
+    private final String prefix;
+
+    /** Sequence used to number created threads */
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    /**
+     * Creates a factory whose threads are named {@code prefix-N}.
+     *
+     * @param prefix the thread name prefix
+     */
+    public LoaderThreadFactory(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Creates a new named thread for the given task.
+     *
+     * @param task the task to run
+     * @return the new thread
+     */
+    @Override
+    public Thread newThread(Runnable task) {
+        return new Thread(task, prefix + "-" + sequence.incrementAndGet());
+    }
+}
@@ -0,0 +1,150 @@
+package com.clotzer.property.loader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Input stream over a memory-mapped file.
+ *
+ * <p>The file is mapped read-only with {@link FileChannel#map} in windows of at most
+ * {@link #DEFAULT_WINDOW_SIZE} bytes, so files larger than 2 GB can be read and address space is
+ * only held for the part being read. Reads copy straight out of the page cache without a system call
+ * per buffer refill, and {@link #skip(long)} just moves the position. This makes the stream a cheap
+ * source for {@link JsonStreamingPropertyReader} on very large local feeds, and lets several readers
+ * start at different {@link JsonFeedSegmenter.Segment} offsets of the same file.
+ *
+ * <p>Mapped windows are released by the garbage collector after the stream moves past them or is
+ * closed. Instances are not thread-safe.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class MappedFileInputStream extends InputStream {
+
+    /** Default size of each mapped window */
+    public static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    /** Channel the windows are mapped from */
+    private final FileChannel channel;
+
+    /** Size of the file when the stream was opened */
+    private final long size;
+
+    /** Maximum size of each mapped window */
+    private final long windowSize;
+
+    /** Absolute position of the next byte to read */
+    private long position;
+
+    /** Currently mapped window, or {@code null} if none */
+    private MappedByteBuffer window;
+
+    /** Absolute file offset of the first byte of {@link #window} */
+    private long windowStart;
+
+    /**
+     * Opens a stream positioned at the start of a file.
+     *
+     * @param file the file to read
+     * @throws IOException if the file cannot be opened
+     */
+    public MappedFileInputStream(Path file) throws IOException {
+        this(file, 0, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens a stream positioned at the given offset.
+     *
+     * @param file the file to read
+     * @param offset the byte offset of the first byte to read
+     * @throws IOException if the file cannot be opened
+     */
+    public MappedFileInputStream(Path file, long offset) throws IOException {
+        this(file, offset, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens a stream positioned at the given offset with a custom window size.
+     *
+     * @param file the file to read
+     * @param offset the byte offset of the first byte to read
+     * @param windowSize the maximum size of each mapped window (clamped to 4 KB .. 1 GB)
+     * @throws IOException if the file cannot be opened
+     */
+    MappedFileInputStream(Path file, long offset, long windowSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = Math.max(4096, Math.min(windowSize, 1L << 30));
+        this.position = Math.max(0, Math.min(offset, size));
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position >= size) {
+            return -1;
+        }
+        ensureWindow();
+        int b = window.get((int) (position - windowStart)) & 0xff;
+        position++;
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (position >= size) {
+            return -1;
+        }
+        int total = 0;
+        while (total < length && position < size) {
+            ensureWindow();
+            int index = (int) (position - windowStart);
+            int n = Math.min(length - total, window.capacity() - index);
+            window.get(index, buffer, offset + total, n);
+            position += n;
+            total += n;
+        }
+        return total;
+    }
+
+    @Override
+    public long skip(long n) {
+        long skipped = Math.max(0, Math.min(n, size - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, size - position);
+    }
+
+    /**
+     * Releases the current window and closes the channel.
+     *
+     * @throws IOException if closing the channel fails
+     */
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    /**
+     * Maps the window containing the current position, if it is not already mapped.
+     */
+    private void ensureWindow() throws IOException {
+        if (window != null && position >= windowStart && position < windowStart + window.capacity()) {
+            return;
+        }
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, size - windowStart));
+    }
+}
@@ -0,0 +1,280 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reader for newline-delimited JSON (NDJSON) feeds with one property object per line.
+ *
+ * <p>Each line is parsed on its own and bound straight from its tokens by a {@link PropertyJsonBinder},
+ * so a malformed line is rejected without affecting the lines after it. Blank lines are ignored and a trailing {@code \r} is tolerated.
+ *
+ * <p>Because records end at a newline, a feed can be cut into independent byte ranges by looking for
+ * the next {@code \n} after each cut point. {@link #split(Path, int)} does this without parsing, so
+ * several readers can load one file in parallel.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see FeedFormat#NDJSON
+ */
+public class NdjsonPropertyReader implements PropertyRecordReader {
+
+    /** Size of the read buffer */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Mapper used to parse each line */
+    private final ObjectMapper objectMapper;
+
+    /** Binder filling each property from the tokens of its line */
+    private final PropertyJsonBinder binder;
+
+    /** The feed */
+    private final InputStream inputStream;
+
+    /** Bytes read from the feed and not yet consumed */
+    private byte[] buffer = new byte[BUFFER_SIZE];
+
+    /** Index of the first unconsumed byte in {@link #buffer} */
+    private int start;
+
+    /** Index just past the last valid byte in {@link #buffer} */
+    private int end;
+
+    /** Offset in the input of {@code buffer[0]} */
+    private long bufferOffset;
+
+    /** Whether the feed has been read to the end */
+    private boolean eof;
+
+    /** Number of non-blank lines consumed so far, including those that failed to map */
+    private long recordCount;
+
+    /** Offset in the input just past the line terminator of the last consumed record */
+    private long recordEndOffset = -1;
+
+    /**
+     * Creates a reader over the given input.
+     *
+     * @param objectMapper the mapper used to parse each line
+     * @param inputStream the NDJSON input; closed when this reader is closed
+     */
+    public NdjsonPropertyReader(ObjectMapper objectMapper, InputStream inputStream) {
+        this.objectMapper = objectMapper;
+        this.binder = new PropertyJsonBinder();
+        this.inputStream = inputStream;
+    }
+
+    /**
+     * Reads the property on the next non-blank line.
+     *
+     * @return the next property, or {@code null} at the end of the feed
+     * @throws IOException if the feed cannot be read
+     * @throws RejectedRecordException if the line is not a JSON object describing a property
+     */
+    @Override
+    public Property read() throws IOException {
+        while (true) {
+            int newline = indexOfNewline();
+            while (newline < 0 && !eof) {
+                fillBuffer();
+                newline = indexOfNewline();
+            }
+            if (newline < 0 && start >= end) {
+                return null;
+            }
+
+            int lineStart = start;
+            int lineEnd = newline >= 0 ? newline : end;
+            start = newline >= 0 ? newline + 1 : end;
+            if (lineEnd > lineStart && buffer[lineEnd - 1] == '\r') {
+                lineEnd--;
+            }
+            if (isBlank(lineStart, lineEnd)) {
+                continue;
+            }
+
+            recordCount++;
+            recordEndOffset = bufferOffset + start;
+            try (JsonParser parser = objectMapper.createParser(buffer, lineStart, lineEnd - lineStart)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException("Expected a JSON object at record " + recordCount);
+                }
+                return binder.bind(parser);
+            } catch (JsonProcessingException e) {
+                throw rejection("Malformed JSON on record " + recordCount + ": " + e.getOriginalMessage(),
+                    lineStart, lineEnd);
+            } catch (IllegalArgumentException e) {
+                throw rejection(e.getMessage(), lineStart, lineEnd);
+            }
+        }
+    }
+
+    /**
+     * Creates the rejection for the line between the given buffer indexes.
+     */
+    private RejectedRecordException rejection(String message, int lineStart, int lineEnd) {
+        return new RejectedRecordException(message, recordCount, bufferOffset + lineStart,
+            new String(buffer, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the number of records consumed so far.
+     *
+     * @return the number of non-blank lines read, including those that failed to map
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the offset just past the last consumed record, including its line terminator.
+     *
+     * @return the exclusive end offset in the input, or {@code -1} if no record has been consumed
+     */
+    public long getRecordEndOffset() {
+        return recordEndOffset;
+    }
+
+    /**
+     * Closes the underlying input stream.
+     *
+     * @throws IOException if closing the input fails
+     */
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    /**
+     * Splits an NDJSON file into at most {@code count} byte ranges that each start at a line start.
+     *
+     * <p>Cut points are spread evenly by size and then moved forward to just past the next newline.
+     * Only the bytes around each cut point are read.
+     *
+     * @param file the uncompressed NDJSON file
+     * @param count the desired number of ranges
+     * @return the non-empty ranges in file order; empty for an empty file
+     * @throws IOException if the file cannot be read
+     */
+    public static List<ByteRange> split(Path file, int count) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int ranges = Math.max(1, count);
+            List<ByteRange> result = new ArrayList<>(ranges);
+            ByteBuffer probe = ByteBuffer.allocate(8192);
+
+            long rangeStart = 0;
+            for (int i = 1; i <= ranges && rangeStart < size; i++) {
+                long rangeEnd = i == ranges ? size : nextLineStart(channel, Math.max(rangeStart, size * i / ranges), size, probe);
+                if (rangeEnd > rangeStart) {
+                    result.add(new ByteRange(rangeStart, rangeEnd));
+                }
+                rangeStart = rangeEnd;
+            }
+            return Collections.unmodifiableList(result);
+        }
+    }
+
+    /**
+     * Returns the offset just past the first newline at or after {@code from}, or {@code size}.
+     */
+    private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer probe) throws IOException {
+        long position = from;
+        while (position < size) {
+            probe.clear();
+            int n = channel.read(probe, position);
+            if (n <= 0) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += n;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the index of the next newline in the unconsumed bytes, or {@code -1}.
+     */
+    private int indexOfNewline() {
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compacts the buffer, growing it if a line does not fit, and reads more input.
+     */
+    private void fillBuffer() throws IOException {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            bufferOffset += start;
+            end -= start;
+            start = 0;
+        }
+        if (end == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int n = inputStream.read(buffer, end, buffer.length - end);
+        if (n < 0) {
+            eof = true;
+        } else {
+            end += n;
+        }
+    }
+
+    /**
+     * Returns whether a line holds only whitespace.
+     */
+    private boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = buffer[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A half-open byte range of a file.
+     *
+     * @param start the offset of the first byte
+     * @param end the offset just past the last byte
+     */
+    public record ByteRange(long start, long end) {
+
+        /**
+         * Returns the number of bytes in the range.
+         *
+         * @return the range length
+         */
+        public long length() {
+            return end - start;
+        }
+    }
+}
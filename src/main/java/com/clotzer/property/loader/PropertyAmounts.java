@@ -0,0 +1,69 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+
+import java.math.BigDecimal;
+
+/**
+ * Converts feed values of the price and commission fields to the fixed-point amounts stored by
+ * {@link Property}.
+ *
+ * <p>Amounts are normalized to {@link Property#AMOUNT_SCALE} decimal places, so {@code 45}, {@code 45.0}
+ * and {@code "45.000"} all become {@code 45.00}. Every reader therefore produces the same value, and the
+ * same content hash, for the same amount in any format. A value that would lose digits, with more decimal
+ * places than the column keeps or more integer digits than fit in {@link Property#AMOUNT_PRECISION}, is
+ * refused rather than rounded, so a money amount is never changed silently.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public final class PropertyAmounts {
+
+    private PropertyAmounts() {
+    }
+
+    /**
+     * Parses an amount written as text, such as a quoted JSON value or a CSV field.
+     *
+     * @param fieldName the field being read, for the error message
+     * @param text the text, or {@code null}
+     * @return the normalized amount, or {@code null} if the text is {@code null} or blank
+     * @throws IllegalArgumentException if the text is not a number or does not fit the column
+     */
+    public static BigDecimal parse(String fieldName, String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Field '" + fieldName + "' is not a number: '" + text + "'");
+        }
+        return normalize(fieldName, amount);
+    }
+
+    /**
+     * Normalizes an amount to the column's scale.
+     *
+     * @param fieldName the field being read, for the error message
+     * @param amount the amount, or {@code null}
+     * @return the amount with {@link Property#AMOUNT_SCALE} decimal places, or {@code null}
+     * @throws IllegalArgumentException if the amount has more decimal places or integer digits than fit
+     */
+    public static BigDecimal normalize(String fieldName, BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        BigDecimal stripped = amount.stripTrailingZeros();
+        if (stripped.scale() > Property.AMOUNT_SCALE) {
+            throw new IllegalArgumentException("Field '" + fieldName + "' has more than " + Property.AMOUNT_SCALE
+                + " decimal places: " + amount);
+        }
+        if (stripped.precision() - stripped.scale() > Property.AMOUNT_PRECISION - Property.AMOUNT_SCALE) {
+            throw new IllegalArgumentException("Field '" + fieldName + "' is out of range: " + amount);
+        }
+        return stripped.setScale(Property.AMOUNT_SCALE);
+    }
+}
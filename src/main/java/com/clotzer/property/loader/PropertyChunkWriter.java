@@ -0,0 +1,29 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+
+import java.util.List;
+
+/**
+ * Persists one chunk of parsed properties.
+ *
+ * <p>Each call is expected to run in its own transaction so that a failing chunk does not
+ * affect chunks written before or concurrently with it. Implementations must be safe to call
+ * from several writer threads at once.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyLoadPipeline
+ */
+@FunctionalInterface
+public interface PropertyChunkWriter {
+
+    /**
+     * Writes a chunk of properties.
+     *
+     * @param chunk the properties to persist
+     * @throws RuntimeException if the chunk could not be persisted
+     */
+    void write(List<Property> chunk);
+}
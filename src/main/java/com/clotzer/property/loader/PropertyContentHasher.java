@@ -0,0 +1,100 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+
+import java.math.BigDecimal;
+
+/**
+ * Computes a compact content hash of a property's descriptive fields.
+ *
+ * <p>The hash is a 64-bit FNV-1a over every field except the ID, in declaration order. Amounts are
+ * hashed as their plain text at the column's scale, such as {@code 45.00}. A field
+ * separator and a distinct marker for {@code null} keep {@code ("ab", "c")} and {@code ("a", "bc")},
+ * or {@code null} and {@code ""}, from colliding. The result depends only on the field values, so it
+ * is stable across JVMs and can be stored alongside the row to detect changes on the next load.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see Property#getContentHash()
+ */
+public final class PropertyContentHasher {
+
+    /** FNV-1a 64-bit offset basis */
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    /** FNV-1a 64-bit prime */
+    private static final long PRIME = 0x100000001b3L;
+
+    /** Mixed in after every field */
+    private static final char FIELD_SEPARATOR = '\u001f';
+
+    /** Mixed in for a {@code null} field */
+    private static final char NULL_MARKER = '\u0000';
+
+    private PropertyContentHasher() {
+    }
+
+    /**
+     * Returns the content hash of a property.
+     *
+     * @param property the property to hash
+     * @return the 64-bit content hash
+     */
+    public static long hash(Property property) {
+        long hash = OFFSET_BASIS;
+        hash = mix(hash, property.getPropertyName());
+        hash = mix(hash, property.getPropertyLocation());
+        hash = mix(hash, property.getPropertyCity());
+        hash = mix(hash, property.getPropertyState());
+        hash = mix(hash, property.getPropertyCountry());
+        hash = mix(hash, property.getPropertyAddress());
+        hash = mix(hash, property.getPropertyPhoneNumber());
+        hash = mix(hash, property.getPropertyEmailAddress());
+        hash = mix(hash, property.getPropertyAirportProximity());
+        hash = mix(hash, property.getPropertyDescription());
+        hash = mix(hash, plain(property.getPropertyPricePerNight()));
+        hash = mix(hash, plain(property.getPropertyCommissionAmount()));
+        hash = mix(hash, property.getPropertyCancellationPenalty());
+        return hash;
+    }
+
+    /**
+     * Returns the 64-bit FNV-1a hash of a single value, such as a key to deduplicate on.
+     *
+     * @param value the value to hash, or {@code null}
+     * @return the 64-bit hash
+     */
+    public static long hash(String value) {
+        return mix(OFFSET_BASIS, value);
+    }
+
+    /**
+     * Returns an amount as plain text, so equal amounts of the same scale hash alike.
+     */
+    private static String plain(BigDecimal amount) {
+        return amount == null ? null : amount.toPlainString();
+    }
+
+    /**
+     * Mixes one field and a separator into the running hash.
+     */
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            hash = mixChar(hash, NULL_MARKER);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                hash = mixChar(hash, value.charAt(i));
+            }
+        }
+        return mixChar(hash, FIELD_SEPARATOR);
+    }
+
+    /**
+     * Mixes both bytes of a UTF-16 code unit into the running hash.
+     */
+    private static long mixChar(long hash, char c) {
+        hash = (hash ^ (c & 0xff)) * PRIME;
+        return (hash ^ (c >>> 8)) * PRIME;
+    }
+}
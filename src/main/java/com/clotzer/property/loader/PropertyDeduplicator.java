@@ -0,0 +1,210 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Detects properties whose ID, or optionally email address, has already been read during a load.
+ *
+ * <p>Without deduplication, a repeated ID reaches the database and fails the whole chunk holding it on
+ * the primary key. Readers wrapped with {@link #track(PropertyRecordReader)} instead check every record
+ * against the IDs seen so far and apply a {@link DuplicatePolicy}:
+ * <ul>
+ *   <li>{@link DuplicatePolicy#FIRST_WINS} drops the later record</li>
+ *   <li>{@link DuplicatePolicy#LAST_WINS} holds the later record back; {@link #drainReplacements()}
+ *       returns the last record of each repeated ID, to be merged once the load has written the first</li>
+ *   <li>{@link DuplicatePolicy#REJECT} throws a {@link RejectedRecordException}, so the record is counted,
+ *       limited and written to the dead-letter file like an unparseable one</li>
+ * </ul>
+ *
+ * <p>IDs are kept unboxed in a {@link LongHashSet}, so each check is one probe of a {@code long[]} and
+ * costs no allocation. With {@code checkEmail}, the trimmed, lower-cased email address of each record
+ * with a new ID is also hashed to 64 bits with {@link PropertyContentHasher#hash(String)} and kept in a
+ * second set, so email addresses cost no string retention either. Two different addresses could share
+ * a hash, but at ten million addresses the odds of any such pair are about one in 370,000. A record
+ * whose email was already seen under another ID is dropped, or rejected under {@code REJECT}. It is
+ * never merged, because the earlier record has a different ID.
+ *
+ * <p>One deduplicator is shared by every reader of a load, so its state is guarded by its monitor.
+ * With files or segments read concurrently, "first" and "last" follow the order records are read.
+ *
+ * <p>Instances are thread-safe.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class PropertyDeduplicator {
+
+    /** Logger for this deduplicator */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyDeduplicator.class);
+
+    /** Policy applied to duplicates */
+    private final DuplicatePolicy policy;
+
+    /** IDs read so far */
+    private final LongHashSet ids = new LongHashSet(1 << 16);
+
+    /** Hashes of the email addresses read so far, or {@code null} if emails are not checked */
+    private final LongHashSet emails;
+
+    /** Last record of each repeated ID under {@link DuplicatePolicy#LAST_WINS} */
+    private final Map<Long, Property> replacements = new LinkedHashMap<>();
+
+    /** Number of records with a repeated ID */
+    private long duplicateIds;
+
+    /** Number of records with a new ID and a repeated email address */
+    private long duplicateEmails;
+
+    /**
+     * Creates a deduplicator.
+     *
+     * @param policy the policy applied to duplicates
+     * @param checkEmail whether to also detect repeated email addresses
+     */
+    public PropertyDeduplicator(DuplicatePolicy policy, boolean checkEmail) {
+        this.policy = policy;
+        this.emails = checkEmail ? new LongHashSet(1 << 16) : null;
+    }
+
+    /**
+     * Wraps a reader so duplicate records are dropped, held back or rejected.
+     *
+     * <p>Rejections are numbered by the records read through the returned reader.
+     *
+     * @param reader the reader to deduplicate
+     * @return the deduplicating reader; closing it closes {@code reader}
+     */
+    public PropertyRecordReader track(PropertyRecordReader reader) {
+        return new PropertyRecordReader() {
+
+            /** Records read through this reader, including rejected ones */
+            private long records;
+
+            @Override
+            public Property read() throws IOException {
+                while (true) {
+                    Property property;
+                    try {
+                        property = reader.read();
+                    } catch (IllegalArgumentException e) {
+                        records++;
+                        throw e;
+                    }
+                    if (property == null) {
+                        return null;
+                    }
+                    records++;
+                    if (accept(property, records)) {
+                        return property;
+                    }
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+
+    /**
+     * Checks one record against the IDs and emails read so far.
+     *
+     * @return {@code true} to pass the record on, {@code false} to drop or hold it back
+     * @throws RejectedRecordException if the record is a duplicate and the policy is {@code REJECT}
+     */
+    private synchronized boolean accept(Property property, long record) {
+        long id = property.getId();
+        if (emails == null) {
+            return ids.add(id) || duplicateId(property, record);
+        }
+        if (ids.contains(id)) {
+            return duplicateId(property, record);
+        }
+
+        String email = property.getPropertyEmailAddress();
+        if (email != null && !email.isBlank()
+                && !emails.add(PropertyContentHasher.hash(email.trim().toLowerCase(Locale.ROOT)))) {
+            duplicateEmails++;
+            if (policy == DuplicatePolicy.REJECT) {
+                throw new RejectedRecordException("Duplicate email address " + email + " on id " + id, record, -1, null);
+            }
+            logger.debug("Dropping id {} with duplicate email address {}", id, email);
+            return false;
+        }
+        ids.add(id);
+        return true;
+    }
+
+    /**
+     * Applies the policy to a record whose ID was already read. Callers hold the monitor.
+     *
+     * @return {@code false}, as the record is never passed on
+     */
+    private boolean duplicateId(Property property, long record) {
+        duplicateIds++;
+        switch (policy) {
+            case FIRST_WINS -> logger.debug("Dropping duplicate of id {}", property.getId());
+            case LAST_WINS -> replacements.put(property.getId(), property);
+            case REJECT -> throw new RejectedRecordException("Duplicate id " + property.getId(), record, -1, null);
+        }
+        return false;
+    }
+
+    /**
+     * Returns and forgets the records held back under {@link DuplicatePolicy#LAST_WINS}.
+     *
+     * @return the last record read for each repeated ID, in the order the IDs were first repeated
+     */
+    public synchronized List<Property> drainReplacements() {
+        List<Property> drained = new ArrayList<>(replacements.values());
+        replacements.clear();
+        return drained;
+    }
+
+    /**
+     * Returns the policy applied to duplicates.
+     *
+     * @return the duplicate policy
+     */
+    public DuplicatePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the number of records whose ID had already been read.
+     *
+     * @return the duplicate ID count
+     */
+    public synchronized long getDuplicateIds() {
+        return duplicateIds;
+    }
+
+    /**
+     * Returns the number of records with a new ID whose email address had already been read.
+     *
+     * @return the duplicate email count
+     */
+    public synchronized long getDuplicateEmails() {
+        return duplicateEmails;
+    }
+
+    /**
+     * Returns the number of distinct IDs read.
+     *
+     * @return the distinct ID count
+     */
+    public synchronized long getDistinctIds() {
+        return ids.size();
+    }
+}
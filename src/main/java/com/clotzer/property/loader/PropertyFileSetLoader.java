@@ -0,0 +1,547 @@
+package com.clotzer.property.loader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads a set of feed files concurrently, one {@link PropertyLoadPipeline} per file.
+ *
+ * <p>Files are handed to a fixed pool of {@code fileThreads} loader threads named
+ * {@code property-file-N}. Each thread streams its file through a pipeline with
+ * {@code writerThreadsPerFile} writer workers, so at most {@code fileThreads * writerThreadsPerFile}
+ * chunks are written at once.
+ *
+ * <p>With {@code memoryMapped}, files are read through a {@link MappedFileInputStream} instead of a
+ * buffered channel stream. With {@code segmentsPerFile} above one, each file is first cut into byte
+ * ranges at record boundaries by {@link JsonFeedSegmenter}. The ranges are then parsed concurrently on
+ * threads named {@code property-parser-N}, each through its own pipeline, and their counts are summed
+ * into the file's result.
+ *
+ * <p>NDJSON files, detected by {@link FeedFormat#of(Path)}, need no scanning pass: they are cut into
+ * byte ranges by {@link NdjsonPropertyReader#split(Path, int)}, which only looks for the next newline
+ * after each cut point. CSV and TSV files are always parsed as a single segment, because a quoted
+ * field may span lines.
+ *
+ * <p>Files ending in {@code .gz} or {@code .zst} are decompressed inline by {@link FeedCompression} on a
+ * read-ahead thread. Byte offsets of compressed content cannot be seeked to, so compressed files are
+ * always parsed as a single segment.
+ *
+ * <p>Progress and failures are reported per file. A file that cannot be opened or is not a valid feed
+ * is logged and recorded in its {@link FileResult}; the other files keep loading. A
+ * {@link PropertyLoadProgress}, if given, also counts the records parsed and the raw file bytes read
+ * across all files while they load.
+ *
+ * <p>With a {@link PropertyLoadCheckpoint}, files it records as complete are skipped, and a file loaded
+ * as a whole continues after its recorded position and records its progress after each chunk. A file
+ * parsed in segments is only recorded once all of its segments have loaded, and is otherwise loaded
+ * again from the start.
+ *
+ * <p>With a {@link PropertyDeduplicator}, every reader checks its records against the IDs read from
+ * all files of the set.
+ *
+ * <p>With a {@link PropertyStringPool}, repeated values of its fields share one instance across all
+ * files of the set.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertySourceResolver
+ */
+public class PropertyFileSetLoader {
+
+    /** Logger for this loader */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyFileSetLoader.class);
+
+    /** Mapper used to parse each file */
+    private final ObjectMapper objectMapper;
+
+    /** Destination for parsed chunks */
+    private final PropertyChunkWriter chunkWriter;
+
+    /** Number of files loaded at once */
+    private final int fileThreads;
+
+    /** Number of writer workers in each file's pipeline */
+    private final int writerThreadsPerFile;
+
+    /** Number of properties per chunk */
+    private final int chunkSize;
+
+    /** Whether files are read through memory-mapped buffers */
+    private final boolean memoryMapped;
+
+    /** Number of segments each file is split into and parsed concurrently */
+    private final int segmentsPerFile;
+
+    /** Handler tracking rejected records, or {@code null} to only count them */
+    private final RejectedRecordHandler rejectedRecordHandler;
+
+    /** Live counters of the load, or {@code null} */
+    private final PropertyLoadProgress progress;
+
+    /** Positions to resume from and record, or {@code null} */
+    private final PropertyLoadCheckpoint checkpoint;
+
+    /** Detector of records repeating an ID read before, or {@code null} */
+    private final PropertyDeduplicator deduplicator;
+
+    /** Pool of shared values for low-cardinality fields, or {@code null} */
+    private final PropertyStringPool stringPool;
+
+    /**
+     * Creates a new file set loader from its builder.
+     *
+     * @param builder the builder holding the loader's settings
+     */
+    private PropertyFileSetLoader(Builder builder) {
+        this.objectMapper = builder.objectMapper;
+        this.chunkWriter = builder.chunkWriter;
+        this.fileThreads = Math.max(1, builder.fileThreads);
+        this.writerThreadsPerFile = Math.max(1, builder.writerThreadsPerFile);
+        this.chunkSize = builder.chunkSize;
+        this.memoryMapped = builder.memoryMapped;
+        this.segmentsPerFile = Math.max(1, builder.segmentsPerFile);
+        this.rejectedRecordHandler = builder.rejectedRecordHandler;
+        this.progress = builder.progress;
+        this.checkpoint = builder.checkpoint;
+        this.deduplicator = builder.deduplicator;
+        this.stringPool = builder.stringPool;
+    }
+
+    /**
+     * Starts building a file set loader.
+     *
+     * @param objectMapper the mapper used to parse each file
+     * @param chunkWriter the writer each pipeline hands its chunks to; with a checkpoint, chunks after a
+     *                    resumed position may already be stored, see {@link PropertyLoadCheckpoint}
+     * @return a builder with one file thread, one writer thread per file, chunks of 1000, buffered reads,
+     *         one segment per file and no handler, progress, checkpoint, deduplicator or string pool
+     */
+    public static Builder builder(ObjectMapper objectMapper, PropertyChunkWriter chunkWriter) {
+        return new Builder(objectMapper, chunkWriter);
+    }
+
+    /**
+     * Loads every file, blocking until all of them have finished.
+     *
+     * @param files the files to load
+     * @return one result per file, in the order given
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public List<FileResult> load(List<Path> files) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(fileThreads, Math.max(1, files.size())),
+            new LoaderThreadFactory("property-file"));
+        AtomicInteger completed = new AtomicInteger();
+        List<Future<FileResult>> futures = new ArrayList<>(files.size());
+        try {
+            for (Path file : files) {
+                futures.add(executor.submit(() -> {
+                    FileResult result = loadFile(file);
+                    int done = completed.incrementAndGet();
+                    if (result.succeeded()) {
+                        logger.info("[{}/{}] Loaded {}: {} parsed, {} rejected, {} saved, {} failed in {} ms",
+                            done, files.size(), file, result.result().parsed(), result.result().rejected(),
+                            result.result().persisted(), result.result().failed(), result.elapsedMillis());
+                    } else {
+                        logger.error("[{}/{}] Failed to load {} after {} ms: {}",
+                            done, files.size(), file, result.elapsedMillis(), result.error().getMessage());
+                    }
+                    return result;
+                }));
+            }
+
+            List<FileResult> results = new ArrayList<>(files.size());
+            for (Future<FileResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("File loader task failed unexpectedly", e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Streams one file through one pipeline, or through one pipeline per segment.
+     */
+    private FileResult loadFile(Path file) {
+        long start = System.nanoTime();
+        try {
+            if (checkpoint != null && checkpoint.position(file.toString()).complete()) {
+                logger.info("Skipping {}, loaded before the last restart", file);
+                return new FileResult(file, new PropertyLoadPipeline.Result(0, 0, 0, 0), elapsedMillis(start), null);
+            }
+            PropertyLoadPipeline.Result result = segmentsPerFile > 1 && !FeedCompression.isCompressed(file)
+                    && FeedFormat.of(file).isSplittable()
+                ? loadSegments(file)
+                : loadWhole(file);
+            if (checkpoint != null && result.failed() == 0) {
+                checkpoint.completed(file.toString());
+            }
+            return new FileResult(file, result, elapsedMillis(start), null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new FileResult(file, null, elapsedMillis(start), e);
+        } catch (Exception e) {
+            return new FileResult(file, null, elapsedMillis(start), e);
+        }
+    }
+
+    /**
+     * Streams a whole file through a single pipeline.
+     */
+    private PropertyLoadPipeline.Result loadWhole(Path file) throws IOException, InterruptedException {
+        PropertyLoadPipeline pipeline = new PropertyLoadPipeline(
+            chunkWriter, writerThreadsPerFile, chunkSize, writerThreadsPerFile * 2);
+        if (checkpoint == null) {
+            try (PropertyRecordReader reader = tracked(FeedFormat.of(file).reader(objectMapper, openCounted(file, 0)),
+                    file.toString())) {
+                return pipeline.run(reader);
+            }
+        }
+
+        String source = file.toString();
+        PropertyLoadCheckpoint.Position position = checkpoint.position(source);
+        if (!position.isStart()) {
+            logger.info("Resuming {} after record {}", file, position.records());
+        }
+        FeedFormat format = FeedFormat.of(file);
+        boolean seekable = !FeedCompression.isCompressed(file);
+        PropertyLoadCheckpoint.Resumed resumed = PropertyLoadCheckpoint.resume(objectMapper, format, seekable,
+            offset -> openCounted(file, offset), position);
+        String name = seekable && format.isSplittable() && position.offset() > 0 ? source + "@" + position.offset() : source;
+        try (PropertyRecordReader reader = tracked(resumed.reader(), name)) {
+            return pipeline.run(reader, resumed.offsets(),
+                (records, offset) -> checkpoint.committed(source, resumed.firstRecord() + records, offset));
+        }
+    }
+
+    /**
+     * Splits a file into segments and parses them concurrently, summing their counts.
+     */
+    private PropertyLoadPipeline.Result loadSegments(Path file) throws Exception {
+        List<SegmentSource> segments = segmentSources(file);
+        if (segments.isEmpty()) {
+            return new PropertyLoadPipeline.Result(0, 0, 0, 0);
+        }
+        int writersPerSegment = Math.max(1, writerThreadsPerFile / segments.size());
+        logger.debug("Parsing {} in {} segments", file, segments.size());
+
+        ExecutorService parsers = Executors.newFixedThreadPool(segments.size(), new LoaderThreadFactory("property-parser"));
+        try {
+            List<Future<PropertyLoadPipeline.Result>> futures = new ArrayList<>(segments.size());
+            for (SegmentSource segment : segments) {
+                futures.add(parsers.submit(() -> {
+                    PropertyLoadPipeline pipeline = new PropertyLoadPipeline(
+                        chunkWriter, writersPerSegment, chunkSize, writersPerSegment * 2);
+                    try (PropertyRecordReader reader = segment.open()) {
+                        return pipeline.run(reader);
+                    }
+                }));
+            }
+
+            long parsed = 0;
+            long rejected = 0;
+            long persisted = 0;
+            long failed = 0;
+            for (Future<PropertyLoadPipeline.Result> future : futures) {
+                PropertyLoadPipeline.Result result;
+                try {
+                    result = future.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+                parsed += result.parsed();
+                rejected += result.rejected();
+                persisted += result.persisted();
+                failed += result.failed();
+            }
+            return new PropertyLoadPipeline.Result(parsed, rejected, persisted, failed);
+        } finally {
+            parsers.shutdownNow();
+        }
+    }
+
+    /**
+     * Cuts a file into independently readable segments according to its format.
+     */
+    private List<SegmentSource> segmentSources(Path file) throws IOException {
+        List<SegmentSource> sources = new ArrayList<>(segmentsPerFile);
+        if (FeedFormat.of(file) == FeedFormat.NDJSON) {
+            for (NdjsonPropertyReader.ByteRange range : NdjsonPropertyReader.split(file, segmentsPerFile)) {
+                sources.add(() -> tracked(new NdjsonPropertyReader(objectMapper,
+                    new BoundedInputStream(openCounted(file, range.start()), range.length())), file + "@" + range.start()));
+            }
+        } else {
+            for (JsonFeedSegmenter.Segment segment
+                    : JsonFeedSegmenter.split(objectMapper, open(file, 0), Files.size(file), segmentsPerFile)) {
+                sources.add(() -> tracked(new JsonStreamingPropertyReader(objectMapper,
+                    segment.wrap(openCounted(file, segment.startOffset()))), file + "@" + segment.startOffset()));
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Wraps a reader with the string pool, the deduplicator, the progress counters and the rejected record
+     * handler, if there are any. Duplicates rejected by the deduplicator are counted and handled like parse
+     * rejections.
+     *
+     * <p>Records of a segment, or of a file resumed at a byte offset, are numbered from that offset, so
+     * the source names it by the offset.
+     */
+    private PropertyRecordReader tracked(PropertyRecordReader reader, String source) {
+        PropertyRecordReader pooled = stringPool == null ? reader : stringPool.track(reader);
+        PropertyRecordReader deduplicated = deduplicator == null ? pooled : deduplicator.track(pooled);
+        PropertyRecordReader counted = progress == null ? deduplicated : progress.track(deduplicated);
+        return rejectedRecordHandler == null ? counted : rejectedRecordHandler.track(counted, source);
+    }
+
+    /**
+     * Opens a file for parsing like {@link #open(Path, long)}, counting the raw bytes read. The scan
+     * that cuts a file into segments is not counted, so each byte is counted once.
+     *
+     * <p>Reads of a segment stop at its end: the bounded stream above only asks for the bytes left in
+     * the segment.
+     */
+    private InputStream openCounted(Path file, long offset) throws IOException {
+        if (progress == null) {
+            return open(file, offset);
+        }
+        return FeedCompression.open(file, progress.count(openRaw(file, offset)));
+    }
+
+    /**
+     * Opens a file positioned at the given offset, memory-mapped or through a buffered channel, and
+     * decompresses it if needed.
+     */
+    private InputStream open(Path file, long offset) throws IOException {
+        return FeedCompression.open(file, openRaw(file, offset));
+    }
+
+    /**
+     * Opens the raw bytes of a file positioned at the given offset.
+     */
+    private InputStream openRaw(Path file, long offset) throws IOException {
+        if (memoryMapped) {
+            return new MappedFileInputStream(file, offset);
+        }
+        SeekableByteChannel channel = Files.newByteChannel(file, StandardOpenOption.READ);
+        try {
+            channel.position(offset);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new BufferedInputStream(Channels.newInputStream(channel));
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Builder for a {@link PropertyFileSetLoader}; every setting not given keeps its default.
+     */
+    public static final class Builder {
+
+        private final ObjectMapper objectMapper;
+
+        private final PropertyChunkWriter chunkWriter;
+
+        private int fileThreads = 1;
+
+        private int writerThreadsPerFile = 1;
+
+        private int chunkSize = 1000;
+
+        private boolean memoryMapped;
+
+        private int segmentsPerFile = 1;
+
+        private RejectedRecordHandler rejectedRecordHandler;
+
+        private PropertyLoadProgress progress;
+
+        private PropertyLoadCheckpoint checkpoint;
+
+        private PropertyDeduplicator deduplicator;
+
+        private PropertyStringPool stringPool;
+
+        private Builder(ObjectMapper objectMapper, PropertyChunkWriter chunkWriter) {
+            this.objectMapper = objectMapper;
+            this.chunkWriter = chunkWriter;
+        }
+
+        /**
+         * Sets the number of files loaded at once (values below one are treated as one).
+         *
+         * @param fileThreads the number of file threads
+         * @return this builder
+         */
+        public Builder fileThreads(int fileThreads) {
+            this.fileThreads = fileThreads;
+            return this;
+        }
+
+        /**
+         * Sets the number of writer workers per file, shared out between its segments (values below one
+         * are treated as one).
+         *
+         * @param writerThreadsPerFile the number of writer workers per file
+         * @return this builder
+         */
+        public Builder writerThreadsPerFile(int writerThreadsPerFile) {
+            this.writerThreadsPerFile = writerThreadsPerFile;
+            return this;
+        }
+
+        /**
+         * Sets the number of properties per chunk.
+         *
+         * @param chunkSize the number of properties per chunk
+         * @return this builder
+         */
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets whether files are read through memory-mapped buffers.
+         *
+         * @param memoryMapped {@code true} to memory-map files
+         * @return this builder
+         */
+        public Builder memoryMapped(boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
+        /**
+         * Sets the number of segments each file is split into and parsed concurrently (values below one
+         * are treated as one).
+         *
+         * @param segmentsPerFile the number of segments per file
+         * @return this builder
+         */
+        public Builder segmentsPerFile(int segmentsPerFile) {
+            this.segmentsPerFile = segmentsPerFile;
+            return this;
+        }
+
+        /**
+         * Sets the handler tracking rejected records.
+         *
+         * @param rejectedRecordHandler the handler, or {@code null} to only count rejected records
+         * @return this builder
+         */
+        public Builder rejectedRecordHandler(RejectedRecordHandler rejectedRecordHandler) {
+            this.rejectedRecordHandler = rejectedRecordHandler;
+            return this;
+        }
+
+        /**
+         * Sets the counters of parsed records and bytes read. Persisted records are counted by wrapping
+         * the chunk writer with {@link PropertyLoadProgress#track(PropertyChunkWriter)}.
+         *
+         * @param progress the counters, or {@code null}
+         * @return this builder
+         */
+        public Builder progress(PropertyLoadProgress progress) {
+            this.progress = progress;
+            return this;
+        }
+
+        /**
+         * Sets the positions to resume from and record, keyed by file path.
+         *
+         * @param checkpoint the checkpoint, or {@code null}
+         * @return this builder
+         */
+        public Builder checkpoint(PropertyLoadCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        /**
+         * Sets the detector of duplicate records shared by every file.
+         *
+         * @param deduplicator the detector, or {@code null}
+         * @return this builder
+         */
+        public Builder deduplicator(PropertyDeduplicator deduplicator) {
+            this.deduplicator = deduplicator;
+            return this;
+        }
+
+        /**
+         * Sets the pool canonicalizing field values across every file.
+         *
+         * @param stringPool the pool, or {@code null}
+         * @return this builder
+         */
+        public Builder stringPool(PropertyStringPool stringPool) {
+            this.stringPool = stringPool;
+            return this;
+        }
+
+        /**
+         * Creates the loader.
+         *
+         * @return a new file set loader with this builder's settings
+         */
+        public PropertyFileSetLoader build() {
+            return new PropertyFileSetLoader(this);
+        }
+    }
+
+    /**
+     * Opens a reader over one segment of a file.
+     */
+    @FunctionalInterface
+    private interface SegmentSource {
+        PropertyRecordReader open() throws IOException;
+    }
+
+    /**
+     * Outcome of loading one file.
+     *
+     * @param file the file
+     * @param result the pipeline counts, or {@code null} if the file failed
+     * @param elapsedMillis the time spent on the file
+     * @param error the failure, or {@code null} if the file loaded
+     */
+    public record FileResult(Path file, PropertyLoadPipeline.Result result, long elapsedMillis, Exception error) {
+
+        /**
+         * Returns whether the file was read to the end.
+         *
+         * @return {@code true} if the file loaded, possibly with rejected records or failed chunks
+         */
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberInput;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Binds a JSON property object to a {@link Property} straight from the parser's tokens.
+ *
+ * <p>Binding through {@link JsonStreamingPropertyReader#toProperty} first materializes each record as a
+ * {@code JsonNode} tree: an {@code ObjectNode} with a {@code LinkedHashMap}, a value node per field,
+ * and a hash lookup for each of the 14 fields read back out of it. This binder walks the field names
+ * once instead, switches on each name and keeps the value, so the only allocations per record are the
+ * field values and the property itself.
+ *
+ * <p>Values are converted exactly as {@code JsonNode.asText()} and {@code asLong()} convert them, so
+ * both paths produce the same property and content hash: numbers keep the text of their parsed value,
+ * such as {@code 45.0} for {@code 45.00}, {@code null} becomes {@code "null"}, and objects and arrays
+ * become empty strings. Price and commission are read with {@link JsonParser#getDecimalValue()} straight
+ * from the number's digits, or parsed from a string, and normalized by {@link PropertyAmounts}. Unknown
+ * fields are skipped without being parsed into values.
+ *
+ * <p>Instances are reused for every record of one reader and are not thread-safe.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see JsonStreamingPropertyReader
+ * @see NdjsonPropertyReader
+ */
+public class PropertyJsonBinder {
+
+    /** Field names in the order they are checked, the ID first */
+    private static final String[] FIELDS = {
+        "id", "propertyName", "propertyLocation", "propertyCity", "propertyState", "propertyCountry",
+        "propertyAddress", "propertyPhoneNumber", "propertyEmailAddress", "propertyAirportProximity",
+        "propertyDescription", "propertyPricePerNight", "propertyCommissionAmount", "propertyCancellationPenalty"
+    };
+
+    /** Bits of {@link #present} once every field has been read */
+    private static final int ALL_FIELDS = (1 << FIELDS.length) - 1;
+
+    /** Index of the price, the first of the two amount fields */
+    private static final int PRICE = 11;
+
+    /** Index of the commission, the second amount field */
+    private static final int COMMISSION = 12;
+
+    /** Text of each text field of the last record */
+    private final String[] values = new String[FIELDS.length];
+
+    /** Price and commission of the last record */
+    private final BigDecimal[] amounts = new BigDecimal[2];
+
+    /** Why an amount of the last record could not be read, or {@code null} */
+    private String invalidAmount;
+
+    /** Bit per field read from the last record */
+    private int present;
+
+    /** ID of the last record */
+    private long id;
+
+    /**
+     * Binds the object the parser is positioned at.
+     *
+     * <p>The parser must be on the object's {@link JsonToken#START_OBJECT} and is left on its
+     * {@link JsonToken#END_OBJECT}, even when a field is missing or invalid.
+     *
+     * @param parser the parser, positioned at the start of a property object
+     * @return the bound property, with its content hash set
+     * @throws IOException if the object is not well-formed JSON
+     * @throws IllegalArgumentException if a required field is missing or an amount is not a valid number
+     */
+    public Property bind(JsonParser parser) throws IOException {
+        present = 0;
+        invalidAmount = null;
+
+        String name;
+        while ((name = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            int field = indexOf(name);
+            if (field < 0) {
+                parser.skipChildren();
+                continue;
+            }
+
+            if (field == 0) {
+                id = longValue(parser, token);
+            } else if (field == PRICE || field == COMMISSION) {
+                amounts[field - PRICE] = amount(parser, token, field);
+            } else {
+                values[field] = text(parser, token);
+            }
+            present |= 1 << field;
+        }
+
+        if (present != ALL_FIELDS) {
+            throw new IllegalArgumentException("Missing field '" + FIELDS[Integer.numberOfTrailingZeros(~present)] + "'");
+        }
+        if (invalidAmount != null) {
+            throw new IllegalArgumentException(invalidAmount);
+        }
+        Property property = new Property(id, values[1], values[2], values[3], values[4], values[5], values[6],
+            values[7], values[8], values[9], values[10], amounts[0], amounts[1], values[13]);
+        property.setContentHash(PropertyContentHasher.hash(property));
+        return property;
+    }
+
+    /**
+     * Returns the index of a known field.
+     *
+     * @return the index in {@link #FIELDS}, or {@code -1} for an unknown field
+     */
+    private static int indexOf(String name) {
+        return switch (name) {
+            case "id" -> 0;
+            case "propertyName" -> 1;
+            case "propertyLocation" -> 2;
+            case "propertyCity" -> 3;
+            case "propertyState" -> 4;
+            case "propertyCountry" -> 5;
+            case "propertyAddress" -> 6;
+            case "propertyPhoneNumber" -> 7;
+            case "propertyEmailAddress" -> 8;
+            case "propertyAirportProximity" -> 9;
+            case "propertyDescription" -> 10;
+            case "propertyPricePerNight" -> 11;
+            case "propertyCommissionAmount" -> 12;
+            case "propertyCancellationPenalty" -> 13;
+            default -> -1;
+        };
+    }
+
+    /**
+     * Returns the current value as {@code JsonNode.asText()} would, skipping it if it is a container.
+     */
+    private static String text(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> switch (parser.getNumberType()) {
+                case INT -> Integer.toString(parser.getIntValue());
+                case LONG -> Long.toString(parser.getLongValue());
+                default -> parser.getBigIntegerValue().toString();
+            };
+            case VALUE_NUMBER_FLOAT -> Double.toString(parser.getDoubleValue());
+            case VALUE_TRUE -> "true";
+            case VALUE_FALSE -> "false";
+            case VALUE_NULL -> "null";
+            default -> {
+                parser.skipChildren();
+                yield "";
+            }
+        };
+    }
+
+    /**
+     * Returns the current value as a normalized amount, or {@code null} if it is JSON {@code null} or
+     * cannot be read, keeping the reason for {@link #bind(JsonParser)} to report once the object is consumed.
+     */
+    private BigDecimal amount(JsonParser parser, JsonToken token, int field) throws IOException {
+        try {
+            return switch (token) {
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> PropertyAmounts.normalize(FIELDS[field], parser.getDecimalValue());
+                case VALUE_STRING -> PropertyAmounts.parse(FIELDS[field], parser.getText());
+                case VALUE_NULL -> null;
+                default -> {
+                    parser.skipChildren();
+                    throw new IllegalArgumentException("Field '" + FIELDS[field] + "' is not a number");
+                }
+            };
+        } catch (IllegalArgumentException e) {
+            if (invalidAmount == null) {
+                invalidAmount = e.getMessage();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Returns the current value as {@code JsonNode.asLong()} would, skipping it if it is a container.
+     */
+    private static long longValue(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NUMBER_INT -> parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER
+                ? parser.getBigIntegerValue().longValue() : parser.getLongValue();
+            case VALUE_NUMBER_FLOAT -> (long) parser.getDoubleValue();
+            case VALUE_STRING -> NumberInput.parseAsLong(parser.getText(), 0);
+            case VALUE_TRUE -> 1;
+            case START_OBJECT, START_ARRAY -> {
+                parser.skipChildren();
+                yield 0;
+            }
+            default -> 0;
+        };
+    }
+}
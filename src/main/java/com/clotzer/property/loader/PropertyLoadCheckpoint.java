@@ -0,0 +1,391 @@
+package com.clotzer.property.loader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Records how far each source of a load has been written, so a load interrupted by a crash resumes
+ * where it stopped instead of starting again.
+ *
+ * <p>After every chunk that a {@link PropertyLoadPipeline} reports through its
+ * {@link PropertyLoadPipeline.CommitListener}, the checkpoint file is rewritten with one
+ * {@link Position} per source: the number of records written without gaps, the byte offset just past
+ * the last of them, and whether the source is complete. The file is written next to its target and
+ * moved over it, so a crash leaves either the previous or the new checkpoint, never a partial one. The
+ * checkpoint also holds the checksum of the feed, computed with {@link PropertySnapshot#checksum(java.util.List)};
+ * a checkpoint taken against different feed contents is ignored.
+ *
+ * <p>{@link #resume(ObjectMapper, FeedFormat, boolean, FeedOpener, Position)} opens a reader that
+ * continues a source after its position. Uncompressed JSON and NDJSON feeds are opened at the byte
+ * offset; other feeds are read from the start and the written records are skipped.
+ *
+ * <p>Chunks that were committed after the last recorded position are written again on resume. With
+ * concurrent writers that is at most one chunk per writer thread and queued chunk of the pipeline.
+ *
+ * <p>Instances are thread-safe.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyLoadPipeline#run(PropertyRecordReader, LongSupplier, PropertyLoadPipeline.CommitListener)
+ */
+public class PropertyLoadCheckpoint {
+
+    /** Version of the checkpoint file layout */
+    static final int VERSION = 1;
+
+    /** Logger for this checkpoint */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyLoadCheckpoint.class);
+
+    /** Opening bracket put in front of a JSON feed resumed inside its property array */
+    private static final byte[] ARRAY_START = {'['};
+
+    /** Mapper used to read and write the checkpoint file */
+    private final ObjectMapper objectMapper;
+
+    /** The checkpoint file */
+    private final Path file;
+
+    /** File written before being moved over {@link #file} */
+    private final Path temporary;
+
+    /** Checksum of the feed being loaded */
+    private final long feedChecksum;
+
+    /** Position of each source, in the order first recorded */
+    private final Map<String, Position> positions = new LinkedHashMap<>();
+
+    /** Whether positions were read from an earlier load */
+    private boolean resumed;
+
+    /** Whether a write has failed, so later failures are not logged again */
+    private boolean writeFailed;
+
+    private PropertyLoadCheckpoint(ObjectMapper objectMapper, Path file, long feedChecksum) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        this.feedChecksum = feedChecksum;
+    }
+
+    /**
+     * Opens the checkpoint of a load, reading the positions left by an interrupted load of the same feed.
+     *
+     * <p>A missing or unreadable file, or one recorded for a different feed checksum, starts the load
+     * from the beginning.
+     *
+     * @param objectMapper the mapper used to read and write the checkpoint file
+     * @param file the checkpoint file; its directory is created if needed
+     * @param feedChecksum the checksum of the feed about to be loaded
+     * @return the checkpoint
+     * @throws IOException if the directory of the checkpoint cannot be created
+     */
+    public static PropertyLoadCheckpoint open(ObjectMapper objectMapper, Path file, long feedChecksum) throws IOException {
+        PropertyLoadCheckpoint checkpoint = new PropertyLoadCheckpoint(objectMapper, file, feedChecksum);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        if (!Files.exists(file)) {
+            return checkpoint;
+        }
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(file.toFile());
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable checkpoint {}: {}", file, e.getMessage());
+            return checkpoint;
+        }
+        if (root == null || root.path("version").asInt() != VERSION) {
+            logger.warn("Ignoring checkpoint {} with an unsupported layout", file);
+            return checkpoint;
+        }
+        if (root.path("feedChecksum").asLong() != feedChecksum) {
+            logger.info("Feed changed since checkpoint {} was written; loading from the beginning", file);
+            return checkpoint;
+        }
+        for (Map.Entry<String, JsonNode> source : root.path("sources").properties()) {
+            JsonNode position = source.getValue();
+            checkpoint.positions.put(source.getKey(), new Position(position.path("records").asLong(),
+                position.path("offset").asLong(-1), position.path("complete").asBoolean()));
+        }
+        checkpoint.resumed = !checkpoint.positions.isEmpty();
+        return checkpoint;
+    }
+
+    /**
+     * Returns whether an interrupted load left positions to resume from.
+     *
+     * @return {@code true} if any source has a recorded position
+     */
+    public synchronized boolean isResumed() {
+        return resumed;
+    }
+
+    /**
+     * Returns the recorded position of a source.
+     *
+     * @param source the source name, such as a file path
+     * @return the position, or {@link Position#START} if none was recorded
+     */
+    public synchronized Position position(String source) {
+        return positions.getOrDefault(source, Position.START);
+    }
+
+    /**
+     * Records that a source has been written up to a position, and rewrites the checkpoint file.
+     *
+     * <p>A failure to write the file is logged once and otherwise ignored, so the load keeps going
+     * with the last checkpoint that was written.
+     *
+     * @param source the source name
+     * @param records number of records of the source written without gaps, including rejected ones
+     * @param offset byte offset in the source just past the last of those records, or {@code -1} if unknown
+     */
+    public synchronized void committed(String source, long records, long offset) {
+        positions.put(source, new Position(records, offset, false));
+        write();
+    }
+
+    /**
+     * Records that a source has been written to the end, and rewrites the checkpoint file.
+     *
+     * @param source the source name
+     */
+    public synchronized void completed(String source) {
+        Position position = positions.getOrDefault(source, Position.START);
+        positions.put(source, new Position(position.records(), position.offset(), true));
+        write();
+    }
+
+    /**
+     * Forgets every recorded position and deletes the checkpoint file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    public synchronized void reset() throws IOException {
+        positions.clear();
+        resumed = false;
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Deletes the checkpoint file if every given source is complete.
+     *
+     * @param sources the names of every source of the load
+     * @return {@code true} if the load is complete and the checkpoint was deleted
+     * @throws IOException if the file cannot be deleted
+     */
+    public synchronized boolean finish(Collection<String> sources) throws IOException {
+        for (String source : sources) {
+            if (!position(source).complete()) {
+                return false;
+            }
+        }
+        Files.deleteIfExists(file);
+        return true;
+    }
+
+    /**
+     * Returns the checkpoint file.
+     *
+     * @return the path of the checkpoint
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes the positions to the temporary file and moves it over the checkpoint. Callers hold the monitor.
+     */
+    private void write() {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("version", VERSION);
+        root.put("feedChecksum", feedChecksum);
+        ObjectNode sources = root.putObject("sources");
+        positions.forEach((source, position) -> sources.putObject(source)
+            .put("records", position.records())
+            .put("offset", position.offset())
+            .put("complete", position.complete()));
+        try {
+            Files.write(temporary, objectMapper.writeValueAsBytes(root));
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            if (!writeFailed) {
+                writeFailed = true;
+                logger.error("Failed to write checkpoint {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Opens a reader that continues a source after a recorded position.
+     *
+     * <p>When {@code seekable} and the position has a byte offset, JSON and NDJSON feeds are opened at
+     * that offset; a JSON feed is read as an array starting after the last written element. Otherwise the
+     * feed is opened at the start and {@link Position#records()} records are skipped, cheaply with
+     * {@link JsonStreamingPropertyReader#skip()} for JSON and by reading them for other formats.
+     *
+     * <p>Record numbers reported by a reader opened at an offset, as in rejected records, count from
+     * that offset.
+     *
+     * @param objectMapper the mapper used to parse records
+     * @param format the format of the source
+     * @param seekable whether {@code opener} can open the source at a byte offset, which requires an
+     *                 uncompressed source
+     * @param opener opens the uncompressed source at a byte offset; only called with {@code 0} unless
+     *               {@code seekable}
+     * @param position the position to continue after
+     * @return the reader with the number of records before it and a supplier of absolute byte offsets
+     * @throws IOException if the source cannot be opened or ends before the position
+     */
+    public static Resumed resume(ObjectMapper objectMapper, FeedFormat format, boolean seekable, FeedOpener opener,
+                                 Position position) throws IOException {
+        long offset = position.offset();
+        if (seekable && offset > 0 && format == FeedFormat.JSON) {
+            PushbackInputStream in = new PushbackInputStream(opener.open(offset));
+            long separator;
+            try {
+                separator = skipSeparator(in);
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+            JsonStreamingPropertyReader reader = new JsonStreamingPropertyReader(objectMapper,
+                new SequenceInputStream(new ByteArrayInputStream(ARRAY_START), in));
+            // Offsets in the resumed stream count the synthetic '[' but not the skipped separator
+            long base = offset + separator - ARRAY_START.length;
+            return new Resumed(reader, position.records(),
+                () -> reader.getRecordEndOffset() < 0 ? offset : base + reader.getRecordEndOffset());
+        }
+        if (seekable && offset > 0 && format == FeedFormat.NDJSON) {
+            NdjsonPropertyReader reader = new NdjsonPropertyReader(objectMapper, opener.open(offset));
+            return new Resumed(reader, position.records(),
+                () -> reader.getRecordEndOffset() < 0 ? offset : offset + reader.getRecordEndOffset());
+        }
+
+        PropertyRecordReader reader = format.reader(objectMapper, opener.open(0));
+        try {
+            skipRecords(reader, position.records());
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        LongSupplier offsets = () -> -1;
+        if (seekable && reader instanceof JsonStreamingPropertyReader json) {
+            offsets = json::getRecordEndOffset;
+        } else if (seekable && reader instanceof NdjsonPropertyReader ndjson) {
+            offsets = ndjson::getRecordEndOffset;
+        }
+        return new Resumed(reader, position.records(), offsets);
+    }
+
+    /**
+     * Skips the given number of records from the start of a reader.
+     */
+    private static void skipRecords(PropertyRecordReader reader, long records) throws IOException {
+        for (long i = 0; i < records; i++) {
+            if (reader instanceof JsonStreamingPropertyReader json) {
+                if (!json.skip()) {
+                    throw new IOException("Feed ended after " + i + " of " + records + " checkpointed records");
+                }
+                continue;
+            }
+            try {
+                if (reader.read() == null) {
+                    throw new IOException("Feed ended after " + i + " of " + records + " checkpointed records");
+                }
+            } catch (IllegalArgumentException e) {
+                // A rejected record counts towards the position like any other
+            }
+        }
+    }
+
+    /**
+     * Consumes the whitespace and the comma that separate the last written element from the next one.
+     *
+     * @return the number of bytes consumed
+     */
+    private static long skipSeparator(PushbackInputStream in) throws IOException {
+        long skipped = 0;
+        boolean comma = false;
+        int b;
+        while ((b = in.read()) >= 0) {
+            if (b == ',' && !comma) {
+                comma = true;
+            } else if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                in.unread(b);
+                break;
+            }
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * Opens a source at a byte offset.
+     */
+    @FunctionalInterface
+    public interface FeedOpener {
+
+        /**
+         * Opens the uncompressed source positioned at the given offset.
+         *
+         * @param offset the byte offset to start at
+         * @return the source; closed with the reader
+         * @throws IOException if the source cannot be opened
+         */
+        InputStream open(long offset) throws IOException;
+    }
+
+    /**
+     * How far a source has been written.
+     *
+     * @param records number of records written without gaps, including rejected ones
+     * @param offset byte offset just past the last of those records, or {@code -1} if unknown
+     * @param complete whether the source has been written to the end
+     */
+    public record Position(long records, long offset, boolean complete) {
+
+        /** The position of a source that has not been started */
+        public static final Position START = new Position(0, -1, false);
+
+        /**
+         * Returns whether nothing of the source has been written.
+         *
+         * @return {@code true} if no records were recorded and the source is not complete
+         */
+        public boolean isStart() {
+            return records == 0 && !complete;
+        }
+    }
+
+    /**
+     * A reader continuing a source after a recorded position.
+     *
+     * @param reader the reader, positioned after the recorded records
+     * @param firstRecord number of records of the source before the reader's first record; add it to the
+     *                    record counts of the reader's pipeline to get positions in the whole source
+     * @param offsets returns the absolute byte offset just past the last record read, or {@code -1} if unknown
+     */
+    public record Resumed(PropertyRecordReader reader, long firstRecord, LongSupplier offsets) {
+    }
+}
@@ -0,0 +1,330 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Producer/consumer pipeline that parses a property feed on one thread and persists it on many.
+ *
+ * <p>The calling thread acts as the single reader: it pulls records from a
+ * {@link PropertyRecordReader}, groups them into chunks and places each chunk on a bounded queue.
+ * A fixed pool of writer workers drains the queue and hands every chunk to a
+ * {@link PropertyChunkWriter}, which persists it in its own transaction.
+ *
+ * <p>The bounded queue provides back-pressure: when all writers are busy and the queue is full,
+ * the reader blocks instead of buffering the rest of the feed on the heap. Peak memory is therefore
+ * roughly {@code (writerThreads + queueCapacity) * chunkSize} records.
+ *
+ * <p>Writer failures, including {@link Error}s, are isolated to the chunk that failed; they are logged
+ * and counted and the remaining chunks continue to load. Rejected records are counted and summarized once at the end;
+ * wrap the reader with a {@link RejectedRecordHandler} to log, limit or keep them. Structural read
+ * failures abort the pipeline after the chunks already queued have been written.
+ *
+ * <p>Chunks are written out of order by the workers. A {@link CommitListener} passed to
+ * {@link #run(PropertyRecordReader, LongSupplier, CommitListener)} is told, in feed order, how far the
+ * feed has been written without gaps: the position after the last chunk all of whose predecessors
+ * have been written too. A chunk that fails holds the position back for the rest of the run, so a run
+ * restarted from the last reported position writes that chunk again. Only the position of each chunk
+ * waiting for an earlier one is kept, never its records.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyRecordReader
+ * @see PropertyChunkWriter
+ */
+public class PropertyLoadPipeline {
+
+    /** Logger for this pipeline */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyLoadPipeline.class);
+
+    /** Sentinel chunk telling a writer worker that no more input will arrive */
+    private static final Chunk END_OF_INPUT = new Chunk(-1, List.of(), 0, -1);
+
+    /** Destination for parsed chunks */
+    private final PropertyChunkWriter chunkWriter;
+
+    /** Number of writer workers draining the queue */
+    private final int writerThreads;
+
+    /** Number of properties per chunk */
+    private final int chunkSize;
+
+    /** Maximum number of chunks waiting to be written */
+    private final int queueCapacity;
+
+    /**
+     * Creates a new pipeline.
+     *
+     * @param chunkWriter the writer each worker hands its chunks to
+     * @param writerThreads the number of writer workers (values below one are treated as one)
+     * @param chunkSize the number of properties per chunk (values below one are treated as one)
+     * @param queueCapacity the number of chunks that may wait for a writer (values below one are treated as one)
+     */
+    public PropertyLoadPipeline(PropertyChunkWriter chunkWriter, int writerThreads, int chunkSize, int queueCapacity) {
+        this.chunkWriter = chunkWriter;
+        this.writerThreads = Math.max(1, writerThreads);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    /**
+     * Reads the whole feed and persists it, blocking until every queued chunk has been written.
+     *
+     * @param reader the source of records; not closed by this method
+     * @return the counts of parsed, rejected, persisted and failed records
+     * @throws IOException if the feed cannot be read
+     * @throws InterruptedException if the calling thread is interrupted while waiting for writers
+     */
+    public Result run(PropertyRecordReader reader) throws IOException, InterruptedException {
+        return run(reader, () -> -1, (CommitListener) null);
+    }
+
+    /**
+     * Reads the whole feed and persists it, reporting each position up to which every chunk has been
+     * written.
+     *
+     * @param reader the source of records; not closed by this method
+     * @param offsets returns the byte offset in the feed just past the last record read, or {@code -1}
+     *                if unknown; called on this thread after each read
+     * @param listener told each new written position, or {@code null}
+     * @return the counts of parsed, rejected, persisted and failed records
+     * @throws IOException if the feed cannot be read
+     * @throws InterruptedException if the calling thread is interrupted while waiting for writers
+     */
+    public Result run(PropertyRecordReader reader, LongSupplier offsets, CommitListener listener)
+            throws IOException, InterruptedException {
+        return run(reader, offsets, listener == null ? null : new CommitTracker(listener));
+    }
+
+    /**
+     * Reads the whole feed and persists it, reporting written chunks to the given tracker.
+     *
+     * @param reader the source of records; not closed by this method
+     * @param offsets returns the byte offset in the feed just past the last record read, or {@code -1}
+     * @param tracker the tracker told of each written and failed chunk, or {@code null}
+     * @return the counts of parsed, rejected, persisted and failed records
+     * @throws IOException if the feed cannot be read
+     * @throws InterruptedException if the calling thread is interrupted while waiting for writers
+     */
+    Result run(PropertyRecordReader reader, LongSupplier offsets, CommitTracker tracker)
+            throws IOException, InterruptedException {
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicLong persisted = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicInteger failedChunks = new AtomicInteger();
+
+        ExecutorService writers = Executors.newFixedThreadPool(writerThreads, new LoaderThreadFactory("property-writer"));
+        for (int i = 0; i < writerThreads; i++) {
+            writers.execute(() -> drain(queue, tracker, persisted, failed, failedChunks));
+        }
+
+        long parsed = 0;
+        long rejected = 0;
+        long sequence = 0;
+        try {
+            List<Property> chunk = new ArrayList<>(chunkSize);
+            while (true) {
+                Property property;
+                try {
+                    property = reader.read();
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    logger.debug("Error parsing property: {}", e.getMessage());
+                    continue;
+                }
+                if (property == null) {
+                    break;
+                }
+                chunk.add(property);
+                parsed++;
+                if (chunk.size() >= chunkSize) {
+                    queue.put(new Chunk(sequence++, chunk, parsed + rejected, offsets.getAsLong()));
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                queue.put(new Chunk(sequence++, chunk, parsed + rejected, offsets.getAsLong()));
+            }
+        } finally {
+            for (int i = 0; i < writerThreads; i++) {
+                queue.put(END_OF_INPUT);
+            }
+            writers.shutdown();
+            writers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+
+        if (rejected > 0) {
+            logger.warn("{} record(s) could not be parsed and were skipped", rejected);
+        }
+        if (failedChunks.get() > 0) {
+            logger.error("{} chunk(s) failed to save ({} properties)", failedChunks.get(), failed.get());
+        }
+        return new Result(parsed, rejected, persisted.get(), failed.get());
+    }
+
+    /**
+     * Writer worker loop: takes chunks from the queue until the end-of-input sentinel arrives.
+     */
+    private void drain(BlockingQueue<Chunk> queue, CommitTracker tracker, AtomicLong persisted, AtomicLong failed,
+                       AtomicInteger failedChunks) {
+        try {
+            while (true) {
+                Chunk chunk = queue.take();
+                if (chunk == END_OF_INPUT) {
+                    return;
+                }
+                List<Property> properties = chunk.properties();
+                try {
+                    chunkWriter.write(properties);
+                    persisted.addAndGet(properties.size());
+                } catch (Throwable e) {
+                    // Errors are caught too: a dead worker would leave the reader blocked on a full queue
+                    failed.addAndGet(properties.size());
+                    failedChunks.incrementAndGet();
+                    if (e instanceof RuntimeException) {
+                        logger.error("Error saving chunk of {} properties: {}", properties.size(), e.getMessage());
+                    } else {
+                        logger.error("Error saving chunk of {} properties", properties.size(), e);
+                    }
+                    if (tracker != null) {
+                        tracker.failed(chunk.sequence());
+                    }
+                    continue;
+                }
+                if (tracker != null) {
+                    tracker.written(chunk.sequence(), chunk.records(), chunk.offset());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Receives the positions in a feed up to which every record has been written.
+     */
+    @FunctionalInterface
+    public interface CommitListener {
+
+        /**
+         * Called after the chunk ending at the given position and every chunk before it have been
+         * written. Calls are made one at a time from the writer threads, with increasing positions.
+         *
+         * @param records number of records read up to the position, including rejected ones
+         * @param offset byte offset in the feed just past the last of those records, or {@code -1} if unknown
+         */
+        void committed(long records, long offset);
+    }
+
+    /**
+     * A chunk of parsed properties and the feed position after its last record.
+     *
+     * @param sequence the chunk's place in the feed, from zero
+     * @param properties the parsed properties
+     * @param records number of records read up to the end of the chunk, including rejected ones
+     * @param offset byte offset just past the chunk's last record, or {@code -1} if unknown
+     */
+    private record Chunk(long sequence, List<Property> properties, long records, long offset) {
+    }
+
+    /**
+     * Turns chunks written in any order into gap-free positions for a {@link CommitListener}.
+     *
+     * <p>The position of a chunk written ahead of an earlier chunk waits here until that chunk is
+     * written. Once a chunk fails, no later position can be reported in this run, so the positions
+     * after it are dropped and later chunks are not tracked. Only chunks dispatched before the earliest
+     * unwritten one can wait, which is at most {@code writerThreads + queueCapacity}.
+     */
+    static final class CommitTracker {
+
+        /** Listener told each new gap-free position */
+        private final CommitListener listener;
+
+        /** Positions of written chunks waiting for an earlier chunk, by sequence */
+        private final TreeMap<Long, Position> waiting = new TreeMap<>();
+
+        /** Sequence of the earliest chunk not yet written */
+        private long next;
+
+        /** Sequence of the earliest chunk that failed, or {@link Long#MAX_VALUE} */
+        private long failedAt = Long.MAX_VALUE;
+
+        CommitTracker(CommitListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Records a written chunk and reports the position it completes, if any.
+         *
+         * @param sequence the chunk's place in the feed
+         * @param records number of records read up to the end of the chunk
+         * @param offset byte offset just past the chunk's last record, or {@code -1}
+         */
+        synchronized void written(long sequence, long records, long offset) {
+            if (sequence >= failedAt) {
+                return;
+            }
+            if (sequence != next) {
+                waiting.put(sequence, new Position(records, offset));
+                return;
+            }
+            Position last = new Position(records, offset);
+            next++;
+            Position following;
+            while ((following = waiting.remove(next)) != null) {
+                last = following;
+                next++;
+            }
+            listener.committed(last.records(), last.offset());
+        }
+
+        /**
+         * Records a chunk that failed, dropping the positions after it.
+         *
+         * @param sequence the chunk's place in the feed
+         */
+        synchronized void failed(long sequence) {
+            failedAt = Math.min(failedAt, sequence);
+            waiting.tailMap(failedAt).clear();
+        }
+
+        /**
+         * Returns the number of positions waiting for an earlier chunk.
+         */
+        synchronized int waitingCount() {
+            return waiting.size();
+        }
+
+        /**
+         * Feed position after a written chunk.
+         */
+        private record Position(long records, long offset) {
+        }
+    }
+
+    /**
+     * Outcome of a pipeline run.
+     *
+     * @param parsed number of records successfully parsed
+     * @param rejected number of records that could not be parsed
+     * @param persisted number of records written by the chunk writer
+     * @param failed number of parsed records whose chunk failed to write
+     */
+    public record Result(long parsed, long rejected, long persisted, long failed) {
+    }
+}
@@ -0,0 +1,349 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of a running load: phase, records, bytes, throughput and estimated time remaining.
+ *
+ * <p>Counters are updated on the hot path by decorators wrapped around the load's readers, chunk writers
+ * and input streams:
+ * <ul>
+ *   <li>{@link #track(PropertyRecordReader)} counts parsed and rejected records</li>
+ *   <li>{@link #track(PropertyChunkWriter)} counts persisted records and records whose chunk failed</li>
+ *   <li>{@link #count(InputStream)} counts feed bytes read</li>
+ * </ul>
+ * Each counter is a {@link LongAdder}, so the parser and writer threads of a concurrent load update
+ * them without contending on a shared cache line. A clean record costs one uncontended add.
+ *
+ * <p>Throughput is measured over a sliding window of {@value #WINDOW_SECONDS} seconds. A sample of
+ * the counters is taken at most once a second, when a chunk is written or a {@link #report()} is
+ * taken. The rates are the difference between the latest counters and the oldest sample in the
+ * window. The estimated time remaining divides the bytes still to read by the byte rate. It is only
+ * known when the total size of the feed was set with {@link #setBytesTotal(long)}.
+ *
+ * <p>Instances are thread-safe.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class PropertyLoadProgress {
+
+    /**
+     * Steps of a load, in the order they usually run.
+     */
+    public enum Phase {
+        /** No load has started */
+        IDLE,
+        /** Finding the feed files */
+        RESOLVING,
+        /** Computing the feed checksum to decide whether a snapshot can be used */
+        CHECKSUMMING,
+        /** Loading records from the snapshot instead of the feed */
+        LOADING_SNAPSHOT,
+        /** Parsing the feed and persisting it */
+        LOADING,
+        /** Comparing the feed with the table and writing only the differences */
+        RECONCILING,
+        /** The load completed */
+        COMPLETE,
+        /** The load failed */
+        FAILED
+    }
+
+    /** Length of the throughput window */
+    static final int WINDOW_SECONDS = 10;
+
+    /** Minimum time between samples */
+    private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** Number of samples kept, enough to cover the window */
+    private static final int SAMPLES = WINDOW_SECONDS + 2;
+
+    /** Records parsed */
+    private final LongAdder parsed = new LongAdder();
+
+    /** Records rejected by the parser */
+    private final LongAdder rejected = new LongAdder();
+
+    /** Records persisted */
+    private final LongAdder persisted = new LongAdder();
+
+    /** Records whose chunk failed to persist */
+    private final LongAdder failed = new LongAdder();
+
+    /** Feed bytes read */
+    private final LongAdder bytesRead = new LongAdder();
+
+    /** Sample times in nanoseconds, a ring indexed by {@link #sampleCount} */
+    private final long[] sampleNanos = new long[SAMPLES];
+
+    /** Persisted records at each sample */
+    private final long[] samplePersisted = new long[SAMPLES];
+
+    /** Bytes read at each sample */
+    private final long[] sampleBytes = new long[SAMPLES];
+
+    /** Number of samples taken since the load started */
+    private int sampleCount;
+
+    /** Earliest time for the next sample */
+    private volatile long nextSampleNanos;
+
+    /** Current phase */
+    private volatile Phase phase = Phase.IDLE;
+
+    /** Total feed size in bytes, or {@code -1} if unknown */
+    private volatile long bytesTotal = -1;
+
+    /** When the load started, from {@link System#nanoTime()} */
+    private volatile long startNanos;
+
+    /** When the load finished, from {@link System#nanoTime()}, or {@code 0} while it runs */
+    private volatile long endNanos;
+
+    /**
+     * Resets every counter and starts timing a new load.
+     */
+    public synchronized void start() {
+        parsed.reset();
+        rejected.reset();
+        persisted.reset();
+        failed.reset();
+        bytesRead.reset();
+        bytesTotal = -1;
+        sampleCount = 0;
+        endNanos = 0;
+        startNanos = System.nanoTime();
+        nextSampleNanos = startNanos;
+        phase = Phase.RESOLVING;
+        sample(startNanos);
+    }
+
+    /**
+     * Moves the load to another phase.
+     *
+     * <p>{@link Phase#COMPLETE} and {@link Phase#FAILED} stop the clock.
+     *
+     * @param phase the new phase
+     */
+    public void setPhase(Phase phase) {
+        if ((phase == Phase.COMPLETE || phase == Phase.FAILED) && endNanos == 0) {
+            endNanos = System.nanoTime();
+        }
+        this.phase = phase;
+    }
+
+    /**
+     * Sets the total size of the feed, enabling the byte progress and the estimated time remaining.
+     *
+     * @param bytesTotal the total feed size in bytes, or a negative value if unknown
+     */
+    public void setBytesTotal(long bytesTotal) {
+        this.bytesTotal = bytesTotal < 0 ? -1 : bytesTotal;
+    }
+
+    /**
+     * Wraps a reader so its parsed and rejected records are counted.
+     *
+     * @param reader the reader to count
+     * @return the counting reader; closing it closes {@code reader}
+     */
+    public PropertyRecordReader track(PropertyRecordReader reader) {
+        return new PropertyRecordReader() {
+            @Override
+            public Property read() throws IOException {
+                Property property;
+                try {
+                    property = reader.read();
+                } catch (IllegalArgumentException e) {
+                    rejected.increment();
+                    throw e;
+                }
+                if (property != null) {
+                    parsed.increment();
+                }
+                return property;
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+
+    /**
+     * Wraps a chunk writer so its persisted and failed records are counted.
+     *
+     * @param writer the writer to count
+     * @return the counting writer
+     */
+    public PropertyChunkWriter track(PropertyChunkWriter writer) {
+        return chunk -> {
+            try {
+                writer.write(chunk);
+            } catch (RuntimeException e) {
+                failed.add(chunk.size());
+                throw e;
+            }
+            persisted.add(chunk.size());
+            sampleIfDue(System.nanoTime());
+        };
+    }
+
+    /**
+     * Wraps an input stream so the bytes read from it are counted.
+     *
+     * <p>Wrap the raw feed, before decompression, so the count is comparable with the file sizes
+     * passed to {@link #setBytesTotal(long)}.
+     *
+     * @param in the stream to count
+     * @return the counting stream; closing it closes {@code in}
+     */
+    public InputStream count(InputStream in) {
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = in.read();
+                if (b >= 0) {
+                    bytesRead.increment();
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = in.read(buffer, offset, length);
+                if (n > 0) {
+                    bytesRead.add(n);
+                }
+                return n;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = in.skip(n);
+                bytesRead.add(skipped);
+                return skipped;
+            }
+        };
+    }
+
+    /**
+     * Takes a consistent reading of the counters, rates and estimate.
+     *
+     * @return the current progress
+     */
+    public Report report() {
+        long now = endNanos != 0 ? endNanos : System.nanoTime();
+        sampleIfDue(now);
+        long persistedNow = persisted.sum();
+        long bytesNow = bytesRead.sum();
+        long total = bytesTotal;
+
+        double recordsPerSecond = 0;
+        double bytesPerSecond = 0;
+        synchronized (this) {
+            int oldest = oldestSampleInWindow(now);
+            if (oldest >= 0) {
+                double seconds = (now - sampleNanos[oldest]) / 1e9;
+                if (seconds > 0) {
+                    recordsPerSecond = (persistedNow - samplePersisted[oldest]) / seconds;
+                    bytesPerSecond = (bytesNow - sampleBytes[oldest]) / seconds;
+                }
+            }
+        }
+
+        Long etaSeconds = null;
+        Phase current = phase;
+        if (current == Phase.COMPLETE) {
+            etaSeconds = 0L;
+        } else if (total >= 0 && bytesPerSecond > 0 && current != Phase.FAILED && current != Phase.IDLE) {
+            etaSeconds = (long) Math.ceil(Math.max(0, total - bytesNow) / bytesPerSecond);
+        }
+        long elapsedMillis = startNanos == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(now - startNanos);
+        return new Report(current, parsed.sum(), persistedNow, rejected.sum(), failed.sum(),
+            total >= 0 ? Math.min(bytesNow, total) : bytesNow, total, recordsPerSecond, bytesPerSecond,
+            etaSeconds, elapsedMillis);
+    }
+
+    /**
+     * Records a sample if the last one is at least a second old.
+     */
+    private void sampleIfDue(long now) {
+        if (startNanos == 0 || now - nextSampleNanos < 0) {
+            return;
+        }
+        synchronized (this) {
+            if (now - nextSampleNanos >= 0) {
+                sample(now);
+            }
+        }
+    }
+
+    /**
+     * Records a sample of the counters. Callers hold the monitor.
+     */
+    private void sample(long now) {
+        int slot = sampleCount % SAMPLES;
+        sampleNanos[slot] = now;
+        samplePersisted[slot] = persisted.sum();
+        sampleBytes[slot] = bytesRead.sum();
+        sampleCount++;
+        nextSampleNanos = now + SAMPLE_INTERVAL_NANOS;
+    }
+
+    /**
+     * Returns the ring slot of the newest sample taken at or before the start of the window, or of the
+     * oldest sample if all of them fall within it. Callers hold the monitor.
+     */
+    private int oldestSampleInWindow(long now) {
+        int available = Math.min(sampleCount, SAMPLES);
+        long windowStart = now - TimeUnit.SECONDS.toNanos(WINDOW_SECONDS);
+        int oldest = -1;
+        for (int i = 1; i <= available; i++) {
+            int slot = (sampleCount - i) % SAMPLES;
+            oldest = slot;
+            if (sampleNanos[slot] - windowStart <= 0) {
+                break;
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * A reading of the progress of a load.
+     *
+     * @param phase the current phase
+     * @param parsed records parsed
+     * @param persisted records persisted
+     * @param rejected records rejected by the parser
+     * @param failed records whose chunk failed to persist
+     * @param bytesRead feed bytes read
+     * @param bytesTotal total feed size in bytes, or {@code -1} if unknown
+     * @param recordsPerSecond records persisted per second over the window
+     * @param bytesPerSecond feed bytes read per second over the window
+     * @param etaSeconds estimated seconds until the feed is read, or {@code null} if unknown
+     * @param elapsedMillis time since the load started, up to when it finished
+     */
+    public record Report(Phase phase, long parsed, long persisted, long rejected, long failed, long bytesRead,
+                         long bytesTotal, double recordsPerSecond, double bytesPerSecond, Long etaSeconds,
+                         long elapsedMillis) {
+
+        /**
+         * Returns the number of records that were rejected or failed to persist.
+         *
+         * @return the error count
+         */
+        public long errors() {
+            return rejected + failed;
+        }
+    }
+}
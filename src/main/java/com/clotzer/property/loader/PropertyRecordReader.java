@@ -0,0 +1,31 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pull-style source of {@link Property} records parsed from a feed.
+ *
+ * <p>Implementations read one record per call and are not expected to be thread-safe; a single
+ * reader thread owns each instance. A recoverable problem with one record is reported by throwing
+ * {@link IllegalArgumentException} after the reader has advanced past that record, so the caller
+ * can account for it and continue.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyLoadPipeline
+ */
+public interface PropertyRecordReader extends Closeable {
+
+    /**
+     * Reads the next property from the feed.
+     *
+     * @return the next property, or {@code null} when the feed is exhausted
+     * @throws IOException if the feed cannot be read or is structurally invalid
+     * @throws IllegalArgumentException if the current record cannot be mapped to a property
+     */
+    Property read() throws IOException;
+}
@@ -0,0 +1,241 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary snapshot of a parsed property feed, used to skip feed parsing on later starts.
+ *
+ * <p>A snapshot is written by {@link PropertySnapshotWriter} while a feed loads and read back by
+ * {@link PropertySnapshotReader}. It records the checksum of the feed it was built from, so
+ * {@link #open(Path, long)} can tell whether it still matches the current feed.
+ *
+ * <p>File layout, all integers big-endian:
+ * <pre>
+ *   header   magic "PSNP" (int), format version (int), feed checksum (long)
+ *   record   RECORD (byte), id (varlong), content hash flag (byte) [+ hash (long)], 10 string fields,
+ *            price (amount), commission (amount), cancellation penalty (string)
+ *   ...
+ *   trailer  END (byte), record count (long), CRC32C of every preceding byte (long)
+ * </pre>
+ *
+ * <p>String fields are dictionary-encoded as they are first seen. Each field starts with a varint
+ * code: {@link #NULL_STRING}, {@link #INLINE_STRING} or {@link #DEFINE_STRING} followed by a varint
+ * length and UTF-8 bytes, or an index into the dictionary offset by {@link #FIRST_REFERENCE}. Repeated
+ * values such as cities, countries and penalties are stored once and decoded to a shared {@link String}.
+ * Long values are written inline and not kept in the dictionary, since they rarely repeat.
+ *
+ * <p>Amounts are written as a varlong: {@link #NULL_AMOUNT}, or the zigzag-encoded unscaled value at
+ * {@link Property#AMOUNT_SCALE} decimal places plus one, so an amount of {@code 299.99} takes three bytes.
+ * Version 1 snapshots, which held amounts as strings, are rebuilt from the feed.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public final class PropertySnapshot {
+
+    /** File signature */
+    static final int MAGIC = 0x50534E50;
+
+    /** Format version; bump when the layout or the meaning of a field changes */
+    static final int VERSION = 2;
+
+    /** Bytes in the header */
+    static final int HEADER_LENGTH = 16;
+
+    /** Bytes in the trailer */
+    static final int TRAILER_LENGTH = 17;
+
+    /** Marker preceding each record */
+    static final byte RECORD = 1;
+
+    /** Marker preceding the trailer */
+    static final byte END = 0;
+
+    /** String code for a {@code null} field */
+    static final int NULL_STRING = 0;
+
+    /** String code for a literal that is not added to the dictionary */
+    static final int INLINE_STRING = 1;
+
+    /** String code for a literal that is added to the dictionary */
+    static final int DEFINE_STRING = 2;
+
+    /** String code of the first dictionary entry */
+    static final int FIRST_REFERENCE = 3;
+
+    /** Amount code for a {@code null} amount */
+    static final int NULL_AMOUNT = 0;
+
+    /** Logger for snapshot validation */
+    private static final Logger logger = LoggerFactory.getLogger(PropertySnapshot.class);
+
+    /** Size of the buffer used for checksums */
+    private static final int CHECKSUM_BUFFER_SIZE = 1024 * 1024;
+
+    private PropertySnapshot() {
+    }
+
+    /**
+     * Opens a snapshot if it is intact and was built from a feed with the given checksum.
+     *
+     * <p>The whole file is checked against its trailer checksum before it is opened, so a truncated or
+     * corrupted snapshot is never partially loaded.
+     *
+     * @param snapshot the snapshot file
+     * @param feedChecksum the checksum of the current feed, from {@link #checksum(List)} or
+     *                     {@link #checksum(InputStream)}
+     * @return a reader positioned at the first record, or {@code null} if the snapshot is missing, stale
+     *         or damaged
+     * @throws IOException if the snapshot exists but cannot be read
+     */
+    public static PropertySnapshotReader open(Path snapshot, long feedChecksum) throws IOException {
+        if (!Files.isRegularFile(snapshot)) {
+            logger.info("No snapshot at {}", snapshot);
+            return null;
+        }
+        long size = Files.size(snapshot);
+        if (size < HEADER_LENGTH + TRAILER_LENGTH) {
+            logger.warn("Snapshot {} is truncated", snapshot);
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                logger.warn("Snapshot {} has an unsupported format", snapshot);
+                return null;
+            }
+            if (header.getLong() != feedChecksum) {
+                logger.info("Snapshot {} is stale; the feed has changed", snapshot);
+                return null;
+            }
+
+            ByteBuffer stored = ByteBuffer.allocate(Long.BYTES);
+            readFully(channel, stored, size - Long.BYTES);
+            stored.flip();
+            if (stored.getLong() != checksum(channel, size - Long.BYTES)) {
+                logger.warn("Snapshot {} is damaged; checksum mismatch", snapshot);
+                return null;
+            }
+        }
+        return new PropertySnapshotReader(snapshot);
+    }
+
+    /**
+     * Computes the checksum of a set of feed files, in order.
+     *
+     * @param files the feed files
+     * @return the CRC32C of the file contents, each followed by its length
+     * @throws IOException if a file cannot be read
+     */
+    public static long checksum(List<Path> files) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHECKSUM_BUFFER_SIZE);
+        for (Path file : files) {
+            long length = 0;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer.clear();
+                int n;
+                while ((n = channel.read(buffer)) >= 0) {
+                    buffer.flip();
+                    crc.update(buffer);
+                    buffer.clear();
+                    length += n;
+                }
+            }
+            updateLong(crc, length);
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Computes the checksum of a feed read from a stream, such as a classpath resource.
+     *
+     * @param inputStream the feed; read to the end but not closed
+     * @return the CRC32C of the feed contents followed by its length, matching {@link #checksum(List)}
+     *         for a single file with the same contents
+     * @throws IOException if the stream cannot be read
+     */
+    public static long checksum(InputStream inputStream) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] buffer = new byte[64 * 1024];
+        long length = 0;
+        int n;
+        while ((n = inputStream.read(buffer)) >= 0) {
+            crc.update(buffer, 0, n);
+            length += n;
+        }
+        updateLong(crc, length);
+        return crc.getValue();
+    }
+
+    /**
+     * Computes the CRC32C of the first {@code length} bytes of a channel.
+     */
+    private static long checksum(FileChannel channel, long length) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHECKSUM_BUFFER_SIZE);
+        long position = 0;
+        while (position < length) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), length - position));
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                throw new IOException("Unexpected end of snapshot");
+            }
+            buffer.flip();
+            crc.update(buffer);
+            position += n;
+        }
+        return crc.getValue();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of snapshot");
+            }
+        }
+    }
+
+    private static void updateLong(CRC32C crc, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (value >>> shift));
+        }
+    }
+
+    /**
+     * Reads an unsigned varint written by {@link PropertySnapshotWriter}.
+     *
+     * @param input the snapshot input
+     * @return the decoded value
+     * @throws IOException if the input ends or the value is malformed
+     */
+    static long readVarLong(DataInputStream input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = input.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in snapshot");
+    }
+}
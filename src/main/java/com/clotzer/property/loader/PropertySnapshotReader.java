@@ -0,0 +1,142 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the properties stored in a {@link PropertySnapshot}.
+ *
+ * <p>Obtain instances through {@link PropertySnapshot#open(Path, long)}, which checks the snapshot
+ * before it is read. Decoding needs no JSON parsing or content hashing, and repeated string values are
+ * shared between records.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class PropertySnapshotReader implements PropertyRecordReader {
+
+    /** Snapshot input, positioned after the header */
+    private final DataInputStream input;
+
+    /** Dictionary entries in definition order */
+    private final List<String> dictionary = new ArrayList<>();
+
+    /** Reusable buffer for string bytes */
+    private byte[] bytes = new byte[256];
+
+    /** Number of records read */
+    private long recordCount;
+
+    /** Whether the trailer has been reached */
+    private boolean exhausted;
+
+    /**
+     * Opens a snapshot that has already been validated.
+     *
+     * @param snapshot the snapshot file
+     * @throws IOException if the file cannot be opened
+     */
+    PropertySnapshotReader(Path snapshot) throws IOException {
+        this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot), 64 * 1024));
+        input.skipNBytes(PropertySnapshot.HEADER_LENGTH);
+    }
+
+    /**
+     * Reads the next property.
+     *
+     * @return the next property, or {@code null} at the end of the snapshot
+     * @throws IOException if the snapshot cannot be read or is malformed
+     */
+    @Override
+    public Property read() throws IOException {
+        if (exhausted) {
+            return null;
+        }
+        byte marker = input.readByte();
+        if (marker == PropertySnapshot.END) {
+            exhausted = true;
+            long expected = input.readLong();
+            if (expected != recordCount) {
+                throw new IOException("Snapshot holds " + expected + " records but " + recordCount + " were read");
+            }
+            return null;
+        }
+        if (marker != PropertySnapshot.RECORD) {
+            throw new IOException("Malformed snapshot record " + (recordCount + 1));
+        }
+
+        long id = PropertySnapshot.readVarLong(input);
+        Long contentHash = input.readBoolean() ? input.readLong() : null;
+        Property property = new Property(id, readString(), readString(), readString(), readString(), readString(),
+            readString(), readString(), readString(), readString(), readString(), readAmount(), readAmount(),
+            readString());
+        property.setContentHash(contentHash);
+        recordCount++;
+        return property;
+    }
+
+    /**
+     * Returns the number of records read so far.
+     *
+     * @return the record count
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Closes the snapshot file.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private BigDecimal readAmount() throws IOException {
+        long code = PropertySnapshot.readVarLong(input);
+        if (code == PropertySnapshot.NULL_AMOUNT) {
+            return null;
+        }
+        long zigzag = code - 1;
+        return BigDecimal.valueOf((zigzag >>> 1) ^ -(zigzag & 1), Property.AMOUNT_SCALE);
+    }
+
+    private String readString() throws IOException {
+        long code = PropertySnapshot.readVarLong(input);
+        if (code == PropertySnapshot.NULL_STRING) {
+            return null;
+        }
+        if (code >= PropertySnapshot.FIRST_REFERENCE) {
+            long index = code - PropertySnapshot.FIRST_REFERENCE;
+            if (index >= dictionary.size()) {
+                throw new IOException("Snapshot references undefined string " + index);
+            }
+            return dictionary.get((int) index);
+        }
+
+        int length = (int) PropertySnapshot.readVarLong(input);
+        if (length > bytes.length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+        }
+        input.readFully(bytes, 0, length);
+        String value = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        if (code == PropertySnapshot.DEFINE_STRING) {
+            dictionary.add(value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,213 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes a {@link PropertySnapshot} while a feed loads.
+ *
+ * <p>Records are appended to a temporary file next to the target. {@link #commit()} completes the file
+ * and moves it over the target, so a reader never sees a partial snapshot. Closing a writer that was
+ * not committed deletes the temporary file.
+ *
+ * <p>{@link #append(List)} is synchronized so a writer can be shared by the writer threads of a load.
+ * Record order in the snapshot is therefore the order in which chunks were appended.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class PropertySnapshotWriter implements Closeable {
+
+    /** Strings longer than this are written inline instead of being added to the dictionary */
+    static final int MAX_DICTIONARY_STRING_LENGTH = 64;
+
+    /** Maximum number of dictionary entries */
+    static final int MAX_DICTIONARY_SIZE = 1 << 20;
+
+    /** Final location of the snapshot */
+    private final Path target;
+
+    /** File being written */
+    private final Path temporary;
+
+    /** Running checksum of the bytes written */
+    private final CRC32C crc = new CRC32C();
+
+    /** Output to the temporary file */
+    private final DataOutputStream output;
+
+    /** Dictionary entries by value */
+    private final Map<String, Integer> dictionary = new HashMap<>();
+
+    /** Number of records appended */
+    private long recordCount;
+
+    /** Whether the snapshot has been committed or discarded */
+    private boolean finished;
+
+    /**
+     * Starts a snapshot of a feed.
+     *
+     * @param target the snapshot file to create or replace on {@link #commit()}
+     * @param feedChecksum the checksum of the feed being loaded
+     * @throws IOException if the temporary file cannot be created
+     */
+    public PropertySnapshotWriter(Path target, long feedChecksum) throws IOException {
+        this.target = target;
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        this.temporary = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        OutputStream file = new BufferedOutputStream(Files.newOutputStream(temporary), 64 * 1024);
+        this.output = new DataOutputStream(new CheckedOutputStream(file, crc));
+        output.writeInt(PropertySnapshot.MAGIC);
+        output.writeInt(PropertySnapshot.VERSION);
+        output.writeLong(feedChecksum);
+    }
+
+    /**
+     * Appends a chunk of properties.
+     *
+     * @param properties the properties to append
+     * @throws IOException if the snapshot cannot be written
+     * @throws IllegalStateException if the snapshot has been committed or discarded
+     */
+    public synchronized void append(List<Property> properties) throws IOException {
+        if (finished) {
+            throw new IllegalStateException("Snapshot already finished");
+        }
+        for (Property property : properties) {
+            output.writeByte(PropertySnapshot.RECORD);
+            writeVarLong(property.getId());
+            Long contentHash = property.getContentHash();
+            output.writeBoolean(contentHash != null);
+            if (contentHash != null) {
+                output.writeLong(contentHash);
+            }
+            writeString(property.getPropertyName());
+            writeString(property.getPropertyLocation());
+            writeString(property.getPropertyCity());
+            writeString(property.getPropertyState());
+            writeString(property.getPropertyCountry());
+            writeString(property.getPropertyAddress());
+            writeString(property.getPropertyPhoneNumber());
+            writeString(property.getPropertyEmailAddress());
+            writeString(property.getPropertyAirportProximity());
+            writeString(property.getPropertyDescription());
+            writeAmount(property.getPropertyPricePerNight());
+            writeAmount(property.getPropertyCommissionAmount());
+            writeString(property.getPropertyCancellationPenalty());
+            recordCount++;
+        }
+    }
+
+    /**
+     * Returns the number of records appended so far.
+     *
+     * @return the record count
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Completes the snapshot and moves it into place, replacing any previous snapshot.
+     *
+     * @throws IOException if the snapshot cannot be completed or moved
+     * @throws IllegalStateException if the snapshot has already been committed or discarded
+     */
+    public synchronized void commit() throws IOException {
+        if (finished) {
+            throw new IllegalStateException("Snapshot already finished");
+        }
+        finished = true;
+        try {
+            output.writeByte(PropertySnapshot.END);
+            output.writeLong(recordCount);
+            output.flush();
+            long checksum = crc.getValue();
+            output.writeLong(checksum);
+            output.close();
+            try {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    /**
+     * Discards the snapshot unless it has been committed.
+     *
+     * @throws IOException if the temporary file cannot be deleted
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try {
+            output.close();
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarLong(PropertySnapshot.NULL_STRING);
+            return;
+        }
+        Integer index = dictionary.get(value);
+        if (index != null) {
+            writeVarLong(PropertySnapshot.FIRST_REFERENCE + (long) index);
+            return;
+        }
+        boolean define = value.length() <= MAX_DICTIONARY_STRING_LENGTH && dictionary.size() < MAX_DICTIONARY_SIZE;
+        if (define) {
+            dictionary.put(value, dictionary.size());
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(define ? PropertySnapshot.DEFINE_STRING : PropertySnapshot.INLINE_STRING);
+        writeVarLong(bytes.length);
+        output.write(bytes);
+    }
+
+    private void writeAmount(BigDecimal amount) throws IOException {
+        if (amount == null) {
+            writeVarLong(PropertySnapshot.NULL_AMOUNT);
+            return;
+        }
+        long unscaled = amount.setScale(Property.AMOUNT_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        writeVarLong(((unscaled << 1) ^ (unscaled >> 63)) + 1);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+}
@@ -0,0 +1,126 @@
+package com.clotzer.property.loader;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Resolves a {@code property.loader.source} value to the feed files it names.
+ *
+ * <p>The value is a comma-separated list. Each entry is one of:
+ * <ul>
+ *   <li>A directory: every feed file directly inside it, as recognized by {@link FeedFormat#isFeed(Path)},
+ *       plain or compressed with {@code .gz} or {@code .zst}</li>
+ *   <li>A glob such as {@code /data/feeds/region-*.json} or {@code /data/feeds/**.json}: every regular
+ *       file matching it, using {@link java.nio.file.FileSystem#getPathMatcher(String) glob} syntax</li>
+ *   <li>A file path</li>
+ * </ul>
+ *
+ * <p>Files are returned sorted within each entry, in entry order, with duplicates removed.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public final class PropertySourceResolver {
+
+    /** Characters that make an entry a glob rather than a path */
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    private PropertySourceResolver() {
+    }
+
+    /**
+     * Resolves a source value to feed files.
+     *
+     * @param source the comma-separated source entries
+     * @return the resolved files; empty if no entry matched any file
+     * @throws NoSuchFileException if a path entry does not exist
+     * @throws IOException if a directory cannot be listed
+     */
+    public static List<Path> resolve(String source) throws IOException {
+        Set<Path> files = new LinkedHashSet<>();
+        for (String entry : source.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (isGlob(trimmed)) {
+                files.addAll(matchGlob(trimmed));
+            } else {
+                Path path = Path.of(trimmed);
+                if (Files.isDirectory(path)) {
+                    files.addAll(listDirectory(path));
+                } else if (Files.isRegularFile(path)) {
+                    files.add(path.normalize());
+                } else {
+                    throw new NoSuchFileException(trimmed, null, "Property source not found");
+                }
+            }
+        }
+        return List.copyOf(files);
+    }
+
+    /**
+     * Returns whether an entry contains glob syntax.
+     */
+    private static boolean isGlob(String entry) {
+        return entry.chars().anyMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0);
+    }
+
+    /**
+     * Returns the feed files directly inside a directory, sorted by name.
+     */
+    private static List<Path> listDirectory(Path directory) throws IOException {
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries
+                .filter(Files::isRegularFile)
+                .filter(FeedFormat::isFeed)
+                .map(Path::normalize)
+                .sorted()
+                .toList();
+        }
+    }
+
+    /**
+     * Returns the regular files matching a glob, sorted by path.
+     *
+     * <p>The walk starts at the deepest directory before the first glob character and only descends
+     * as far as the pattern can match, unless the pattern contains {@code **}.
+     */
+    private static List<Path> matchGlob(String glob) throws IOException {
+        int firstGlobChar = 0;
+        while (GLOB_CHARACTERS.indexOf(glob.charAt(firstGlobChar)) < 0) {
+            firstGlobChar++;
+        }
+        int lastSeparator = Math.max(glob.lastIndexOf('/', firstGlobChar), glob.lastIndexOf('\\', firstGlobChar));
+        Path base = lastSeparator < 0 ? Path.of(".") : Path.of(glob.substring(0, lastSeparator + 1));
+        String pattern = glob.substring(lastSeparator + 1);
+        if (!Files.isDirectory(base)) {
+            return List.of();
+        }
+
+        int maxDepth = pattern.contains("**")
+            ? Integer.MAX_VALUE
+            : (int) pattern.chars().filter(c -> c == '/' || c == '\\').count() + 1;
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+
+        List<Path> matches = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(base, maxDepth)) {
+            walk.filter(Files::isRegularFile)
+                .filter(file -> matcher.matches(base.relativize(file)))
+                .map(Path::normalize)
+                .sorted()
+                .forEach(matches::add);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,217 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Canonicalizing pool that makes repeated values of low-cardinality fields share one {@link String}.
+ *
+ * <p>Fields such as {@code propertyCountry} or {@code propertyCancellationPenalty} take a handful of
+ * values across a whole feed, yet every parsed property holds its own copy of each. Readers wrapped
+ * with {@link #track(PropertyRecordReader)} replace each pooled field with the first instance of an
+ * equal value seen during the load, so the copy made by the parser becomes garbage at once, in the
+ * young generation, instead of being held by queued chunks, the persistence context and in-memory
+ * loads for as long as the property is.
+ *
+ * <p>Each field has its own pool, bounded by {@code maxValuesPerField}. Once a pool is full, new values
+ * are kept as parsed rather than added, so a field configured by mistake for a high-cardinality value
+ * such as the address costs a bounded map rather than a copy of the column. Unlike
+ * {@link String#intern()}, the pool is dropped with the load and never touches the JVM string table.
+ *
+ * <p>Instances are thread-safe and shared by every reader of a load.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class PropertyStringPool {
+
+    /** Fields pooled by default, each with only a few distinct values in a typical feed */
+    public static final List<String> DEFAULT_FIELDS = List.of(
+        "propertyLocation", "propertyState", "propertyCountry", "propertyCancellationPenalty");
+
+    /** Accessors of every string field that can be pooled, by field name */
+    private static final Map<String, Accessor> ACCESSORS = new LinkedHashMap<>();
+
+    static {
+        accessor("propertyName", Property::getPropertyName, Property::setPropertyName);
+        accessor("propertyLocation", Property::getPropertyLocation, Property::setPropertyLocation);
+        accessor("propertyCity", Property::getPropertyCity, Property::setPropertyCity);
+        accessor("propertyState", Property::getPropertyState, Property::setPropertyState);
+        accessor("propertyCountry", Property::getPropertyCountry, Property::setPropertyCountry);
+        accessor("propertyAddress", Property::getPropertyAddress, Property::setPropertyAddress);
+        accessor("propertyPhoneNumber", Property::getPropertyPhoneNumber, Property::setPropertyPhoneNumber);
+        accessor("propertyEmailAddress", Property::getPropertyEmailAddress, Property::setPropertyEmailAddress);
+        accessor("propertyAirportProximity", Property::getPropertyAirportProximity, Property::setPropertyAirportProximity);
+        accessor("propertyDescription", Property::getPropertyDescription, Property::setPropertyDescription);
+        accessor("propertyCancellationPenalty", Property::getPropertyCancellationPenalty, Property::setPropertyCancellationPenalty);
+    }
+
+    /** Pooled fields */
+    private final PooledField[] fields;
+
+    /** Largest number of distinct values kept per field */
+    private final int maxValuesPerField;
+
+    /** Number of values replaced by an equal pooled instance */
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * Creates a pool for the given fields.
+     *
+     * @param fieldNames the names of the {@link Property} fields to pool
+     * @param maxValuesPerField the largest number of distinct values kept per field
+     * @throws IllegalArgumentException if a name is not a string field of {@link Property}
+     */
+    public PropertyStringPool(List<String> fieldNames, int maxValuesPerField) {
+        List<PooledField> pooled = new ArrayList<>();
+        for (String fieldName : fieldNames) {
+            Accessor accessor = ACCESSORS.get(fieldName);
+            if (accessor == null) {
+                throw new IllegalArgumentException("Cannot pool '" + fieldName + "', expected one of " + ACCESSORS.keySet());
+            }
+            if (pooled.stream().noneMatch(field -> field.name().equals(fieldName))) {
+                pooled.add(new PooledField(fieldName, accessor, new ConcurrentHashMap<>()));
+            }
+        }
+        this.fields = pooled.toArray(new PooledField[0]);
+        this.maxValuesPerField = maxValuesPerField;
+    }
+
+    /**
+     * Creates a pool from a comma-separated list of field names.
+     *
+     * @param fieldNames the field names, as configured
+     * @param maxValuesPerField the largest number of distinct values kept per field
+     * @return the pool, or {@code null} if no field is named
+     * @throws IllegalArgumentException if a name is not a string field of {@link Property}
+     */
+    public static PropertyStringPool from(String fieldNames, int maxValuesPerField) {
+        List<String> names = new ArrayList<>();
+        if (fieldNames != null) {
+            for (String name : fieldNames.split(",")) {
+                if (!name.isBlank()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names.isEmpty() ? null : new PropertyStringPool(names, maxValuesPerField);
+    }
+
+    /**
+     * Wraps a reader so every property it returns has its pooled fields canonicalized.
+     *
+     * @param reader the reader to wrap
+     * @return the canonicalizing reader; closing it closes {@code reader}
+     */
+    public PropertyRecordReader track(PropertyRecordReader reader) {
+        return new PropertyRecordReader() {
+            @Override
+            public Property read() throws IOException {
+                Property property = reader.read();
+                return property == null ? null : canonicalize(property);
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+
+    /**
+     * Replaces each pooled field of a property with the pooled instance of an equal value.
+     *
+     * @param property the property to update in place
+     * @return {@code property}
+     */
+    public Property canonicalize(Property property) {
+        for (PooledField field : fields) {
+            String value = field.accessor().getter().apply(property);
+            if (value == null) {
+                continue;
+            }
+            String canonical = canonical(field.values(), value);
+            if (canonical != value) {
+                field.accessor().setter().accept(property, canonical);
+                shared.increment();
+            }
+        }
+        return property;
+    }
+
+    /**
+     * Returns the names of the pooled fields.
+     *
+     * @return the field names, in configuration order
+     */
+    public List<String> getFieldNames() {
+        List<String> names = new ArrayList<>(fields.length);
+        for (PooledField field : fields) {
+            names.add(field.name());
+        }
+        return names;
+    }
+
+    /**
+     * Returns the number of distinct values held across every field.
+     *
+     * @return the pooled value count
+     */
+    public long getDistinctValues() {
+        long distinct = 0;
+        for (PooledField field : fields) {
+            distinct += field.values().size();
+        }
+        return distinct;
+    }
+
+    /**
+     * Returns the number of values replaced by an equal pooled instance.
+     *
+     * @return the count of values that now share an instance
+     */
+    public long getSharedValues() {
+        return shared.sum();
+    }
+
+    /**
+     * Returns the pooled instance equal to a value, adding the value if there is none and room remains.
+     */
+    private String canonical(Map<String, String> values, String value) {
+        String canonical = values.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (values.size() >= maxValuesPerField) {
+            return value;
+        }
+        canonical = values.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+
+    private static void accessor(String name, Function<Property, String> getter, BiConsumer<Property, String> setter) {
+        ACCESSORS.put(name, new Accessor(getter, setter));
+    }
+
+    /**
+     * Reads and writes one string field of a property.
+     */
+    private record Accessor(Function<Property, String> getter, BiConsumer<Property, String> setter) {
+    }
+
+    /**
+     * A pooled field and its distinct values, each mapped to itself.
+     */
+    private record PooledField(String name, Accessor accessor, Map<String, String> values) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.PropertyService;
+import com.clotzer.property.service.PropertyBulkWriter;
+import com.clotzer.property.service.PropertyNativeBulkLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration selecting how loaded properties are written to the database.
+ *
+ * <p>The resulting {@link PropertyChunkWriter} is shared by the in-process loader and the Spring Batch
+ * job, so both engines honour the same settings.
+ *
+ * <p>Configuration properties:
+ * <ul>
+ *   <li>{@code property.loader.write-mode} - {@code insert} for insert-only loads into an empty table,
+ *       {@code merge} to insert or update existing rows, {@code upsert} to insert or update in one native
+ *       statement per row with the {@code jdbc} writer (default: insert)</li>
+ *   <li>{@code property.loader.writer} - {@code jpa} to write through {@link PropertyService}, {@code jdbc}
+ *       to write through {@link PropertyBulkWriter}, bypassing the persistence context, {@code native} to load
+ *       through the database's bulk loader with {@link PropertyNativeBulkLoader} (default: jpa)</li>
+ * </ul>
+ *
+ * <p>{@code upsert} only pays off when the table survives a restart. With
+ * {@code spring.jpa.hibernate.ddl-auto} set to {@code create} or {@code create-drop}, every start loads
+ * into a freshly created, empty table, so a warning is logged; use {@code update} or {@code none}.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see WriteMode
+ */
+@Configuration
+public class PropertyWriterConfig {
+
+    /** Logger for this configuration */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyWriterConfig.class);
+
+    /**
+     * Chunk writer used by every loading engine.
+     *
+     * @param propertyService the service layer for transactional operations
+     * @param propertyBulkWriter the JDBC bulk writer
+     * @param propertyNativeBulkLoader the native bulk loader
+     * @param writer the configured writer, {@code jpa}, {@code jdbc} or {@code native}
+     * @param writeMode the configured write mode
+     * @param ddlAuto the configured {@code spring.jpa.hibernate.ddl-auto}, checked for upserts
+     * @return the chunk writer
+     * @throws IllegalStateException if the writer is unknown or does not support the write mode, or the
+     *                               database is not set up for the native writer
+     */
+    @Bean
+    @Primary
+    public PropertyChunkWriter propertyChunkWriter(PropertyService propertyService, PropertyBulkWriter propertyBulkWriter,
+                                                   PropertyNativeBulkLoader propertyNativeBulkLoader,
+                                                   @Value("${property.loader.writer:jpa}") String writer,
+                                                   @Value("${property.loader.write-mode:insert}") String writeMode,
+                                                   @Value("${spring.jpa.hibernate.ddl-auto:}") String ddlAuto) {
+        WriteMode mode = WriteMode.from(writeMode);
+        String writerName = writer.trim().toLowerCase();
+        logger.info("Property loader writer: {}, write mode: {}", writerName, mode);
+        if (mode == WriteMode.UPSERT && recreatesSchema(ddlAuto)) {
+            logger.warn("Write mode UPSERT has nothing to update: spring.jpa.hibernate.ddl-auto={} recreates the"
+                + " property table on every start; use update or none to keep rows between runs", ddlAuto.trim());
+        }
+
+        return switch (writerName) {
+            case "jdbc" -> mode == WriteMode.UPSERT
+                ? propertyBulkWriter::upsert
+                : insertOnly(writerName, mode, propertyBulkWriter);
+            case "native" -> {
+                PropertyChunkWriter nativeWriter = insertOnly(writerName, mode, propertyNativeBulkLoader);
+                // Select and check the strategy now, so a misconfigured database fails startup
+                propertyNativeBulkLoader.getStrategy();
+                yield nativeWriter;
+            }
+            case "jpa" -> switch (mode) {
+                case INSERT -> propertyService::insertPropertiesBatch;
+                case MERGE -> propertyService::savePropertiesBatch;
+                case UPSERT -> throw new IllegalStateException(
+                    "The jpa writer does not support write mode UPSERT; use property.loader.writer=jdbc");
+            };
+            default -> throw new IllegalStateException("Unknown property loader writer: " + writer);
+        };
+    }
+
+    /**
+     * Returns whether a {@code spring.jpa.hibernate.ddl-auto} value drops existing tables on startup.
+     *
+     * @param ddlAuto the configured value, or {@code null}
+     * @return {@code true} for {@code create} and {@code create-drop}
+     */
+    static boolean recreatesSchema(String ddlAuto) {
+        String value = ddlAuto == null ? "" : ddlAuto.trim().toLowerCase();
+        return value.equals("create") || value.equals("create-drop");
+    }
+
+    /**
+     * Returns an insert-only writer, rejecting any other write mode.
+     */
+    private static PropertyChunkWriter insertOnly(String writerName, WriteMode mode, PropertyChunkWriter chunkWriter) {
+        if (mode != WriteMode.INSERT) {
+            throw new IllegalStateException("The " + writerName + " writer does not support write mode " + mode);
+        }
+        return chunkWriter;
+    }
+}
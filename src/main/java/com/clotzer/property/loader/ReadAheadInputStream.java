@@ -0,0 +1,216 @@
+package com.clotzer.property.loader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Input stream that reads its source ahead on a background thread.
+ *
+ * <p>A producer thread pulls blocks of {@code blockSize} bytes from the source and places them on a
+ * bounded queue. The consumer reads from the queue. When the source is a decompressing stream,
+ * decompression then runs concurrently with parsing and persistence on the consumer side, instead of
+ * in series with them. The bounded queue caps the read-ahead at {@code blockSize * queueCapacity}
+ * bytes.
+ *
+ * <p>Anything the producer throws, including a {@link RuntimeException} or {@link Error} from a
+ * decompressor, is rethrown to the consumer once the blocks before it have been read, so the consumer
+ * never waits for a block that will not come. Closing the stream interrupts the producer, waits for it
+ * to finish its current read and only then closes the source, since decompressors cannot be closed
+ * while a read is in progress.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class ReadAheadInputStream extends InputStream {
+
+    /** Default size of each block read from the source */
+    public static final int DEFAULT_BLOCK_SIZE = 256 * 1024;
+
+    /** Default number of blocks that may be buffered ahead of the consumer */
+    public static final int DEFAULT_QUEUE_CAPACITY = 8;
+
+    /** Thread factory for producer threads */
+    private static final ThreadFactory THREAD_FACTORY = new LoaderThreadFactory("property-read-ahead");
+
+    /** Marker block signalling the end of the source */
+    private static final byte[] END_OF_STREAM = new byte[0];
+
+    /** Stream being read ahead */
+    private final InputStream source;
+
+    /** Blocks read from the source, in order */
+    private final BlockingQueue<byte[]> blocks;
+
+    /** Producer thread */
+    private final Thread producer;
+
+    /** Failure raised by the producer, rethrown after the blocks preceding it */
+    private volatile Throwable failure;
+
+    /** Block currently being consumed */
+    private byte[] current = new byte[0];
+
+    /** Read position within {@link #current} */
+    private int index;
+
+    /** Whether the end-of-stream marker has been consumed */
+    private boolean finished;
+
+    /**
+     * Starts reading ahead from a source with the default block size and queue capacity.
+     *
+     * @param source the stream to read ahead; closed when this stream is closed
+     */
+    public ReadAheadInputStream(InputStream source) {
+        this(source, DEFAULT_BLOCK_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Starts reading ahead from a source.
+     *
+     * @param source the stream to read ahead; closed when this stream is closed
+     * @param blockSize the size of each block read from the source (values below one are treated as one)
+     * @param queueCapacity the number of blocks buffered ahead (values below one are treated as one)
+     */
+    public ReadAheadInputStream(InputStream source, int blockSize, int queueCapacity) {
+        this.source = source;
+        this.blocks = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        int size = Math.max(1, blockSize);
+        this.producer = THREAD_FACTORY.newThread(() -> produce(size));
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return current[index++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int n = Math.min(length, current.length - index);
+        System.arraycopy(current, index, buffer, offset, n);
+        index += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return current.length - index;
+    }
+
+    /**
+     * Stops the producer, waits for it to exit and closes the source.
+     *
+     * <p>The wait is not cut short by interrupting the calling thread; the interrupt status is restored
+     * once the producer has exited.
+     *
+     * @throws IOException if closing the source fails
+     */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        producer.interrupt();
+        boolean interrupted = false;
+        while (producer.isAlive()) {
+            try {
+                producer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        blocks.clear();
+        source.close();
+    }
+
+    /**
+     * Makes sure the current block has unread bytes, taking the next block if needed.
+     *
+     * @return {@code false} at the end of the source
+     */
+    private boolean fill() throws IOException {
+        while (index >= current.length) {
+            if (finished) {
+                return false;
+            }
+            try {
+                current = blocks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for input");
+            }
+            index = 0;
+            if (current == END_OF_STREAM) {
+                finished = true;
+                rethrowFailure();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rethrows the producer's failure, if any, as the exception the source raised.
+     */
+    private void rethrowFailure() throws IOException {
+        Throwable cause = failure;
+        if (cause == null) {
+            return;
+        }
+        if (cause instanceof IOException e) {
+            throw e;
+        }
+        if (cause instanceof RuntimeException e) {
+            throw e;
+        }
+        if (cause instanceof Error e) {
+            throw e;
+        }
+        throw new IOException("Read-ahead failed", cause);
+    }
+
+    /**
+     * Producer loop: reads blocks until the source is exhausted, fails, or this stream is closed.
+     *
+     * <p>The end-of-stream marker is queued however the loop ends. When the stream has been closed the
+     * interrupt status is still set, so queuing it gives up at once instead of waiting for room.
+     */
+    private void produce(int blockSize) {
+        try {
+            byte[] block = new byte[blockSize];
+            int n;
+            while ((n = source.readNBytes(block, 0, blockSize)) > 0) {
+                blocks.put(n == blockSize ? block : Arrays.copyOf(block, n));
+                block = new byte[blockSize];
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            try {
+                blocks.put(END_OF_STREAM);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
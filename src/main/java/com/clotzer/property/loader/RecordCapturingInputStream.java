@@ -0,0 +1,131 @@
+package com.clotzer.property.loader;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Input stream that keeps the bytes read since a marked offset, so the text of a record can be
+ * recovered after a parser has consumed it.
+ *
+ * <p>{@link JsonStreamingPropertyReader} marks the start of each record with {@link #retainFrom(long)}
+ * and, only when the record is rejected, copies it out with {@link #slice(long, long)}. Bytes before
+ * the mark are dropped the next time the buffer fills, so memory is bounded by the longest record plus
+ * the parser's read-ahead rather than by the feed.
+ *
+ * <p>Offsets count the bytes returned by this stream, which are the byte offsets a parser reading it
+ * reports.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class RecordCapturingInputStream extends FilterInputStream {
+
+    /** Bytes read from the mark onwards, possibly preceded by bytes not yet dropped */
+    private byte[] retained = new byte[8192];
+
+    /** Number of valid bytes in {@link #retained} */
+    private int retainedLength;
+
+    /** Offset of {@code retained[0]} */
+    private long retainedOffset;
+
+    /** Offset of the first byte that must be kept; nothing is kept until a record is marked */
+    private long mark = Long.MAX_VALUE;
+
+    /**
+     * Creates a stream capturing the bytes read from {@code in}.
+     *
+     * @param in the underlying stream; closed when this stream is closed
+     */
+    RecordCapturingInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Keeps the bytes from the given offset onwards and allows earlier bytes to be dropped.
+     *
+     * <p>The offset must not lie before the start of the last block read, which holds for the start
+     * of the token a parser has just returned.
+     *
+     * @param offset the offset of the first byte to keep
+     */
+    void retainFrom(long offset) {
+        mark = offset;
+    }
+
+    /**
+     * Returns the bytes between two offsets as UTF-8 text.
+     *
+     * @param from the offset of the first byte
+     * @param to the offset just past the last byte
+     * @return the text, or {@code null} if the range is no longer or not yet retained
+     */
+    String slice(long from, long to) {
+        if (from < retainedOffset || to > retainedOffset + retainedLength || from > to) {
+            return null;
+        }
+        return new String(retained, (int) (from - retainedOffset), (int) (to - from), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b >= 0) {
+            ensureCapacity(1);
+            retained[retainedLength++] = (byte) b;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int n = in.read(buffer, offset, length);
+        if (n > 0) {
+            ensureCapacity(n);
+            System.arraycopy(buffer, offset, retained, retainedLength, n);
+            retainedLength += n;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] discard = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(discard, 0, (int) Math.min(discard.length, n - skipped));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Makes room for {@code length} more bytes, first by dropping bytes before the mark.
+     */
+    private void ensureCapacity(int length) {
+        if (retainedLength + length <= retained.length) {
+            return;
+        }
+        int drop = (int) Math.min(retainedLength, Math.max(0, mark - retainedOffset));
+        if (drop > 0) {
+            System.arraycopy(retained, drop, retained, 0, retainedLength - drop);
+            retainedLength -= drop;
+            retainedOffset += drop;
+        }
+        if (retainedLength + length > retained.length) {
+            retained = Arrays.copyOf(retained, Math.max(retained.length * 2, retainedLength + length));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.clotzer.property.loader;
+
+/**
+ * Signals that one feed record could not be mapped to a property, carrying the record itself.
+ *
+ * <p>Readers throw this after advancing past the bad record, so the caller can count it and keep
+ * reading. Rejections are expected on dirty feeds and are never thrown far, so no stack trace is
+ * captured.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see RejectedRecordHandler
+ */
+public class RejectedRecordException extends IllegalArgumentException {
+
+    /** One-based number of the record within its reader */
+    private final long record;
+
+    /** Byte offset of the record within the reader's input, or {@code -1} if unknown */
+    private final long offset;
+
+    /** Text of the record, or {@code null} if unavailable */
+    private final String rawRecord;
+
+    /**
+     * Creates a rejection.
+     *
+     * @param message the reason the record was rejected
+     * @param record the one-based number of the record within its reader
+     * @param offset the byte offset of the record within the reader's input, or {@code -1} if unknown
+     * @param rawRecord the text of the record, or {@code null} if unavailable
+     */
+    public RejectedRecordException(String message, long record, long offset, String rawRecord) {
+        super(message);
+        this.record = record;
+        this.offset = offset;
+        this.rawRecord = rawRecord;
+    }
+
+    /**
+     * Returns the number of the record within its reader.
+     *
+     * @return the one-based record number
+     */
+    public long getRecord() {
+        return record;
+    }
+
+    /**
+     * Returns the byte offset of the record within the reader's input.
+     *
+     * @return the offset, or {@code -1} if unknown
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the text of the rejected record.
+     *
+     * @return the record text, or {@code null} if unavailable
+     */
+    public String getRawRecord() {
+        return rawRecord;
+    }
+
+    /**
+     * Skips stack trace capture.
+     *
+     * @return this exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
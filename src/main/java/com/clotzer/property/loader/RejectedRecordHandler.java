@@ -0,0 +1,211 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Applies the skip policy to records rejected during a load and keeps them in a dead-letter file.
+ *
+ * <p>Readers wrapped with {@link #track(PropertyRecordReader, String)} report every rejected record here
+ * and then rethrow it, so callers count rejections exactly as before. Each rejection is:
+ * <ul>
+ *   <li>Counted. Once more than {@code skipLimit} records have been rejected, every tracked reader fails
+ *       with {@link SkipLimitExceededException} on its next read, stopping the load</li>
+ *   <li>Appended, if a dead-letter file is configured, as one NDJSON line holding the source, the
+ *       record number and byte offset, the reason and the raw record</li>
+ *   <li>Logged, for the first {@value #LOGGED_REJECTIONS} only</li>
+ * </ul>
+ *
+ * <p>A clean record costs one volatile read. Rejections capture no stack trace, see
+ * {@link RejectedRecordException}. The dead-letter file is created on the first rejection, and a file
+ * left by a previous load is deleted when the handler is created. Instances are thread-safe and may be
+ * shared by the readers of a concurrent load.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class RejectedRecordHandler implements Closeable {
+
+    /** Number of rejections logged individually */
+    static final int LOGGED_REJECTIONS = 10;
+
+    /** Logger for rejected records */
+    private static final Logger logger = LoggerFactory.getLogger(RejectedRecordHandler.class);
+
+    /** Factory for the dead-letter generator */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** Number of rejections allowed, or a negative value for no limit */
+    private final long skipLimit;
+
+    /** Dead-letter file, or {@code null} to keep no record of rejections */
+    private final Path deadLetterFile;
+
+    /** Number of records rejected */
+    private final AtomicLong rejected = new AtomicLong();
+
+    /** Whether the skip limit has been exceeded */
+    private volatile boolean limitExceeded;
+
+    /** Output to the dead-letter file, opened on the first rejection */
+    private Writer deadLetterWriter;
+
+    /** Generator writing dead-letter entries to {@link #deadLetterWriter} */
+    private JsonGenerator deadLetterGenerator;
+
+    /**
+     * Creates a handler.
+     *
+     * @param skipLimit the number of rejected records allowed, or a negative value for no limit
+     * @param deadLetterFile the file receiving rejected records, or {@code null} for none
+     * @throws IOException if a dead-letter file left by a previous load cannot be deleted
+     */
+    public RejectedRecordHandler(long skipLimit, Path deadLetterFile) throws IOException {
+        this.skipLimit = skipLimit;
+        this.deadLetterFile = deadLetterFile;
+        if (deadLetterFile != null) {
+            Files.deleteIfExists(deadLetterFile);
+        }
+    }
+
+    /**
+     * Wraps a reader so its rejected records pass through this handler.
+     *
+     * @param reader the reader to track
+     * @param source the name of the feed being read, recorded with each rejection
+     * @return the tracking reader; closing it closes {@code reader}
+     */
+    public PropertyRecordReader track(PropertyRecordReader reader, String source) {
+        return track(reader, () -> source);
+    }
+
+    /**
+     * Wraps a reader whose current source changes while it is read.
+     *
+     * @param reader the reader to track
+     * @param source supplies the name of the feed being read when a record is rejected
+     * @return the tracking reader; closing it closes {@code reader}
+     */
+    public PropertyRecordReader track(PropertyRecordReader reader, Supplier<String> source) {
+        return new PropertyRecordReader() {
+            @Override
+            public Property read() throws IOException {
+                if (limitExceeded) {
+                    throw new SkipLimitExceededException(skipLimit);
+                }
+                try {
+                    return reader.read();
+                } catch (IllegalArgumentException e) {
+                    reject(source.get(), e);
+                    throw e;
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+
+    /**
+     * Records a rejected record.
+     *
+     * @param source the name of the feed the record came from
+     * @param error the rejection; a {@link RejectedRecordException} also supplies the position and raw record
+     * @throws SkipLimitExceededException if this rejection exceeds the skip limit
+     * @throws IOException if the dead-letter file cannot be written
+     */
+    public void reject(String source, IllegalArgumentException error) throws IOException {
+        long count = rejected.incrementAndGet();
+        RejectedRecordException rejection = error instanceof RejectedRecordException r ? r : null;
+        if (count <= LOGGED_REJECTIONS) {
+            logger.warn("Rejected record {} of {}: {}", rejection != null ? rejection.getRecord() : "?", source,
+                error.getMessage());
+            if (count == LOGGED_REJECTIONS) {
+                logger.warn("Further rejected records are counted{} but not logged",
+                    deadLetterFile != null ? " and written to " + deadLetterFile : "");
+            }
+        }
+        if (deadLetterFile != null) {
+            writeDeadLetter(source, error, rejection);
+        }
+        if (skipLimit >= 0 && count > skipLimit) {
+            limitExceeded = true;
+            throw new SkipLimitExceededException(skipLimit);
+        }
+    }
+
+    /**
+     * Returns the number of records rejected so far.
+     *
+     * @return the rejected record count
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Returns the dead-letter file.
+     *
+     * @return the file, or {@code null} if none is configured
+     */
+    public Path getDeadLetterFile() {
+        return deadLetterFile;
+    }
+
+    /**
+     * Flushes and closes the dead-letter file, if it was created.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (deadLetterGenerator != null) {
+            deadLetterGenerator.close();
+            deadLetterWriter.close();
+            deadLetterGenerator = null;
+        }
+    }
+
+    private synchronized void writeDeadLetter(String source, IllegalArgumentException error,
+                                              RejectedRecordException rejection) throws IOException {
+        if (deadLetterGenerator == null) {
+            Path directory = deadLetterFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            deadLetterWriter = Files.newBufferedWriter(deadLetterFile, StandardCharsets.UTF_8);
+            deadLetterGenerator = JSON_FACTORY.createGenerator(deadLetterWriter)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            deadLetterGenerator.setRootValueSeparator(null);
+        }
+        JsonGenerator generator = deadLetterGenerator;
+        generator.writeStartObject();
+        generator.writeStringField("source", source);
+        if (rejection != null) {
+            generator.writeNumberField("record", rejection.getRecord());
+            if (rejection.getOffset() >= 0) {
+                generator.writeNumberField("offset", rejection.getOffset());
+            }
+        }
+        generator.writeStringField("reason", error.getMessage());
+        if (rejection != null && rejection.getRawRecord() != null) {
+            generator.writeStringField("raw", rejection.getRawRecord());
+        }
+        generator.writeEndObject();
+        generator.flush();
+        deadLetterWriter.write('\n');
+    }
+}
@@ -0,0 +1,36 @@
+package com.clotzer.property.loader;
+
+import java.io.IOException;
+
+/**
+ * Signals that a load rejected more records than {@code property.loader.skip-limit} allows.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see RejectedRecordHandler
+ */
+public class SkipLimitExceededException extends IOException {
+
+    /** Number of rejected records allowed */
+    private final long skipLimit;
+
+    /**
+     * Creates an exception for the given limit.
+     *
+     * @param skipLimit the number of rejected records allowed
+     */
+    public SkipLimitExceededException(long skipLimit) {
+        super("More than " + skipLimit + " records were rejected; the load was stopped");
+        this.skipLimit = skipLimit;
+    }
+
+    /**
+     * Returns the number of rejected records the load allowed.
+     *
+     * @return the skip limit
+     */
+    public long getSkipLimit() {
+        return skipLimit;
+    }
+}
@@ -0,0 +1,37 @@
+package com.clotzer.property.loader;
+
+import java.util.Locale;
+
+/**
+ * Strategy used to persist loaded properties.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyWriterConfig
+ */
+public enum WriteMode {
+
+    /** Insert only; fastest, but fails on IDs that already exist */
+    INSERT,
+
+    /** Insert or update each row, checking for an existing row first */
+    MERGE,
+
+    /**
+     * Insert or update each row in a single native statement keyed on the ID, with no existence
+     * check; supported by the {@code jdbc} writer only
+     */
+    UPSERT;
+
+    /**
+     * Parses a configuration value such as {@code insert} or {@code MERGE}.
+     *
+     * @param value the configured value
+     * @return the matching write mode
+     * @throws IllegalArgumentException if the value does not name a write mode
+     */
+    public static WriteMode from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
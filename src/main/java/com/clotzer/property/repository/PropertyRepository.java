@@ -1,8 +1,12 @@
 package com.clotzer.property.repository;
 
 import com.clotzer.property.entity.Property;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.ListCrudRepository;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 /**
  * Repository interface for Property entity database operations.
  *
@@ -31,6 +35,14 @@ import org.springframework.data.repository.ListCrudRepository;
  *   <li>Exception translation to Spring's DataAccessException hierarchy</li>
  * </ul>
  *
+ * <p>Price queries filter and aggregate the {@code DECIMAL} price column in the database, so a range
+ * lookup reads only the matching entries of its index instead of every row:
+ * <ul>
+ *   <li>{@code findByPropertyPricePerNightBetweenOrderByPropertyPricePerNightAscIdAsc} - Properties
+ *       within a price range, cheapest first</li>
+ *   <li>{@code getPriceStatistics()} - Count, minimum, maximum and totals of price and commission</li>
+ * </ul>
+ *
  * <p>Custom query methods can be added by following Spring Data JPA naming conventions
  * or by using {@code @Query} annotations. For example:
  * <ul>
@@ -48,4 +60,68 @@ import org.springframework.data.repository.ListCrudRepository;
 public interface PropertyRepository extends ListCrudRepository<Property, Long> {
     // Standard CRUD operations are inherited from ListCrudRepository
     // Custom query methods can be added here following Spring Data JPA conventions
+
+    /**
+     * Finds the properties whose price per night lies within a range, cheapest first.
+     *
+     * <p>Both bounds are inclusive. Properties without a price are never returned.
+     *
+     * @param min the lowest price
+     * @param max the highest price
+     * @return the matching properties, ordered by price and then ID
+     */
+    List<Property> findByPropertyPricePerNightBetweenOrderByPropertyPricePerNightAscIdAsc(BigDecimal min, BigDecimal max);
+
+    /**
+     * Aggregates the price and commission columns over every property.
+     *
+     * <p>Aggregates skip {@code null} amounts, as SQL does, and are {@code null} when no property has one.
+     *
+     * @return the price statistics
+     */
+    @Query("SELECT COUNT(p.propertyPricePerNight) AS pricedCount, MIN(p.propertyPricePerNight) AS minimumPrice, "
+        + "MAX(p.propertyPricePerNight) AS maximumPrice, SUM(p.propertyPricePerNight) AS totalPrice, "
+        + "SUM(p.propertyCommissionAmount) AS totalCommission FROM Property p")
+    PriceStatistics getPriceStatistics();
+
+    /**
+     * Aggregated price and commission amounts, as returned by {@link #getPriceStatistics()}.
+     */
+    interface PriceStatistics {
+
+        /**
+         * Returns the number of properties with a price.
+         *
+         * @return the priced property count
+         */
+        Long getPricedCount();
+
+        /**
+         * Returns the lowest price per night.
+         *
+         * @return the minimum price, or {@code null} if no property has one
+         */
+        BigDecimal getMinimumPrice();
+
+        /**
+         * Returns the highest price per night.
+         *
+         * @return the maximum price, or {@code null} if no property has one
+         */
+        BigDecimal getMaximumPrice();
+
+        /**
+         * Returns the sum of every price per night.
+         *
+         * @return the total price, or {@code null} if no property has one
+         */
+        BigDecimal getTotalPrice();
+
+        /**
+         * Returns the sum of every commission amount.
+         *
+         * @return the total commission, or {@code null} if no property has one
+         */
+        BigDecimal getTotalCommission();
+    }
 }
@@ -0,0 +1,56 @@
+package com.clotzer.property.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Database-specific bulk load of a property CSV file into the {@code property} table.
+ *
+ * <p>Implementations hand a file written by {@link PropertyCsvWriter} to the database's native
+ * bulk loader, which is much faster than any statement-per-row path. {@link PropertyNativeBulkLoader}
+ * picks the strategy whose {@link #supports(String)} matches the connected database.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyNativeBulkLoader
+ */
+public interface BulkLoadStrategy {
+
+    /**
+     * Returns a short name used in log output.
+     *
+     * @return the strategy name
+     */
+    String getName();
+
+    /**
+     * Returns whether this strategy can load into the given database.
+     *
+     * @param databaseProductName the product name reported by the JDBC driver metadata
+     * @return {@code true} if this strategy applies
+     */
+    boolean supports(String databaseProductName);
+
+    /**
+     * Checks that the database and connection are set up for this strategy's load.
+     *
+     * <p>Called once when the strategy is selected, so a misconfiguration fails before the first
+     * chunk is written rather than on every chunk. The default accepts any setup.
+     *
+     * @throws IllegalStateException if the load cannot run with the current setup
+     * @throws org.springframework.dao.DataAccessException if the setup cannot be read
+     */
+    default void checkSetup() {
+    }
+
+    /**
+     * Loads every row of a CSV file into the {@code property} table.
+     *
+     * @param csvFile a file in the format written by {@link PropertyCsvWriter}
+     * @return the number of rows loaded
+     * @throws IOException if the file cannot be read
+     * @throws org.springframework.dao.DataAccessException if the database rejects the load
+     */
+    long load(Path csvFile) throws IOException;
+}
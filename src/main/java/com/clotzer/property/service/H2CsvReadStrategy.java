@@ -0,0 +1,52 @@
+package com.clotzer.property.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Bulk loads a property CSV file with H2's {@code CSVREAD} table function.
+ *
+ * <p>This is the local and test counterpart of {@link MySqlLoadDataStrategy}, so the native bulk
+ * load path can be exercised against the in-memory database.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+@Component
+public class H2CsvReadStrategy implements BulkLoadStrategy {
+
+    /** Insert statement reading every CSV column by its header name */
+    static final String LOAD_SQL = "INSERT INTO property (" + PropertyBulkWriter.COLUMNS + ") "
+        + "SELECT * FROM CSVREAD(?, NULL, 'charset=UTF-8 fieldSeparator=, nullString="
+        + PropertyCsvWriter.NULL_VALUE + "')";
+
+    /** JDBC template used to issue the load statement */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new H2CsvReadStrategy.
+     *
+     * @param jdbcTemplate the JDBC template used to issue the load statement
+     */
+    public H2CsvReadStrategy(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String getName() {
+        return "h2-csvread";
+    }
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "H2".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public long load(Path csvFile) {
+        return jdbcTemplate.update(LOAD_SQL, csvFile.toAbsolutePath().toString());
+    }
+}
@@ -0,0 +1,119 @@
+package com.clotzer.property.service;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Bulk loads a property CSV file with MySQL {@code LOAD DATA LOCAL INFILE}.
+ *
+ * <p>The driver streams the file from the client, so the database server needs no access to the
+ * loader's file system. This requires {@code local_infile=ON} on the server, and
+ * {@code allowLoadLocalInfileInPath} (preferred) or {@code allowLoadLocalInfile=true} on the
+ * connection URL. {@link #checkSetup()} verifies both when the strategy is selected, so a missing
+ * setting fails with a message naming it instead of a driver error on every chunk.
+ *
+ * <p>With {@code LOCAL}, MySQL treats duplicate keys as {@code IGNORE}: rows whose ID already exists
+ * are skipped with a warning rather than failing the load.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+@Component
+public class MySqlLoadDataStrategy implements BulkLoadStrategy {
+
+    /** JDBC template used to issue the load statement */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new MySqlLoadDataStrategy.
+     *
+     * @param jdbcTemplate the JDBC template used to issue the load statement
+     */
+    public MySqlLoadDataStrategy(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String getName() {
+        return "mysql-load-data";
+    }
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "MySQL".equalsIgnoreCase(databaseProductName);
+    }
+
+    /**
+     * Checks that the server accepts local files and the connection URL allows the driver to send them.
+     *
+     * @throws IllegalStateException if {@code local_infile} is off on the server, or the connection URL
+     *                               has neither {@code allowLoadLocalInfileInPath} nor
+     *                               {@code allowLoadLocalInfile=true}
+     */
+    @Override
+    public void checkSetup() {
+        String url = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL());
+        if (!allowsLocalInfile(url)) {
+            throw new IllegalStateException("property.loader.writer=native on MySQL needs allowLoadLocalInfileInPath="
+                + "<directory of property.loader.native.temp-dir> or allowLoadLocalInfile=true on spring.datasource.url");
+        }
+        Boolean serverAllows = jdbcTemplate.queryForObject("SELECT @@GLOBAL.local_infile", Boolean.class);
+        if (!Boolean.TRUE.equals(serverAllows)) {
+            throw new IllegalStateException("property.loader.writer=native on MySQL needs local_infile=ON on the server");
+        }
+    }
+
+    /**
+     * Returns whether a connection URL lets the driver send local files.
+     *
+     * @param url the JDBC URL, or {@code null}
+     * @return {@code true} if the URL sets {@code allowLoadLocalInfileInPath} or {@code allowLoadLocalInfile=true}
+     */
+    static boolean allowsLocalInfile(String url) {
+        int query = url == null ? -1 : url.indexOf('?');
+        if (query < 0) {
+            return false;
+        }
+        for (String parameter : url.substring(query + 1).split("&")) {
+            int equals = parameter.indexOf('=');
+            String name = (equals < 0 ? parameter : parameter.substring(0, equals)).trim().toLowerCase(Locale.ROOT);
+            String value = equals < 0 ? "" : parameter.substring(equals + 1).trim();
+            if (name.equals("allowloadlocalinfileinpath") && !value.isEmpty()) {
+                return true;
+            }
+            if (name.equals("allowloadlocalinfile") && value.equalsIgnoreCase("true")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long load(Path csvFile) {
+        return jdbcTemplate.update(loadStatement(csvFile));
+    }
+
+    /**
+     * Builds the {@code LOAD DATA} statement for a file.
+     *
+     * <p>The file name cannot be bound as a parameter, so it is inlined as a string literal with
+     * backslashes and quotes escaped.
+     *
+     * @param csvFile the file to load
+     * @return the SQL statement
+     */
+    static String loadStatement(Path csvFile) {
+        String fileName = csvFile.toAbsolutePath().toString()
+            .replace("\\", "\\\\")
+            .replace("'", "\\'");
+        return "LOAD DATA LOCAL INFILE '" + fileName + "' INTO TABLE property CHARACTER SET utf8mb4"
+            + " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY ''"
+            + " LINES TERMINATED BY '\\n' IGNORE 1 LINES"
+            + " (" + PropertyBulkWriter.COLUMNS + ")";
+    }
+}
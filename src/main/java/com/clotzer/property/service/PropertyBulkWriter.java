@@ -0,0 +1,196 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.PropertyChunkWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC bulk writer that inserts or upserts properties without going through the JPA persistence context.
+ *
+ * <p>{@link com.clotzer.property.PropertyService} routes every entity through Hibernate, which adds
+ * dirty checking, a first-level cache entry per row and a small JDBC batch size. This writer binds
+ * properties straight to a prepared {@code INSERT} and sends them with
+ * {@link JdbcTemplate#batchUpdate(String, java.util.Collection, int,
+ * org.springframework.jdbc.core.ParameterizedPreparedStatementSetter)} in batches of
+ * {@code property.loader.jdbc.batch-size}. On MySQL, with {@code rewriteBatchedStatements=true} on the
+ * connection URL, the driver sends each batch as multi-row {@code INSERT} statements.
+ *
+ * <p>{@link #upsert(List)} sends the same batches through the database's native upsert, keyed on the
+ * ID: {@code INSERT ... AS new ON DUPLICATE KEY UPDATE} on MySQL and {@code MERGE INTO ... KEY (id)} on H2.
+ * The MySQL statement reads the inserted values through the row alias, which needs MySQL 8.0.19 or
+ * later; the older {@code VALUES(col)} function is deprecated since 8.0.20 and warns on every statement.
+ * Re-running a load against a populated table then updates rows in place, without emptying the table
+ * or checking for existing rows first. The statement is chosen from the JDBC driver metadata on first
+ * use.
+ *
+ * <p>Each call to {@link #write(List)} or {@link #upsert(List)} runs in its own transaction. Entities
+ * written this way are not attached to any persistence context.
+ *
+ * <p>Configuration properties:
+ * <ul>
+ *   <li>{@code property.loader.jdbc.batch-size} - Rows per JDBC batch (default: 1000)</li>
+ * </ul>
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see com.clotzer.property.loader.PropertyWriterConfig
+ */
+@Component
+public class PropertyBulkWriter implements PropertyChunkWriter {
+
+    /** Columns of the {@code property} table, in bind order */
+    static final String COLUMNS = "id, property_name, property_location, property_city, property_state, "
+        + "property_country, property_address, property_phone_number, property_email_address, "
+        + "property_airport_proximity, property_description, property_price_per_night, "
+        + "property_commission_amount, property_cancellation_penalty, content_hash";
+
+    /** Number of bound columns */
+    static final int COLUMN_COUNT = 15;
+
+    /** Placeholders for one row */
+    private static final String ROW_PLACEHOLDERS = "(" + "?, ".repeat(COLUMN_COUNT - 1) + "?)";
+
+    /** Single-row insert statement */
+    static final String INSERT_SQL = "INSERT INTO property (" + COLUMNS + ") VALUES " + ROW_PLACEHOLDERS;
+
+    /** MySQL upsert statement updating every non-key column of an existing row from the {@code new} row alias */
+    static final String MYSQL_UPSERT_SQL = INSERT_SQL + " AS new ON DUPLICATE KEY UPDATE "
+        + Arrays.stream(COLUMNS.split(", "))
+            .skip(1)
+            .map(column -> column + " = new." + column)
+            .collect(Collectors.joining(", "));
+
+    /** H2 upsert statement keyed on the ID */
+    static final String H2_UPSERT_SQL = "MERGE INTO property (" + COLUMNS + ") KEY (id) VALUES " + ROW_PLACEHOLDERS;
+
+    /** Logger for this writer */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyBulkWriter.class);
+
+    /** JDBC template used for batch statements */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Rows per JDBC batch (configurable via properties) */
+    private final int batchSize;
+
+    /** Upsert statement for the connected database, resolved on first use */
+    private volatile String upsertSql;
+
+    /**
+     * Constructs a new PropertyBulkWriter.
+     *
+     * @param jdbcTemplate the JDBC template used for batch statements
+     * @param batchSize the number of rows per JDBC batch
+     */
+    public PropertyBulkWriter(JdbcTemplate jdbcTemplate, @Value("${property.loader.jdbc.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Inserts a chunk of new properties in JDBC batches within a single transaction.
+     *
+     * @param chunk the properties to insert
+     * @throws IllegalArgumentException if the chunk is null
+     * @throws org.springframework.dao.DataAccessException if the insert fails, including on duplicate IDs
+     */
+    @Override
+    @Transactional
+    public void write(List<Property> chunk) {
+        if (chunk == null) {
+            throw new IllegalArgumentException("Properties list cannot be null");
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, chunk, batchSize, PropertyBulkWriter::bind);
+        logger.debug("Inserted {} properties via JDBC batch", chunk.size());
+    }
+
+    /**
+     * Inserts new properties and updates existing ones in JDBC batches within a single transaction.
+     *
+     * @param chunk the properties to upsert
+     * @throws IllegalArgumentException if the chunk is null
+     * @throws IllegalStateException if the connected database has no supported upsert statement
+     * @throws org.springframework.dao.DataAccessException if the upsert fails
+     */
+    @Transactional
+    public void upsert(List<Property> chunk) {
+        if (chunk == null) {
+            throw new IllegalArgumentException("Properties list cannot be null");
+        }
+        jdbcTemplate.batchUpdate(getUpsertSql(), chunk, batchSize, PropertyBulkWriter::bind);
+        logger.debug("Upserted {} properties via JDBC batch", chunk.size());
+    }
+
+    /**
+     * Returns the upsert statement for the connected database, resolving it on first use.
+     *
+     * @return the upsert statement
+     * @throws IllegalStateException if the connected database has no supported upsert statement
+     */
+    String getUpsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String productName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = upsertSqlFor(productName);
+            logger.info("Upsert statement for {}: {}", productName, sql.substring(0, sql.indexOf(' ')));
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    /**
+     * Returns the upsert statement for a database product.
+     *
+     * @param databaseProductName the product name reported by the JDBC driver metadata
+     * @return the upsert statement
+     * @throws IllegalStateException if the database has no supported upsert statement
+     */
+    static String upsertSqlFor(String databaseProductName) {
+        if ("MySQL".equalsIgnoreCase(databaseProductName)) {
+            return MYSQL_UPSERT_SQL;
+        }
+        if ("H2".equalsIgnoreCase(databaseProductName)) {
+            return H2_UPSERT_SQL;
+        }
+        throw new IllegalStateException("No upsert statement for database " + databaseProductName);
+    }
+
+    /**
+     * Binds a property to the columns listed in {@link #COLUMNS}, starting at parameter index one.
+     *
+     * @param statement the prepared statement
+     * @param property the property to bind
+     * @throws SQLException if a parameter cannot be set
+     */
+    static void bind(PreparedStatement statement, Property property) throws SQLException {
+        statement.setLong(1, property.getId());
+        statement.setString(2, property.getPropertyName());
+        statement.setString(3, property.getPropertyLocation());
+        statement.setString(4, property.getPropertyCity());
+        statement.setString(5, property.getPropertyState());
+        statement.setString(6, property.getPropertyCountry());
+        statement.setString(7, property.getPropertyAddress());
+        statement.setString(8, property.getPropertyPhoneNumber());
+        statement.setString(9, property.getPropertyEmailAddress());
+        statement.setString(10, property.getPropertyAirportProximity());
+        statement.setString(11, property.getPropertyDescription());
+        statement.setObject(12, property.getPropertyPricePerNight(), Types.DECIMAL);
+        statement.setObject(13, property.getPropertyCommissionAmount(), Types.DECIMAL);
+        statement.setString(14, property.getPropertyCancellationPenalty());
+        statement.setObject(15, property.getContentHash(), Types.BIGINT);
+    }
+}
@@ -0,0 +1,190 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.PropertyService;
+import com.clotzer.property.loader.FeedFormat;
+import com.clotzer.property.loader.PropertyChunkWriter;
+import com.clotzer.property.loader.PropertyLoadCheckpoint;
+import com.clotzer.property.loader.PropertyLoadPipeline;
+import com.clotzer.property.loader.PropertyLoadProgress;
+import com.clotzer.property.loader.PropertyRecordReader;
+import com.clotzer.property.repository.PropertyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Streams a feed while recording how far it has been written, so a load interrupted by a crash resumes
+ * from that position on the next start.
+ *
+ * <p>The checkpoint is kept in {@code property.loader.checkpoint} and matched against the checksum of
+ * the feed, see {@link PropertyLoadCheckpoint} for the format. It is deleted once every source has been
+ * loaded, and kept for the next start otherwise.
+ *
+ * <p>Configuration properties:
+ * <ul>
+ *   <li>{@code property.loader.checkpoint} - File recording how far a streaming load has been written;
+ *       needs {@code spring.jpa.hibernate.ddl-auto=update} (default: empty, disabled)</li>
+ * </ul>
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyLoadService
+ */
+@Component
+public class PropertyCheckpointLoader {
+
+    /** Logger for this loader */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyCheckpointLoader.class);
+
+    /** Jackson ObjectMapper for JSON parsing */
+    private final ObjectMapper objectMapper;
+
+    /** Repository for property database operations */
+    private final PropertyRepository propertyRepository;
+
+    /** Service layer merging chunks written again after a resume */
+    private final PropertyService propertyService;
+
+    /** Loader streaming the feed into the database */
+    private final PropertyStreamingLoader streamingLoader;
+
+    /** File recording the progress of a load so it can resume after a crash; empty to disable (configurable via properties) */
+    @Value("${property.loader.checkpoint:}")
+    private String checkpointFile;
+
+    /**
+     * Constructs a new PropertyCheckpointLoader.
+     *
+     * @param objectMapper the Jackson ObjectMapper for JSON parsing
+     * @param propertyRepository the repository for property database operations
+     * @param propertyService the service layer merging chunks written again after a resume
+     * @param streamingLoader the loader streaming the feed into the database
+     */
+    public PropertyCheckpointLoader(ObjectMapper objectMapper, PropertyRepository propertyRepository,
+                                    PropertyService propertyService, PropertyStreamingLoader streamingLoader) {
+        this.objectMapper = objectMapper;
+        this.propertyRepository = propertyRepository;
+        this.propertyService = propertyService;
+        this.streamingLoader = streamingLoader;
+    }
+
+    /**
+     * Returns whether a checkpoint file is configured.
+     *
+     * @return {@code true} if {@code property.loader.checkpoint} is set
+     */
+    public boolean isEnabled() {
+        return checkpointFile != null && !checkpointFile.isBlank();
+    }
+
+    /**
+     * Streams a seekable JSON feed, resuming after the recorded position and recording the position
+     * after each written chunk.
+     *
+     * @param source the name the feed is recorded under
+     * @param feedChecksum the checksum of the feed
+     * @param opener opens the feed at a byte offset
+     * @param run the state of the running load
+     * @throws IOException if the feed cannot be read or the checkpoint cannot be opened
+     * @throws InterruptedException if interrupted while waiting for writers to finish
+     */
+    void loadFeed(String source, long feedChecksum, PropertyLoadCheckpoint.FeedOpener opener, PropertyLoadRun run)
+            throws IOException, InterruptedException {
+        PropertyLoadCheckpoint checkpoint = open(feedChecksum);
+        PropertyLoadCheckpoint.Position position = checkpoint.position(source);
+        run.getProgress().setPhase(PropertyLoadProgress.Phase.LOADING);
+        if (position.complete()) {
+            logger.info("Skipping {}, loaded before the last restart", source);
+        } else {
+            if (!position.isStart()) {
+                logger.info("Resuming {} after record {}", source, position.records());
+            }
+            PropertyLoadCheckpoint.Resumed resumed = PropertyLoadCheckpoint.resume(objectMapper, FeedFormat.JSON, true,
+                opener, position);
+            PropertyLoadPipeline.Result result;
+            try (PropertyRecordReader reader = run.tracked(resumed.reader(), source)) {
+                result = streamingLoader.stream(reader, resumableWriter(checkpoint, run), resumed.offsets(),
+                    (records, offset) -> checkpoint.committed(source, resumed.firstRecord() + records, offset), run);
+            }
+            if (result.failed() == 0) {
+                checkpoint.completed(source);
+            }
+        }
+        finish(checkpoint, List.of(source));
+    }
+
+    /**
+     * Loads feed files concurrently, resuming each after its recorded position.
+     *
+     * @param files the files to load
+     * @param feedChecksum the combined checksum of the files
+     * @param run the state of the running load
+     * @return {@code true} if every file was read to the end
+     * @throws IOException if the checkpoint cannot be opened or updated
+     * @throws InterruptedException if interrupted while waiting for files to load
+     */
+    boolean loadFiles(List<Path> files, long feedChecksum, PropertyLoadRun run) throws IOException, InterruptedException {
+        PropertyLoadCheckpoint checkpoint = open(feedChecksum);
+        run.getProgress().setPhase(PropertyLoadProgress.Phase.LOADING);
+        boolean complete = streamingLoader.loadFiles(files, resumableWriter(checkpoint, run), checkpoint, run);
+        finish(checkpoint, files.stream().map(Path::toString).toList());
+        return complete;
+    }
+
+    /**
+     * Opens {@code property.loader.checkpoint} for a feed, discarding it if the table it describes is gone.
+     *
+     * <p>With {@code spring.jpa.hibernate.ddl-auto=create-drop} the rows a checkpoint covers are dropped
+     * on restart. Resuming would then skip them, so a checkpoint is only used while the table holds rows.
+     */
+    private PropertyLoadCheckpoint open(long feedChecksum) throws IOException {
+        PropertyLoadCheckpoint checkpoint = PropertyLoadCheckpoint.open(objectMapper, Path.of(checkpointFile), feedChecksum);
+        if (checkpoint.isResumed() && propertyRepository.count() == 0) {
+            logger.warn("Ignoring checkpoint {} because the property table is empty;"
+                + " resuming needs spring.jpa.hibernate.ddl-auto=update", checkpoint.getFile());
+            checkpoint.reset();
+        } else if (checkpoint.isResumed()) {
+            logger.info("Resuming interrupted load from checkpoint {}", checkpoint.getFile());
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Returns the writer for a load recorded in a checkpoint.
+     *
+     * <p>Chunks committed just after the last recorded position are written again when a load resumes.
+     * In insert mode their IDs already exist, so after a resume a chunk that fails is retried as a merge
+     * through {@link PropertyService#savePropertiesBatch(List)}.
+     */
+    private PropertyChunkWriter resumableWriter(PropertyLoadCheckpoint checkpoint, PropertyLoadRun run) {
+        if (!checkpoint.isResumed() || propertyService == null) {
+            return run.getChunkWriter();
+        }
+        PropertyChunkWriter configuredWriter = run.getConfiguredWriter();
+        return run.getProgress().track(chunk -> {
+            try {
+                configuredWriter.write(chunk);
+            } catch (RuntimeException e) {
+                propertyService.savePropertiesBatch(chunk);
+            }
+        });
+    }
+
+    /**
+     * Deletes the checkpoint once every source is complete, and otherwise keeps it for the next start.
+     */
+    private void finish(PropertyLoadCheckpoint checkpoint, List<String> sources) throws IOException {
+        if (checkpoint.finish(sources)) {
+            logger.info("Load complete, removed checkpoint {}", checkpoint.getFile());
+        } else {
+            logger.warn("Load incomplete, keeping checkpoint {} for the next start", checkpoint.getFile());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.entity.Property;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes properties to a CSV file that both MySQL {@code LOAD DATA} and H2 {@code CSVREAD} can read.
+ *
+ * <p>Format:
+ * <ul>
+ *   <li>UTF-8, one record per line, lines terminated by {@code \n}</li>
+ *   <li>A header line naming the {@link PropertyBulkWriter#COLUMNS} columns, in the same order</li>
+ *   <li>Fields separated by {@code ,}; text fields always enclosed in {@code "}, with embedded quotes
+ *       doubled</li>
+ *   <li>The price, commission and content hash written as unquoted numbers</li>
+ *   <li>{@code null} values written as an unquoted {@link #NULL_VALUE}</li>
+ * </ul>
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+public class PropertyCsvWriter implements Closeable {
+
+    /** Unquoted marker written for {@code null} values */
+    static final String NULL_VALUE = "NULL";
+
+    /** Field separator */
+    private static final char SEPARATOR = ',';
+
+    /** Field enclosure */
+    private static final char QUOTE = '"';
+
+    /** Destination file */
+    private final Writer writer;
+
+    /** Number of records written, excluding the header */
+    private long rowCount;
+
+    /**
+     * Creates the file, replacing any existing content, and writes the header line.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public PropertyCsvWriter(Path file) throws IOException {
+        this(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes to the given writer, starting with the header line.
+     *
+     * @param writer the destination; closed when this writer is closed
+     * @throws IOException if the header cannot be written
+     */
+    PropertyCsvWriter(Writer writer) throws IOException {
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        this.writer.write(PropertyBulkWriter.COLUMNS.replace(" ", ""));
+        this.writer.write('\n');
+    }
+
+    /**
+     * Appends one property as a CSV record.
+     *
+     * @param property the property to write
+     * @throws IOException if the record cannot be written
+     */
+    public void write(Property property) throws IOException {
+        writer.write(Long.toString(property.getId()));
+        text(property.getPropertyName());
+        text(property.getPropertyLocation());
+        text(property.getPropertyCity());
+        text(property.getPropertyState());
+        text(property.getPropertyCountry());
+        text(property.getPropertyAddress());
+        text(property.getPropertyPhoneNumber());
+        text(property.getPropertyEmailAddress());
+        text(property.getPropertyAirportProximity());
+        text(property.getPropertyDescription());
+        amount(property.getPropertyPricePerNight());
+        amount(property.getPropertyCommissionAmount());
+        text(property.getPropertyCancellationPenalty());
+        writer.write(SEPARATOR);
+        Long contentHash = property.getContentHash();
+        writer.write(contentHash != null ? contentHash.toString() : NULL_VALUE);
+        writer.write('\n');
+        rowCount++;
+    }
+
+    /**
+     * Returns the number of records written so far.
+     *
+     * @return the record count, excluding the header
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Flushes and closes the file.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Writes a separator followed by an unquoted amount, in plain notation.
+     */
+    private void amount(BigDecimal value) throws IOException {
+        writer.write(SEPARATOR);
+        writer.write(value != null ? value.toPlainString() : NULL_VALUE);
+    }
+
+    /**
+     * Writes a separator followed by an enclosed text field.
+     */
+    private void text(String value) throws IOException {
+        writer.write(SEPARATOR);
+        if (value == null) {
+            writer.write(NULL_VALUE);
+            return;
+        }
+        writer.write(QUOTE);
+        if (value.indexOf(QUOTE) >= 0) {
+            writer.write(value.replace("\"", "\"\""));
+        } else {
+            writer.write(value);
+        }
+        writer.write(QUOTE);
+    }
+}
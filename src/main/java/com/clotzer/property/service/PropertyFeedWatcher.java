@@ -0,0 +1,259 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.loader.FeedCompression;
+import com.clotzer.property.loader.FeedFormat;
+import com.clotzer.property.loader.LoaderThreadFactory;
+import com.clotzer.property.loader.PropertyRecordReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Watches a feed directory and reloads each feed file shortly after it changes, without a restart.
+ *
+ * <p>A {@link WatchService} reports created and modified files on a thread named
+ * {@code property-feed-watcher-N}. Events are debounced per file: a file is reloaded once no event has
+ * been seen for it for {@code property.loader.watch.debounce-ms}, so a file written in several steps is
+ * reloaded once, after the last write. Only files recognized by {@link FeedFormat#isFeed(Path)} are
+ * considered. If the watch service drops events, every feed file in the directory is reloaded.
+ *
+ * <p>Reloads run one at a time on a separate {@code property-feed-reload-N} thread. Each reload is a
+ * {@link PropertyIncrementalLoader} pass over the changed file alone, so only new and changed properties
+ * are written. Like a startup load, every insert, update and delete chunk commits in its own transaction,
+ * whichever writer is configured; the native writer could not join an enclosing transaction anyway. A
+ * reload that fails part way keeps the chunks committed before the failure and leaves the rest of the
+ * file unapplied. Since the pass is incremental, reloading the file again, on its next change, completes
+ * it. Properties missing from the file are left in place, because the file holds only part of the
+ * table. Removals are applied by the next full incremental load.
+ *
+ * <p>Configuration properties:
+ * <ul>
+ *   <li>{@code property.loader.watch.enabled} - Enable the watcher (default: false)</li>
+ *   <li>{@code property.loader.watch.directory} - Directory to watch (required when enabled)</li>
+ *   <li>{@code property.loader.watch.debounce-ms} - Quiet period before a changed file is reloaded
+ *       (default: 500)</li>
+ * </ul>
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyIncrementalLoader#load(PropertyRecordReader, boolean)
+ */
+@Component
+@ConditionalOnProperty(name = "property.loader.watch.enabled", havingValue = "true")
+public class PropertyFeedWatcher implements SmartLifecycle {
+
+    /** Logger for this watcher */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyFeedWatcher.class);
+
+    /** Mapper used to parse changed files */
+    private final ObjectMapper objectMapper;
+
+    /** Loader applying the changes in each file */
+    private final PropertyIncrementalLoader incrementalLoader;
+
+    /** Directory being watched */
+    private final Path directory;
+
+    /** Quiet period before a changed file is reloaded, in milliseconds */
+    private final long debounceMillis;
+
+    /** Watch service for {@link #directory}, or {@code null} while stopped */
+    private volatile WatchService watchService;
+
+    /** Thread polling the watch service */
+    private ExecutorService watcher;
+
+    /** Thread running reloads one at a time */
+    private ExecutorService reloader;
+
+    /**
+     * Constructs a new PropertyFeedWatcher.
+     *
+     * @param objectMapper the mapper used to parse changed files
+     * @param incrementalLoader the loader applying the changes in each file
+     * @param directory the directory to watch
+     * @param debounceMillis the quiet period before a changed file is reloaded, in milliseconds
+     */
+    public PropertyFeedWatcher(ObjectMapper objectMapper, PropertyIncrementalLoader incrementalLoader,
+                               @Value("${property.loader.watch.directory:}") String directory,
+                               @Value("${property.loader.watch.debounce-ms:500}") long debounceMillis) {
+        this.objectMapper = objectMapper;
+        this.incrementalLoader = incrementalLoader;
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+        this.debounceMillis = Math.max(0, debounceMillis);
+    }
+
+    /**
+     * Starts watching the directory.
+     *
+     * @throws IllegalStateException if the directory is not configured, does not exist or cannot be watched
+     */
+    @Override
+    public synchronized void start() {
+        if (watchService != null) {
+            return;
+        }
+        if (directory == null || !Files.isDirectory(directory)) {
+            throw new IllegalStateException("property.loader.watch.directory is not a directory: " + directory);
+        }
+        try {
+            WatchService service = directory.getFileSystem().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchService = service;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot watch " + directory, e);
+        }
+        reloader = Executors.newSingleThreadExecutor(new LoaderThreadFactory("property-feed-reload"));
+        watcher = Executors.newSingleThreadExecutor(new LoaderThreadFactory("property-feed-watcher"));
+        watcher.submit(this::watch);
+        logger.info("Watching {} for feed changes with a {} ms debounce", directory, debounceMillis);
+    }
+
+    /**
+     * Stops watching and waits briefly for a running reload to finish.
+     */
+    @Override
+    public synchronized void stop() {
+        WatchService service = watchService;
+        if (service == null) {
+            return;
+        }
+        watchService = null;
+        try {
+            service.close();
+        } catch (IOException e) {
+            logger.warn("Error closing watch service: {}", e.getMessage());
+        }
+        watcher.shutdownNow();
+        reloader.shutdown();
+        try {
+            if (!reloader.awaitTermination(30, TimeUnit.SECONDS)) {
+                reloader.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            reloader.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Stopped watching {}", directory);
+    }
+
+    /**
+     * Returns whether the directory is being watched.
+     *
+     * @return {@code true} between {@link #start()} and {@link #stop()}
+     */
+    @Override
+    public boolean isRunning() {
+        return watchService != null;
+    }
+
+    /**
+     * Polls the watch service and hands files that have been quiet for the debounce period to the
+     * reload thread.
+     */
+    private void watch() {
+        Map<Path, Long> pending = new LinkedHashMap<>();
+        long pollMillis = Math.max(10, Math.min(debounceMillis, 250));
+        while (true) {
+            WatchService service = watchService;
+            if (service == null) {
+                return;
+            }
+            WatchKey key;
+            try {
+                key = service.poll(pollMillis, TimeUnit.MILLISECONDS);
+            } catch (ClosedWatchServiceException | InterruptedException e) {
+                return;
+            }
+
+            if (key != null) {
+                long now = System.nanoTime();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        logger.warn("Feed change events were lost; reloading every feed in {}", directory);
+                        feedFiles().forEach(file -> pending.put(file, now));
+                    } else {
+                        Path file = directory.resolve((Path) event.context());
+                        if (FeedFormat.isFeed(file)) {
+                            pending.put(file, now);
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    logger.error("Watch on {} is no longer valid; feed reloads have stopped", directory);
+                    return;
+                }
+            }
+
+            long quietSince = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+            for (Iterator<Map.Entry<Path, Long>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<Path, Long> entry = it.next();
+                if (entry.getValue() - quietSince <= 0) {
+                    it.remove();
+                    Path file = entry.getKey();
+                    reloader.submit(() -> reload(file));
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the changes in one feed file, committing chunk by chunk.
+     *
+     * @param file the changed feed file
+     * @return the counts of the reload, or {@code null} if the file could not be reloaded
+     */
+    PropertyIncrementalLoader.Result reload(Path file) {
+        if (!Files.isRegularFile(file)) {
+            logger.debug("Skipping reload of {}; it no longer exists", file);
+            return null;
+        }
+        long start = System.nanoTime();
+        try (PropertyRecordReader reader = FeedFormat.of(file).reader(objectMapper,
+                FeedCompression.open(file, new BufferedInputStream(Files.newInputStream(file))))) {
+            PropertyIncrementalLoader.Result result = incrementalLoader.load(reader, false);
+            logger.info("Reloaded {} in {} ms: {} inserted, {} updated, {} unchanged, {} rejected", file,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), result.inserted(), result.updated(),
+                result.unchanged(), result.rejected());
+            return result;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to reload {}; chunks committed before the failure are kept and the rest of the file"
+                + " is applied when it next changes: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the feed files currently in the directory.
+     */
+    private Stream<Path> feedFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile).filter(FeedFormat::isFeed).sorted().toList().stream();
+        } catch (IOException e) {
+            logger.error("Cannot list {}: {}", directory, e.getMessage());
+            return Stream.empty();
+        }
+    }
+}
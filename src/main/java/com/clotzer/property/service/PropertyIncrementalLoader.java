@@ -0,0 +1,253 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.PropertyService;
+import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.PropertyChunkWriter;
+import com.clotzer.property.loader.LongHashSet;
+import com.clotzer.property.loader.PropertyContentHasher;
+import com.clotzer.property.loader.PropertyRecordReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reconciles the {@code property} table with a feed, writing only what changed.
+ *
+ * <p>The loader first reads the ID and content hash of every stored row in one query. It then
+ * streams the feed and compares each record's hash, computed during parsing, with the stored hash:
+ * <ul>
+ *   <li>IDs not in the table are inserted through the configured {@link PropertyChunkWriter}</li>
+ *   <li>IDs whose hash differs, or has never been recorded, are merged with
+ *       {@link PropertyService#savePropertiesBatch(List)}</li>
+ *   <li>IDs whose hash matches are skipped</li>
+ *   <li>IDs repeated within the feed are merged again, so the last occurrence wins</li>
+ *   <li>Stored IDs missing from the feed are deleted with
+ *       {@link PropertyService#deletePropertiesByIds(java.util.Collection)}</li>
+ * </ul>
+ * Database work therefore scales with the size of the change. Only the hash map of stored rows and
+ * the {@link LongHashSet} of IDs seen in the feed are proportional to the table size.
+ *
+ * <p>A repeated ID is never inserted twice: its row was inserted or is pending insertion by the
+ * first occurrence. Pending inserts are flushed before the repeat is queued for a merge, so the merge
+ * always finds the row and the insert chunk never hits a primary key violation.
+ *
+ * <p>Deletes are skipped when any record could not be parsed, because the ID of a rejected record is
+ * unknown and its row would otherwise be removed. {@link #load(PropertyRecordReader, boolean)} can also
+ * skip them on purpose, for a feed that holds only part of the table, such as one file of many.
+ *
+ * <p>Incremental loads need the table to survive restarts, so run them with
+ * {@code spring.jpa.hibernate.ddl-auto=update}.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyContentHasher
+ */
+@Component
+public class PropertyIncrementalLoader {
+
+    /** Query returning the ID and content hash of every stored property */
+    static final String HASH_QUERY = "SELECT id, content_hash FROM property";
+
+    /** Logger for this loader */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyIncrementalLoader.class);
+
+    /** JDBC template used to read the stored hashes */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Service layer used for updates and deletes */
+    private final PropertyService propertyService;
+
+    /** Writer used for inserts */
+    private final PropertyChunkWriter chunkWriter;
+
+    /** Number of rows per insert, update or delete batch */
+    private final int chunkSize;
+
+    /**
+     * Constructs a new PropertyIncrementalLoader.
+     *
+     * @param jdbcTemplate the JDBC template used to read the stored hashes
+     * @param propertyService the service layer used for updates and deletes
+     * @param chunkWriter the writer used for inserts
+     * @param chunkSize the number of rows per insert, update or delete batch
+     */
+    public PropertyIncrementalLoader(JdbcTemplate jdbcTemplate, PropertyService propertyService,
+                                     PropertyChunkWriter chunkWriter,
+                                     @Value("${property.loader.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.propertyService = propertyService;
+        this.chunkWriter = chunkWriter;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Applies the differences between the feed and the table.
+     *
+     * @param reader the source of records; not closed by this method
+     * @return the counts of inserted, updated, deleted, unchanged and rejected records
+     * @throws IOException if the feed cannot be read
+     */
+    public Result load(PropertyRecordReader reader) throws IOException {
+        return load(reader, true);
+    }
+
+    /**
+     * Applies the differences between the feed and the table, optionally leaving rows that are missing
+     * from the feed in place.
+     *
+     * @param reader the source of records; not closed by this method
+     * @param deleteMissing whether to delete stored properties missing from the feed; pass
+     *                      {@code false} when the feed covers only part of the table
+     * @return the counts of inserted, updated, deleted, unchanged and rejected records
+     * @throws IOException if the feed cannot be read
+     */
+    public Result load(PropertyRecordReader reader, boolean deleteMissing) throws IOException {
+        Map<Long, Long> stored = storedHashes();
+        logger.info("Incremental load: {} properties stored", stored.size());
+
+        LongHashSet seen = new LongHashSet(stored.size());
+        List<Property> inserts = new ArrayList<>(chunkSize);
+        List<Property> updates = new ArrayList<>(chunkSize);
+        long inserted = 0;
+        long updated = 0;
+        long unchanged = 0;
+        long rejected = 0;
+        long repeated = 0;
+
+        while (true) {
+            Property property;
+            try {
+                property = reader.read();
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                logger.debug("Error parsing property: {}", e.getMessage());
+                continue;
+            }
+            if (property == null) {
+                break;
+            }
+
+            Long contentHash = property.getContentHash();
+            if (contentHash == null) {
+                contentHash = PropertyContentHasher.hash(property);
+                property.setContentHash(contentHash);
+            }
+
+            if (!seen.add(property.getId())) {
+                repeated++;
+                inserted += flushInserts(inserts);
+                updates.add(property);
+                if (updates.size() >= chunkSize) {
+                    updated += flushUpdates(updates);
+                }
+                continue;
+            }
+            boolean known = stored.containsKey(property.getId());
+            Long storedHash = stored.remove(property.getId());
+            if (!known) {
+                inserts.add(property);
+                if (inserts.size() >= chunkSize) {
+                    inserted += flushInserts(inserts);
+                }
+            } else if (!contentHash.equals(storedHash)) {
+                updates.add(property);
+                if (updates.size() >= chunkSize) {
+                    updated += flushUpdates(updates);
+                }
+            } else {
+                unchanged++;
+            }
+        }
+        inserted += flushInserts(inserts);
+        updated += flushUpdates(updates);
+        if (repeated > 0) {
+            logger.warn("Incremental load: {} record(s) repeated an ID earlier in the feed and were merged", repeated);
+        }
+
+        long deleted = 0;
+        if (!deleteMissing) {
+            logger.debug("Leaving {} properties missing from the partial feed in place", stored.size());
+        } else if (rejected > 0 && !stored.isEmpty()) {
+            logger.warn("Skipping deletion of {} properties missing from the feed because {} record(s) were rejected",
+                stored.size(), rejected);
+        } else {
+            deleted = deleteMissing(new ArrayList<>(stored.keySet()));
+        }
+
+        Result result = new Result(inserted, updated, deleted, unchanged, rejected);
+        logger.info("Incremental load: {} inserted, {} updated, {} deleted, {} unchanged, {} rejected",
+            result.inserted(), result.updated(), result.deleted(), result.unchanged(), result.rejected());
+        return result;
+    }
+
+    /**
+     * Reads the ID and content hash of every stored property.
+     *
+     * @return the stored hashes by ID; a {@code null} hash means the row predates hashing
+     */
+    Map<Long, Long> storedHashes() {
+        Map<Long, Long> hashes = new HashMap<>();
+        jdbcTemplate.query(HASH_QUERY, resultSet -> {
+            hashes.put(resultSet.getLong(1), resultSet.getObject(2, Long.class));
+        });
+        return hashes;
+    }
+
+    /**
+     * Inserts and clears the pending inserts.
+     */
+    private long flushInserts(List<Property> inserts) {
+        if (inserts.isEmpty()) {
+            return 0;
+        }
+        chunkWriter.write(new ArrayList<>(inserts));
+        long count = inserts.size();
+        inserts.clear();
+        return count;
+    }
+
+    /**
+     * Merges and clears the pending updates.
+     */
+    private long flushUpdates(List<Property> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        propertyService.savePropertiesBatch(new ArrayList<>(updates));
+        long count = updates.size();
+        updates.clear();
+        return count;
+    }
+
+    /**
+     * Deletes the given IDs in batches of {@code chunkSize}.
+     */
+    private long deleteMissing(List<Long> ids) {
+        long deleted = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            deleted += propertyService.deletePropertiesByIds(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return deleted;
+    }
+
+    /**
+     * Outcome of an incremental load.
+     *
+     * @param inserted number of new properties inserted
+     * @param updated number of changed properties updated, including records that repeat an earlier ID
+     * @param deleted number of properties deleted because they were missing from the feed
+     * @param unchanged number of properties skipped because their content hash matched
+     * @param rejected number of records that could not be parsed
+     */
+    public record Result(long inserted, long updated, long deleted, long unchanged, long rejected) {
+    }
+}
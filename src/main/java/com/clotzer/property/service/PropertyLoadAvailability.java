@@ -0,0 +1,55 @@
+package com.clotzer.property.service;
+
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application availability that reports {@link ReadinessState#REFUSING_TRAFFIC} until the property
+ * table holds a full dataset.
+ *
+ * <p>Spring Boot publishes {@link ReadinessState#ACCEPTING_TRAFFIC} as soon as startup finishes. With
+ * {@code property.loader.async=true} the load is still running at that point, so this bean, which
+ * replaces Boot's default {@link ApplicationAvailabilityBean}, overrides the last published readiness
+ * while {@link PropertyLoadStatus} is not {@link PropertyLoadStatus.State#READY}. Readiness probes and
+ * anything else reading {@link org.springframework.boot.availability.ApplicationAvailability} see the
+ * gated state. Liveness is unaffected.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyLoadStatus
+ */
+@Component
+public class PropertyLoadAvailability extends ApplicationAvailabilityBean {
+
+    /** Status of the property load */
+    private final PropertyLoadStatus loadStatus;
+
+    /**
+     * Constructs a new PropertyLoadAvailability.
+     *
+     * @param loadStatus the status of the property load
+     */
+    public PropertyLoadAvailability(PropertyLoadStatus loadStatus) {
+        this.loadStatus = loadStatus;
+    }
+
+    /**
+     * Returns the last published state of the given type, with readiness held back while the load is
+     * not complete.
+     *
+     * @param stateType the availability state type
+     * @param <S> the availability state type
+     * @return the state, or {@code null} if none has been published
+     */
+    @Override
+    public <S extends AvailabilityState> S getState(Class<S> stateType) {
+        S state = super.getState(stateType);
+        if (state == ReadinessState.ACCEPTING_TRAFFIC && !loadStatus.isReady()) {
+            return stateType.cast(ReadinessState.REFUSING_TRAFFIC);
+        }
+        return state;
+    }
+}
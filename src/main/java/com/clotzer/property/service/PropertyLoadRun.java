@@ -0,0 +1,110 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.loader.PropertyChunkWriter;
+import com.clotzer.property.loader.PropertyDeduplicator;
+import com.clotzer.property.loader.PropertyLoadProgress;
+import com.clotzer.property.loader.PropertyRecordReader;
+import com.clotzer.property.loader.PropertyStringPool;
+import com.clotzer.property.loader.RejectedRecordHandler;
+
+/**
+ * State of one {@link PropertyLoadService#load()} call, shared by the loaders it hands the feed to.
+ *
+ * <p>A run holds the handler of rejected records, the duplicate detector and the string pool created
+ * for the load, the progress counters it reports to, and the configured chunk writer. The writer is
+ * available as configured and wrapped to count persisted records, so a loader that wraps it again,
+ * such as a resumed checkpoint load, can count the result once.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+final class PropertyLoadRun {
+
+    /** Handler tracking rejected records */
+    private final RejectedRecordHandler rejectedRecordHandler;
+
+    /** Detector of duplicate records, or {@code null} if disabled */
+    private final PropertyDeduplicator deduplicator;
+
+    /** Pool of shared field values, or {@code null} if disabled */
+    private final PropertyStringPool stringPool;
+
+    /** Live counters of the load */
+    private final PropertyLoadProgress progress;
+
+    /** Writer selected by {@code property.loader.write-mode}, before counting */
+    private final PropertyChunkWriter configuredWriter;
+
+    /** Writer persisting each chunk, counted by {@link #progress} */
+    private final PropertyChunkWriter chunkWriter;
+
+    /**
+     * Creates the state of a load.
+     *
+     * @param rejectedRecordHandler the handler tracking rejected records
+     * @param deduplicator the detector of duplicate records, or {@code null}
+     * @param stringPool the pool of shared field values, or {@code null}
+     * @param progress the live counters of the load
+     * @param configuredWriter the writer selected by {@code property.loader.write-mode}, or {@code null}
+     */
+    PropertyLoadRun(RejectedRecordHandler rejectedRecordHandler, PropertyDeduplicator deduplicator,
+                    PropertyStringPool stringPool, PropertyLoadProgress progress, PropertyChunkWriter configuredWriter) {
+        this.rejectedRecordHandler = rejectedRecordHandler;
+        this.deduplicator = deduplicator;
+        this.stringPool = stringPool;
+        this.progress = progress;
+        this.configuredWriter = configuredWriter;
+        this.chunkWriter = configuredWriter != null ? progress.track(configuredWriter) : null;
+    }
+
+    RejectedRecordHandler getRejectedRecordHandler() {
+        return rejectedRecordHandler;
+    }
+
+    PropertyDeduplicator getDeduplicator() {
+        return deduplicator;
+    }
+
+    PropertyStringPool getStringPool() {
+        return stringPool;
+    }
+
+    PropertyLoadProgress getProgress() {
+        return progress;
+    }
+
+    PropertyChunkWriter getConfiguredWriter() {
+        return configuredWriter;
+    }
+
+    PropertyChunkWriter getChunkWriter() {
+        return chunkWriter;
+    }
+
+    /**
+     * Wraps a reader with the duplicate detector of the run, if deduplication is enabled.
+     */
+    PropertyRecordReader deduplicated(PropertyRecordReader reader) {
+        return deduplicator == null ? reader : deduplicator.track(reader);
+    }
+
+    /**
+     * Wraps a reader with the string pool of the run, if pooling is enabled.
+     */
+    PropertyRecordReader pooled(PropertyRecordReader reader) {
+        return stringPool == null ? reader : stringPool.track(reader);
+    }
+
+    /**
+     * Wraps a reader with the string pool, the duplicate detector and the rejected record handler of
+     * the run, as every full load of a feed does.
+     *
+     * @param reader the feed reader
+     * @param source the name rejected records are reported under
+     * @return the wrapped reader; closing it closes {@code reader}
+     */
+    PropertyRecordReader tracked(PropertyRecordReader reader, String source) {
+        return rejectedRecordHandler.track(deduplicated(pooled(reader)), source);
+    }
+}
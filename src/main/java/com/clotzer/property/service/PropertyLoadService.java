@@ -0,0 +1,422 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.loader.ConcatenatingPropertyRecordReader;
+import com.clotzer.property.loader.DuplicatePolicy;
+import com.clotzer.property.loader.JsonStreamingPropertyReader;
+import com.clotzer.property.loader.PropertyChunkWriter;
+import com.clotzer.property.loader.PropertyDeduplicator;
+import com.clotzer.property.loader.PropertyLoadProgress;
+import com.clotzer.property.loader.PropertyRecordReader;
+import com.clotzer.property.loader.PropertySnapshot;
+import com.clotzer.property.loader.PropertySourceResolver;
+import com.clotzer.property.loader.PropertyStringPool;
+import com.clotzer.property.loader.RejectedRecordHandler;
+import com.clotzer.property.repository.PropertyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Loads the configured property feed into the database and records the outcome in {@link PropertyLoadStatus}.
+ *
+ * <p>{@link #load()} picks the feed and hands it to the loader for the configured mode:
+ * <ul>
+ *   <li>{@link PropertyIncrementalLoader} - writes only inserted, changed and removed properties</li>
+ *   <li>{@link PropertySnapshotLoader} - loads a binary snapshot while the feed is unchanged</li>
+ *   <li>{@link PropertyCheckpointLoader} - resumes an interrupted streaming load</li>
+ *   <li>{@link PropertyStreamingLoader} - streams records through parallel writer threads</li>
+ *   <li>{@link PropertyTreeLoader} - reads the whole document into a tree first</li>
+ * </ul>
+ * Each loader documents its own configuration properties. Rejected records, duplicates and pooled
+ * strings are tracked for the whole load in a {@link PropertyLoadRun} and reported once at the end,
+ * whichever loader ran.
+ *
+ * <p>Configuration properties:
+ * <ul>
+ *   <li>{@code property.loader.streaming} - Parse with the streaming reader instead of building the
+ *       full JSON tree (default: true)</li>
+ *   <li>{@code property.loader.write-mode} - {@code insert}, {@code merge} or {@code upsert}, see
+ *       {@link com.clotzer.property.loader.PropertyWriterConfig} (default: insert)</li>
+ *   <li>{@code property.loader.incremental} - Write only inserted, changed and removed properties
+ *       (default: false)</li>
+ *   <li>{@code property.loader.source} - Directories, globs or files to load instead of the classpath
+ *       feed, see {@link PropertySourceResolver}; {@code .ndjson} and {@code .jsonl} files are read as
+ *       one property per line, {@code .csv} and {@code .tsv} files as delimited rows with a header
+ *       (default: empty)</li>
+ *   <li>{@code property.loader.skip-limit} - Number of rejected records allowed before the load stops,
+ *       negative for no limit (default: -1)</li>
+ *   <li>{@code property.loader.dead-letter-file} - NDJSON file receiving each rejected record with its
+ *       position and reason, see {@link RejectedRecordHandler} (default: empty, none)</li>
+ *   <li>{@code property.loader.dedupe} - {@code none}, {@code first-wins}, {@code last-wins} or
+ *       {@code reject} for records repeating an ID in a streaming load, see {@link PropertyDeduplicator}
+ *       (default: none)</li>
+ *   <li>{@code property.loader.dedupe-email} - Also treat a repeated email address as a duplicate
+ *       (default: false)</li>
+ *   <li>{@code property.loader.string-pool.fields} - Comma-separated fields whose repeated values share
+ *       one instance during a load, see {@link PropertyStringPool} (default: propertyLocation,
+ *       propertyState, propertyCountry, propertyCancellationPenalty; empty to disable)</li>
+ *   <li>{@code property.loader.string-pool.max-values} - Distinct values pooled per field (default: 10000)</li>
+ * </ul>
+ *
+ * <p>Loads are not meant to overlap; {@link com.clotzer.property.DataLoader} runs one per start.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see com.clotzer.property.DataLoader
+ */
+@Component
+public class PropertyLoadService {
+
+    /** Name of the classpath feed, as recorded with rejected records */
+    private static final String CLASSPATH_FEED = "classpath:/propertyFiles.json";
+
+    /** Classpath resource holding the default feed */
+    private static final String CLASSPATH_RESOURCE = "/propertyFiles.json";
+
+    /** Logger for this service */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyLoadService.class);
+
+    /** Jackson ObjectMapper for JSON parsing */
+    private final ObjectMapper objectMapper;
+
+    /** Repository for property database operations */
+    private final PropertyRepository propertyRepository;
+
+    /** Writer selected by {@code property.loader.write-mode} */
+    private final PropertyChunkWriter chunkWriter;
+
+    /** Loader streaming the feed through parallel writer threads */
+    private final PropertyStreamingLoader streamingLoader;
+
+    /** Loader replaying a snapshot of an unchanged feed */
+    private final PropertySnapshotLoader snapshotLoader;
+
+    /** Loader resuming an interrupted streaming load */
+    private final PropertyCheckpointLoader checkpointLoader;
+
+    /** Loader reading the whole document into a tree */
+    private final PropertyTreeLoader treeLoader;
+
+    /** Loader applying only the differences between the feed and the table in incremental mode */
+    private final PropertyIncrementalLoader incrementalLoader;
+
+    /** Load state gating the application's readiness, or {@code null} if not tracked */
+    private final PropertyLoadStatus loadStatus;
+
+    /** Live counters of the load, shared with {@link #loadStatus} */
+    private final PropertyLoadProgress progress;
+
+    /** Flag to select the streaming parser over the in-memory tree parser (configurable via properties) */
+    @Value("${property.loader.streaming:true}")
+    private boolean streamingEnabled;
+
+    /** Flag to reconcile the table with the feed instead of loading every record (configurable via properties) */
+    @Value("${property.loader.incremental:false}")
+    private boolean incrementalEnabled;
+
+    /** Comma-separated directories, globs or files to load; empty for the classpath feed (configurable via properties) */
+    @Value("${property.loader.source:}")
+    private String source;
+
+    /** Number of rejected records allowed before the load stops; negative for no limit (configurable via properties) */
+    @Value("${property.loader.skip-limit:-1}")
+    private long skipLimit = -1;
+
+    /** NDJSON file receiving rejected records; empty to keep none (configurable via properties) */
+    @Value("${property.loader.dead-letter-file:}")
+    private String deadLetterFile;
+
+    /** Policy for records repeating an ID: none, first-wins, last-wins or reject (configurable via properties) */
+    @Value("${property.loader.dedupe:none}")
+    private String dedupe;
+
+    /** Flag to also treat a repeated email address as a duplicate (configurable via properties) */
+    @Value("${property.loader.dedupe-email:false}")
+    private boolean dedupeEmail;
+
+    /** Fields whose repeated values share one instance during a load; empty to disable (configurable via properties) */
+    @Value("${property.loader.string-pool.fields:propertyLocation,propertyState,propertyCountry,propertyCancellationPenalty}")
+    private String stringPoolFields;
+
+    /** Distinct values pooled per field (configurable via properties) */
+    @Value("${property.loader.string-pool.max-values:10000}")
+    private int stringPoolMaxValues;
+
+    /**
+     * Constructs a new PropertyLoadService with required dependencies.
+     *
+     * @param objectMapper the Jackson ObjectMapper for JSON parsing
+     * @param propertyRepository the repository for property database operations
+     * @param chunkWriter the writer selected by {@code property.loader.write-mode}
+     * @param streamingLoader the loader streaming the feed through parallel writer threads
+     * @param snapshotLoader the loader used when {@code property.loader.snapshot} is set
+     * @param checkpointLoader the loader used when {@code property.loader.checkpoint} is set
+     * @param treeLoader the loader used when {@code property.loader.streaming} is disabled
+     * @param incrementalLoader the loader used when {@code property.loader.incremental} is enabled
+     * @param loadStatus the load state gating the application's readiness
+     */
+    public PropertyLoadService(ObjectMapper objectMapper, PropertyRepository propertyRepository,
+                               PropertyChunkWriter chunkWriter, PropertyStreamingLoader streamingLoader,
+                               PropertySnapshotLoader snapshotLoader, PropertyCheckpointLoader checkpointLoader,
+                               PropertyTreeLoader treeLoader, PropertyIncrementalLoader incrementalLoader,
+                               PropertyLoadStatus loadStatus) {
+        this.objectMapper = objectMapper;
+        this.propertyRepository = propertyRepository;
+        this.chunkWriter = chunkWriter;
+        this.streamingLoader = streamingLoader;
+        this.snapshotLoader = snapshotLoader;
+        this.checkpointLoader = checkpointLoader;
+        this.treeLoader = treeLoader;
+        this.incrementalLoader = incrementalLoader;
+        this.loadStatus = loadStatus;
+        this.progress = loadStatus != null ? loadStatus.getProgress() : new PropertyLoadProgress();
+    }
+
+    /**
+     * Loads the configured feed and records the outcome in the load status.
+     *
+     * <p>Error handling:
+     * <ul>
+     *   <li>Missing feed - logs an error and marks the load as failed</li>
+     *   <li>Invalid JSON structure - logs detailed error information</li>
+     *   <li>Property parsing errors - skipped up to {@code property.loader.skip-limit}, logged without
+     *       stack traces and written to {@code property.loader.dead-letter-file}</li>
+     *   <li>Database errors - logs full exception details</li>
+     * </ul>
+     * A load that throws, finds no feed or leaves a source file unloaded marks the status as
+     * {@link PropertyLoadStatus.State#FAILED}; any other load marks it as {@link PropertyLoadStatus.State#READY}.
+     */
+    public void load() {
+        logger.info("Starting property data loading...");
+        long start = System.currentTimeMillis();
+        if (checkpointLoader.isEnabled() && (incrementalEnabled || snapshotLoader.isEnabled())) {
+            logger.warn("property.loader.checkpoint is ignored for incremental and snapshot loads");
+        }
+        PropertyStringPool stringPool = null;
+        try (RejectedRecordHandler rejects = new RejectedRecordHandler(skipLimit,
+                deadLetterFile == null || deadLetterFile.isBlank() ? null : Path.of(deadLetterFile))) {
+            DuplicatePolicy duplicatePolicy = DuplicatePolicy.from(dedupe);
+            PropertyDeduplicator deduplicator = duplicatePolicy != null
+                ? new PropertyDeduplicator(duplicatePolicy, dedupeEmail) : null;
+            stringPool = PropertyStringPool.from(stringPoolFields, stringPoolMaxValues);
+            PropertyLoadRun run = new PropertyLoadRun(rejects, deduplicator, stringPool, progress, chunkWriter);
+
+            boolean complete = isSourceEnabled() ? loadSources(run) : loadClasspath(run);
+
+            reportRejected(rejects);
+            reportDuplicates(deduplicator);
+            reportStringPool(stringPool);
+            logger.info("Property loading completed in {} ms", System.currentTimeMillis() - start);
+            if (complete) {
+                markReady();
+            } else {
+                markFailed(isSourceEnabled() ? "Not every feed file in " + source + " was loaded"
+                    : "No " + CLASSPATH_RESOURCE + " in classpath");
+            }
+        } catch (Exception e) {
+            logger.error("Failed to load properties: {}", e.getMessage(), e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            markFailed(e.getMessage());
+        }
+    }
+
+    private void markReady() {
+        if (loadStatus != null) {
+            loadStatus.ready();
+        } else {
+            progress.setPhase(PropertyLoadProgress.Phase.COMPLETE);
+        }
+    }
+
+    private void markFailed(String reason) {
+        if (loadStatus != null) {
+            loadStatus.failed(reason);
+        } else {
+            progress.setPhase(PropertyLoadProgress.Phase.FAILED);
+        }
+    }
+
+    /**
+     * Loads {@code /propertyFiles.json} from the classpath with the loader for the configured mode.
+     *
+     * @param run the state of the running load
+     * @return {@code false} if the classpath holds no feed, and {@code true} once it has been loaded
+     * @throws IOException if the feed cannot be read
+     * @throws InterruptedException if interrupted while waiting for writers to finish
+     */
+    private boolean loadClasspath(PropertyLoadRun run) throws IOException, InterruptedException {
+        InputStream inputStream = PropertyLoadService.class.getResourceAsStream(CLASSPATH_RESOURCE);
+        if (inputStream == null) {
+            logger.error("Could not find {} in classpath; make sure the file is in src/main/resources/", CLASSPATH_RESOURCE);
+            return false;
+        }
+
+        logger.info("Found {}, parsing...", CLASSPATH_RESOURCE);
+        progress.setBytesTotal(classpathFeedSize());
+
+        if (incrementalEnabled && incrementalLoader != null) {
+            try (PropertyRecordReader reader = run.getRejectedRecordHandler().track(
+                    run.pooled(new JsonStreamingPropertyReader(objectMapper, progress.count(inputStream))), CLASSPATH_FEED)) {
+                loadIncremental(reader);
+            }
+        } else if (streamingEnabled && snapshotLoader.isEnabled()) {
+            snapshotLoader.load(classpathFeedChecksum(inputStream), writer -> {
+                try (PropertyRecordReader reader = run.tracked(new JsonStreamingPropertyReader(objectMapper,
+                        progress.count(PropertyLoadService.class.getResourceAsStream(CLASSPATH_RESOURCE))), CLASSPATH_FEED)) {
+                    streamingLoader.stream(reader, writer, run);
+                }
+                return true;
+            }, run);
+        } else if (streamingEnabled && checkpointLoader.isEnabled()) {
+            checkpointLoader.loadFeed(CLASSPATH_FEED, classpathFeedChecksum(inputStream), offset -> {
+                InputStream feed = PropertyLoadService.class.getResourceAsStream(CLASSPATH_RESOURCE);
+                if (feed == null) {
+                    throw new IOException("No " + CLASSPATH_RESOURCE + " in classpath");
+                }
+                feed.skipNBytes(offset);
+                return progress.count(feed);
+            }, run);
+        } else if (streamingEnabled) {
+            progress.setPhase(PropertyLoadProgress.Phase.LOADING);
+            try (PropertyRecordReader reader = run.tracked(
+                    new JsonStreamingPropertyReader(objectMapper, progress.count(inputStream)), CLASSPATH_FEED)) {
+                streamingLoader.stream(reader, run.getChunkWriter(), run);
+            }
+        } else {
+            progress.setPhase(PropertyLoadProgress.Phase.LOADING);
+            try (InputStream feed = progress.count(inputStream)) {
+                treeLoader.load(feed, CLASSPATH_FEED, run);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the size of the classpath feed, or {@code -1} if the resource does not report one.
+     */
+    private static long classpathFeedSize() {
+        URL resource = PropertyLoadService.class.getResource(CLASSPATH_RESOURCE);
+        try {
+            return resource == null ? -1 : resource.openConnection().getContentLengthLong();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the classpath feed once for its checksum and closes it.
+     */
+    private long classpathFeedChecksum(InputStream inputStream) throws IOException {
+        progress.setPhase(PropertyLoadProgress.Phase.CHECKSUMMING);
+        try (inputStream) {
+            return PropertySnapshot.checksum(inputStream);
+        }
+    }
+
+    /**
+     * Loads the files named by {@code property.loader.source} with the loader for the configured mode.
+     *
+     * <p>In incremental mode the files are read one after another as a single feed; otherwise they are
+     * loaded concurrently.
+     *
+     * @param run the state of the running load
+     * @return {@code true} if feed files were found and every one was loaded
+     * @throws IOException if the source cannot be resolved or, in incremental mode, a file cannot be read
+     * @throws InterruptedException if interrupted while waiting for files to load
+     */
+    private boolean loadSources(PropertyLoadRun run) throws IOException, InterruptedException {
+        List<Path> files = PropertySourceResolver.resolve(source);
+        if (files.isEmpty()) {
+            logger.error("No feed files found for property.loader.source={}", source);
+            return false;
+        }
+        logger.info("Found {} feed file(s) in {}", files.size(), source);
+        long bytesTotal = 0;
+        for (Path file : files) {
+            bytesTotal += Files.size(file);
+        }
+
+        if (incrementalEnabled && incrementalLoader != null) {
+            ConcatenatingPropertyRecordReader concatenated = new ConcatenatingPropertyRecordReader(objectMapper, files);
+            try (PropertyRecordReader reader = run.getRejectedRecordHandler().track(run.pooled(concatenated),
+                    () -> String.valueOf(concatenated.getCurrentFile()))) {
+                loadIncremental(reader);
+            }
+            return true;
+        }
+
+        progress.setBytesTotal(bytesTotal);
+        if (snapshotLoader.isEnabled()) {
+            progress.setPhase(PropertyLoadProgress.Phase.CHECKSUMMING);
+            return snapshotLoader.load(PropertySnapshot.checksum(files),
+                writer -> streamingLoader.loadFiles(files, writer, null, run), run);
+        }
+        if (checkpointLoader.isEnabled()) {
+            progress.setPhase(PropertyLoadProgress.Phase.CHECKSUMMING);
+            return checkpointLoader.loadFiles(files, PropertySnapshot.checksum(files), run);
+        }
+        progress.setPhase(PropertyLoadProgress.Phase.LOADING);
+        return streamingLoader.loadFiles(files, run.getChunkWriter(), null, run);
+    }
+
+    /**
+     * Reconciles the table with the feed, writing only inserted, changed and removed properties.
+     *
+     * @param reader the feed reader; not closed by this method
+     * @throws IOException if the input is not a valid property feed
+     */
+    private void loadIncremental(PropertyRecordReader reader) throws IOException {
+        progress.setPhase(PropertyLoadProgress.Phase.RECONCILING);
+        PropertyIncrementalLoader.Result result = incrementalLoader.load(progress.track(reader));
+
+        logger.info("Incremental load: {} inserted, {} updated, {} deleted, {} unchanged, {} errors",
+            result.inserted(), result.updated(), result.deleted(), result.unchanged(), result.rejected());
+        logger.info("Database now contains {} properties", propertyRepository.count());
+    }
+
+    /**
+     * Reports where rejected records were kept, if any were rejected.
+     */
+    private void reportRejected(RejectedRecordHandler rejects) {
+        if (rejects.getRejectedCount() > 0 && rejects.getDeadLetterFile() != null) {
+            logger.info("{} rejected record(s) written to {}", rejects.getRejectedCount(), rejects.getDeadLetterFile());
+        }
+    }
+
+    /**
+     * Reports how many duplicate records were found, if any were.
+     */
+    private void reportDuplicates(PropertyDeduplicator duplicates) {
+        if (duplicates != null && duplicates.getDuplicateIds() + duplicates.getDuplicateEmails() > 0) {
+            logger.info("Found {} duplicate id(s) and {} duplicate email address(es) among {} distinct ids ({})",
+                duplicates.getDuplicateIds(), duplicates.getDuplicateEmails(), duplicates.getDistinctIds(),
+                duplicates.getPolicy());
+        }
+    }
+
+    /**
+     * Reports how many field values were shared through the string pool.
+     */
+    private void reportStringPool(PropertyStringPool pool) {
+        if (pool != null && pool.getSharedValues() > 0) {
+            logger.info("Shared {} repeated value(s) of {} through {} pooled string(s)", pool.getSharedValues(),
+                pool.getFieldNames(), pool.getDistinctValues());
+        }
+    }
+
+    private boolean isSourceEnabled() {
+        return source != null && !source.isBlank();
+    }
+}
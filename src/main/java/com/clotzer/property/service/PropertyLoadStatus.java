@@ -0,0 +1,189 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.loader.PropertyLoadProgress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Tracks whether this node holds a full dataset, and keeps the application's readiness state in step.
+ *
+ * <p>{@link com.clotzer.property.DataLoader} moves the status through {@link State#LOADING} to
+ * {@link State#READY} or {@link State#FAILED}; with the batch engine,
+ * {@link com.clotzer.property.batch.PropertyLoadJobRunner} records the job's outcome. Each change is published as an
+ * {@link AvailabilityChangeEvent}: {@link ReadinessState#REFUSING_TRAFFIC} while loading or after a
+ * failure, and {@link ReadinessState#ACCEPTING_TRAFFIC} once the load completes after the application
+ * has started. Spring Boot publishes {@code ACCEPTING_TRAFFIC} itself when startup finishes, even
+ * while a background load is still running; {@link PropertyLoadAvailability} holds readiness back
+ * until the status is {@code READY}.
+ *
+ * <p>The status starts as {@code LOADING}, so a node is never ready before its first load has run.
+ * Finer-grained counters of the running load are kept in {@link #getProgress()}.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyLoadAvailability
+ */
+@Component
+public class PropertyLoadStatus {
+
+    /**
+     * Load states of this node.
+     */
+    public enum State {
+        /** A load is running; the table may hold a partial dataset */
+        LOADING,
+        /** The last load completed */
+        READY,
+        /** The last load failed or was incomplete */
+        FAILED
+    }
+
+    /** Logger for state changes */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyLoadStatus.class);
+
+    /** Publisher for readiness changes */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Counters of the current or last load */
+    private final PropertyLoadProgress progress = new PropertyLoadProgress();
+
+    /** Current state */
+    private volatile State state = State.LOADING;
+
+    /** Reason for the last failure, or {@code null} */
+    private volatile String failure;
+
+    /** When the current or last load started, or {@code null} if none has */
+    private volatile Instant startedAt;
+
+    /** When the last load finished, or {@code null} while loading */
+    private volatile Instant finishedAt;
+
+    /** Whether Spring Boot has finished starting the application */
+    private volatile boolean applicationReady;
+
+    /**
+     * Constructs a new PropertyLoadStatus.
+     *
+     * @param eventPublisher the publisher for readiness changes
+     */
+    public PropertyLoadStatus(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Marks the start of a load and refuses traffic until it completes.
+     */
+    public void loading() {
+        progress.start();
+        startedAt = Instant.now();
+        finishedAt = null;
+        failure = null;
+        change(State.LOADING, ReadinessState.REFUSING_TRAFFIC);
+    }
+
+    /**
+     * Marks the load as complete and accepts traffic.
+     */
+    public void ready() {
+        progress.setPhase(PropertyLoadProgress.Phase.COMPLETE);
+        finishedAt = Instant.now();
+        failure = null;
+        // Before startup finishes, Spring Boot publishes ACCEPTING_TRAFFIC itself
+        change(State.READY, applicationReady ? ReadinessState.ACCEPTING_TRAFFIC : null);
+    }
+
+    /**
+     * Marks the load as failed and keeps refusing traffic.
+     *
+     * @param reason why the load failed
+     */
+    public void failed(String reason) {
+        progress.setPhase(PropertyLoadProgress.Phase.FAILED);
+        finishedAt = Instant.now();
+        failure = reason;
+        change(State.FAILED, ReadinessState.REFUSING_TRAFFIC);
+    }
+
+    /**
+     * Returns the current state.
+     *
+     * @return the load state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns whether the last load completed.
+     *
+     * @return {@code true} if the state is {@link State#READY}
+     */
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    /**
+     * Returns why the last load failed.
+     *
+     * @return the failure reason, or {@code null} unless the state is {@link State#FAILED}
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns the counters of the current or last load.
+     *
+     * @return the load progress, reset each time a load starts
+     */
+    public PropertyLoadProgress getProgress() {
+        return progress;
+    }
+
+    /**
+     * Returns when the current or last load started.
+     *
+     * @return the start time, or {@code null} if no load has started
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Returns when the last load finished.
+     *
+     * @return the finish time, or {@code null} while loading
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Records that Spring Boot has finished starting, so later completions publish their own readiness.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void applicationReady() {
+        applicationReady = true;
+    }
+
+    private void change(State next, ReadinessState readiness) {
+        State previous = state;
+        state = next;
+        if (previous != next) {
+            logger.info("Property load state {} -> {}", previous, next);
+        }
+        if (readiness != null) {
+            AvailabilityChangeEvent.publish(eventPublisher, this, readiness);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.PropertyChunkWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Chunk writer that loads properties through the database's native bulk loader.
+ *
+ * <p>Each chunk is written to a temporary CSV file with {@link PropertyCsvWriter} and handed to the
+ * {@link BulkLoadStrategy} matching the connected database: {@code LOAD DATA LOCAL INFILE} on MySQL,
+ * {@code CSVREAD} on H2. The strategy is resolved from the JDBC driver metadata on first use. Every
+ * load logs its row count and rows per second.
+ *
+ * <p>Native loads have a fixed per-statement cost, so this writer pays off with large chunks; raise
+ * {@code property.loader.chunk-size} accordingly.
+ *
+ * <p>Configuration properties:
+ * <ul>
+ *   <li>{@code property.loader.native.temp-dir} - Directory for the temporary CSV files
+ *       (default: the system temporary directory)</li>
+ * </ul>
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see BulkLoadStrategy
+ * @see com.clotzer.property.loader.PropertyWriterConfig
+ */
+@Component
+public class PropertyNativeBulkLoader implements PropertyChunkWriter {
+
+    /** Logger for this loader */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyNativeBulkLoader.class);
+
+    /** JDBC template used to read the database metadata */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Available strategies, in registration order */
+    private final List<BulkLoadStrategy> strategies;
+
+    /** Directory for temporary CSV files, or {@code null} for the system default */
+    private final Path tempDir;
+
+    /** Strategy for the connected database, resolved on first use */
+    private volatile BulkLoadStrategy strategy;
+
+    /**
+     * Constructs a new PropertyNativeBulkLoader.
+     *
+     * @param jdbcTemplate the JDBC template used to read the database metadata
+     * @param strategies the available bulk load strategies
+     * @param tempDir the directory for temporary CSV files; blank for the system temporary directory
+     */
+    public PropertyNativeBulkLoader(JdbcTemplate jdbcTemplate, List<BulkLoadStrategy> strategies,
+                                    @Value("${property.loader.native.temp-dir:}") String tempDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.strategies = List.copyOf(strategies);
+        this.tempDir = tempDir == null || tempDir.isBlank() ? null : Path.of(tempDir.trim());
+    }
+
+    /**
+     * Bulk loads a chunk of new properties.
+     *
+     * @param chunk the properties to load
+     * @throws IllegalArgumentException if the chunk is null
+     * @throws IllegalStateException if no strategy supports the connected database
+     * @throws UncheckedIOException if the temporary file cannot be written
+     */
+    @Override
+    public void write(List<Property> chunk) {
+        if (chunk == null) {
+            throw new IllegalArgumentException("Properties list cannot be null");
+        }
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            load(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Bulk load failed", e);
+        }
+    }
+
+    /**
+     * Returns the strategy for the connected database, resolving it on first use.
+     *
+     * @return the strategy
+     * @throws IllegalStateException if no strategy supports the connected database, or the database or
+     *                               connection is not set up for it
+     */
+    public BulkLoadStrategy getStrategy() {
+        BulkLoadStrategy resolved = strategy;
+        if (resolved == null) {
+            String productName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            resolved = strategies.stream()
+                .filter(candidate -> candidate.supports(productName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No native bulk load strategy for database " + productName));
+            resolved.checkSetup();
+            logger.info("Native bulk load strategy for {}: {}", productName, resolved.getName());
+            strategy = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * Writes the chunk to a temporary CSV file, loads it and deletes the file.
+     */
+    private void load(List<Property> chunk) throws IOException {
+        BulkLoadStrategy loadStrategy = getStrategy();
+        Path file = tempDir != null
+            ? Files.createTempFile(tempDir, "property-bulk-", ".csv")
+            : Files.createTempFile("property-bulk-", ".csv");
+        try {
+            long start = System.nanoTime();
+            try (PropertyCsvWriter csvWriter = new PropertyCsvWriter(file)) {
+                for (Property property : chunk) {
+                    csvWriter.write(property);
+                }
+            }
+            long loaded = loadStrategy.load(file);
+            long elapsedNanos = Math.max(1, System.nanoTime() - start);
+            logger.info("Bulk loaded {} of {} properties with {} in {} ms ({} rows/s)",
+                loaded, chunk.size(), loadStrategy.getName(), elapsedNanos / 1_000_000,
+                loaded * 1_000_000_000L / elapsedNanos);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
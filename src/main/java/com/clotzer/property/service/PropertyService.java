@@ -2,9 +2,19 @@ package com.clotzer.property;
 
 import com.clotzer.property.entity.Property;
 import com.clotzer.property.repository.PropertyRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +29,7 @@ import java.util.List;
  *   <li>Transactional property saving with individual and batch operations</li>
  *   <li>Comprehensive error handling and logging for database operations</li>
  *   <li>Property count retrieval for monitoring and reporting</li>
+ *   <li>Price range lookups and price statistics computed by the database</li>
  *   <li>Automatic rollback on transaction failures</li>
  *   <li>Detailed progress logging for debugging and monitoring</li>
  * </ul>
@@ -37,16 +48,45 @@ import java.util.List;
 @Service
 public class PropertyService {
 
+    /** Logger for the bulk operations, which run on many writer threads at once */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyService.class);
+
     /** Repository for property database operations */
     private final PropertyRepository propertyRepository;
 
+    /** Shared entity manager for operations not exposed by the repository */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** Template running each chunk of a chunked save in its own transaction */
+    private final TransactionTemplate chunkTransactionTemplate;
+
     /**
      * Constructs a new PropertyService with the required repository dependency.
      *
+     * <p>Services created this way do not support {@link #savePropertiesInChunks(List, int)}.
+     *
      * @param propertyRepository the repository for property database operations
      */
     public PropertyService(PropertyRepository propertyRepository) {
+        this(propertyRepository, null);
+    }
+
+    /**
+     * Constructs a new PropertyService with the repository and transaction manager dependencies.
+     *
+     * @param propertyRepository the repository for property database operations
+     * @param transactionManager the transaction manager used to commit chunked saves chunk by chunk
+     */
+    @Autowired
+    public PropertyService(PropertyRepository propertyRepository, PlatformTransactionManager transactionManager) {
         this.propertyRepository = propertyRepository;
+        if (transactionManager != null) {
+            this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+            this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        } else {
+            this.chunkTransactionTemplate = null;
+        }
     }
 
     /**
@@ -89,6 +129,9 @@ public class PropertyService {
     /**
      * Saves a batch of properties to the database within a single transaction.
      *
+     * <p>Properties are merged, so existing rows are updated and new rows inserted. For loads into an
+     * empty table, {@link #insertPropertiesBatch(List)} avoids the per-row existence check.
+     *
      * <p>This method provides efficient batch processing for multiple properties,
      * using a single transaction to ensure all properties are saved together or
      * none at all. This approach is significantly more efficient than individual
@@ -130,6 +173,160 @@ public class PropertyService {
         }
     }
 
+    /**
+     * Saves properties in chunks, committing and clearing the persistence context after each chunk.
+     *
+     * <p>{@link #savePropertiesBatch(List)} keeps every entity managed until a single commit at the
+     * end. On loads of millions of rows, that makes persistence-context memory and the database undo
+     * log grow with the size of the load, and one bad row rolls back everything. This method instead
+     * saves {@code chunkSize} properties per transaction. It calls {@link EntityManager#flush()} and
+     * {@link EntityManager#clear()} before each commit, so memory stays bounded by one chunk.
+     *
+     * <p>Each chunk runs in a new transaction, even if the caller already has one. A failing chunk
+     * is rolled back and logged, and the remaining chunks are still saved. Callers can compare the
+     * return value with the list size to detect failures.
+     *
+     * @param properties the list of property entities to save
+     * @param chunkSize the number of properties per transaction (values below one are treated as one)
+     * @return the number of properties in chunks that committed successfully
+     * @throws IllegalArgumentException if properties list is null
+     * @throws IllegalStateException if the service was created without a transaction manager
+     */
+    public long savePropertiesInChunks(List<Property> properties, int chunkSize) {
+        if (properties == null) {
+            throw new IllegalArgumentException("Properties list cannot be null");
+        }
+        if (chunkTransactionTemplate == null) {
+            throw new IllegalStateException("Chunked saves require a transaction manager");
+        }
+
+        int size = Math.max(1, chunkSize);
+        long saved = 0;
+        int failedChunks = 0;
+        for (int from = 0; from < properties.size(); from += size) {
+            List<Property> chunk = properties.subList(from, Math.min(from + size, properties.size()));
+            try {
+                chunkTransactionTemplate.executeWithoutResult(status -> {
+                    propertyRepository.saveAll(chunk);
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                saved += chunk.size();
+            } catch (Exception e) {
+                failedChunks++;
+                logger.error("Error saving chunk starting at index {}: {}", from, e.getMessage());
+            }
+        }
+        if (failedChunks > 0) {
+            logger.error("Saved {} of {} properties in chunks of {}, {} chunk(s) failed",
+                saved, properties.size(), size, failedChunks);
+        } else {
+            logger.debug("Saved {} of {} properties in chunks of {}", saved, properties.size(), size);
+        }
+        return saved;
+    }
+
+    /**
+     * Inserts a batch of new properties within a single transaction.
+     *
+     * <p>{@link #savePropertiesBatch(List)} delegates to {@code saveAll}, which cannot tell whether an
+     * entity with an assigned ID is new. It therefore calls {@code merge}, and Hibernate issues a
+     * {@code SELECT} per row before each {@code INSERT}. This method calls
+     * {@link EntityManager#persist(Object)} directly instead. Only {@code INSERT} statements reach the
+     * database, batched according to {@code hibernate.jdbc.batch_size}. That halves the round trips
+     * of a fresh load.
+     *
+     * <p>Use this method only for properties that are known not to exist yet, for example when loading
+     * into an empty table. An existing ID fails the whole batch with a constraint violation.
+     *
+     * @param properties the list of new property entities to insert
+     * @throws IllegalArgumentException if properties list is null
+     * @throws RuntimeException if the batch insert fails, including on duplicate IDs
+     */
+    @Transactional
+    public void insertPropertiesBatch(List<Property> properties) {
+        if (properties == null) {
+            throw new IllegalArgumentException("Properties list cannot be null");
+        }
+
+        try {
+            logger.debug("Inserting batch of {} properties", properties.size());
+            for (Property property : properties) {
+                entityManager.persist(property);
+            }
+            entityManager.flush();
+            logger.debug("Successfully inserted {} properties", properties.size());
+        } catch (Exception e) {
+            logger.error("Error inserting batch: {}", e.getMessage());
+            throw new RuntimeException("Batch insert failed", e);
+        }
+    }
+
+    /**
+     * Deletes the properties with the given IDs in a single bulk statement.
+     *
+     * <p>The delete bypasses the persistence context, so no entity is loaded first. Callers should
+     * keep the ID collection to a size the database accepts in an {@code IN} list.
+     *
+     * @param ids the IDs of the properties to delete
+     * @return the number of rows deleted
+     * @throws IllegalArgumentException if ids is null
+     * @throws RuntimeException if the delete operation fails
+     */
+    @Transactional
+    public int deletePropertiesByIds(Collection<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("IDs cannot be null");
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            int deleted = entityManager.createQuery("DELETE FROM Property p WHERE p.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+            logger.debug("Deleted {} properties", deleted);
+            return deleted;
+        } catch (Exception e) {
+            logger.error("Error deleting properties: {}", e.getMessage());
+            throw new RuntimeException("Batch delete failed", e);
+        }
+    }
+
+    /**
+     * Finds the properties priced within a range, cheapest first.
+     *
+     * <p>The range is applied by the database on the indexed price column, so only matching rows are
+     * read and returned.
+     *
+     * @param min the lowest price per night, inclusive
+     * @param max the highest price per night, inclusive
+     * @return the matching properties, ordered by price and then ID
+     * @throws IllegalArgumentException if a bound is null or {@code min} is greater than {@code max}
+     */
+    public List<Property> findPropertiesByPriceRange(BigDecimal min, BigDecimal max) {
+        if (min == null || max == null) {
+            throw new IllegalArgumentException("Price range bounds cannot be null");
+        }
+        if (min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Minimum price " + min.toPlainString()
+                + " is greater than maximum price " + max.toPlainString());
+        }
+        return propertyRepository.findByPropertyPricePerNightBetweenOrderByPropertyPricePerNightAscIdAsc(min, max);
+    }
+
+    /**
+     * Retrieves the count, bounds and totals of the price and commission columns.
+     *
+     * <p>The aggregates are computed by the database in one query rather than over loaded entities.
+     *
+     * @return the price statistics
+     */
+    public PropertyRepository.PriceStatistics getPriceStatistics() {
+        return propertyRepository.getPriceStatistics();
+    }
+
     /**
      * Retrieves the total count of properties in the database.
      *
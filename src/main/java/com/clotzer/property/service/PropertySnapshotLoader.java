@@ -0,0 +1,136 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.loader.DuplicatePolicy;
+import com.clotzer.property.loader.PropertyChunkWriter;
+import com.clotzer.property.loader.PropertyDeduplicator;
+import com.clotzer.property.loader.PropertyLoadProgress;
+import com.clotzer.property.loader.PropertySnapshot;
+import com.clotzer.property.loader.PropertySnapshotReader;
+import com.clotzer.property.loader.PropertySnapshotWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Loads a binary snapshot of the parsed feed in place of the feed while the feed is unchanged.
+ *
+ * <p>When {@code property.loader.snapshot} matches the checksum of the feed, its records are streamed
+ * straight into the database, skipping parsing. Otherwise the feed is loaded as usual and every chunk is
+ * also appended to a new snapshot for the next start. See {@link PropertySnapshot} for the format.
+ *
+ * <p>The snapshot is only kept if the whole feed was read and every chunk was recorded, so a later
+ * start never loads a partial snapshot in place of the feed.
+ *
+ * <p>Configuration properties:
+ * <ul>
+ *   <li>{@code property.loader.snapshot} - Snapshot file loaded instead of the feed while the feed is
+ *       unchanged (default: empty, disabled)</li>
+ * </ul>
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyLoadService
+ */
+@Component
+public class PropertySnapshotLoader {
+
+    /** Logger for this loader */
+    private static final Logger logger = LoggerFactory.getLogger(PropertySnapshotLoader.class);
+
+    /** Loader streaming the snapshot or the feed into the database */
+    private final PropertyStreamingLoader streamingLoader;
+
+    /** Snapshot of the parsed feed used to skip parsing on later starts; empty to disable (configurable via properties) */
+    @Value("${property.loader.snapshot:}")
+    private String snapshot;
+
+    /**
+     * Constructs a new PropertySnapshotLoader.
+     *
+     * @param streamingLoader the loader streaming the snapshot or the feed into the database
+     */
+    public PropertySnapshotLoader(PropertyStreamingLoader streamingLoader) {
+        this.streamingLoader = streamingLoader;
+    }
+
+    /**
+     * Returns whether a snapshot file is configured.
+     *
+     * @return {@code true} if {@code property.loader.snapshot} is set
+     */
+    public boolean isEnabled() {
+        return snapshot != null && !snapshot.isBlank();
+    }
+
+    /**
+     * Loads from the snapshot when it matches the feed, and otherwise loads the feed while recording a
+     * new snapshot.
+     *
+     * @param feedChecksum the checksum of the current feed
+     * @param feedLoad loads the feed through the given writer
+     * @param run the state of the running load
+     * @return {@code true} if the snapshot or the whole feed was loaded
+     * @throws IOException if the feed or the snapshot cannot be read or written
+     * @throws InterruptedException if interrupted while waiting for the load to finish
+     */
+    boolean load(long feedChecksum, FeedLoad feedLoad, PropertyLoadRun run) throws IOException, InterruptedException {
+        Path snapshotFile = Path.of(snapshot);
+        PropertyLoadProgress progress = run.getProgress();
+        try (PropertySnapshotReader reader = PropertySnapshot.open(snapshotFile, feedChecksum)) {
+            if (reader != null) {
+                logger.info("Feed unchanged, loading from snapshot {}", snapshotFile);
+                progress.setBytesTotal(-1);
+                progress.setPhase(PropertyLoadProgress.Phase.LOADING_SNAPSHOT);
+                streamingLoader.stream(run.pooled(reader), run.getChunkWriter(), run);
+                return true;
+            }
+        }
+
+        progress.setPhase(PropertyLoadProgress.Phase.LOADING);
+        PropertyChunkWriter chunkWriter = run.getChunkWriter();
+        AtomicBoolean recorded = new AtomicBoolean(true);
+        try (PropertySnapshotWriter snapshotWriter = new PropertySnapshotWriter(snapshotFile, feedChecksum)) {
+            boolean complete = feedLoad.load(chunk -> {
+                try {
+                    snapshotWriter.append(chunk);
+                } catch (IOException e) {
+                    if (recorded.getAndSet(false)) {
+                        logger.error("Failed to write snapshot: {}", e.getMessage());
+                    }
+                }
+                chunkWriter.write(chunk);
+            });
+            PropertyDeduplicator duplicates = run.getDeduplicator();
+            if (duplicates != null && duplicates.getPolicy() == DuplicatePolicy.LAST_WINS && duplicates.getDuplicateIds() > 0) {
+                logger.warn("Snapshot not written because duplicate ids were merged after the feed loaded");
+            } else if (complete && recorded.get()) {
+                snapshotWriter.commit();
+                logger.info("Wrote snapshot of {} properties to {}", snapshotWriter.getRecordCount(), snapshotFile);
+            } else {
+                logger.warn("Snapshot not written because the feed did not load completely");
+            }
+            return complete;
+        }
+    }
+
+    /**
+     * A full load of the feed through a given writer.
+     */
+    @FunctionalInterface
+    interface FeedLoad {
+
+        /**
+         * Loads the feed.
+         *
+         * @param writer the writer persisting each chunk
+         * @return {@code true} if the whole feed was read
+         */
+        boolean load(PropertyChunkWriter writer) throws IOException, InterruptedException;
+    }
+}
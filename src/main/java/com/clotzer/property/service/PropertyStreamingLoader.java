@@ -0,0 +1,229 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.PropertyService;
+import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.PropertyChunkWriter;
+import com.clotzer.property.loader.PropertyDeduplicator;
+import com.clotzer.property.loader.PropertyFileSetLoader;
+import com.clotzer.property.loader.PropertyLoadCheckpoint;
+import com.clotzer.property.loader.PropertyLoadPipeline;
+import com.clotzer.property.loader.PropertyRecordReader;
+import com.clotzer.property.repository.PropertyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Streams a feed into the database through parallel writer threads.
+ *
+ * <p>{@link #stream(PropertyRecordReader, PropertyChunkWriter, PropertyLoadRun)} reads one feed on the
+ * calling thread and queues its records in chunks for a {@link PropertyLoadPipeline}.
+ * {@link #loadFiles(List, PropertyChunkWriter, PropertyLoadCheckpoint, PropertyLoadRun)} loads a set of
+ * files concurrently through a {@link PropertyFileSetLoader}. Either way each chunk is saved in its own
+ * transaction, and peak heap usage is bounded by a few chunks rather than by the size of the feed. The
+ * snapshot and checkpoint loaders stream through this loader too.
+ *
+ * <p>Under {@code last-wins} deduplication, later records of a repeated ID are merged over the first
+ * once every first record has been written.
+ *
+ * <p>Configuration properties:
+ * <ul>
+ *   <li>{@code property.loader.concurrent-threads} - Number of writer threads persisting chunks
+ *       (default: 10)</li>
+ *   <li>{@code property.loader.chunk-size} - Number of properties saved per transaction (default: 1000)</li>
+ *   <li>{@code property.loader.file-threads} - Number of source files loaded concurrently (default: 4)</li>
+ *   <li>{@code property.loader.mmap} - Read source files through memory-mapped buffers (default: false)</li>
+ *   <li>{@code property.loader.parse-threads} - Number of segments each source file is split into and
+ *       parsed concurrently (default: 1)</li>
+ * </ul>
+ *
+ * <p>The database connection pool should allow at least as many connections as writer threads.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyLoadService
+ */
+@Component
+public class PropertyStreamingLoader {
+
+    /** Logger for this loader */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyStreamingLoader.class);
+
+    /** Jackson ObjectMapper for JSON parsing */
+    private final ObjectMapper objectMapper;
+
+    /** Repository for property database operations */
+    private final PropertyRepository propertyRepository;
+
+    /** Service layer merging duplicates kept back under {@code last-wins} */
+    private final PropertyService propertyService;
+
+    /** Number of writer threads persisting chunks in parallel (configurable via properties) */
+    @Value("${property.loader.concurrent-threads:10}")
+    private int concurrentThreads;
+
+    /** Number of properties saved per batch (configurable via properties) */
+    @Value("${property.loader.chunk-size:1000}")
+    private int chunkSize;
+
+    /** Number of source files loaded concurrently (configurable via properties) */
+    @Value("${property.loader.file-threads:4}")
+    private int fileThreads;
+
+    /** Flag to read source files through memory-mapped buffers (configurable via properties) */
+    @Value("${property.loader.mmap:false}")
+    private boolean memoryMapped;
+
+    /** Number of segments each source file is parsed in concurrently (configurable via properties) */
+    @Value("${property.loader.parse-threads:1}")
+    private int parseThreads;
+
+    /**
+     * Constructs a new PropertyStreamingLoader.
+     *
+     * @param objectMapper the Jackson ObjectMapper for JSON parsing
+     * @param propertyRepository the repository for property database operations
+     * @param propertyService the service layer merging duplicates kept back under {@code last-wins}
+     */
+    public PropertyStreamingLoader(ObjectMapper objectMapper, PropertyRepository propertyRepository,
+                                   PropertyService propertyService) {
+        this.objectMapper = objectMapper;
+        this.propertyRepository = propertyRepository;
+        this.propertyService = propertyService;
+    }
+
+    /**
+     * Streams records from a reader through a parallel pipeline.
+     *
+     * @param reader the feed reader; not closed by this method
+     * @param writer the writer persisting each chunk
+     * @param run the state of the running load
+     * @return the counts of the pipeline run
+     * @throws IOException if the input is not a valid property feed
+     * @throws InterruptedException if interrupted while waiting for writers to finish
+     */
+    PropertyLoadPipeline.Result stream(PropertyRecordReader reader, PropertyChunkWriter writer, PropertyLoadRun run)
+            throws IOException, InterruptedException {
+        return stream(reader, writer, () -> -1, null, run);
+    }
+
+    /**
+     * Streams records from a reader through a parallel pipeline, reporting each position up to which
+     * the feed has been written.
+     *
+     * @param reader the feed reader; not closed by this method
+     * @param writer the writer persisting each chunk
+     * @param offsets returns the byte offset just past the last record read, or {@code -1}
+     * @param listener told each position up to which every chunk has been written, or {@code null}
+     * @param run the state of the running load
+     * @return the counts of the pipeline run
+     * @throws IOException if the input is not a valid property feed
+     * @throws InterruptedException if interrupted while waiting for writers to finish
+     */
+    PropertyLoadPipeline.Result stream(PropertyRecordReader reader, PropertyChunkWriter writer, LongSupplier offsets,
+                                       PropertyLoadPipeline.CommitListener listener, PropertyLoadRun run)
+            throws IOException, InterruptedException {
+        int writerThreads = Math.max(1, concurrentThreads);
+        logger.info("Using {} concurrent writer threads with chunks of {}", writerThreads, chunkSize);
+
+        PropertyLoadPipeline pipeline = new PropertyLoadPipeline(
+            writer, writerThreads, chunkSize, writerThreads * 2);
+        PropertyLoadPipeline.Result result = pipeline.run(run.getProgress().track(reader), offsets, listener);
+        applyReplacements(run);
+
+        logger.info("Parsed {} properties successfully, {} errors", result.parsed(), result.rejected());
+        logger.info("Saved {} properties, {} failed to save", result.persisted(), result.failed());
+        logger.info("Database now contains {} properties", propertyRepository.count());
+        return result;
+    }
+
+    /**
+     * Loads feed files concurrently and reports their combined counts.
+     *
+     * <p>{@code property.loader.file-threads} files load at once, and the
+     * {@code property.loader.concurrent-threads} writer threads are shared out between them.
+     *
+     * @param files the files to load
+     * @param writer the writer persisting each chunk
+     * @param checkpoint the positions to resume from and record, or {@code null}
+     * @param run the state of the running load
+     * @return {@code true} if every file was read to the end
+     * @throws InterruptedException if interrupted while waiting for files to load
+     */
+    boolean loadFiles(List<Path> files, PropertyChunkWriter writer, PropertyLoadCheckpoint checkpoint,
+                      PropertyLoadRun run) throws InterruptedException {
+        int threads = Math.max(1, Math.min(fileThreads, files.size()));
+        int writerThreadsPerFile = Math.max(1, concurrentThreads / threads);
+        logger.info("Loading {} file(s) at a time with {} writer thread(s) each and chunks of {}{}{}", threads,
+            writerThreadsPerFile, chunkSize, memoryMapped ? ", memory-mapped" : "",
+            parseThreads > 1 ? ", " + parseThreads + " parse threads per file" : "");
+
+        List<PropertyFileSetLoader.FileResult> results = PropertyFileSetLoader.builder(objectMapper, writer)
+            .fileThreads(threads)
+            .writerThreadsPerFile(writerThreadsPerFile)
+            .chunkSize(chunkSize)
+            .memoryMapped(memoryMapped)
+            .segmentsPerFile(parseThreads)
+            .rejectedRecordHandler(run.getRejectedRecordHandler())
+            .progress(run.getProgress())
+            .checkpoint(checkpoint)
+            .deduplicator(run.getDeduplicator())
+            .stringPool(run.getStringPool())
+            .build()
+            .load(files);
+        applyReplacements(run);
+
+        long parsed = 0;
+        long rejected = 0;
+        long persisted = 0;
+        long failed = 0;
+        List<Path> failedFiles = new ArrayList<>();
+        for (PropertyFileSetLoader.FileResult result : results) {
+            if (result.succeeded()) {
+                parsed += result.result().parsed();
+                rejected += result.result().rejected();
+                persisted += result.result().persisted();
+                failed += result.result().failed();
+            } else {
+                failedFiles.add(result.file());
+            }
+        }
+
+        logger.info("Loaded {} of {} files", results.size() - failedFiles.size(), results.size());
+        logger.info("Parsed {} properties successfully, {} errors", parsed, rejected);
+        logger.info("Saved {} properties, {} failed to save", persisted, failed);
+        if (!failedFiles.isEmpty()) {
+            logger.error("Files that failed to load: {}", failedFiles);
+        }
+        logger.info("Database now contains {} properties", propertyRepository.count());
+        return failedFiles.isEmpty();
+    }
+
+    /**
+     * Merges the last record of each repeated ID over the first under {@code last-wins}, once the load
+     * has written every first record.
+     */
+    private void applyReplacements(PropertyLoadRun run) {
+        PropertyDeduplicator duplicates = run.getDeduplicator();
+        if (duplicates == null) {
+            return;
+        }
+        List<Property> replacements = duplicates.drainReplacements();
+        int batch = Math.max(1, chunkSize);
+        for (int from = 0; from < replacements.size(); from += batch) {
+            propertyService.savePropertiesBatch(new ArrayList<>(replacements.subList(from, Math.min(from + batch, replacements.size()))));
+        }
+        if (!replacements.isEmpty()) {
+            logger.info("Merged {} later duplicate(s) over the first property with the same id", replacements.size());
+        }
+    }
+}
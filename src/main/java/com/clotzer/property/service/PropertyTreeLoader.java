@@ -0,0 +1,134 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.PropertyService;
+import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.JsonStreamingPropertyReader;
+import com.clotzer.property.loader.PropertyStringPool;
+import com.clotzer.property.loader.RejectedRecordException;
+import com.clotzer.property.repository.PropertyRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads a feed by reading the whole JSON document into a tree first.
+ *
+ * <p>This is the original loading strategy, kept for small feeds and for troubleshooting
+ * (set {@code property.loader.streaming=false}). Memory use grows with the size of the input.
+ *
+ * <p>Configuration properties:
+ * <ul>
+ *   <li>{@code property.loader.chunk-size} - Number of properties saved per transaction (default: 1000)</li>
+ * </ul>
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ * @see PropertyLoadService
+ */
+@Component
+public class PropertyTreeLoader {
+
+    /** Logger for this loader */
+    private static final Logger logger = LoggerFactory.getLogger(PropertyTreeLoader.class);
+
+    /** Jackson ObjectMapper for JSON parsing */
+    private final ObjectMapper objectMapper;
+
+    /** Repository for property database operations */
+    private final PropertyRepository propertyRepository;
+
+    /** Service layer for transactional property operations */
+    private final PropertyService propertyService;
+
+    /** Number of properties saved per batch (configurable via properties) */
+    @Value("${property.loader.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Constructs a new PropertyTreeLoader.
+     *
+     * @param objectMapper the Jackson ObjectMapper for JSON parsing
+     * @param propertyRepository the repository for property database operations
+     * @param propertyService the service layer for transactional operations
+     */
+    public PropertyTreeLoader(ObjectMapper objectMapper, PropertyRepository propertyRepository,
+                              PropertyService propertyService) {
+        this.objectMapper = objectMapper;
+        this.propertyRepository = propertyRepository;
+        this.propertyService = propertyService;
+    }
+
+    /**
+     * Parses a JSON document into a tree and saves its properties in chunks.
+     *
+     * @param inputStream the JSON input stream
+     * @param source the name rejected records are reported under
+     * @param run the state of the running load
+     * @throws IOException if the input cannot be parsed or more records were rejected than the skip limit allows
+     */
+    void load(InputStream inputStream, String source, PropertyLoadRun run) throws IOException {
+        JsonNode root = objectMapper.readTree(inputStream);
+        logger.debug("Parsed JSON root: {}", root != null ? "SUCCESS" : "FAILED");
+
+        JsonNode propertiesNode = root.get("properties");
+        if (propertiesNode == null) {
+            logger.error("No 'properties' node found in JSON");
+            return;
+        }
+
+        if (!propertiesNode.isArray()) {
+            logger.error("'properties' node is not an array");
+            return;
+        }
+
+        logger.info("Found {} properties in JSON", propertiesNode.size());
+
+        PropertyStringPool stringPool = run.getStringPool();
+        List<Property> properties = new ArrayList<>();
+        int successCount = 0;
+        int errorCount = 0;
+
+        // Parse all properties
+        long index = 0;
+        for (JsonNode node : propertiesNode) {
+            index++;
+            try {
+                if (properties.size() < 3) {
+                    logger.debug("Processing property: {}", node);
+                }
+
+                Property property = JsonStreamingPropertyReader.toProperty(node);
+                properties.add(stringPool != null ? stringPool.canonicalize(property) : property);
+                successCount++;
+
+            } catch (IllegalArgumentException e) {
+                errorCount++;
+                run.getRejectedRecordHandler().reject(source,
+                    new RejectedRecordException(e.getMessage(), index, -1, node.toString()));
+            }
+        }
+
+        logger.info("Parsed {} properties successfully, {} errors", successCount, errorCount);
+
+        if (!properties.isEmpty()) {
+            logger.info("Saving properties to database...");
+
+            // Commit per chunk so one bad row does not roll back the whole load
+            try {
+                propertyService.savePropertiesInChunks(properties, chunkSize);
+                logger.info("Database now contains {} properties", propertyRepository.count());
+            } catch (Exception e) {
+                logger.error("Error saving properties: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+-- Converts the price and commission columns of an existing MySQL property table from VARCHAR to DECIMAL(12,2)
+-- and adds the index used by price range queries.
+--
+-- Only databases created before amounts were stored as numbers need this: ddl-auto=update adds missing
+-- columns but never changes the type of an existing one, and ddl-auto=create-drop recreates the table.
+-- Run it once with the application stopped:
+--
+--   mysql -u root -p properties < src/main/resources/db/migrate-amounts-to-decimal.sql
+--
+-- Values the loader would refuse (not a number, more than 2 significant decimal places or more than 10
+-- integer digits) are set to NULL rather than rounded. Stored content hashes no longer match, since amounts
+-- now hash as 45.00 rather than the feed's text, so the next incremental load rewrites every row once.
+
+UPDATE property
+SET property_price_per_night = NULLIF(TRIM(property_price_per_night), ''),
+    property_commission_amount = NULLIF(TRIM(property_commission_amount), '');
+
+UPDATE property
+SET property_price_per_night = NULL
+WHERE property_price_per_night NOT REGEXP '^[-+]?[0-9]{1,10}(\\.[0-9]{0,2}0*)?$';
+
+UPDATE property
+SET property_commission_amount = NULL
+WHERE property_commission_amount NOT REGEXP '^[-+]?[0-9]{1,10}(\\.[0-9]{0,2}0*)?$';
+
+ALTER TABLE property
+    MODIFY property_price_per_night DECIMAL(12,2) NULL,
+    MODIFY property_commission_amount DECIMAL(12,2) NULL,
+    ADD INDEX idx_property_price_per_night (property_price_per_night);
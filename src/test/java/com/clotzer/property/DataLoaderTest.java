@@ -1,31 +1,24 @@
 package com.clotzer.property;
 
-import com.clotzer.property.entity.Property;
-import com.clotzer.property.repository.PropertyRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.junit.jupiter.api.BeforeEach;
+import com.clotzer.property.service.PropertyLoadService;
+import com.clotzer.property.service.PropertyLoadStatus;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
-import java.util.Arrays;
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for the DataLoader component.
  *
- * <p>This test class verifies the JSON parsing, property creation, and database
- * save operations performed by the DataLoader during application startup.
+ * <p>This test class verifies that the DataLoader runs the property load on application startup,
+ * in the background when configured, and leaves it alone when disabled or delegated to the batch engine.
  *
  * @author Carey Lotzer
  * @version 1.0
@@ -35,57 +28,18 @@ import static org.mockito.Mockito.*;
 class DataLoaderTest {
 
     @Mock
-    private PropertyRepository propertyRepository;
-
-    @Mock
-    private ObjectMapper objectMapper;
+    private PropertyLoadService loadService;
 
     @Mock
-    private com.clotzer.property.PropertyService propertyService;
+    private PropertyLoadStatus loadStatus;
 
     @InjectMocks
     private DataLoader dataLoader;
 
-    private String validJsonString;
-    private JsonNode mockRootNode;
-    private JsonNode mockPropertiesNode;
-    private JsonNode mockPropertyNode;
-
-    @BeforeEach
-    void setUp() {
-        validJsonString = """
-            {
-              "properties": [
-                {
-                  "id": 1,
-                  "propertyName": "Test Resort",
-                  "propertyLocation": "Beachfront",
-                  "propertyCity": "Miami",
-                  "propertyState": "Florida",
-                  "propertyCountry": "USA",
-                  "propertyAddress": "123 Ocean Drive",
-                  "propertyPhoneNumber": "+1-305-555-0123",
-                  "propertyEmailAddress": "info@testresort.com",
-                  "propertyAirportProximity": "10 miles from Miami International",
-                  "propertyDescription": "Beautiful beachfront resort",
-                  "propertyPricePerNight": "299.99",
-                  "propertyCommissionAmount": "45.00",
-                  "propertyCancellationPenalty": "50% if cancelled within 48 hours"
-                }
-              ]
-            }
-            """;
-
-        // Set up mock nodes
-        mockRootNode = mock(JsonNode.class);
-        mockPropertiesNode = mock(JsonNode.class);
-        mockPropertyNode = mock(JsonNode.class);
-    }
-
     @Test
     @DisplayName("Test DataLoader constructor initializes dependencies")
     void testConstructor() {
-        DataLoader loader = new DataLoader(propertyRepository, objectMapper, propertyService);
+        DataLoader loader = new DataLoader(loadService, loadStatus);
         assertNotNull(loader);
     }
 
@@ -99,20 +53,55 @@ class DataLoaderTest {
         dataLoader.run();
 
         // Assert
-        verifyNoInteractions(objectMapper);
-        verifyNoInteractions(propertyService);
-        verifyNoInteractions(propertyRepository);
+        verify(loadStatus).ready();
+        verifyNoInteractions(loadService);
     }
 
     @Test
-    @DisplayName("Test concurrent threads configuration")
-    void testConcurrentThreadsConfiguration() {
-        // Arrange & Act
-        ReflectionTestUtils.setField(dataLoader, "concurrentThreads", 20);
+    @DisplayName("Test run method loads on the calling thread after marking the load as started")
+    void testRunLoadsSynchronously() {
+        // Arrange
+        ReflectionTestUtils.setField(dataLoader, "loaderEnabled", true);
+
+        // Act
+        dataLoader.run();
+
+        // Assert
+        InOrder inOrder = inOrder(loadStatus, loadService);
+        inOrder.verify(loadStatus).loading();
+        inOrder.verify(loadService).load();
+    }
+
+    @Test
+    @DisplayName("Test async mode loads on a background thread")
+    void testRunLoadsInBackground() {
+        // Arrange
+        ReflectionTestUtils.setField(dataLoader, "loaderEnabled", true);
+        ReflectionTestUtils.setField(dataLoader, "async", true);
+
+        // Act
+        dataLoader.run();
+
+        // Assert
+        verify(loadStatus).loading();
+        verify(loadService, timeout(5000)).load();
+        dataLoader.stop();
+    }
+
+    @Test
+    @DisplayName("Test batch engine keeps the load status loading for the job runner")
+    void testRunWithBatchEngineKeepsLoading() {
+        // Arrange
+        ReflectionTestUtils.setField(dataLoader, "loaderEnabled", true);
+        ReflectionTestUtils.setField(dataLoader, "engine", "batch");
+
+        // Act
+        dataLoader.run();
 
         // Assert
-        Integer concurrentThreads = (Integer) ReflectionTestUtils.getField(dataLoader, "concurrentThreads");
-        assertEquals(20, concurrentThreads);
+        verify(loadStatus).loading();
+        verify(loadStatus, never()).ready();
+        verifyNoInteractions(loadService);
     }
 
     @Test
@@ -137,31 +126,19 @@ class DataLoaderTest {
         // Remove specific assertion about default value since it's set by @Value annotation
     }
 
-    @Test
-    @DisplayName("Test concurrent threads default value")
-    void testConcurrentThreadsDefault() {
-        // Act
-        Integer concurrentThreads = (Integer) ReflectionTestUtils.getField(dataLoader, "concurrentThreads");
-
-        // Assert - Should match actual default value
-        assertNotNull(concurrentThreads);
-        assertTrue(concurrentThreads >= 0, "Concurrent threads should be non-negative");
-    }
-
     @Test
     @DisplayName("Test DataLoader fields are properly injected")
     void testFieldInjection() {
         // Assert
-        assertNotNull(ReflectionTestUtils.getField(dataLoader, "propertyRepository"));
-        assertNotNull(ReflectionTestUtils.getField(dataLoader, "objectMapper"));
-        assertNotNull(ReflectionTestUtils.getField(dataLoader, "propertyService"));
+        assertNotNull(ReflectionTestUtils.getField(dataLoader, "loadService"));
+        assertNotNull(ReflectionTestUtils.getField(dataLoader, "loadStatus"));
     }
 
     @Test
     @DisplayName("Test DataLoader can be created with null dependencies")
     void testConstructorWithNullDependencies() {
         // Act & Assert - Should not throw exception
-        assertDoesNotThrow(() -> new DataLoader(null, null, null));
+        assertDoesNotThrow(() -> new DataLoader(null, null));
     }
 
     @Test
@@ -179,46 +156,4 @@ class DataLoaderTest {
         Boolean newValue = (Boolean) ReflectionTestUtils.getField(dataLoader, "loaderEnabled");
         assertFalse(newValue);
     }
-
-    @Test
-    @DisplayName("Test concurrent threads configuration can be changed")
-    void testConcurrentThreadsCanBeChanged() {
-        // Arrange
-        ReflectionTestUtils.setField(dataLoader, "concurrentThreads", 5);
-        Integer initialValue = (Integer) ReflectionTestUtils.getField(dataLoader, "concurrentThreads");
-        assertEquals(5, initialValue);
-
-        // Act
-        ReflectionTestUtils.setField(dataLoader, "concurrentThreads", 15);
-
-        // Assert
-        Integer newValue = (Integer) ReflectionTestUtils.getField(dataLoader, "concurrentThreads");
-        assertEquals(15, newValue);
-    }
-
-    @Test
-    @DisplayName("Test DataLoader with different concurrent thread values")
-    void testDifferentConcurrentThreadValues() {
-        // Test various values
-        int[] testValues = {1, 5, 10, 20, 50, 100};
-
-        for (int value : testValues) {
-            ReflectionTestUtils.setField(dataLoader, "concurrentThreads", value);
-            Integer actualValue = (Integer) ReflectionTestUtils.getField(dataLoader, "concurrentThreads");
-            assertEquals(value, actualValue, "Concurrent threads should be set to " + value);
-        }
-    }
-
-    @Test
-    @DisplayName("Test DataLoader instance is properly configured")
-    void testDataLoaderConfiguration() {
-        // Act
-        Boolean loaderEnabled = (Boolean) ReflectionTestUtils.getField(dataLoader, "loaderEnabled");
-        Integer concurrentThreads = (Integer) ReflectionTestUtils.getField(dataLoader, "concurrentThreads");
-
-        // Assert
-        assertNotNull(loaderEnabled);
-        assertNotNull(concurrentThreads);
-        assertTrue(concurrentThreads >= 0, "Concurrent threads should be non-negative");
-    }
 }
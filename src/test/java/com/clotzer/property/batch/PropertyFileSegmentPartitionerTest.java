@@ -0,0 +1,52 @@
+package com.clotzer.property.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyFileSegmentPartitioner class.
+ *
+ * <p>This test class verifies that partition execution contexts describe contiguous, non-overlapping
+ * segments that together cover the whole feed.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyFileSegmentPartitionerTest {
+
+    @Test
+    @DisplayName("Test partitions are contiguous and cover all records")
+    void testPartitionsCoverFeed() {
+        StringBuilder json = new StringBuilder("{\"properties\": [");
+        for (int i = 1; i <= 20; i++) {
+            json.append(i > 1 ? "," : "").append("{\"id\": ").append(i).append(", \"propertyName\": \"Resort\"}");
+        }
+        json.append("]}");
+        PropertyFileSegmentPartitioner partitioner = new PropertyFileSegmentPartitioner(
+            new ByteArrayResource(json.toString().getBytes(StandardCharsets.UTF_8)), new ObjectMapper());
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        assertEquals(4, partitions.size());
+        long nextRecord = 0;
+        long previousEnd = -1;
+        for (int i = 0; i < partitions.size(); i++) {
+            ExecutionContext context = partitions.get("partition" + i);
+            assertNotNull(context);
+            assertEquals(nextRecord, context.getLong(PropertyFileSegmentPartitioner.SEGMENT_FIRST_RECORD));
+            assertTrue(context.getLong(PropertyFileSegmentPartitioner.SEGMENT_START) > previousEnd);
+            nextRecord += context.getLong(PropertyFileSegmentPartitioner.SEGMENT_RECORD_COUNT);
+            previousEnd = context.getLong(PropertyFileSegmentPartitioner.SEGMENT_END);
+        }
+        assertEquals(20, nextRecord);
+    }
+}
@@ -0,0 +1,86 @@
+package com.clotzer.property.batch;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.json.JsonItemReader;
+import org.springframework.batch.item.json.builder.JsonItemReaderBuilder;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyJsonObjectReader class.
+ *
+ * <p>This test class verifies that a {@link JsonItemReader} backed by the property object reader
+ * reads the {@code properties} envelope and resumes from a saved position on restart.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyJsonObjectReaderTest {
+
+    private JsonItemReader<Property> itemReader;
+
+    private static String record(long id) {
+        return """
+            {"id": %d, "propertyName": "Resort %d", "propertyLocation": "Beachfront", "propertyCity": "Miami",
+             "propertyState": "Florida", "propertyCountry": "USA", "propertyAddress": "123 Ocean Drive",
+             "propertyPhoneNumber": "+1-305-555-0123", "propertyEmailAddress": "info@resort.com",
+             "propertyAirportProximity": "10 miles", "propertyDescription": "Resort",
+             "propertyPricePerNight": 299.99, "propertyCommissionAmount": 45.0,
+             "propertyCancellationPenalty": "None"}
+            """.formatted(id, id);
+    }
+
+    private JsonItemReader<Property> openReader(ExecutionContext executionContext) {
+        String json = "{\"properties\": [" + record(1) + "," + record(2) + "," + record(3) + "]}";
+        JsonItemReader<Property> reader = new JsonItemReaderBuilder<Property>()
+            .name("propertyItemReader")
+            .resource(new ByteArrayResource(json.getBytes(StandardCharsets.UTF_8)))
+            .jsonObjectReader(new PropertyJsonObjectReader(new ObjectMapper()))
+            .build();
+        reader.open(executionContext);
+        return reader;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (itemReader != null) {
+            itemReader.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Test item reader reads all properties from the envelope")
+    void testReadsAllProperties() throws Exception {
+        itemReader = openReader(new ExecutionContext());
+
+        assertEquals(1L, itemReader.read().getId());
+        assertEquals(2L, itemReader.read().getId());
+        assertEquals(3L, itemReader.read().getId());
+        assertNull(itemReader.read());
+    }
+
+    @Test
+    @DisplayName("Test item reader resumes after the last saved position")
+    void testResumesFromSavedPosition() throws Exception {
+        ExecutionContext executionContext = new ExecutionContext();
+        itemReader = openReader(executionContext);
+        itemReader.read();
+        itemReader.read();
+        itemReader.update(executionContext);
+        itemReader.close();
+
+        itemReader = openReader(executionContext);
+
+        assertEquals(3L, itemReader.read().getId());
+        assertNull(itemReader.read());
+    }
+}
@@ -0,0 +1,116 @@
+package com.clotzer.property.batch;
+
+import com.clotzer.property.service.PropertyLoadStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the PropertyLoadJobRunner class.
+ *
+ * <p>This test class verifies that the outcome of the property load job is recorded in the load
+ * status, so readiness follows the job rather than the runner's start.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+class PropertyLoadJobRunnerTest {
+
+    @Mock
+    private JobLauncher jobLauncher;
+
+    @Mock
+    private JobExplorer jobExplorer;
+
+    @Mock
+    private Job propertyLoadJob;
+
+    @Mock
+    private PropertyLoadStatus loadStatus;
+
+    private PropertyLoadJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new PropertyLoadJobRunner(jobLauncher, jobExplorer, propertyLoadJob, loadStatus);
+        ReflectionTestUtils.setField(runner, "input", "classpath:/propertyFiles.json");
+        ReflectionTestUtils.setField(runner, "loaderEnabled", true);
+    }
+
+    @Test
+    @DisplayName("Test a completed job marks the load as ready")
+    void testCompletedJobIsReady() throws Exception {
+        // Arrange
+        when(jobLauncher.run(eq(propertyLoadJob), any(JobParameters.class))).thenReturn(execution(BatchStatus.COMPLETED));
+
+        // Act
+        runner.run();
+
+        // Assert
+        verify(loadStatus).ready();
+        verify(loadStatus, never()).failed(any());
+    }
+
+    @Test
+    @DisplayName("Test a failed job marks the load as failed")
+    void testFailedJobIsFailed() throws Exception {
+        // Arrange
+        when(jobLauncher.run(eq(propertyLoadJob), any(JobParameters.class))).thenReturn(execution(BatchStatus.FAILED));
+
+        // Act
+        runner.run();
+
+        // Assert
+        verify(loadStatus).failed("propertyLoadJob finished with status FAILED");
+        verify(loadStatus, never()).ready();
+    }
+
+    @Test
+    @DisplayName("Test a job that cannot be launched marks the load as failed")
+    void testLaunchFailureIsFailed() throws Exception {
+        // Arrange
+        when(jobLauncher.run(eq(propertyLoadJob), any(JobParameters.class)))
+            .thenThrow(new JobRestartException("No restart"));
+
+        // Act & Assert
+        assertThrows(JobRestartException.class, () -> runner.run());
+        verify(loadStatus).failed("Could not launch propertyLoadJob: No restart");
+    }
+
+    @Test
+    @DisplayName("Test a disabled loader leaves the load status alone")
+    void testDisabledLoader() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(runner, "loaderEnabled", false);
+
+        // Act
+        runner.run();
+
+        // Assert
+        verifyNoInteractions(jobLauncher, loadStatus);
+    }
+
+    private static JobExecution execution(BatchStatus status) {
+        JobExecution execution = new JobExecution(1L);
+        execution.setStatus(status);
+        return execution;
+    }
+}
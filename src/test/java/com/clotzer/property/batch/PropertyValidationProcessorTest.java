@@ -0,0 +1,89 @@
+package com.clotzer.property.batch;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.validator.ValidationException;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyValidationProcessor class.
+ *
+ * <p>This test class verifies that valid properties pass through unchanged and that each
+ * validation rule rejects offending properties with a skippable exception.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyValidationProcessorTest {
+
+    private PropertyValidationProcessor processor;
+    private Property property;
+
+    @BeforeEach
+    void setUp() {
+        processor = new PropertyValidationProcessor();
+        property = new Property(
+            1L, "Test Resort", "Beachfront", "Miami", "Florida", "USA",
+            "123 Ocean Drive", "+1-305-555-0123", "info@testresort.com",
+            "10 miles from Miami International", "Beautiful beachfront resort",
+            new BigDecimal("299.99"), new BigDecimal("45.00"), "50% if cancelled within 48 hours"
+        );
+    }
+
+    @Test
+    @DisplayName("Test valid property passes through unchanged")
+    void testValidProperty() {
+        assertSame(property, processor.process(property));
+    }
+
+    @Test
+    @DisplayName("Test non-positive id is rejected")
+    void testNonPositiveId() {
+        property.setId(0);
+        assertThrows(ValidationException.class, () -> processor.process(property));
+    }
+
+    @Test
+    @DisplayName("Test blank property name is rejected")
+    void testBlankName() {
+        property.setPropertyName("  ");
+        assertThrows(ValidationException.class, () -> processor.process(property));
+    }
+
+    @Test
+    @DisplayName("Test missing email address is rejected")
+    void testMissingEmail() {
+        property.setPropertyEmailAddress(null);
+        assertThrows(ValidationException.class, () -> processor.process(property));
+    }
+
+    @Test
+    @DisplayName("Test missing price is rejected")
+    void testMissingPrice() {
+        property.setPropertyPricePerNight(null);
+        assertThrows(ValidationException.class, () -> processor.process(property));
+    }
+
+    @Test
+    @DisplayName("Test negative commission is rejected and zero accepted")
+    void testNegativeCommission() {
+        property.setPropertyCommissionAmount(new BigDecimal("0.00"));
+        assertSame(property, processor.process(property));
+
+        property.setPropertyCommissionAmount(new BigDecimal("-0.01"));
+        assertThrows(ValidationException.class, () -> processor.process(property));
+    }
+
+    @Test
+    @DisplayName("Test overlong description is rejected")
+    void testOverlongDescription() {
+        property.setPropertyDescription("A".repeat(1001));
+        assertThrows(ValidationException.class, () -> processor.process(property));
+    }
+}
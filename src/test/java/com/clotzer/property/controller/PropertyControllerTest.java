@@ -3,7 +3,9 @@ package com.clotzer.property.controller;
 import com.clotzer.property.PropertyService;
 import com.clotzer.property.controller.PropertyController;
 import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.PropertyLoadProgress;
 import com.clotzer.property.repository.PropertyRepository;
+import com.clotzer.property.service.PropertyLoadStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 
@@ -43,6 +46,9 @@ class PropertyControllerTest {
     @MockBean
     private PropertyService propertyService;
 
+    @MockBean
+    private PropertyLoadStatus loadStatus;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -55,14 +61,14 @@ class PropertyControllerTest {
             1L, "Test Resort", "Beachfront", "Miami", "Florida", "USA",
             "123 Ocean Drive", "+1-305-555-0123", "info@testresort.com",
             "10 miles from Miami International", "Beautiful beachfront resort",
-            "299.99", "45.00", "50% if cancelled within 48 hours"
+            new BigDecimal("299.99"), new BigDecimal("45.00"), "50% if cancelled within 48 hours"
         );
 
         Property secondProperty = new Property(
             2L, "Mountain Lodge", "Mountain View", "Denver", "Colorado", "USA",
             "456 Pine Street", "+1-303-555-0456", "info@mountainlodge.com",
             "20 miles from Denver International", "Cozy mountain retreat",
-            "199.99", "30.00", "25% if cancelled within 24 hours"
+            new BigDecimal("199.99"), new BigDecimal("30.00"), "25% if cancelled within 24 hours"
         );
 
         testProperties = Arrays.asList(testProperty, secondProperty);
@@ -182,8 +188,8 @@ class PropertyControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].propertyName").value("Test Resort"))
                 .andExpect(jsonPath("$[0].propertyDescription").value("Beautiful beachfront resort"))
-                .andExpect(jsonPath("$[0].propertyPricePerNight").value("299.99"))
-                .andExpect(jsonPath("$[0].propertyCommissionAmount").value("45.00"));
+                .andExpect(jsonPath("$[0].propertyPricePerNight").value(299.99))
+                .andExpect(jsonPath("$[0].propertyCommissionAmount").value(45.0));
 
         verify(propertyRepository, times(1)).findAll();
     }
@@ -232,4 +238,135 @@ class PropertyControllerTest {
 
         verify(propertyRepository, times(1)).findAll();
     }
+
+    @Test
+    @DisplayName("Test property JSON serialization leaves out the content hash")
+    void testPropertyJsonSerializationOmitsContentHash() throws Exception {
+        // Arrange
+        testProperty.setContentHash(42L);
+        when(propertyRepository.findAll()).thenReturn(Arrays.asList(testProperty));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/property")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].contentHash").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/property/price returns the properties within the range")
+    void testFindPropertiesByPrice() throws Exception {
+        // Arrange
+        when(propertyService.findPropertiesByPriceRange(new BigDecimal("150"), new BigDecimal("300.00")))
+            .thenReturn(Arrays.asList(testProperties.get(1), testProperty));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/property/price").param("min", "150").param("max", "300.00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].propertyPricePerNight").value(199.99))
+                .andExpect(jsonPath("$[1].propertyPricePerNight").value(299.99));
+    }
+
+    @Test
+    @DisplayName("GET /api/property/price returns 400 for an invalid range")
+    void testFindPropertiesByPriceInvalidRange() throws Exception {
+        mockMvc.perform(get("/api/property/price").param("min", "300").param("max", "150"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/property/price").param("min", "cheap").param("max", "150"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/property/price").param("min", "100"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(propertyService);
+    }
+
+    @Test
+    @DisplayName("GET /api/property/price/stats returns the aggregates and the average")
+    void testGetPriceStatistics() throws Exception {
+        // Arrange
+        PropertyRepository.PriceStatistics statistics = mock(PropertyRepository.PriceStatistics.class);
+        when(statistics.getPricedCount()).thenReturn(3L);
+        when(statistics.getMinimumPrice()).thenReturn(new BigDecimal("100.00"));
+        when(statistics.getMaximumPrice()).thenReturn(new BigDecimal("300.00"));
+        when(statistics.getTotalPrice()).thenReturn(new BigDecimal("600.01"));
+        when(statistics.getTotalCommission()).thenReturn(new BigDecimal("90.00"));
+        when(propertyService.getPriceStatistics()).thenReturn(statistics);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/property/price/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3))
+                .andExpect(jsonPath("$.minimumPrice").value(100.0))
+                .andExpect(jsonPath("$.maximumPrice").value(300.0))
+                .andExpect(jsonPath("$.averagePrice").value(200.0))
+                .andExpect(jsonPath("$.totalPrice").value(600.01))
+                .andExpect(jsonPath("$.totalCommission").value(90.0));
+    }
+
+    @Test
+    @DisplayName("GET /api/property/load/ready returns 503 while the load is running")
+    void testLoadReadinessWhileLoading() throws Exception {
+        // Arrange
+        when(loadStatus.getState()).thenReturn(PropertyLoadStatus.State.LOADING);
+        when(loadStatus.isReady()).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/property/load/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.state").value("LOADING"))
+                .andExpect(jsonPath("$.failure").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/property/load/ready returns 200 once the load has completed")
+    void testLoadReadinessWhenReady() throws Exception {
+        // Arrange
+        when(loadStatus.getState()).thenReturn(PropertyLoadStatus.State.READY);
+        when(loadStatus.isReady()).thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/property/load/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("READY"));
+    }
+
+    @Test
+    @DisplayName("GET /api/property/load/ready reports why the load failed")
+    void testLoadReadinessAfterFailure() throws Exception {
+        // Arrange
+        when(loadStatus.getState()).thenReturn(PropertyLoadStatus.State.FAILED);
+        when(loadStatus.getFailure()).thenReturn("Disk full");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/property/load/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.state").value("FAILED"))
+                .andExpect(jsonPath("$.failure").value("Disk full"));
+    }
+
+    @Test
+    @DisplayName("GET /api/property/load/status reports the load progress")
+    void testLoadStatus() throws Exception {
+        // Arrange
+        PropertyLoadProgress progress = mock(PropertyLoadProgress.class);
+        when(progress.report()).thenReturn(new PropertyLoadProgress.Report(PropertyLoadProgress.Phase.LOADING,
+            1200, 1000, 3, 0, 4096, 16384, 500.04, 2048.0, 6L, 2400));
+        when(loadStatus.getProgress()).thenReturn(progress);
+        when(loadStatus.getState()).thenReturn(PropertyLoadStatus.State.LOADING);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/property/load/status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("LOADING"))
+                .andExpect(jsonPath("$.phase").value("LOADING"))
+                .andExpect(jsonPath("$.recordsParsed").value(1200))
+                .andExpect(jsonPath("$.recordsPersisted").value(1000))
+                .andExpect(jsonPath("$.errors").value(3))
+                .andExpect(jsonPath("$.bytesRead").value(4096))
+                .andExpect(jsonPath("$.bytesTotal").value(16384))
+                .andExpect(jsonPath("$.recordsPerSecond").value(500.0))
+                .andExpect(jsonPath("$.etaSeconds").value(6));
+    }
 }
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.math.BigDecimal;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -30,8 +32,8 @@ class PropertyTest {
     private static final String TEST_PROPERTY_EMAIL = "info@testresort.com";
     private static final String TEST_AIRPORT_PROXIMITY = "10 miles from Miami International";
     private static final String TEST_PROPERTY_DESCRIPTION = "A beautiful beachfront resort with stunning ocean views";
-    private static final String TEST_PRICE_PER_NIGHT = "299.99";
-    private static final String TEST_COMMISSION_AMOUNT = "45.00";
+    private static final BigDecimal TEST_PRICE_PER_NIGHT = new BigDecimal("299.99");
+    private static final BigDecimal TEST_COMMISSION_AMOUNT = new BigDecimal("45.00");
     private static final String TEST_CANCELLATION_PENALTY = "50% if cancelled within 48 hours";
 
     @BeforeEach
@@ -173,6 +175,14 @@ class PropertyTest {
         assertEquals(TEST_CANCELLATION_PENALTY, property.getPropertyCancellationPenalty());
     }
 
+    @Test
+    @DisplayName("Test content hash getter and setter")
+    void testContentHashGetterAndSetter() {
+        assertNull(property.getContentHash());
+        property.setContentHash(42L);
+        assertEquals(42L, property.getContentHash());
+    }
+
     @Test
     @DisplayName("Test setting null values")
     void testNullValues() {
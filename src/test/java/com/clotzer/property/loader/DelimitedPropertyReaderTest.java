@@ -0,0 +1,140 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DelimitedPropertyReader class.
+ *
+ * <p>This test class verifies header-based column mapping, RFC 4180 quoting, TSV input and the
+ * handling of malformed rows and headers.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class DelimitedPropertyReaderTest {
+
+    private static final String HEADER = String.join(",", DelimitedPropertyReader.FIELDS);
+
+    private static DelimitedPropertyReader reader(String content, char delimiter) {
+        return new DelimitedPropertyReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), delimiter);
+    }
+
+    private static String row(long id, String name) {
+        return id + "," + name + ",Downtown,Austin,TX,USA,1 Main St,555-0100,a@example.com,5 miles,Nice,120.00,12.00,None";
+    }
+
+    @Test
+    @DisplayName("Test rows are mapped to properties in header order")
+    void testReadsRows() throws IOException {
+        // Arrange
+        DelimitedPropertyReader reader = reader(HEADER + "\n" + row(1, "Harbor View") + "\r\n" + row(2, "Lakeside"), ',');
+
+        // Act
+        Property first = reader.read();
+        Property second = reader.read();
+
+        // Assert
+        assertEquals(1L, first.getId());
+        assertEquals("Harbor View", first.getPropertyName());
+        assertEquals("Austin", first.getPropertyCity());
+        assertEquals("None", first.getPropertyCancellationPenalty());
+        assertEquals(PropertyContentHasher.hash(first), first.getContentHash());
+        assertEquals(2L, second.getId());
+        assertNull(reader.read());
+        assertEquals(2, reader.getRecordCount());
+    }
+
+    @Test
+    @DisplayName("Test columns are matched by name in any order, with extra columns ignored")
+    void testHeaderMapping() throws IOException {
+        // Arrange
+        String header = "Notes,PROPERTY_CANCELLATION_PENALTY,property_commission_amount,property-price-per-night,"
+            + "propertyDescription,propertyAirportProximity,propertyEmailAddress,propertyPhoneNumber,"
+            + "propertyAddress,propertyCountry,propertyState,propertyCity,propertyLocation,property name,ID";
+        String row = "ignored,Strict,9.50,95.00,Quiet,2 miles,b@example.com,555-0199,2 Elm St,USA,OR,Portland,"
+            + "Pearl,Elm House,7";
+
+        // Act
+        Property property = reader("\uFEFF" + header + "\n" + row + "\n", ',').read();
+
+        // Assert
+        assertEquals(7L, property.getId());
+        assertEquals("Elm House", property.getPropertyName());
+        assertEquals("Portland", property.getPropertyCity());
+        assertEquals(new BigDecimal("95.00"), property.getPropertyPricePerNight());
+        assertEquals("Strict", property.getPropertyCancellationPenalty());
+    }
+
+    @Test
+    @DisplayName("Test quoted fields may contain delimiters, line breaks and doubled quotes")
+    void testQuotedFields() throws IOException {
+        // Arrange
+        String row = "3,\"Smith, Jones & Co\",Downtown,Austin,TX,USA,1 Main St,555-0100,a@example.com,5 miles,"
+            + "\"Said \"\"wow\"\",\nthen left\",120.00,12.00,\"\"";
+
+        // Act
+        Property property = reader(HEADER + "\n" + row + "\n", ',').read();
+
+        // Assert
+        assertEquals("Smith, Jones & Co", property.getPropertyName());
+        assertEquals("Said \"wow\",\nthen left", property.getPropertyDescription());
+        assertEquals("", property.getPropertyCancellationPenalty());
+    }
+
+    @Test
+    @DisplayName("Test TSV input is read with a tab delimiter")
+    void testTsv() throws IOException {
+        // Arrange
+        String content = HEADER.replace(',', '\t') + "\n" + row(4, "Tab Inn").replace(',', '\t').replace("Tab Inn", "Tab, Inn");
+
+        // Act
+        Property property = FeedFormat.of(Path.of("feed.tsv")).reader(null,
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))).read();
+
+        // Assert
+        assertEquals(4L, property.getId());
+        assertEquals("Tab, Inn", property.getPropertyName());
+    }
+
+    @Test
+    @DisplayName("Test malformed rows are rejected and reading continues")
+    void testMalformedRows() throws IOException {
+        // Arrange
+        DelimitedPropertyReader reader = reader(HEADER + "\n"
+            + row(1, "A") + "\n\n"
+            + row(1, "B").replaceFirst("1", "x") + "\n"
+            + "2,short\n"
+            + row(3, "\"C\"trailing") + "\n"
+            + row(4, "D") + "\n", ',');
+
+        // Act & Assert
+        assertEquals(1L, reader.read().getId());
+        assertThrows(IllegalArgumentException.class, reader::read);
+        RejectedRecordException shortRow = assertThrows(RejectedRecordException.class, reader::read);
+        assertEquals(3, shortRow.getRecord());
+        assertEquals("2,short", shortRow.getRawRecord());
+        assertThrows(IllegalArgumentException.class, reader::read);
+        assertEquals(4L, reader.read().getId());
+        assertNull(reader.read());
+        assertEquals(5, reader.getRecordCount());
+    }
+
+    @Test
+    @DisplayName("Test a missing column or unterminated quote fails the feed")
+    void testBrokenFeed() {
+        assertThrows(IOException.class, () -> reader("id,propertyName\n1,A\n", ',').read());
+        assertThrows(IOException.class, () -> reader(HEADER + "\n1,\"never closed", ',').read());
+        assertThrows(IOException.class, () -> reader("", ',').read());
+    }
+}
@@ -0,0 +1,62 @@
+package com.clotzer.property.loader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FeedCompression class.
+ *
+ * <p>This test class verifies compression detection by file name and inline gzip decompression.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class FeedCompressionTest {
+
+    @Test
+    @DisplayName("Test compressed files are detected by extension")
+    void testDetection() {
+        assertTrue(FeedCompression.isCompressed(Path.of("/feeds/east.json.gz")));
+        assertTrue(FeedCompression.isCompressed(Path.of("/feeds/east.json.ZST")));
+        assertFalse(FeedCompression.isCompressed(Path.of("/feeds/east.json")));
+        assertEquals("east.json", FeedCompression.contentName(Path.of("/feeds/east.json.gz")));
+        assertEquals("east.json", FeedCompression.contentName(Path.of("/feeds/east.json.zst")));
+        assertEquals("east.json", FeedCompression.contentName(Path.of("/feeds/east.json")));
+    }
+
+    @Test
+    @DisplayName("Test gzip feeds are decompressed on a read-ahead stream")
+    void testGzip() throws IOException {
+        String json = "{\"properties\": []}".repeat(1000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (InputStream in = FeedCompression.open(Path.of("feed.json.gz"), new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertInstanceOf(ReadAheadInputStream.class, in);
+            assertEquals(json, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Test plain feeds are returned unchanged and invalid gzip fails")
+    void testPlainAndInvalid() throws IOException {
+        InputStream raw = new ByteArrayInputStream(new byte[] {'[', ']'});
+        assertSame(raw, FeedCompression.open(Path.of("feed.json"), raw));
+
+        assertThrows(IOException.class,
+            () -> FeedCompression.open(Path.of("feed.json.gz"), new ByteArrayInputStream(new byte[] {'[', ']'})));
+    }
+}
@@ -0,0 +1,113 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JsonFeedSegmenter class.
+ *
+ * <p>This test class verifies that segments cover every record exactly once, fall on record
+ * boundaries, and can be parsed independently.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class JsonFeedSegmenterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static String feed(int count) {
+        StringBuilder json = new StringBuilder("{\"version\": 1, \"properties\": [\n");
+        for (int i = 1; i <= count; i++) {
+            json.append("""
+                {"id": %d, "propertyName": "Resort %d", "propertyLocation": "Beachfront", "propertyCity": "Miami",
+                 "propertyState": "Florida", "propertyCountry": "USA", "propertyAddress": "123 Ocean Drive",
+                 "propertyPhoneNumber": "+1-305-555-0123", "propertyEmailAddress": "info@resort.com",
+                 "propertyAirportProximity": "10 miles", "propertyDescription": "Resort {with} [brackets]",
+                 "propertyPricePerNight": 299.99, "propertyCommissionAmount": 45.0,
+                 "propertyCancellationPenalty": "None"}""".formatted(i, i));
+            json.append(i < count ? ",\n" : "\n");
+        }
+        return json.append("]}").toString();
+    }
+
+    private List<Long> readSegment(byte[] bytes, JsonFeedSegmenter.Segment segment) throws IOException {
+        InputStream positioned = new ByteArrayInputStream(bytes);
+        positioned.skipNBytes(segment.startOffset());
+        List<Long> ids = new ArrayList<>();
+        try (JsonStreamingPropertyReader reader = new JsonStreamingPropertyReader(objectMapper, segment.wrap(positioned))) {
+            Property property;
+            while ((property = reader.read()) != null) {
+                ids.add(property.getId());
+            }
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Test segments cover every record exactly once and in order")
+    void testSegmentsCoverAllRecords() throws IOException {
+        byte[] bytes = feed(50).getBytes(StandardCharsets.UTF_8);
+
+        List<JsonFeedSegmenter.Segment> segments =
+            JsonFeedSegmenter.split(objectMapper, new ByteArrayInputStream(bytes), bytes.length, 4);
+
+        assertEquals(4, segments.size());
+        List<Long> ids = new ArrayList<>();
+        long expectedFirst = 0;
+        for (JsonFeedSegmenter.Segment segment : segments) {
+            assertEquals(expectedFirst, segment.firstRecord());
+            List<Long> segmentIds = readSegment(bytes, segment);
+            assertEquals(segment.recordCount(), segmentIds.size());
+            ids.addAll(segmentIds);
+            expectedFirst += segment.recordCount();
+        }
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i + 1, ids.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Test more segments than records yields one segment per record at most")
+    void testMoreSegmentsThanRecords() throws IOException {
+        byte[] bytes = feed(3).getBytes(StandardCharsets.UTF_8);
+
+        List<JsonFeedSegmenter.Segment> segments =
+            JsonFeedSegmenter.split(objectMapper, new ByteArrayInputStream(bytes), bytes.length, 10);
+
+        assertTrue(segments.size() <= 3);
+        assertEquals(3, segments.stream().mapToLong(JsonFeedSegmenter.Segment::recordCount).sum());
+    }
+
+    @Test
+    @DisplayName("Test unknown size yields a single segment")
+    void testUnknownSize() throws IOException {
+        byte[] bytes = feed(5).getBytes(StandardCharsets.UTF_8);
+
+        List<JsonFeedSegmenter.Segment> segments =
+            JsonFeedSegmenter.split(objectMapper, new ByteArrayInputStream(bytes), -1, 4);
+
+        assertEquals(1, segments.size());
+        assertEquals(5, readSegment(bytes, segments.get(0)).size());
+    }
+
+    @Test
+    @DisplayName("Test empty feed yields no segments")
+    void testEmptyFeed() throws IOException {
+        byte[] bytes = "{\"properties\": []}".getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(JsonFeedSegmenter.split(objectMapper, new ByteArrayInputStream(bytes), bytes.length, 4).isEmpty());
+    }
+}
@@ -0,0 +1,143 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JsonStreamingPropertyReader class.
+ *
+ * <p>This test class verifies that the streaming reader locates the property array,
+ * binds records one at a time, and recovers from individual malformed records.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class JsonStreamingPropertyReaderTest {
+
+    private static final String RECORD_ONE = """
+        {
+          "id": 1,
+          "propertyName": "Test Resort",
+          "propertyLocation": "Beachfront",
+          "propertyCity": "Miami",
+          "propertyState": "Florida",
+          "propertyCountry": "USA",
+          "propertyAddress": "123 Ocean Drive",
+          "propertyPhoneNumber": "+1-305-555-0123",
+          "propertyEmailAddress": "info@testresort.com",
+          "propertyAirportProximity": "10 miles from Miami International",
+          "propertyDescription": "Beautiful beachfront resort",
+          "propertyPricePerNight": 299.99,
+          "propertyCommissionAmount": 45.0,
+          "propertyCancellationPenalty": "50% if cancelled within 48 hours"
+        }
+        """;
+
+    private static final String RECORD_TWO = RECORD_ONE.replace("\"id\": 1", "\"id\": 2");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonStreamingPropertyReader readerFor(String json) throws IOException {
+        return new JsonStreamingPropertyReader(objectMapper,
+            new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Test reader streams all records from the properties envelope")
+    void testReadEnvelope() throws IOException {
+        try (JsonStreamingPropertyReader reader = readerFor("{\"properties\": [" + RECORD_ONE + "," + RECORD_TWO + "]}")) {
+            Property first = reader.read();
+            Property second = reader.read();
+
+            assertEquals(1L, first.getId());
+            assertEquals("Test Resort", first.getPropertyName());
+            assertEquals(new BigDecimal("299.99"), first.getPropertyPricePerNight());
+            assertEquals(2L, second.getId());
+            assertNull(reader.read());
+            assertNull(reader.read());
+            assertEquals(2, reader.getRecordCount());
+            assertEquals(PropertyContentHasher.hash(first), first.getContentHash());
+            assertEquals(first.getContentHash(), second.getContentHash());
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader skips unrelated fields before the properties array")
+    void testSkipsLeadingFields() throws IOException {
+        String json = "{\"meta\": {\"source\": [1, 2, 3]}, \"version\": 2, \"properties\": [" + RECORD_ONE + "]}";
+        try (JsonStreamingPropertyReader reader = readerFor(json)) {
+            assertEquals(1L, reader.read().getId());
+            assertNull(reader.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader accepts a bare top-level array")
+    void testReadBareArray() throws IOException {
+        try (JsonStreamingPropertyReader reader = readerFor("[" + RECORD_ONE + "]")) {
+            assertEquals(1L, reader.read().getId());
+            assertNull(reader.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader continues after a record with a missing field")
+    void testRecoversFromBadRecord() throws IOException {
+        String json = "{\"properties\": [{\"id\": 7}, " + RECORD_TWO + "]}";
+        try (JsonStreamingPropertyReader reader = readerFor(json)) {
+            RejectedRecordException rejected = assertThrows(RejectedRecordException.class, reader::read);
+            assertEquals(1, rejected.getRecord());
+            assertEquals(json.indexOf("{\"id\": 7}"), rejected.getOffset());
+            assertEquals("{\"id\": 7}", rejected.getRawRecord());
+            assertEquals(2L, reader.read().getId());
+            assertNull(reader.read());
+            assertEquals(2, reader.getRecordCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Test a rejected record keeps its exact text, including unknown and trailing fields")
+    void testRejectedRecordKeepsRawText() throws IOException {
+        String bad = RECORD_TWO
+            .replace("\"id\": 2,", "\"id\": 2, \"extra\": [1, {\"note\": \"café\"}],")
+            .replace("299.99", "\"n/a\"")
+            .trim();
+        String json = "{\"properties\": [" + (RECORD_ONE + ", ").repeat(40) + bad + ", " + RECORD_ONE + "]}";
+        try (JsonStreamingPropertyReader reader = readerFor(json)) {
+            for (int i = 0; i < 40; i++) {
+                assertEquals(1L, reader.read().getId());
+            }
+            RejectedRecordException rejected = assertThrows(RejectedRecordException.class, reader::read);
+            assertEquals(41, rejected.getRecord());
+            assertEquals(bad, rejected.getRawRecord());
+            assertEquals(1L, reader.read().getId());
+            assertNull(reader.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader fails when no properties array is present")
+    void testMissingPropertiesNode() throws IOException {
+        try (JsonStreamingPropertyReader reader = readerFor("{\"items\": []}")) {
+            assertThrows(IOException.class, reader::read);
+        }
+    }
+
+    @Test
+    @DisplayName("Test reader fails when properties is not an array")
+    void testPropertiesNotArray() throws IOException {
+        try (JsonStreamingPropertyReader reader = readerFor("{\"properties\": {}}")) {
+            assertThrows(IOException.class, reader::read);
+        }
+    }
+}
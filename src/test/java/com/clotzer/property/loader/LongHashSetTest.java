@@ -0,0 +1,77 @@
+package com.clotzer.property.loader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LongHashSet class.
+ *
+ * <p>This test class verifies that the set agrees with {@link HashSet} across resizes, including for
+ * zero, negative and sequential keys, and that it is sized up front for an expected key count.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("Test add and contains agree with HashSet across resizes")
+    void testMatchesHashSet() {
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = i % 3 == 0 ? random.nextInt(50_000) : random.nextLong();
+            assertEquals(expected.add(key), set.add(key), "add " + key);
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (long key : expected) {
+            assertTrue(set.contains(key));
+        }
+        assertFalse(set.contains(Long.MIN_VALUE + 7));
+    }
+
+    @Test
+    @DisplayName("Test zero, negative and sequential keys")
+    void testSpecialKeys() {
+        LongHashSet set = new LongHashSet(4);
+
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(-1));
+        assertTrue(set.add(Long.MAX_VALUE));
+        for (long id = 1; id <= 10_000; id++) {
+            assertTrue(set.add(id));
+        }
+
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-1));
+        assertTrue(set.contains(10_000));
+        assertFalse(set.contains(10_001));
+        assertEquals(10_003, set.size());
+    }
+
+    @Test
+    @DisplayName("Test the table is sized for the expected keys")
+    void testExpectedSize() {
+        LongHashSet set = new LongHashSet(1000);
+        int capacity = set.capacity();
+
+        for (long id = 1; id <= 1000; id++) {
+            set.add(id);
+        }
+
+        assertEquals(2048, capacity);
+        assertEquals(capacity, set.capacity());
+    }
+}
@@ -0,0 +1,85 @@
+package com.clotzer.property.loader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MappedFileInputStream class.
+ *
+ * <p>This test class verifies that reads across mapped window boundaries, offsets and skips
+ * return exactly the bytes of the file.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class MappedFileInputStreamTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file(byte[] content) throws IOException {
+        return Files.write(tempDir.resolve("feed.json"), content);
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("Test bulk reads span several mapped windows")
+    void testReadAcrossWindows() throws IOException {
+        byte[] content = randomBytes(10_000);
+
+        try (MappedFileInputStream in = new MappedFileInputStream(file(content), 0, 4096)) {
+            assertArrayEquals(content, in.readAllBytes());
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Test single-byte reads and offsets")
+    void testReadFromOffset() throws IOException {
+        byte[] content = randomBytes(5000);
+
+        try (MappedFileInputStream in = new MappedFileInputStream(file(content), 4095, 4096)) {
+            assertEquals(content.length - 4095, in.available());
+            assertEquals(content[4095] & 0xff, in.read());
+            assertEquals(content[4096] & 0xff, in.read());
+            assertArrayEquals(Arrays.copyOfRange(content, 4097, content.length), in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Test skip moves the position without reading")
+    void testSkip() throws IOException {
+        byte[] content = randomBytes(9000);
+
+        try (MappedFileInputStream in = new MappedFileInputStream(file(content), 0, 4096)) {
+            assertEquals(8000, in.skip(8000));
+            assertEquals(content[8000] & 0xff, in.read());
+            assertEquals(999, in.skip(5000));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Test empty file reads as end of stream")
+    void testEmptyFile() throws IOException {
+        try (MappedFileInputStream in = new MappedFileInputStream(file(new byte[0]))) {
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[8], 0, 8));
+        }
+    }
+}
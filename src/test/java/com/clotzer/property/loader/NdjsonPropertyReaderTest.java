@@ -0,0 +1,169 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NdjsonPropertyReader and FeedFormat classes.
+ *
+ * <p>This test class verifies that NDJSON lines are mapped to properties, that bad and blank lines
+ * are handled, and that byte-range splitting covers the file on line boundaries.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class NdjsonPropertyReaderTest {
+
+    @TempDir
+    Path feeds;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static String line(long id) {
+        StringBuilder json = new StringBuilder("{\"id\": ").append(id);
+        for (String field : List.of("propertyName", "propertyLocation", "propertyCity", "propertyState",
+                "propertyCountry", "propertyAddress", "propertyPhoneNumber", "propertyEmailAddress",
+                "propertyAirportProximity", "propertyDescription", "propertyCancellationPenalty")) {
+            json.append(", \"").append(field).append("\": \"").append(field).append('-').append(id).append('"');
+        }
+        json.append(", \"propertyPricePerNight\": 100, \"propertyCommissionAmount\": 10");
+        return json.append('}').toString();
+    }
+
+    private NdjsonPropertyReader reader(String content) {
+        return new NdjsonPropertyReader(objectMapper,
+            new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<Long> readIds(PropertyRecordReader reader) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (Property property = reader.read(); property != null; property = reader.read()) {
+            ids.add(property.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Test each line is mapped to a property, with or without a trailing newline")
+    void testReadsLines() throws IOException {
+        // Arrange
+        NdjsonPropertyReader reader = reader(line(1) + "\n" + line(2) + "\r\n" + line(3));
+
+        // Act
+        Property first = reader.read();
+        List<Long> rest = readIds(reader);
+
+        // Assert
+        assertEquals(1L, first.getId());
+        assertEquals("propertyCity-1", first.getPropertyCity());
+        assertNotNull(first.getContentHash());
+        assertEquals(List.of(2L, 3L), rest);
+        assertEquals(3, reader.getRecordCount());
+    }
+
+    @Test
+    @DisplayName("Test blank lines are skipped and a malformed line is rejected without stopping the feed")
+    void testBlankAndMalformedLines() throws IOException {
+        // Arrange
+        NdjsonPropertyReader reader = reader("\n" + line(1) + "\n   \n{\"id\": 2,\n[1, 2]\n" + line(3) + "\n");
+
+        // Act & Assert
+        assertEquals(1L, reader.read().getId());
+        RejectedRecordException truncated = assertThrows(RejectedRecordException.class, reader::read);
+        assertEquals(2, truncated.getRecord());
+        assertEquals(1 + line(1).length() + 1 + 4, truncated.getOffset());
+        assertEquals("{\"id\": 2,", truncated.getRawRecord());
+        assertThrows(IllegalArgumentException.class, reader::read);
+        assertEquals(3L, reader.read().getId());
+        assertNull(reader.read());
+        assertEquals(4, reader.getRecordCount());
+    }
+
+    @Test
+    @DisplayName("Test lines longer than the read buffer are read whole")
+    void testLongLine() throws IOException {
+        // Arrange
+        String description = "d".repeat(200_000);
+        String content = line(1).replace("propertyDescription-1", description) + "\n" + line(2) + "\n";
+
+        // Act
+        NdjsonPropertyReader reader = reader(content);
+        Property first = reader.read();
+
+        // Assert
+        assertEquals(description, first.getPropertyDescription());
+        assertEquals(2L, reader.read().getId());
+    }
+
+    @Test
+    @DisplayName("Test split ranges start on line boundaries and together read every line once")
+    void testSplit() throws IOException {
+        // Arrange
+        StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= 250; i++) {
+            content.append(line(i)).append('\n');
+        }
+        Path file = Files.writeString(feeds.resolve("feed.ndjson"), content);
+
+        // Act
+        List<NdjsonPropertyReader.ByteRange> ranges = NdjsonPropertyReader.split(file, 4);
+        List<Long> ids = new ArrayList<>();
+        byte[] bytes = Files.readAllBytes(file);
+        for (NdjsonPropertyReader.ByteRange range : ranges) {
+            try (NdjsonPropertyReader reader = new NdjsonPropertyReader(objectMapper,
+                    new ByteArrayInputStream(bytes, (int) range.start(), (int) range.length()))) {
+                ids.addAll(readIds(reader));
+            }
+        }
+
+        // Assert
+        assertEquals(4, ranges.size());
+        assertEquals(0, ranges.get(0).start());
+        assertEquals(bytes.length, ranges.get(ranges.size() - 1).end());
+        for (int i = 1; i < ranges.size(); i++) {
+            assertEquals(ranges.get(i - 1).end(), ranges.get(i).start());
+            assertEquals('\n', bytes[(int) ranges.get(i).start() - 1]);
+        }
+        assertEquals(250, ids.size());
+        assertEquals(250, ids.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("Test split of a small or empty file yields fewer ranges")
+    void testSplitSmallFile() throws IOException {
+        // Arrange
+        Path single = Files.writeString(feeds.resolve("single.ndjson"), line(1));
+        Path empty = Files.writeString(feeds.resolve("empty.ndjson"), "");
+
+        // Act & Assert
+        assertEquals(List.of(new NdjsonPropertyReader.ByteRange(0, Files.size(single))),
+            NdjsonPropertyReader.split(single, 8));
+        assertTrue(NdjsonPropertyReader.split(empty, 8).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test feed format is detected from the file name, ignoring compression")
+    void testFeedFormat() {
+        assertEquals(FeedFormat.NDJSON, FeedFormat.of(Path.of("feed.ndjson")));
+        assertEquals(FeedFormat.NDJSON, FeedFormat.of(Path.of("feed.JSONL.gz")));
+        assertEquals(FeedFormat.JSON, FeedFormat.of(Path.of("feed.json.zst")));
+        assertEquals(FeedFormat.CSV, FeedFormat.of(Path.of("feed.csv.gz")));
+        assertFalse(FeedFormat.CSV.isSplittable());
+        assertTrue(FeedFormat.isFeed(Path.of("feed.jsonl.zst")));
+        assertFalse(FeedFormat.isFeed(Path.of("feed.txt")));
+    }
+}
@@ -0,0 +1,58 @@
+package com.clotzer.property.loader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyAmounts class.
+ *
+ * <p>This test class verifies that amounts in any notation normalize to two decimal places, that blank
+ * values become {@code null}, and that values which would lose digits in the column are refused.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyAmountsTest {
+
+    @Test
+    @DisplayName("Test equal amounts in any notation normalize to the same value")
+    void testNormalizes() {
+        for (String text : new String[] {"45", "45.0", "45.000", " 45.00 ", "4.5e1", "+45"}) {
+            BigDecimal amount = PropertyAmounts.parse("propertyPricePerNight", text);
+            assertEquals("45.00", amount.toPlainString(), text);
+        }
+        assertEquals("-0.01", PropertyAmounts.parse("propertyPricePerNight", "-0.010").toPlainString());
+        assertEquals("0.00", PropertyAmounts.normalize("propertyPricePerNight", new BigDecimal("-0E+3")).toPlainString());
+        assertEquals("9999999999.99", PropertyAmounts.parse("propertyPricePerNight", "9999999999.99").toPlainString());
+    }
+
+    @Test
+    @DisplayName("Test null and blank values have no amount")
+    void testBlank() {
+        assertNull(PropertyAmounts.parse("propertyPricePerNight", null));
+        assertNull(PropertyAmounts.parse("propertyPricePerNight", "  "));
+        assertNull(PropertyAmounts.normalize("propertyPricePerNight", null));
+    }
+
+    @Test
+    @DisplayName("Test values that would be rounded or overflow the column are refused")
+    void testRefusesLossyValues() {
+        IllegalArgumentException text = assertThrows(IllegalArgumentException.class,
+            () -> PropertyAmounts.parse("propertyCommissionAmount", "call us"));
+        IllegalArgumentException rounded = assertThrows(IllegalArgumentException.class,
+            () -> PropertyAmounts.parse("propertyCommissionAmount", "45.005"));
+        IllegalArgumentException range = assertThrows(IllegalArgumentException.class,
+            () -> PropertyAmounts.parse("propertyCommissionAmount", "10000000000"));
+
+        assertEquals("Field 'propertyCommissionAmount' is not a number: 'call us'", text.getMessage());
+        assertEquals("Field 'propertyCommissionAmount' has more than 2 decimal places: 45.005", rounded.getMessage());
+        assertEquals("Field 'propertyCommissionAmount' is out of range: 10000000000", range.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> PropertyAmounts.parse("propertyCommissionAmount", "1e-9"));
+        assertThrows(IllegalArgumentException.class, () -> PropertyAmounts.parse("propertyCommissionAmount", "1e999999999"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing tree-based and token-based binding of property records.
+ *
+ * <p>{@code tree} reads each element of the {@code properties} array with
+ * {@link JsonParser#readValueAsTree()} and maps it with {@link JsonStreamingPropertyReader#toProperty},
+ * as the streaming readers did before {@link PropertyJsonBinder}. {@code tokens} reads the same feed
+ * through {@link JsonStreamingPropertyReader}. Scores are per record; the GC profiler's
+ * {@code gc.alloc.rate.norm} gives the bytes allocated per record.
+ *
+ * <p>This is not a unit test and is not run by the build. Run it with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) com.clotzer.property.loader.PropertyBindingBenchmark
+ * </pre>
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class PropertyBindingBenchmark {
+
+    /** Records in the generated feed */
+    private static final int RECORDS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** Generated feed in the standard envelope */
+    private byte[] feed;
+
+    /**
+     * Generates a feed with numeric prices and descriptions of realistic length.
+     */
+    @Setup
+    public void generateFeed() {
+        StringBuilder json = new StringBuilder("{\"properties\": [\n");
+        for (int i = 1; i <= RECORDS; i++) {
+            json.append(i > 1 ? ",\n" : "")
+                .append("{\"id\": ").append(i)
+                .append(", \"propertyName\": \"Property ").append(i)
+                .append("\", \"propertyLocation\": \"Beachfront\", \"propertyCity\": \"Miami\"")
+                .append(", \"propertyState\": \"Florida\", \"propertyCountry\": \"USA\"")
+                .append(", \"propertyAddress\": \"").append(i).append(" Ocean Drive\"")
+                .append(", \"propertyPhoneNumber\": \"+1-305-555-").append(String.format("%04d", i % 10_000))
+                .append("\", \"propertyEmailAddress\": \"info").append(i).append("@example.com\"")
+                .append(", \"propertyAirportProximity\": \"").append(i % 40).append(" miles from the airport\"")
+                .append(", \"propertyDescription\": \"").append("A quiet stay close to the beach. ".repeat(8))
+                .append("\", \"propertyPricePerNight\": ").append(100 + i % 400).append(".99")
+                .append(", \"propertyCommissionAmount\": ").append(10 + i % 60).append(".5")
+                .append(", \"propertyCancellationPenalty\": \"50% if cancelled within 48 hours\"}");
+        }
+        feed = json.append("\n]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Materializes each record as a tree and maps it.
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void tree(Blackhole blackhole) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(feed)) {
+            parser.nextToken();
+            parser.nextToken();
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                blackhole.consume(JsonStreamingPropertyReader.toProperty(parser.readValueAsTree()));
+            }
+        }
+    }
+
+    /**
+     * Binds each record straight from its tokens.
+     */
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void tokens(Blackhole blackhole) throws IOException {
+        try (JsonStreamingPropertyReader reader = new JsonStreamingPropertyReader(objectMapper,
+                new ByteArrayInputStream(feed))) {
+            for (Property property = reader.read(); property != null; property = reader.read()) {
+                blackhole.consume(property);
+            }
+        }
+    }
+
+    /**
+     * Runs both benchmarks with the GC profiler.
+     *
+     * @param args ignored
+     * @throws RunnerException if the benchmark cannot be run
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(PropertyBindingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
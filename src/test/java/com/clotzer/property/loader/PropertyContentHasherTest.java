@@ -0,0 +1,69 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyContentHasher class.
+ *
+ * <p>This test class verifies that the content hash is stable for equal content, ignores the ID,
+ * and changes when any descriptive field changes.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyContentHasherTest {
+
+    private static Property property(long id) {
+        return new Property(
+            id, "Test Resort", "Beachfront", "Miami", "Florida", "USA",
+            "123 Ocean Drive", "+1-305-555-0123", "info@testresort.com",
+            "10 miles from Miami International", "Beautiful beachfront resort",
+            new BigDecimal("299.99"), new BigDecimal("45.00"), "50% if cancelled within 48 hours"
+        );
+    }
+
+    @Test
+    @DisplayName("Test equal content hashes equally regardless of ID")
+    void testStableHash() {
+        assertEquals(PropertyContentHasher.hash(property(1L)), PropertyContentHasher.hash(property(2L)));
+    }
+
+    @Test
+    @DisplayName("Test changing any field changes the hash")
+    void testFieldChangeChangesHash() {
+        long original = PropertyContentHasher.hash(property(1L));
+
+        Property cheaper = property(1L);
+        cheaper.setPropertyPricePerNight(new BigDecimal("279.99"));
+        Property renamed = property(1L);
+        renamed.setPropertyCancellationPenalty("None");
+
+        assertNotEquals(original, PropertyContentHasher.hash(cheaper));
+        assertNotEquals(original, PropertyContentHasher.hash(renamed));
+    }
+
+    @Test
+    @DisplayName("Test field boundaries and nulls are part of the hash")
+    void testFieldBoundaries() {
+        Property first = property(1L);
+        first.setPropertyCity("Mia");
+        first.setPropertyState("miFlorida");
+        Property second = property(1L);
+        second.setPropertyCity("Miami");
+        second.setPropertyState("Florida");
+        Property nullState = property(1L);
+        nullState.setPropertyState(null);
+        Property emptyState = property(1L);
+        emptyState.setPropertyState("");
+
+        assertNotEquals(PropertyContentHasher.hash(first), PropertyContentHasher.hash(second));
+        assertNotEquals(PropertyContentHasher.hash(nullState), PropertyContentHasher.hash(emptyState));
+    }
+}
@@ -0,0 +1,151 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyDeduplicator and DuplicatePolicy classes.
+ *
+ * <p>This test class verifies each duplicate policy, the optional email check, and that one
+ * deduplicator detects duplicates across the readers of a load.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyDeduplicatorTest {
+
+    private static Property property(long id, String name, String email) {
+        Property property = new Property();
+        property.setId(id);
+        property.setPropertyName(name);
+        property.setPropertyEmailAddress(email);
+        return property;
+    }
+
+    private static PropertyRecordReader readerOf(Property... properties) {
+        Iterator<Property> iterator = List.of(properties).iterator();
+        return new PropertyRecordReader() {
+            @Override
+            public Property read() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Reads every record, collecting property names and counting rejections.
+     */
+    private static List<String> readAll(PropertyRecordReader reader, List<RejectedRecordException> rejected) throws IOException {
+        List<String> names = new ArrayList<>();
+        while (true) {
+            try {
+                Property property = reader.read();
+                if (property == null) {
+                    return names;
+                }
+                names.add(property.getPropertyName());
+            } catch (RejectedRecordException e) {
+                rejected.add(e);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test first-wins drops later duplicates")
+    void testFirstWins() throws IOException {
+        PropertyDeduplicator deduplicator = new PropertyDeduplicator(DuplicatePolicy.FIRST_WINS, false);
+        List<RejectedRecordException> rejected = new ArrayList<>();
+
+        List<String> names = readAll(deduplicator.track(readerOf(property(1, "a", null), property(2, "b", null),
+            property(1, "c", null), property(1, "d", null))), rejected);
+
+        assertEquals(List.of("a", "b"), names);
+        assertTrue(rejected.isEmpty());
+        assertEquals(2, deduplicator.getDuplicateIds());
+        assertEquals(2, deduplicator.getDistinctIds());
+        assertTrue(deduplicator.drainReplacements().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test last-wins holds back the last duplicate of each id")
+    void testLastWins() throws IOException {
+        PropertyDeduplicator deduplicator = new PropertyDeduplicator(DuplicatePolicy.LAST_WINS, false);
+
+        List<String> names = readAll(deduplicator.track(readerOf(property(1, "a", null), property(2, "b", null),
+            property(1, "c", null), property(1, "d", null))), new ArrayList<>());
+
+        assertEquals(List.of("a", "b"), names);
+        List<Property> replacements = deduplicator.drainReplacements();
+        assertEquals(1, replacements.size());
+        assertEquals("d", replacements.get(0).getPropertyName());
+        assertTrue(deduplicator.drainReplacements().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test reject numbers the rejected duplicate by its record")
+    void testReject() throws IOException {
+        PropertyDeduplicator deduplicator = new PropertyDeduplicator(DuplicatePolicy.REJECT, false);
+        List<RejectedRecordException> rejected = new ArrayList<>();
+
+        List<String> names = readAll(deduplicator.track(readerOf(property(1, "a", null), property(2, "b", null),
+            property(2, "c", null))), rejected);
+
+        assertEquals(List.of("a", "b"), names);
+        assertEquals(1, rejected.size());
+        assertEquals(3, rejected.get(0).getRecord());
+        assertTrue(rejected.get(0).getMessage().contains("Duplicate id 2"));
+    }
+
+    @Test
+    @DisplayName("Test repeated email addresses are detected ignoring case and whitespace")
+    void testDuplicateEmail() throws IOException {
+        PropertyDeduplicator deduplicator = new PropertyDeduplicator(DuplicatePolicy.REJECT, true);
+        List<RejectedRecordException> rejected = new ArrayList<>();
+
+        List<String> names = readAll(deduplicator.track(readerOf(property(1, "a", "host@example.com"),
+            property(2, "b", " HOST@example.com "), property(3, "c", ""), property(4, "d", ""),
+            property(2, "e", "other@example.com"))), rejected);
+
+        assertEquals(List.of("a", "c", "d", "e"), names);
+        assertEquals(1, rejected.size());
+        assertEquals(1, deduplicator.getDuplicateEmails());
+        assertEquals(0, deduplicator.getDuplicateIds());
+    }
+
+    @Test
+    @DisplayName("Test duplicates are detected across readers sharing a deduplicator")
+    void testAcrossReaders() throws IOException {
+        PropertyDeduplicator deduplicator = new PropertyDeduplicator(DuplicatePolicy.FIRST_WINS, false);
+
+        List<String> first = readAll(deduplicator.track(readerOf(property(1, "a", null))), new ArrayList<>());
+        List<String> second = readAll(deduplicator.track(readerOf(property(1, "b", null), property(2, "c", null))),
+            new ArrayList<>());
+
+        assertEquals(List.of("a"), first);
+        assertEquals(List.of("c"), second);
+    }
+
+    @Test
+    @DisplayName("Test policies parse from configuration values")
+    void testPolicyFrom() {
+        assertEquals(DuplicatePolicy.FIRST_WINS, DuplicatePolicy.from("first-wins"));
+        assertEquals(DuplicatePolicy.LAST_WINS, DuplicatePolicy.from("LAST_WINS"));
+        assertEquals(DuplicatePolicy.REJECT, DuplicatePolicy.from(" reject "));
+        assertNull(DuplicatePolicy.from("none"));
+        assertNull(DuplicatePolicy.from(""));
+        assertThrows(IllegalArgumentException.class, () -> DuplicatePolicy.from("newest"));
+    }
+}
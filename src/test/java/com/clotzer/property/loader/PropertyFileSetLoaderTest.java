@@ -0,0 +1,214 @@
+package com.clotzer.property.loader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyFileSetLoader and ConcatenatingPropertyRecordReader classes.
+ *
+ * <p>This test class verifies that every file of a set is loaded, that files load on named
+ * file threads, that memory-mapped and NDJSON segment parsing load each record once, and that a
+ * broken file is reported without stopping the others.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyFileSetLoaderTest {
+
+    @TempDir
+    Path feeds;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Path feed(String name, long firstId, int count) throws IOException {
+        StringBuilder json = new StringBuilder("{\"properties\": [");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\": ").append(firstId + i);
+            for (String field : List.of("propertyName", "propertyLocation", "propertyCity", "propertyState",
+                    "propertyCountry", "propertyAddress", "propertyPhoneNumber", "propertyEmailAddress",
+                    "propertyAirportProximity", "propertyDescription", "propertyCancellationPenalty")) {
+                json.append(", \"").append(field).append("\": \"x\"");
+            }
+            json.append(", \"propertyPricePerNight\": 100, \"propertyCommissionAmount\": 10");
+            json.append('}');
+        }
+        return Files.writeString(feeds.resolve(name), json.append("]}").toString());
+    }
+
+    @Test
+    @DisplayName("Test every file is loaded and reported")
+    void testLoadsAllFiles() throws Exception {
+        List<Path> files = List.of(feed("a.json", 1, 30), feed("b.json", 101, 20), feed("c.json", 201, 10));
+        Set<Long> written = ConcurrentHashMap.newKeySet();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<PropertyFileSetLoader.FileResult> results = PropertyFileSetLoader.builder(objectMapper, chunk -> {
+            threads.add(Thread.currentThread().getName());
+            chunk.forEach(property -> assertTrue(written.add(property.getId())));
+        }).fileThreads(2).writerThreadsPerFile(2).chunkSize(7).build().load(files);
+
+        assertEquals(3, results.size());
+        assertEquals(files, results.stream().map(PropertyFileSetLoader.FileResult::file).toList());
+        assertTrue(results.stream().allMatch(PropertyFileSetLoader.FileResult::succeeded));
+        assertEquals(30, results.get(0).result().persisted());
+        assertEquals(60, written.size());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("property-writer-")));
+    }
+
+    @Test
+    @DisplayName("Test memory-mapped files parsed in segments load every record once")
+    void testMemoryMappedSegments() throws Exception {
+        List<Path> files = List.of(feed("a.json", 1, 500), feed("b.json", 1001, 3));
+        Set<Long> written = ConcurrentHashMap.newKeySet();
+
+        List<PropertyFileSetLoader.FileResult> results = PropertyFileSetLoader.builder(objectMapper, chunk -> {
+            chunk.forEach(property -> assertTrue(written.add(property.getId()), "Duplicate id " + property.getId()));
+        }).fileThreads(2).writerThreadsPerFile(4).chunkSize(25).memoryMapped(true).segmentsPerFile(4)
+            .build().load(files);
+
+        assertTrue(results.stream().allMatch(PropertyFileSetLoader.FileResult::succeeded));
+        assertEquals(500, results.get(0).result().parsed());
+        assertEquals(500, results.get(0).result().persisted());
+        assertEquals(3, results.get(1).result().persisted());
+        assertEquals(503, written.size());
+    }
+
+    @Test
+    @DisplayName("Test NDJSON files parsed in line-split segments load every record once")
+    void testNdjsonSegments() throws Exception {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 1; i <= 400; i++) {
+            lines.append("{\"id\": ").append(i);
+            for (String field : List.of("propertyName", "propertyLocation", "propertyCity", "propertyState",
+                    "propertyCountry", "propertyAddress", "propertyPhoneNumber", "propertyEmailAddress",
+                    "propertyAirportProximity", "propertyDescription", "propertyCancellationPenalty")) {
+                lines.append(", \"").append(field).append("\": \"x\"");
+            }
+            lines.append(", \"propertyPricePerNight\": 100, \"propertyCommissionAmount\": 10");
+            lines.append("}\n");
+        }
+        lines.append("not json\n");
+        Path file = Files.writeString(feeds.resolve("a.ndjson"), lines);
+        Set<Long> written = ConcurrentHashMap.newKeySet();
+
+        List<PropertyFileSetLoader.FileResult> results = PropertyFileSetLoader.builder(objectMapper, chunk -> {
+            chunk.forEach(property -> assertTrue(written.add(property.getId()), "Duplicate id " + property.getId()));
+        }).writerThreadsPerFile(4).chunkSize(25).segmentsPerFile(4).build().load(List.of(file));
+
+        assertTrue(results.get(0).succeeded());
+        assertEquals(400, results.get(0).result().parsed());
+        assertEquals(1, results.get(0).result().rejected());
+        assertEquals(400, written.size());
+    }
+
+    @Test
+    @DisplayName("Test progress counts the records and file bytes of whole and segmented files")
+    void testProgress() throws Exception {
+        List<Path> files = List.of(feed("a.json", 1, 300), feed("b.json", 1001, 40));
+        long whole = Files.size(files.get(1));
+        PropertyLoadProgress progress = new PropertyLoadProgress();
+        progress.start();
+        PropertyChunkWriter writer = progress.track((PropertyChunkWriter) chunk -> { });
+
+        PropertyFileSetLoader.builder(objectMapper, writer).fileThreads(2).writerThreadsPerFile(2).chunkSize(25)
+            .progress(progress).build().load(files.subList(1, 2));
+        PropertyLoadProgress.Report afterWhole = progress.report();
+        PropertyFileSetLoader.builder(objectMapper, writer).fileThreads(2).writerThreadsPerFile(2).chunkSize(25)
+            .memoryMapped(true).segmentsPerFile(3).progress(progress).build().load(files.subList(0, 1));
+        PropertyLoadProgress.Report afterSegments = progress.report();
+
+        assertEquals(40, afterWhole.parsed());
+        assertEquals(40, afterWhole.persisted());
+        assertEquals(whole, afterWhole.bytesRead());
+        assertEquals(340, afterSegments.persisted());
+        // Segments cover the records only, not the envelope and the separators between segments
+        long segmented = afterSegments.bytesRead() - whole;
+        assertTrue(segmented <= Files.size(files.get(0)) && segmented > Files.size(files.get(0)) - 32,
+            "Unexpected segment byte count " + segmented);
+    }
+
+    @Test
+    @DisplayName("Test a broken file is reported while the others load")
+    void testBrokenFileIsIsolated() throws Exception {
+        Path good = feed("good.json", 1, 5);
+        Path broken = Files.writeString(feeds.resolve("broken.json"), "{\"properties\": [ {\"id\": 1,");
+        List<Long> written = new ArrayList<>();
+
+        List<PropertyFileSetLoader.FileResult> results = PropertyFileSetLoader.builder(objectMapper, chunk -> {
+            synchronized (written) {
+                chunk.forEach(property -> written.add(property.getId()));
+            }
+        }).fileThreads(2).chunkSize(10).build().load(List.of(broken, good));
+
+        assertFalse(results.get(0).succeeded());
+        assertNotNull(results.get(0).error());
+        assertTrue(results.get(1).succeeded());
+        assertEquals(5, written.size());
+    }
+
+    @Test
+    @DisplayName("Test a load resumes from its checkpoint, skipping complete files")
+    void testResumeFromCheckpoint() throws Exception {
+        List<Path> files = List.of(feed("a.json", 1, 30), feed("b.json", 101, 20));
+        Path file = feeds.resolve("checkpoint.json");
+        long checksum = PropertySnapshot.checksum(files);
+        Set<Long> written = ConcurrentHashMap.newKeySet();
+
+        PropertyLoadCheckpoint first = PropertyLoadCheckpoint.open(objectMapper, file, checksum);
+        PropertyFileSetLoader.builder(objectMapper, chunk -> {
+            if (chunk.get(0).getId() == 21) {
+                throw new IllegalStateException("Connection lost");
+            }
+            chunk.forEach(property -> written.add(property.getId()));
+        }).fileThreads(2).chunkSize(10).checkpoint(first).build().load(files);
+
+        PropertyLoadCheckpoint second = PropertyLoadCheckpoint.open(objectMapper, file, checksum);
+        assertEquals(20, second.position(files.get(0).toString()).records());
+        assertTrue(second.position(files.get(1).toString()).complete());
+
+        List<Long> resumed = new ArrayList<>();
+        List<PropertyFileSetLoader.FileResult> results = PropertyFileSetLoader.builder(objectMapper, chunk -> {
+            synchronized (resumed) {
+                chunk.forEach(property -> resumed.add(property.getId()));
+            }
+        }).fileThreads(2).chunkSize(10).checkpoint(second).build().load(files);
+
+        assertEquals(10, results.get(0).result().persisted());
+        assertEquals(0, results.get(1).result().parsed());
+        assertEquals(21L, resumed.get(0));
+        written.addAll(resumed);
+        assertEquals(50, written.size());
+        assertTrue(second.finish(files.stream().map(Path::toString).toList()));
+    }
+
+    @Test
+    @DisplayName("Test concatenating reader reads files one after another")
+    void testConcatenatingReader() throws Exception {
+        List<Path> files = List.of(feed("a.json", 1, 2), feed("empty.json", 0, 0), feed("b.json", 10, 1));
+        List<Long> ids = new ArrayList<>();
+
+        try (ConcatenatingPropertyRecordReader reader = new ConcatenatingPropertyRecordReader(objectMapper, files)) {
+            for (var property = reader.read(); property != null; property = reader.read()) {
+                ids.add(property.getId());
+            }
+        }
+
+        assertEquals(List.of(1L, 2L, 10L), ids);
+    }
+}
@@ -0,0 +1,124 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyJsonBinder class.
+ *
+ * <p>This test class verifies that binding from tokens produces the same property and content hash as
+ * mapping a {@code JsonNode} tree, including for numeric, null and container values, that amounts
+ * which do not fit the price columns are rejected by both, and that a record with a missing field is
+ * rejected.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyJsonBinderTest {
+
+    private static final String FIELDS = "\"propertyName\": \"Test Resort\", \"propertyLocation\": \"Beachfront\", "
+        + "\"propertyCity\": \"Miami\", \"propertyState\": \"Florida\", \"propertyCountry\": \"USA\", "
+        + "\"propertyAddress\": \"123 Ocean Drive\", \"propertyPhoneNumber\": \"+1-305-555-0123\", "
+        + "\"propertyEmailAddress\": \"info@testresort.com\", \"propertyAirportProximity\": \"10 miles\", "
+        + "\"propertyDescription\": \"Beautiful\", \"propertyCancellationPenalty\": \"50%\"";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final PropertyJsonBinder binder = new PropertyJsonBinder();
+
+    private Property bind(String json) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+            Property property = binder.bind(parser);
+            assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+            return property;
+        }
+    }
+
+    private static void assertSameProperty(Property expected, Property actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getPropertyName(), actual.getPropertyName());
+        assertEquals(expected.getPropertyCancellationPenalty(), actual.getPropertyCancellationPenalty());
+        assertEquals(expected.getPropertyPricePerNight(), actual.getPropertyPricePerNight());
+        assertEquals(expected.getPropertyCommissionAmount(), actual.getPropertyCommissionAmount());
+        assertEquals(expected.getContentHash(), actual.getContentHash());
+    }
+
+    @Test
+    @DisplayName("Test values bind as the tree mapping converts them")
+    void testMatchesTreeMapping() throws IOException {
+        String[][] cases = {
+            {"1", "299.99", "45.00"},
+            {"\"42\"", "-0", "1e3"},
+            {"1.9", "1234567890.12", "\" 12.5 \""},
+            {"true", "null", "\"\""},
+            {"{\"nested\": [1]}", "0.10", "45"},
+            {"99999999999999999999", "\"12.50\"", "-0.0"}
+        };
+        for (String[] values : cases) {
+            String json = "{\"id\": " + values[0] + ", " + FIELDS + ", \"propertyPricePerNight\": " + values[1]
+                + ", \"propertyCommissionAmount\": " + values[2] + "}";
+
+            assertSameProperty(JsonStreamingPropertyReader.toProperty(objectMapper.readTree(json)), bind(json));
+        }
+    }
+
+    @Test
+    @DisplayName("Test unknown fields are skipped and a repeated field keeps its last value")
+    void testUnknownAndRepeatedFields() throws IOException {
+        Property property = bind("{\"extra\": {\"a\": [1, {\"b\": 2}]}, \"id\": 1, \"id\": 5, " + FIELDS
+            + ", \"propertyPricePerNight\": 10, \"propertyCommissionAmount\": 2, \"tags\": [\"x\"]}");
+
+        assertEquals(5L, property.getId());
+        assertEquals(new BigDecimal("10.00"), property.getPropertyPricePerNight());
+        assertEquals(PropertyContentHasher.hash(property), property.getContentHash());
+    }
+
+    @Test
+    @DisplayName("Test amounts that do not fit the price columns are rejected as by the tree mapping")
+    void testInvalidAmounts() throws IOException {
+        String[] amounts = {"1.005", "12345678901", "\"1,000\"", "true", "[1]", "{\"a\": 1}"};
+        for (String amount : amounts) {
+            String json = "{\"id\": 1, " + FIELDS + ", \"propertyPricePerNight\": " + amount
+                + ", \"propertyCommissionAmount\": 2}";
+
+            assertThrows(IllegalArgumentException.class,
+                () -> JsonStreamingPropertyReader.toProperty(objectMapper.readTree(json)));
+            try (JsonParser parser = objectMapper.createParser(json)) {
+                parser.nextToken();
+                IllegalArgumentException invalid = assertThrows(IllegalArgumentException.class, () -> binder.bind(parser));
+                assertTrue(invalid.getMessage().startsWith("Field 'propertyPricePerNight'"), invalid.getMessage());
+                assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test a missing field is reported")
+    void testMissingField() {
+        String json = "{\"id\": 7, \"propertyName\": \"Test Resort\", \"unknown\": true, \"propertyPricePerNight\": 9.5}";
+
+        IllegalArgumentException missing = assertThrows(IllegalArgumentException.class, () -> bind(json));
+
+        assertEquals("Missing field 'propertyLocation'", missing.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test a missing ID is reported first")
+    void testMissingId() {
+        IllegalArgumentException missing = assertThrows(IllegalArgumentException.class,
+            () -> bind("{" + FIELDS + "}"));
+
+        assertEquals("Missing field 'id'", missing.getMessage());
+    }
+}
@@ -0,0 +1,180 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyLoadCheckpoint class.
+ *
+ * <p>This test class verifies that positions survive a restart only for the same feed, that the
+ * checkpoint is removed once every source is complete, and that resumed readers continue after the
+ * recorded position with absolute byte offsets.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyLoadCheckpointTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static String record(long id) {
+        StringBuilder json = new StringBuilder("{\"id\": ").append(id);
+        for (String field : List.of("propertyName", "propertyLocation", "propertyCity", "propertyState",
+                "propertyCountry", "propertyAddress", "propertyPhoneNumber", "propertyEmailAddress",
+                "propertyAirportProximity", "propertyDescription", "propertyCancellationPenalty")) {
+            json.append(", \"").append(field).append("\": \"x\"");
+        }
+        json.append(", \"propertyPricePerNight\": 100, \"propertyCommissionAmount\": 10");
+        return json.append('}').toString();
+    }
+
+    private static String jsonFeed(int count) {
+        List<String> records = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            records.add(record(i));
+        }
+        return "{\"properties\": [\n  " + String.join(",\n  ", records) + "\n]}";
+    }
+
+    private static PropertyLoadCheckpoint.FeedOpener opener(String feed) {
+        byte[] bytes = feed.getBytes(StandardCharsets.UTF_8);
+        return offset -> new ByteArrayInputStream(bytes, (int) offset, bytes.length - (int) offset);
+    }
+
+    private static List<Long> ids(PropertyRecordReader reader) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (Property property = reader.read(); property != null; property = reader.read()) {
+            ids.add(property.getId());
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Test positions are kept for the same feed and dropped for a changed one")
+    void testReopen() throws IOException {
+        Path file = directory.resolve("state/checkpoint.json");
+        PropertyLoadCheckpoint checkpoint = PropertyLoadCheckpoint.open(objectMapper, file, 42);
+        assertFalse(checkpoint.isResumed());
+
+        checkpoint.committed("a.json", 1000, 123456);
+        checkpoint.completed("b.json");
+
+        PropertyLoadCheckpoint reopened = PropertyLoadCheckpoint.open(objectMapper, file, 42);
+        assertTrue(reopened.isResumed());
+        assertEquals(new PropertyLoadCheckpoint.Position(1000, 123456, false), reopened.position("a.json"));
+        assertTrue(reopened.position("b.json").complete());
+        assertTrue(reopened.position("c.json").isStart());
+
+        PropertyLoadCheckpoint changed = PropertyLoadCheckpoint.open(objectMapper, file, 43);
+        assertFalse(changed.isResumed());
+        assertEquals(PropertyLoadCheckpoint.Position.START, changed.position("a.json"));
+    }
+
+    @Test
+    @DisplayName("Test the checkpoint is deleted only once every source is complete")
+    void testFinish() throws IOException {
+        Path file = directory.resolve("checkpoint.json");
+        PropertyLoadCheckpoint checkpoint = PropertyLoadCheckpoint.open(objectMapper, file, 7);
+        checkpoint.completed("a.json");
+        checkpoint.committed("b.json", 10, -1);
+
+        assertFalse(checkpoint.finish(List.of("a.json", "b.json")));
+        assertTrue(Files.exists(file));
+
+        checkpoint.completed("b.json");
+        assertTrue(checkpoint.finish(List.of("a.json", "b.json")));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    @DisplayName("Test an unreadable checkpoint starts the load from the beginning")
+    void testUnreadableCheckpoint() throws IOException {
+        Path file = Files.writeString(directory.resolve("checkpoint.json"), "{\"version\": 1, \"sources\":");
+
+        PropertyLoadCheckpoint checkpoint = PropertyLoadCheckpoint.open(objectMapper, file, 7);
+
+        assertFalse(checkpoint.isResumed());
+    }
+
+    @Test
+    @DisplayName("Test a JSON feed resumes at the byte offset after the last written record")
+    void testResumeJsonAtOffset() throws IOException {
+        String feed = jsonFeed(5);
+        long offset;
+        long endOffset;
+        try (JsonStreamingPropertyReader reader = new JsonStreamingPropertyReader(objectMapper, opener(feed).open(0))) {
+            reader.read();
+            reader.read();
+            offset = reader.getRecordEndOffset();
+            reader.read();
+            endOffset = reader.getRecordEndOffset();
+        }
+
+        PropertyLoadCheckpoint.Resumed resumed = PropertyLoadCheckpoint.resume(objectMapper, FeedFormat.JSON, true,
+            opener(feed), new PropertyLoadCheckpoint.Position(2, offset, false));
+
+        try (PropertyRecordReader reader = resumed.reader()) {
+            assertEquals(2, resumed.firstRecord());
+            assertEquals(offset, resumed.offsets().getAsLong());
+            assertEquals(3L, reader.read().getId());
+            assertEquals(endOffset, resumed.offsets().getAsLong());
+            assertEquals(List.of(4L, 5L), ids(reader));
+        }
+    }
+
+    @Test
+    @DisplayName("Test an NDJSON feed resumes at the byte offset after the last written line")
+    void testResumeNdjsonAtOffset() throws IOException {
+        String feed = record(1) + "\n" + record(2) + "\n" + record(3) + "\n";
+        long offset = feed.indexOf('\n') + 1;
+
+        PropertyLoadCheckpoint.Resumed resumed = PropertyLoadCheckpoint.resume(objectMapper, FeedFormat.NDJSON, true,
+            opener(feed), new PropertyLoadCheckpoint.Position(1, offset, false));
+
+        try (PropertyRecordReader reader = resumed.reader()) {
+            assertEquals(2L, reader.read().getId());
+            assertEquals(feed.indexOf('\n', (int) offset) + 1, resumed.offsets().getAsLong());
+            assertEquals(List.of(3L), ids(reader));
+        }
+    }
+
+    @Test
+    @DisplayName("Test a feed that cannot be seeked skips the written records, counting rejected ones")
+    void testResumeBySkipping() throws IOException {
+        String feed = "{\"properties\": [" + record(1) + ", 17, " + record(2) + ", " + record(3) + "]}";
+
+        PropertyLoadCheckpoint.Resumed resumed = PropertyLoadCheckpoint.resume(objectMapper, FeedFormat.JSON, false,
+            opener(feed), new PropertyLoadCheckpoint.Position(3, 999, false));
+
+        try (PropertyRecordReader reader = resumed.reader()) {
+            assertEquals(-1, resumed.offsets().getAsLong());
+            assertEquals(List.of(3L), ids(reader));
+        }
+    }
+
+    @Test
+    @DisplayName("Test resuming past the end of the feed fails")
+    void testResumePastEnd() {
+        String feed = record(1) + "\n";
+
+        assertThrows(IOException.class, () -> PropertyLoadCheckpoint.resume(objectMapper, FeedFormat.NDJSON, false,
+            opener(feed), new PropertyLoadCheckpoint.Position(2, -1, false)));
+    }
+}
@@ -0,0 +1,214 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyLoadPipeline class.
+ *
+ * <p>This test class verifies that the pipeline persists every parsed record exactly once,
+ * spreads chunks across writer threads, isolates parse and write failures, and keeps only a bounded
+ * number of positions while reporting written chunks.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyLoadPipelineTest {
+
+    /**
+     * In-memory reader returning the given items; {@code null} entries simulate unparseable records.
+     */
+    private static PropertyRecordReader readerOf(List<Property> items) {
+        Iterator<Property> iterator = items.iterator();
+        return new PropertyRecordReader() {
+            @Override
+            public Property read() {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                Property next = iterator.next();
+                if (next == null) {
+                    throw new IllegalArgumentException("Bad record");
+                }
+                return next;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static List<Property> properties(int count) {
+        List<Property> properties = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Property property = new Property();
+            property.setId(i);
+            properties.add(property);
+        }
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Test pipeline persists every record exactly once")
+    void testPersistsAllRecords() throws IOException, InterruptedException {
+        Set<Long> written = ConcurrentHashMap.newKeySet();
+        AtomicInteger chunks = new AtomicInteger();
+        PropertyLoadPipeline pipeline = new PropertyLoadPipeline(chunk -> {
+            chunks.incrementAndGet();
+            chunk.forEach(p -> assertTrue(written.add(p.getId()), "Duplicate write of id " + p.getId()));
+        }, 4, 10, 2);
+
+        PropertyLoadPipeline.Result result = pipeline.run(readerOf(properties(95)));
+
+        assertEquals(95, result.parsed());
+        assertEquals(95, result.persisted());
+        assertEquals(0, result.failed());
+        assertEquals(95, written.size());
+        assertEquals(10, chunks.get());
+    }
+
+    @Test
+    @DisplayName("Test pipeline uses multiple writer threads")
+    void testUsesWriterThreads() throws IOException, InterruptedException {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        PropertyLoadPipeline pipeline = new PropertyLoadPipeline(chunk -> {
+            threads.add(Thread.currentThread().getName());
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 3, 1, 3);
+
+        pipeline.run(readerOf(properties(30)));
+
+        assertTrue(threads.size() > 1, "Expected chunks to be written by more than one thread");
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("property-writer-")));
+    }
+
+    @Test
+    @DisplayName("Test pipeline isolates a failing chunk")
+    void testFailingChunkIsIsolated() throws IOException, InterruptedException {
+        PropertyLoadPipeline pipeline = new PropertyLoadPipeline(chunk -> {
+            if (chunk.get(0).getId() == 11) {
+                throw new RuntimeException("Database error");
+            }
+        }, 2, 10, 2);
+
+        PropertyLoadPipeline.Result result = pipeline.run(readerOf(properties(30)));
+
+        assertEquals(30, result.parsed());
+        assertEquals(20, result.persisted());
+        assertEquals(10, result.failed());
+    }
+
+    @Test
+    @DisplayName("Test pipeline keeps draining after a writer throws an Error")
+    void testErrorInWriterIsIsolated() {
+        PropertyLoadPipeline pipeline = new PropertyLoadPipeline(chunk -> {
+            if (chunk.get(0).getId() == 1) {
+                throw new StackOverflowError();
+            }
+        }, 1, 10, 1);
+
+        PropertyLoadPipeline.Result result = assertTimeoutPreemptively(Duration.ofSeconds(10),
+            () -> pipeline.run(readerOf(properties(50))));
+
+        assertEquals(50, result.parsed());
+        assertEquals(40, result.persisted());
+        assertEquals(10, result.failed());
+    }
+
+    @Test
+    @DisplayName("Test pipeline reports written positions in feed order and stops at a failed chunk")
+    void testCommitListener() throws IOException, InterruptedException {
+        List<Property> items = properties(40);
+        items.add(5, null);
+        List<Long> positions = new ArrayList<>();
+        PropertyLoadPipeline pipeline = new PropertyLoadPipeline(chunk -> {
+            if (chunk.get(0).getId() == 31) {
+                throw new RuntimeException("Database error");
+            }
+            try {
+                Thread.sleep(chunk.get(0).getId() == 1 ? 30 : 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 3, 10, 3);
+
+        pipeline.run(readerOf(items), () -> -1, (records, offset) -> {
+            synchronized (positions) {
+                positions.add(records);
+            }
+        });
+
+        // Chunks end after 11, 21, 31 and 41 records, counting the rejected one; the fourth chunk failed
+        assertTrue(Set.of(11L, 21L, 31L).containsAll(positions), "Unexpected positions " + positions);
+        assertEquals(31L, positions.get(positions.size() - 1));
+        for (int i = 1; i < positions.size(); i++) {
+            assertTrue(positions.get(i) > positions.get(i - 1), "Positions must increase: " + positions);
+        }
+    }
+
+    @Test
+    @DisplayName("Test chunks written after a failed first chunk are not kept waiting")
+    void testFailedFirstChunkKeepsTrackerEmpty() throws IOException, InterruptedException {
+        List<Long> positions = new ArrayList<>();
+        PropertyLoadPipeline.CommitTracker tracker =
+            new PropertyLoadPipeline.CommitTracker((records, offset) -> positions.add(records));
+        AtomicInteger mostWaiting = new AtomicInteger();
+        PropertyLoadPipeline pipeline = new PropertyLoadPipeline(chunk -> {
+            mostWaiting.accumulateAndGet(tracker.waitingCount(), Math::max);
+            if (chunk.get(0).getId() == 1) {
+                throw new RuntimeException("Database error");
+            }
+        }, 2, 10, 2);
+
+        PropertyLoadPipeline.Result result = pipeline.run(readerOf(properties(500)), () -> -1, tracker);
+
+        assertEquals(490, result.persisted());
+        assertEquals(10, result.failed());
+        assertTrue(positions.isEmpty(), "No position follows a failed first chunk: " + positions);
+        assertEquals(0, tracker.waitingCount());
+        assertTrue(mostWaiting.get() <= 4, "Tracker held " + mostWaiting.get() + " chunks");
+    }
+
+    @Test
+    @DisplayName("Test pipeline counts unparseable records and continues")
+    void testRejectedRecordsAreCounted() throws IOException, InterruptedException {
+        List<Property> items = properties(5);
+        items.add(2, null);
+        PropertyLoadPipeline pipeline = new PropertyLoadPipeline(chunk -> { }, 1, 2, 1);
+
+        PropertyLoadPipeline.Result result = pipeline.run(readerOf(items));
+
+        assertEquals(5, result.parsed());
+        assertEquals(1, result.rejected());
+        assertEquals(5, result.persisted());
+    }
+
+    @Test
+    @DisplayName("Test pipeline handles an empty feed")
+    void testEmptyFeed() throws IOException, InterruptedException {
+        PropertyLoadPipeline pipeline = new PropertyLoadPipeline(chunk -> fail("No chunk expected"), 4, 10, 4);
+
+        PropertyLoadPipeline.Result result = pipeline.run(readerOf(List.of()));
+
+        assertEquals(0, result.parsed());
+        assertEquals(0, result.persisted());
+    }
+}
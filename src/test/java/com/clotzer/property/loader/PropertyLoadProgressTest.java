@@ -0,0 +1,190 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyLoadProgress class.
+ *
+ * <p>This test class verifies that the reader, writer and stream decorators count records and bytes,
+ * that concurrent updates are not lost, and that the phase, rates and estimate are reported.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyLoadProgressTest {
+
+    /**
+     * In-memory reader returning the given items; {@code null} entries simulate unparseable records.
+     */
+    private static PropertyRecordReader readerOf(List<Property> items) {
+        Iterator<Property> iterator = items.iterator();
+        return new PropertyRecordReader() {
+            @Override
+            public Property read() {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                Property next = iterator.next();
+                if (next == null) {
+                    throw new IllegalArgumentException("Bad record");
+                }
+                return next;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static List<Property> properties(int count) {
+        List<Property> properties = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Property property = new Property();
+            property.setId(i);
+            properties.add(property);
+        }
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Test a pipeline run is counted through the tracked reader, writer and stream")
+    void testCountsPipelineRun() throws IOException, InterruptedException {
+        // Arrange
+        PropertyLoadProgress progress = new PropertyLoadProgress();
+        progress.start();
+        progress.setPhase(PropertyLoadProgress.Phase.LOADING);
+        List<Property> items = properties(95);
+        items.add(10, null);
+        PropertyChunkWriter writer = progress.track((PropertyChunkWriter) chunk -> {
+            if (chunk.get(0).getId() == 91) {
+                throw new IllegalStateException("Database error");
+            }
+        });
+
+        // Act
+        PropertyLoadPipeline.Result result = new PropertyLoadPipeline(writer, 4, 10, 4)
+            .run(progress.track(readerOf(items)));
+        PropertyLoadProgress.Report report = progress.report();
+
+        // Assert
+        assertEquals(PropertyLoadProgress.Phase.LOADING, report.phase());
+        assertEquals(result.parsed(), report.parsed());
+        assertEquals(95, report.parsed());
+        assertEquals(1, report.rejected());
+        assertEquals(90, report.persisted());
+        assertEquals(5, report.failed());
+        assertEquals(6, report.errors());
+    }
+
+    @Test
+    @DisplayName("Test bytes read are counted against the feed size")
+    void testCountsBytes() throws IOException {
+        // Arrange
+        PropertyLoadProgress progress = new PropertyLoadProgress();
+        progress.start();
+        progress.setBytesTotal(1000);
+
+        // Act
+        try (InputStream in = progress.count(new ByteArrayInputStream(new byte[400]))) {
+            in.read();
+            in.read(new byte[99]);
+            in.skip(100);
+        }
+        PropertyLoadProgress.Report report = progress.report();
+
+        // Assert
+        assertEquals(200, report.bytesRead());
+        assertEquals(1000, report.bytesTotal());
+    }
+
+    @Test
+    @DisplayName("Test concurrent updates are all counted")
+    void testConcurrentUpdates() throws InterruptedException {
+        // Arrange
+        PropertyLoadProgress progress = new PropertyLoadProgress();
+        progress.start();
+        PropertyChunkWriter writer = progress.track((PropertyChunkWriter) chunk -> { });
+        List<Property> chunk = properties(10);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    writer.write(chunk);
+                }
+            }));
+        }
+
+        // Act
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertEquals(80_000, progress.report().persisted());
+    }
+
+    @Test
+    @DisplayName("Test the estimate is unknown without a feed size and zero once the load completes")
+    void testEstimate() throws InterruptedException, IOException {
+        // Arrange
+        PropertyLoadProgress progress = new PropertyLoadProgress();
+        progress.start();
+        progress.setPhase(PropertyLoadProgress.Phase.LOADING);
+        try (InputStream in = progress.count(new ByteArrayInputStream(new byte[500]))) {
+            in.read(new byte[500]);
+        }
+        Thread.sleep(20);
+
+        // Act & Assert - unknown size
+        PropertyLoadProgress.Report unknown = progress.report();
+        assertNull(unknown.etaSeconds());
+        assertEquals(-1, unknown.bytesTotal());
+        assertTrue(unknown.bytesPerSecond() > 0);
+
+        // Act & Assert - half the feed read
+        progress.setBytesTotal(1000);
+        PropertyLoadProgress.Report half = progress.report();
+        assertNotNull(half.etaSeconds());
+        assertTrue(half.etaSeconds() >= 0);
+
+        // Act & Assert - complete
+        progress.setPhase(PropertyLoadProgress.Phase.COMPLETE);
+        PropertyLoadProgress.Report complete = progress.report();
+        assertEquals(0L, complete.etaSeconds());
+        assertEquals(complete.elapsedMillis(), progress.report().elapsedMillis());
+    }
+
+    @Test
+    @DisplayName("Test a new load resets the counters")
+    void testStartResets() {
+        // Arrange
+        PropertyLoadProgress progress = new PropertyLoadProgress();
+        assertEquals(PropertyLoadProgress.Phase.IDLE, progress.report().phase());
+        progress.start();
+        progress.track((PropertyChunkWriter) chunk -> { }).write(properties(3));
+        progress.setPhase(PropertyLoadProgress.Phase.COMPLETE);
+
+        // Act
+        progress.start();
+        PropertyLoadProgress.Report report = progress.report();
+
+        // Assert
+        assertEquals(PropertyLoadProgress.Phase.RESOLVING, report.phase());
+        assertEquals(0, report.persisted());
+        assertEquals(-1, report.bytesTotal());
+    }
+}
@@ -0,0 +1,168 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertySnapshot, PropertySnapshotWriter and PropertySnapshotReader classes.
+ *
+ * <p>This test class verifies that properties survive a snapshot round trip, that amounts keep their
+ * exact value, that repeated strings are shared, and that missing, stale, damaged and unfinished
+ * snapshots are never loaded.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertySnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private static Property property(long id, String city, String description) {
+        Property property = new Property(id, "Name " + id, "Downtown", city, "TX", "USA", id + " Main St",
+            "555-0100", "p" + id + "@example.com", "5 miles", description, new BigDecimal("120.00"), new BigDecimal("12.00"), "None");
+        property.setContentHash(PropertyContentHasher.hash(property));
+        return property;
+    }
+
+    private static List<Property> readAll(PropertyRecordReader reader) throws IOException {
+        List<Property> properties = new ArrayList<>();
+        for (Property property = reader.read(); property != null; property = reader.read()) {
+            properties.add(property);
+        }
+        return properties;
+    }
+
+    private Path write(long feedChecksum, List<Property> properties) throws IOException {
+        Path snapshot = directory.resolve("properties.snap");
+        try (PropertySnapshotWriter writer = new PropertySnapshotWriter(snapshot, feedChecksum)) {
+            writer.append(properties);
+            writer.commit();
+        }
+        return snapshot;
+    }
+
+    @Test
+    @DisplayName("Test properties round-trip through a snapshot with repeated strings shared")
+    void testRoundTrip() throws IOException {
+        // Arrange
+        Property withNulls = property(3, null, "x".repeat(500));
+        withNulls.setContentHash(null);
+        List<Property> properties = List.of(property(1, "Austin", "Quiet"), property(2, "Austin", "Busy"), withNulls);
+        Path snapshot = write(42L, properties);
+
+        // Act
+        List<Property> read;
+        try (PropertySnapshotReader reader = PropertySnapshot.open(snapshot, 42L)) {
+            read = readAll(reader);
+        }
+
+        // Assert
+        assertEquals(3, read.size());
+        for (int i = 0; i < properties.size(); i++) {
+            Property expected = properties.get(i);
+            Property actual = read.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getContentHash(), actual.getContentHash());
+            assertEquals(PropertyContentHasher.hash(expected), PropertyContentHasher.hash(actual));
+        }
+        assertNull(read.get(2).getPropertyCity());
+        assertNull(read.get(2).getContentHash());
+        assertEquals("x".repeat(500), read.get(2).getPropertyDescription());
+        assertSame(read.get(0).getPropertyCity(), read.get(1).getPropertyCity());
+    }
+
+    @Test
+    @DisplayName("Test amounts round-trip exactly, including null, zero and negative values")
+    void testAmountRoundTrip() throws IOException {
+        // Arrange
+        BigDecimal[] amounts = {null, new BigDecimal("0.00"), new BigDecimal("-0.01"), new BigDecimal("45.00"),
+            new BigDecimal("9999999999.99"), new BigDecimal("-9999999999.99")};
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < amounts.length; i++) {
+            Property property = property(i + 1, "Austin", "Quiet");
+            property.setPropertyPricePerNight(amounts[i]);
+            property.setPropertyCommissionAmount(amounts[amounts.length - 1 - i]);
+            properties.add(property);
+        }
+        Path snapshot = write(42L, properties);
+
+        // Act
+        List<Property> read;
+        try (PropertySnapshotReader reader = PropertySnapshot.open(snapshot, 42L)) {
+            read = readAll(reader);
+        }
+
+        // Assert
+        for (int i = 0; i < amounts.length; i++) {
+            assertEquals(amounts[i], read.get(i).getPropertyPricePerNight());
+            assertEquals(amounts[amounts.length - 1 - i], read.get(i).getPropertyCommissionAmount());
+        }
+    }
+
+    @Test
+    @DisplayName("Test a missing, stale or damaged snapshot is not opened")
+    void testRejectedSnapshots() throws IOException {
+        // Arrange
+        Path snapshot = write(42L, List.of(property(1, "Austin", "Quiet"), property(2, "Boise", "Busy")));
+
+        // Act & Assert
+        assertNull(PropertySnapshot.open(directory.resolve("missing.snap"), 42L));
+        assertNull(PropertySnapshot.open(snapshot, 43L));
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(snapshot, bytes);
+        assertNull(PropertySnapshot.open(snapshot, 42L));
+
+        Files.write(snapshot, new byte[8]);
+        assertNull(PropertySnapshot.open(snapshot, 42L));
+    }
+
+    @Test
+    @DisplayName("Test a snapshot closed without commit leaves no file behind")
+    void testUncommittedSnapshotIsDiscarded() throws IOException {
+        // Arrange
+        Path snapshot = directory.resolve("properties.snap");
+
+        // Act
+        try (PropertySnapshotWriter writer = new PropertySnapshotWriter(snapshot, 42L)) {
+            writer.append(List.of(property(1, "Austin", "Quiet")));
+        }
+
+        // Assert
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Test feed checksum is the same for a file and a stream and changes with content")
+    void testFeedChecksum() throws IOException {
+        // Arrange
+        Path feed = Files.writeString(directory.resolve("feed.json"), "{\"properties\": []}");
+
+        // Act
+        long fromFile = PropertySnapshot.checksum(List.of(feed));
+        long fromStream = PropertySnapshot.checksum(new ByteArrayInputStream(Files.readAllBytes(feed)));
+        Files.writeString(feed, "{\"properties\": [ ]}");
+
+        // Assert
+        assertEquals(fromFile, fromStream);
+        assertNotEquals(fromFile, PropertySnapshot.checksum(List.of(feed)));
+        assertNotEquals(PropertySnapshot.checksum(List.of(feed, feed)), PropertySnapshot.checksum(List.of(feed)));
+    }
+}
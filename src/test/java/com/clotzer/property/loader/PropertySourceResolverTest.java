@@ -0,0 +1,75 @@
+package com.clotzer.property.loader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertySourceResolver class.
+ *
+ * <p>This test class verifies that directories, globs and file lists resolve to the expected
+ * feed files in a stable order.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertySourceResolverTest {
+
+    @TempDir
+    Path feeds;
+
+    private Path east;
+    private Path west;
+    private Path nested;
+    private Path compressed;
+    private Path lines;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        west = Files.writeString(feeds.resolve("region-west.json"), "[]");
+        east = Files.writeString(feeds.resolve("region-east.json"), "[]");
+        compressed = Files.write(feeds.resolve("region-north.json.gz"), new byte[0]);
+        lines = Files.writeString(feeds.resolve("region-south.ndjson"), "");
+        Files.writeString(feeds.resolve("readme.txt"), "not a feed");
+        Files.createDirectory(feeds.resolve("archive"));
+        nested = Files.writeString(feeds.resolve("archive").resolve("region-old.json"), "[]");
+    }
+
+    @Test
+    @DisplayName("Test directory resolves to its plain, compressed and NDJSON files, sorted, without descending")
+    void testDirectory() throws IOException {
+        assertEquals(List.of(east, compressed, lines, west), PropertySourceResolver.resolve(feeds.toString()));
+    }
+
+    @Test
+    @DisplayName("Test glob resolves to matching files")
+    void testGlob() throws IOException {
+        assertEquals(List.of(west), PropertySourceResolver.resolve(feeds + "/region-w*.json"));
+        assertEquals(List.of(nested, east, west), PropertySourceResolver.resolve(feeds + "/**.json"));
+    }
+
+    @Test
+    @DisplayName("Test list of entries is resolved in order without duplicates")
+    void testList() throws IOException {
+        String source = west + ", " + feeds + " ,," + nested;
+
+        assertEquals(List.of(west, east, compressed, lines, nested), PropertySourceResolver.resolve(source));
+    }
+
+    @Test
+    @DisplayName("Test missing file fails and unmatched glob resolves to nothing")
+    void testMissing() throws IOException {
+        assertThrows(NoSuchFileException.class, () -> PropertySourceResolver.resolve(feeds + "/missing.json"));
+        assertTrue(PropertySourceResolver.resolve(feeds + "/*.csv").isEmpty());
+    }
+}
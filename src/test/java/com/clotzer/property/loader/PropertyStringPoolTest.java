@@ -0,0 +1,96 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyStringPool class.
+ *
+ * <p>This test class verifies that equal values of pooled fields end up as one instance, that other
+ * fields and the content hash are left alone, and that each field's pool stops growing at its limit.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyStringPoolTest {
+
+    private static Property property(long id, String country, String city) {
+        Property property = new Property(id, "Name " + id, "Beachfront", new String(city), "Florida", new String(country),
+            "Address", "Phone", "Email", "Airport", "Description", new BigDecimal("100.00"), new BigDecimal("10.00"), "None");
+        property.setContentHash(PropertyContentHasher.hash(property));
+        return property;
+    }
+
+    @Test
+    @DisplayName("Test equal values of pooled fields share one instance")
+    void testSharesEqualValues() {
+        PropertyStringPool pool = new PropertyStringPool(List.of("propertyCountry"), 100);
+
+        Property first = pool.canonicalize(property(1, "USA", "Miami"));
+        Property second = pool.canonicalize(property(2, "USA", "Miami"));
+        Property third = pool.canonicalize(property(3, "Canada", "Toronto"));
+
+        assertSame(first.getPropertyCountry(), second.getPropertyCountry());
+        assertEquals("Canada", third.getPropertyCountry());
+        assertNotSame(first.getPropertyCity(), second.getPropertyCity());
+        assertEquals(PropertyContentHasher.hash(second), second.getContentHash());
+        assertEquals(1, pool.getSharedValues());
+        assertEquals(2, pool.getDistinctValues());
+    }
+
+    @Test
+    @DisplayName("Test a full pool keeps new values as parsed and still shares pooled ones")
+    void testBoundedPerField() {
+        PropertyStringPool pool = new PropertyStringPool(List.of("propertyCountry", "propertyCity"), 1);
+
+        Property first = pool.canonicalize(property(1, "USA", "Miami"));
+        Property second = pool.canonicalize(property(2, "Canada", "Miami"));
+        Property third = pool.canonicalize(property(3, "USA", "Toronto"));
+
+        assertEquals("Canada", second.getPropertyCountry());
+        assertSame(first.getPropertyCity(), second.getPropertyCity());
+        assertSame(first.getPropertyCountry(), third.getPropertyCountry());
+        assertEquals(2, pool.getDistinctValues());
+    }
+
+    @Test
+    @DisplayName("Test a wrapped reader canonicalizes every property it returns")
+    void testTrack() throws IOException {
+        PropertyStringPool pool = PropertyStringPool.from(" propertyCountry , propertyCountry,", 100);
+        Iterator<Property> properties = List.of(property(1, "USA", "Miami"), property(2, "USA", "Tampa")).iterator();
+
+        PropertyRecordReader reader = pool.track(new PropertyRecordReader() {
+            @Override
+            public Property read() {
+                return properties.hasNext() ? properties.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        assertSame(reader.read().getPropertyCountry(), reader.read().getPropertyCountry());
+        assertNull(reader.read());
+        assertEquals(List.of("propertyCountry"), pool.getFieldNames());
+    }
+
+    @Test
+    @DisplayName("Test configuration values name the pooled fields")
+    void testFrom() {
+        assertNull(PropertyStringPool.from("", 100));
+        assertNull(PropertyStringPool.from(" , ", 100));
+        assertEquals(PropertyStringPool.DEFAULT_FIELDS,
+            PropertyStringPool.from(String.join(",", PropertyStringPool.DEFAULT_FIELDS), 100).getFieldNames());
+        assertThrows(IllegalArgumentException.class, () -> PropertyStringPool.from("id", 100));
+    }
+}
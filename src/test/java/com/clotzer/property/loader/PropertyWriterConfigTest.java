@@ -0,0 +1,37 @@
+package com.clotzer.property.loader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyWriterConfig class.
+ *
+ * <p>This test class verifies which {@code spring.jpa.hibernate.ddl-auto} values are reported as
+ * recreating the property table on every start, which makes upsert re-runs pointless.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyWriterConfigTest {
+
+    @Test
+    @DisplayName("Test create and create-drop recreate the schema on start")
+    void testRecreatesSchema() {
+        // Act & Assert
+        assertTrue(PropertyWriterConfig.recreatesSchema("create-drop"));
+        assertTrue(PropertyWriterConfig.recreatesSchema(" CREATE "));
+    }
+
+    @Test
+    @DisplayName("Test update, none and an unset value keep the schema")
+    void testKeepsSchema() {
+        // Act & Assert
+        assertFalse(PropertyWriterConfig.recreatesSchema("update"));
+        assertFalse(PropertyWriterConfig.recreatesSchema("none"));
+        assertFalse(PropertyWriterConfig.recreatesSchema(""));
+        assertFalse(PropertyWriterConfig.recreatesSchema(null));
+    }
+}
@@ -0,0 +1,154 @@
+package com.clotzer.property.loader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ReadAheadInputStream class.
+ *
+ * <p>This test class verifies that read-ahead preserves the source bytes, reads on a named
+ * background thread, surfaces source failures to the consumer, and closes the source only after the
+ * producer has stopped reading it.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class ReadAheadInputStreamTest {
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(7).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("Test read-ahead returns the source bytes in order")
+    void testPreservesBytes() throws IOException {
+        byte[] content = randomBytes(100_003);
+
+        try (ReadAheadInputStream in = new ReadAheadInputStream(new ByteArrayInputStream(content), 1000, 2)) {
+            assertEquals(content[0] & 0xff, in.read());
+            byte[] rest = in.readAllBytes();
+            assertEquals(content.length - 1, rest.length);
+            assertEquals(content[content.length - 1], rest[rest.length - 1]);
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    @DisplayName("Test source is read on a read-ahead thread")
+    void testReadsOnBackgroundThread() throws IOException {
+        AtomicBoolean backgroundThread = new AtomicBoolean();
+        InputStream source = new ByteArrayInputStream(randomBytes(10)) {
+            @Override
+            public synchronized int read(byte[] buffer, int offset, int length) {
+                backgroundThread.set(Thread.currentThread().getName().startsWith("property-read-ahead-"));
+                return super.read(buffer, offset, length);
+            }
+        };
+
+        try (ReadAheadInputStream in = new ReadAheadInputStream(source)) {
+            assertEquals(10, in.readAllBytes().length);
+        }
+        assertTrue(backgroundThread.get());
+    }
+
+    @Test
+    @DisplayName("Test source failure is rethrown after the bytes before it")
+    void testFailureIsRethrown() throws IOException {
+        InputStream source = new InputStream() {
+            private int remaining = 5;
+
+            @Override
+            public int read() throws IOException {
+                if (remaining-- > 0) {
+                    return 'x';
+                }
+                throw new IOException("Corrupt input");
+            }
+        };
+
+        try (ReadAheadInputStream in = new ReadAheadInputStream(source, 2, 1)) {
+            assertEquals("xxxx", new String(in.readNBytes(4)));
+            IOException thrownException = assertThrows(IOException.class, in::readAllBytes);
+            assertEquals("Corrupt input", thrownException.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Test unchecked source failure is rethrown instead of leaving the consumer waiting")
+    void testRuntimeFailureIsRethrown() {
+        InputStream source = new InputStream() {
+            private int remaining = 3;
+
+            @Override
+            public int read() {
+                if (remaining-- > 0) {
+                    return 'x';
+                }
+                throw new IllegalStateException("Corrupt block");
+            }
+        };
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            try (ReadAheadInputStream in = new ReadAheadInputStream(source, 2, 1)) {
+                assertEquals("xx", new String(in.readNBytes(2)));
+                IllegalStateException thrownException = assertThrows(IllegalStateException.class, in::readAllBytes);
+                assertEquals("Corrupt block", thrownException.getMessage());
+                assertEquals(-1, in.read());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Test close waits for the read in progress before closing the source")
+    void testCloseWaitsForProducer() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        AtomicBoolean inRead = new AtomicBoolean();
+        AtomicBoolean closedDuringRead = new AtomicBoolean();
+        InputStream source = new InputStream() {
+            @Override
+            public int read() {
+                return 'x';
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                inRead.set(true);
+                reading.countDown();
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                Arrays.fill(buffer, offset, offset + length, (byte) 'x');
+                inRead.set(false);
+                return length;
+            }
+
+            @Override
+            public void close() {
+                closedDuringRead.set(inRead.get());
+            }
+        };
+
+        ReadAheadInputStream in = new ReadAheadInputStream(source, 4, 1);
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+        in.close();
+
+        assertFalse(closedDuringRead.get());
+    }
+}
@@ -0,0 +1,150 @@
+package com.clotzer.property.loader;
+
+import com.clotzer.property.entity.Property;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RejectedRecordHandler class.
+ *
+ * <p>This test class verifies that rejected records are written to the dead-letter file with their
+ * position and reason, that the skip limit stops tracked readers, and that clean loads leave no file.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class RejectedRecordHandlerTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * In-memory reader returning the given items; {@code null} entries are rejected.
+     */
+    private static PropertyRecordReader readerOf(List<Property> items) {
+        Iterator<Property> iterator = items.iterator();
+        long[] record = {0};
+        return new PropertyRecordReader() {
+            @Override
+            public Property read() {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                Property next = iterator.next();
+                record[0]++;
+                if (next == null) {
+                    throw new RejectedRecordException("Bad record", record[0], record[0] * 100, "{\"bad\":" + record[0] + "}");
+                }
+                return next;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static Property property(long id) {
+        Property property = new Property();
+        property.setId(id);
+        return property;
+    }
+
+    @Test
+    @DisplayName("Test rejected records are rethrown and written to the dead-letter file")
+    void testDeadLetterFile() throws IOException {
+        // Arrange
+        Path deadLetters = directory.resolve("rejects/dead-letter.ndjson");
+        List<Property> items = new ArrayList<>(List.of(property(1), property(3)));
+        items.add(1, null);
+
+        // Act
+        try (RejectedRecordHandler handler = new RejectedRecordHandler(-1, deadLetters)) {
+            PropertyRecordReader reader = handler.track(readerOf(items), "feed.json");
+            assertEquals(1L, reader.read().getId());
+            assertThrows(RejectedRecordException.class, reader::read);
+            assertEquals(3L, reader.read().getId());
+            assertNull(reader.read());
+            handler.reject("other.json", new IllegalArgumentException("Plain failure"));
+
+            // Assert
+            assertEquals(2, handler.getRejectedCount());
+        }
+        List<String> lines = Files.readAllLines(deadLetters);
+        assertEquals(2, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals("feed.json", first.get("source").asText());
+        assertEquals(2, first.get("record").asLong());
+        assertEquals(200, first.get("offset").asLong());
+        assertEquals("Bad record", first.get("reason").asText());
+        assertEquals("{\"bad\":2}", first.get("raw").asText());
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals("other.json", second.get("source").asText());
+        assertEquals("Plain failure", second.get("reason").asText());
+        assertNull(second.get("record"));
+    }
+
+    @Test
+    @DisplayName("Test a clean load leaves no dead-letter file and removes one from a previous load")
+    void testNoRejections() throws IOException {
+        // Arrange
+        Path deadLetters = directory.resolve("dead-letter.ndjson");
+        Files.writeString(deadLetters, "{\"stale\":true}\n");
+
+        // Act
+        try (RejectedRecordHandler handler = new RejectedRecordHandler(0, deadLetters)) {
+            PropertyRecordReader reader = handler.track(readerOf(List.of(property(1))), "feed.json");
+            assertEquals(1L, reader.read().getId());
+            assertNull(reader.read());
+        }
+
+        // Assert
+        assertFalse(Files.exists(deadLetters));
+    }
+
+    @Test
+    @DisplayName("Test exceeding the skip limit stops every tracked reader")
+    void testSkipLimit() throws IOException {
+        // Arrange
+        List<Property> items = new ArrayList<>(List.of(property(1), property(2)));
+        items.add(0, null);
+        items.add(0, null);
+
+        try (RejectedRecordHandler handler = new RejectedRecordHandler(1, null)) {
+            PropertyRecordReader reader = handler.track(readerOf(items), "a.json");
+            PropertyRecordReader other = handler.track(readerOf(List.of(property(9))), "b.json");
+
+            // Act & Assert
+            assertThrows(RejectedRecordException.class, reader::read);
+            SkipLimitExceededException exceeded = assertThrows(SkipLimitExceededException.class, reader::read);
+            assertEquals(1, exceeded.getSkipLimit());
+            assertThrows(SkipLimitExceededException.class, other::read);
+            assertEquals(2, handler.getRejectedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Test rejections capture no stack trace")
+    void testRejectionIsStackless() {
+        // Act
+        RejectedRecordException rejection = new RejectedRecordException("Bad record", 1, 0, "{}");
+
+        // Assert
+        assertEquals(0, rejection.getStackTrace().length);
+    }
+}
@@ -0,0 +1,141 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the PropertyBulkWriter class.
+ *
+ * <p>This test class verifies the generated insert and upsert statements, the JDBC batch size and
+ * the column binding order used by the JDBC bulk writer.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+class PropertyBulkWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    private Property testProperty;
+
+    @BeforeEach
+    void setUp() {
+        testProperty = new Property(
+            1L, "Test Resort", "Beachfront", "Miami", "Florida", "USA",
+            "123 Ocean Drive", "+1-305-555-0123", "info@testresort.com",
+            "10 miles from Miami International", "Beautiful beachfront resort",
+            new BigDecimal("299.99"), new BigDecimal("45.00"), "50% if cancelled within 48 hours"
+        );
+    }
+
+    @Test
+    @DisplayName("Test insert statement has one placeholder per column")
+    void testInsertStatement() {
+        long placeholders = PropertyBulkWriter.INSERT_SQL.chars().filter(c -> c == '?').count();
+        assertEquals(PropertyBulkWriter.COLUMN_COUNT, placeholders);
+        assertEquals(PropertyBulkWriter.COLUMN_COUNT, PropertyBulkWriter.COLUMNS.split(",").length);
+        assertTrue(PropertyBulkWriter.INSERT_SQL.startsWith("INSERT INTO property (id, property_name"));
+    }
+
+    @Test
+    @DisplayName("Test write sends the chunk as a JDBC batch of the configured size")
+    @SuppressWarnings("unchecked")
+    void testWriteUsesBatchUpdate() {
+        PropertyBulkWriter writer = new PropertyBulkWriter(jdbcTemplate, 500);
+        List<Property> chunk = List.of(testProperty);
+
+        writer.write(chunk);
+
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(PropertyBulkWriter.INSERT_SQL), eq(chunk), eq(500),
+            any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("Test write rejects a null chunk")
+    void testWriteNullChunk() {
+        PropertyBulkWriter writer = new PropertyBulkWriter(jdbcTemplate, 500);
+
+        assertThrows(IllegalArgumentException.class, () -> writer.write(null));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Test bind sets every column in order")
+    void testBind() throws Exception {
+        testProperty.setContentHash(42L);
+
+        PropertyBulkWriter.bind(preparedStatement, testProperty);
+
+        verify(preparedStatement).setLong(1, 1L);
+        verify(preparedStatement).setString(2, "Test Resort");
+        verify(preparedStatement).setString(9, "info@testresort.com");
+        verify(preparedStatement).setObject(12, new BigDecimal("299.99"), Types.DECIMAL);
+        verify(preparedStatement).setObject(13, new BigDecimal("45.00"), Types.DECIMAL);
+        verify(preparedStatement).setString(14, "50% if cancelled within 48 hours");
+        verify(preparedStatement).setObject(15, 42L, Types.BIGINT);
+    }
+
+    @Test
+    @DisplayName("Test upsert statements are chosen by database and keyed on the ID")
+    void testUpsertStatements() {
+        assertSame(PropertyBulkWriter.MYSQL_UPSERT_SQL, PropertyBulkWriter.upsertSqlFor("MySQL"));
+        assertSame(PropertyBulkWriter.H2_UPSERT_SQL, PropertyBulkWriter.upsertSqlFor("H2"));
+        assertThrows(IllegalStateException.class, () -> PropertyBulkWriter.upsertSqlFor("PostgreSQL"));
+
+        assertTrue(PropertyBulkWriter.MYSQL_UPSERT_SQL.startsWith(PropertyBulkWriter.INSERT_SQL + " AS new ON DUPLICATE KEY UPDATE "));
+        assertTrue(PropertyBulkWriter.MYSQL_UPSERT_SQL.endsWith("content_hash = new.content_hash"));
+        assertFalse(PropertyBulkWriter.MYSQL_UPSERT_SQL.contains("VALUES("));
+        assertFalse(PropertyBulkWriter.MYSQL_UPSERT_SQL.contains(" id = new.id"));
+        assertTrue(PropertyBulkWriter.H2_UPSERT_SQL.startsWith("MERGE INTO property (id, property_name"));
+        assertTrue(PropertyBulkWriter.H2_UPSERT_SQL.contains(" KEY (id) "));
+        assertEquals(PropertyBulkWriter.COLUMN_COUNT, PropertyBulkWriter.H2_UPSERT_SQL.chars().filter(c -> c == '?').count());
+    }
+
+    @Test
+    @DisplayName("Test upsert sends the chunk as a JDBC batch with the resolved statement")
+    @SuppressWarnings("unchecked")
+    void testUpsertUsesBatchUpdate() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+        PropertyBulkWriter writer = new PropertyBulkWriter(jdbcTemplate, 500);
+        List<Property> chunk = List.of(testProperty);
+
+        writer.upsert(chunk);
+        writer.upsert(chunk);
+
+        verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(PropertyBulkWriter.H2_UPSERT_SQL), eq(chunk), eq(500),
+            any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("Test upsert rejects a null chunk")
+    void testUpsertNullChunk() {
+        PropertyBulkWriter writer = new PropertyBulkWriter(jdbcTemplate, 500);
+
+        assertThrows(IllegalArgumentException.class, () -> writer.upsert(null));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,83 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyCsvWriter class.
+ *
+ * <p>This test class verifies the header line, field quoting and null handling of the CSV
+ * format shared by the native bulk load strategies.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyCsvWriterTest {
+
+    private static String write(Property... properties) throws IOException {
+        StringWriter output = new StringWriter();
+        try (PropertyCsvWriter writer = new PropertyCsvWriter(output)) {
+            for (Property property : properties) {
+                writer.write(property);
+            }
+            assertEquals(properties.length, writer.getRowCount());
+        }
+        return output.toString();
+    }
+
+    @Test
+    @DisplayName("Test header lists the bulk insert columns in order")
+    void testHeader() throws IOException {
+        String[] lines = write().split("\n");
+
+        assertEquals(1, lines.length);
+        assertEquals(PropertyBulkWriter.COLUMN_COUNT, lines[0].split(",").length);
+        assertTrue(lines[0].startsWith("id,property_name,property_location,"));
+        assertTrue(lines[0].endsWith(",property_cancellation_penalty,content_hash"));
+    }
+
+    @Test
+    @DisplayName("Test text fields are enclosed with embedded quotes doubled")
+    void testQuoting() throws IOException {
+        Property property = new Property(
+            7L, "The \"Grand\", Hotel", "Beachfront", "Miami", "Florida", "USA",
+            "123 Ocean Drive", "+1-305-555-0123", "info@grand.com",
+            "10 miles", "Two\nlines", new BigDecimal("299.99"), new BigDecimal("45.00"), "None"
+        );
+
+        String csv = write(property);
+
+        assertTrue(csv.contains("\n7,\"The \"\"Grand\"\", Hotel\",\"Beachfront\","));
+        assertTrue(csv.contains(",\"Two\nlines\","));
+        assertTrue(csv.endsWith(",299.99,45.00,\"None\",NULL\n"));
+    }
+
+    @Test
+    @DisplayName("Test content hash is written as an unquoted number")
+    void testContentHash() throws IOException {
+        Property property = new Property();
+        property.setId(4L);
+        property.setContentHash(-12345L);
+
+        assertTrue(write(property).endsWith(",NULL,-12345\n"));
+    }
+
+    @Test
+    @DisplayName("Test null values are written as an unquoted NULL")
+    void testNullValues() throws IOException {
+        Property property = new Property();
+        property.setId(3L);
+
+        String csv = write(property);
+
+        assertTrue(csv.endsWith("\n3" + (",NULL").repeat(PropertyBulkWriter.COLUMN_COUNT - 1) + "\n"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.loader.PropertyRecordReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the PropertyFeedWatcher class.
+ *
+ * <p>This test class verifies that a changed feed file is reloaded once after its writes settle,
+ * without deleting properties from other files, and that a failed reload is reported without
+ * stopping the watcher.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+class PropertyFeedWatcherTest {
+
+    private static final String RECORD = "{\"id\": 1, \"propertyName\": \"A\", \"propertyLocation\": \"B\", "
+        + "\"propertyCity\": \"C\", \"propertyState\": \"D\", \"propertyCountry\": \"E\", \"propertyAddress\": \"F\", "
+        + "\"propertyPhoneNumber\": \"G\", \"propertyEmailAddress\": \"H\", \"propertyAirportProximity\": \"I\", "
+        + "\"propertyDescription\": \"J\", \"propertyPricePerNight\": \"100\", \"propertyCommissionAmount\": \"10\", "
+        + "\"propertyCancellationPenalty\": \"M\"}\n";
+
+    @TempDir
+    Path feeds;
+
+    @Mock
+    private PropertyIncrementalLoader incrementalLoader;
+
+    private PropertyFeedWatcher watcher;
+
+    @AfterEach
+    void tearDown() {
+        if (watcher != null) {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Test reload applies the file's changes without deleting missing properties")
+    void testReload() throws IOException {
+        // Arrange
+        Path file = Files.writeString(feeds.resolve("region.ndjson"), RECORD);
+        PropertyIncrementalLoader.Result expected = new PropertyIncrementalLoader.Result(0, 1, 0, 0, 0);
+        when(incrementalLoader.load(any(PropertyRecordReader.class), eq(false))).thenReturn(expected);
+        watcher = new PropertyFeedWatcher(new ObjectMapper(), incrementalLoader, feeds.toString(), 0);
+
+        // Act
+        PropertyIncrementalLoader.Result result = watcher.reload(file);
+
+        // Assert
+        assertEquals(expected, result);
+        verify(incrementalLoader, times(1)).load(any(PropertyRecordReader.class), eq(false));
+        verify(incrementalLoader, never()).load(any(PropertyRecordReader.class), eq(true));
+    }
+
+    @Test
+    @DisplayName("Test a failed reload is reported and a missing file is skipped")
+    void testFailedReload() throws IOException {
+        // Arrange
+        Path file = Files.writeString(feeds.resolve("region.json"), "{\"properties\": [");
+        when(incrementalLoader.load(any(PropertyRecordReader.class), eq(false))).thenThrow(new IOException("Truncated feed"));
+        watcher = new PropertyFeedWatcher(new ObjectMapper(), incrementalLoader, feeds.toString(), 0);
+
+        // Act & Assert
+        assertNull(watcher.reload(file));
+
+        assertNull(watcher.reload(feeds.resolve("missing.json")));
+        verify(incrementalLoader, times(1)).load(any(PropertyRecordReader.class), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Test a file written in several steps is reloaded once and other files are ignored")
+    void testDebouncedReload() throws Exception {
+        // Arrange
+        when(incrementalLoader.load(any(PropertyRecordReader.class), eq(false)))
+            .thenReturn(new PropertyIncrementalLoader.Result(1, 0, 0, 0, 0));
+        watcher = new PropertyFeedWatcher(new ObjectMapper(), incrementalLoader, feeds.toString(), 300);
+        watcher.start();
+        Path file = feeds.resolve("region.ndjson");
+
+        // Act
+        for (int i = 1; i <= 3; i++) {
+            Files.writeString(file, RECORD.repeat(i));
+            Thread.sleep(50);
+        }
+        Files.writeString(feeds.resolve("notes.txt"), "not a feed");
+
+        // Assert
+        assertTrue(watcher.isRunning());
+        verify(incrementalLoader, timeout(10000).times(1)).load(any(PropertyRecordReader.class), eq(false));
+        verify(incrementalLoader, after(1000).times(1)).load(any(PropertyRecordReader.class), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Test start fails when the watched directory does not exist")
+    void testMissingDirectory() {
+        // Arrange
+        PropertyFeedWatcher missing = new PropertyFeedWatcher(new ObjectMapper(), incrementalLoader,
+            feeds.resolve("missing").toString(), 500);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, missing::start);
+        assertFalse(missing.isRunning());
+    }
+}
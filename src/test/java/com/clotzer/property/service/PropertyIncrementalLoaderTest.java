@@ -0,0 +1,205 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.PropertyService;
+import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.PropertyChunkWriter;
+import com.clotzer.property.loader.PropertyContentHasher;
+import com.clotzer.property.loader.PropertyRecordReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the PropertyIncrementalLoader class.
+ *
+ * <p>This test class verifies that only new, changed and removed properties reach the database,
+ * and that deletes are withheld when the feed contains rejected records or covers part of the table.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+class PropertyIncrementalLoaderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PropertyService propertyService;
+
+    @Mock
+    private PropertyChunkWriter chunkWriter;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private static Property property(long id, String price) {
+        Property property = new Property(
+            id, "Test Resort", "Beachfront", "Miami", "Florida", "USA",
+            "123 Ocean Drive", "+1-305-555-0123", "info@testresort.com",
+            "10 miles from Miami International", "Beautiful beachfront resort",
+            new BigDecimal(price), new BigDecimal("45.00"), "50% if cancelled within 48 hours"
+        );
+        property.setContentHash(PropertyContentHasher.hash(property));
+        return property;
+    }
+
+    /**
+     * In-memory reader returning the given items; {@code null} entries simulate unparseable records.
+     */
+    private static PropertyRecordReader readerOf(Property... items) {
+        Iterator<Property> iterator = Arrays.asList(items).iterator();
+        return new PropertyRecordReader() {
+            @Override
+            public Property read() {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                Property next = iterator.next();
+                if (next == null) {
+                    throw new IllegalArgumentException("Bad record");
+                }
+                return next;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Stubs the stored-hash query to return the given ID and hash pairs.
+     */
+    private void stored(Long[] ids, Long[] hashes) throws Exception {
+        if (ids.length > 0) {
+            when(resultSet.getLong(1)).thenReturn(ids[0], Arrays.copyOfRange(ids, 1, ids.length));
+            when(resultSet.getObject(2, Long.class)).thenReturn(hashes[0], Arrays.copyOfRange(hashes, 1, hashes.length));
+        }
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < ids.length; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(eq(PropertyIncrementalLoader.HASH_QUERY), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("Test only new, changed and removed properties are written")
+    void testWritesOnlyChanges() throws Exception {
+        // Arrange
+        Property unchanged = property(1L, "299.99");
+        Property changed = property(2L, "279.99");
+        Property added = property(5L, "199.99");
+        stored(new Long[] {1L, 2L, 3L, 4L},
+            new Long[] {unchanged.getContentHash(), property(2L, "299.99").getContentHash(), null, 7L});
+        Property unhashed = property(3L, "99.99");
+        List<Property> updates = new ArrayList<>();
+        doAnswer(invocation -> updates.addAll(invocation.getArgument(0)))
+            .when(propertyService).savePropertiesBatch(anyList());
+        when(propertyService.deletePropertiesByIds(anyCollection())).thenReturn(1);
+        PropertyIncrementalLoader loader = new PropertyIncrementalLoader(jdbcTemplate, propertyService, chunkWriter, 100);
+
+        // Act
+        PropertyIncrementalLoader.Result result = loader.load(readerOf(unchanged, changed, unhashed, added));
+
+        // Assert
+        assertEquals(new PropertyIncrementalLoader.Result(1, 2, 1, 1, 0), result);
+        verify(chunkWriter, times(1)).write(List.of(added));
+        assertEquals(List.of(changed, unhashed), updates);
+        verify(propertyService, times(1)).deletePropertiesByIds(List.of(4L));
+    }
+
+    @Test
+    @DisplayName("Test deletes are skipped when records were rejected")
+    void testRejectedRecordsPreventDeletes() throws Exception {
+        // Arrange
+        Property unchanged = property(1L, "299.99");
+        stored(new Long[] {1L, 2L}, new Long[] {unchanged.getContentHash(), 9L});
+        PropertyIncrementalLoader loader = new PropertyIncrementalLoader(jdbcTemplate, propertyService, chunkWriter, 100);
+
+        // Act
+        PropertyIncrementalLoader.Result result = loader.load(readerOf(unchanged, null));
+
+        // Assert
+        assertEquals(new PropertyIncrementalLoader.Result(0, 0, 0, 1, 1), result);
+        verifyNoInteractions(chunkWriter);
+        verify(propertyService, never()).deletePropertiesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Test a partial feed writes changes without deleting missing properties")
+    void testPartialFeedKeepsMissingProperties() throws Exception {
+        // Arrange
+        Property changed = property(2L, "279.99");
+        stored(new Long[] {1L, 2L}, new Long[] {7L, property(2L, "299.99").getContentHash()});
+        PropertyIncrementalLoader loader = new PropertyIncrementalLoader(jdbcTemplate, propertyService, chunkWriter, 100);
+
+        // Act
+        PropertyIncrementalLoader.Result result = loader.load(readerOf(changed), false);
+
+        // Assert
+        assertEquals(new PropertyIncrementalLoader.Result(0, 1, 0, 0, 0), result);
+        verify(propertyService, times(1)).savePropertiesBatch(List.of(changed));
+        verify(propertyService, never()).deletePropertiesByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Test inserts are flushed in chunks into an empty table")
+    void testInsertsAreChunked() throws Exception {
+        // Arrange
+        stored(new Long[0], new Long[0]);
+        PropertyIncrementalLoader loader = new PropertyIncrementalLoader(jdbcTemplate, propertyService, chunkWriter, 2);
+
+        // Act
+        PropertyIncrementalLoader.Result result = loader.load(
+            readerOf(property(1L, "1"), property(2L, "2"), property(3L, "3")));
+
+        // Assert
+        assertEquals(3, result.inserted());
+        verify(chunkWriter, times(2)).write(anyList());
+        verify(propertyService, never()).savePropertiesBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Test an ID repeated in the feed is merged after its insert rather than inserted twice")
+    void testRepeatedIdsAreMerged() throws Exception {
+        // Arrange
+        Property existing = property(1L, "299.99");
+        stored(new Long[] {1L}, new Long[] {existing.getContentHash()});
+        Property added = property(5L, "199.99");
+        Property addedAgain = property(5L, "189.99");
+        Property existingAgain = property(1L, "279.99");
+        List<String> calls = new ArrayList<>();
+        doAnswer(invocation -> calls.add("insert " + invocation.getArgument(0)))
+            .when(chunkWriter).write(anyList());
+        doAnswer(invocation -> calls.add("merge " + invocation.getArgument(0)))
+            .when(propertyService).savePropertiesBatch(anyList());
+        PropertyIncrementalLoader loader = new PropertyIncrementalLoader(jdbcTemplate, propertyService, chunkWriter, 100);
+
+        // Act
+        PropertyIncrementalLoader.Result result = loader.load(readerOf(existing, added, addedAgain, existingAgain));
+
+        // Assert
+        assertEquals(new PropertyIncrementalLoader.Result(1, 2, 0, 1, 0), result);
+        assertEquals(List.of("insert " + List.of(added), "merge " + List.of(addedAgain, existingAgain)), calls);
+        verify(propertyService, never()).deletePropertiesByIds(anyCollection());
+    }
+}
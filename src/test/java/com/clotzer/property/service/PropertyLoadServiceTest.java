@@ -0,0 +1,208 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.PropertyService;
+import com.clotzer.property.repository.PropertyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyLoadService class.
+ *
+ * <p>This test class verifies that the service loads the configured feed files through the chunk
+ * writer and records whether the load completed in the load status.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+class PropertyLoadServiceTest {
+
+    private static final String RECORD = "{\"id\": %d, \"propertyName\": \"Test Resort\", \"propertyLocation\": \"Beachfront\", "
+        + "\"propertyCity\": \"Miami\", \"propertyState\": \"Florida\", \"propertyCountry\": \"USA\", "
+        + "\"propertyAddress\": \"123 Ocean Drive\", \"propertyPhoneNumber\": \"+1-305-555-0123\", "
+        + "\"propertyEmailAddress\": \"info@testresort.com\", \"propertyAirportProximity\": \"10 miles\", "
+        + "\"propertyDescription\": \"Beautiful\", \"propertyPricePerNight\": 299.99, "
+        + "\"propertyCommissionAmount\": 45.00, \"propertyCancellationPenalty\": \"50%%\"}";
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    @Mock
+    private PropertyService propertyService;
+
+    @TempDir
+    Path feedDirectory;
+
+    private final Set<Long> written = ConcurrentHashMap.newKeySet();
+
+    private PropertyLoadStatus loadStatus;
+
+    private PropertyLoadService loadService;
+
+    private PropertyStreamingLoader streamingLoader;
+
+    private PropertySnapshotLoader snapshotLoader;
+
+    private PropertyCheckpointLoader checkpointLoader;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        loadStatus = new PropertyLoadStatus(event -> {
+        });
+        streamingLoader = new PropertyStreamingLoader(objectMapper, propertyRepository, propertyService);
+        snapshotLoader = new PropertySnapshotLoader(streamingLoader);
+        checkpointLoader = new PropertyCheckpointLoader(objectMapper, propertyRepository, propertyService, streamingLoader);
+        loadService = new PropertyLoadService(objectMapper, propertyRepository,
+            chunk -> chunk.forEach(property -> written.add(property.getId())), streamingLoader, snapshotLoader,
+            checkpointLoader, new PropertyTreeLoader(objectMapper, propertyRepository, propertyService), null, loadStatus);
+        ReflectionTestUtils.setField(streamingLoader, "concurrentThreads", 2);
+        ReflectionTestUtils.setField(streamingLoader, "chunkSize", 2);
+        ReflectionTestUtils.setField(streamingLoader, "fileThreads", 2);
+        ReflectionTestUtils.setField(streamingLoader, "parseThreads", 1);
+    }
+
+    private void writeFeed(String name, long... ids) throws IOException {
+        StringBuilder feed = new StringBuilder();
+        for (long id : ids) {
+            feed.append(RECORD.formatted(id)).append('\n');
+        }
+        Files.writeString(feedDirectory.resolve(name), feed);
+    }
+
+    @Test
+    @DisplayName("Test feed files named by the source are loaded and the load marked ready")
+    void testLoadSources() throws IOException {
+        // Arrange
+        writeFeed("a.ndjson", 1, 2, 3);
+        writeFeed("b.ndjson", 4, 5);
+        ReflectionTestUtils.setField(loadService, "source", feedDirectory.toString());
+
+        // Act
+        loadService.load();
+
+        // Assert
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), written);
+        assertEquals(PropertyLoadStatus.State.READY, loadStatus.getState());
+    }
+
+    @Test
+    @DisplayName("Test a source without feed files marks the load as failed")
+    void testLoadSourcesWithoutFeeds() {
+        // Arrange
+        ReflectionTestUtils.setField(loadService, "source", feedDirectory.toString());
+
+        // Act
+        loadService.load();
+
+        // Assert
+        assertTrue(written.isEmpty());
+        assertEquals(PropertyLoadStatus.State.FAILED, loadStatus.getState());
+        assertEquals("Not every feed file in " + feedDirectory + " was loaded", loadStatus.getFailure());
+    }
+
+    @Test
+    @DisplayName("Test a load that throws marks the load as failed")
+    void testLoadFailure() throws IOException {
+        // Arrange
+        writeFeed("a.ndjson", 1, 2);
+        ReflectionTestUtils.setField(loadService, "source", feedDirectory.toString());
+        ReflectionTestUtils.setField(loadService, "deadLetterFile", feedDirectory.resolve("missing/dir/rejected.ndjson").toString());
+        Files.writeString(feedDirectory.resolve("missing"), "not a directory");
+
+        // Act
+        loadService.load();
+
+        // Assert
+        assertEquals(PropertyLoadStatus.State.FAILED, loadStatus.getState());
+        assertNotNull(loadStatus.getFailure());
+    }
+
+    @Test
+    @DisplayName("Test an unchanged source is loaded from the snapshot written by the previous load")
+    void testLoadSourcesWithSnapshot() throws IOException {
+        // Arrange
+        writeFeed("a.ndjson", 1, 2, 3);
+        Path snapshot = feedDirectory.resolve("feed.snapshot");
+        ReflectionTestUtils.setField(loadService, "source", feedDirectory.resolve("*.ndjson").toString());
+        ReflectionTestUtils.setField(snapshotLoader, "snapshot", snapshot.toString());
+        loadService.load();
+        written.clear();
+
+        // Act
+        loadService.load();
+
+        // Assert
+        assertTrue(Files.exists(snapshot));
+        assertEquals(Set.of(1L, 2L, 3L), written);
+        assertEquals(PropertyLoadStatus.State.READY, loadStatus.getState());
+    }
+
+    @Test
+    @DisplayName("Test a checkpointed source load removes the checkpoint once every file is loaded")
+    void testLoadSourcesWithCheckpoint() throws IOException {
+        // Arrange
+        writeFeed("a.ndjson", 1, 2, 3);
+        writeFeed("b.ndjson", 4, 5);
+        Path checkpoint = feedDirectory.resolve("load.checkpoint");
+        ReflectionTestUtils.setField(loadService, "source", feedDirectory.resolve("*.ndjson").toString());
+        ReflectionTestUtils.setField(checkpointLoader, "checkpointFile", checkpoint.toString());
+
+        // Act
+        loadService.load();
+
+        // Assert
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), written);
+        assertFalse(Files.exists(checkpoint));
+        assertEquals(PropertyLoadStatus.State.READY, loadStatus.getState());
+    }
+
+    @Test
+    @DisplayName("Test PropertyLoadService can be created with null dependencies")
+    void testConstructorWithNullDependencies() {
+        // Act & Assert - Should not throw exception
+        assertDoesNotThrow(() -> new PropertyLoadService(null, null, null, null, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Test PropertyLoadService with different concurrent thread values")
+    void testDifferentConcurrentThreadValues() {
+        // Test various values
+        int[] testValues = {1, 5, 10, 20, 50, 100};
+
+        for (int value : testValues) {
+            ReflectionTestUtils.setField(streamingLoader, "concurrentThreads", value);
+            Integer actualValue = (Integer) ReflectionTestUtils.getField(streamingLoader, "concurrentThreads");
+            assertEquals(value, actualValue, "Concurrent threads should be set to " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("Test PropertyLoadService fields are properly injected")
+    void testFieldInjection() {
+        // Assert
+        assertNotNull(ReflectionTestUtils.getField(loadService, "propertyRepository"));
+        assertNotNull(ReflectionTestUtils.getField(loadService, "objectMapper"));
+        assertSame(streamingLoader, ReflectionTestUtils.getField(loadService, "streamingLoader"));
+        assertSame(snapshotLoader, ReflectionTestUtils.getField(loadService, "snapshotLoader"));
+        assertSame(checkpointLoader, ReflectionTestUtils.getField(loadService, "checkpointLoader"));
+        assertNotNull(ReflectionTestUtils.getField(loadService, "treeLoader"));
+        assertSame(loadStatus.getProgress(), ReflectionTestUtils.getField(loadService, "progress"));
+    }
+}
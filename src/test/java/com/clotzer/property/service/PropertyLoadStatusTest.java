@@ -0,0 +1,117 @@
+package com.clotzer.property.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PropertyLoadStatus and PropertyLoadAvailability classes.
+ *
+ * <p>This test class verifies the load state transitions, the readiness events they publish, and that
+ * readiness published by Spring Boot is held back until the load completes.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+class PropertyLoadStatusTest {
+
+    private final List<ReadinessState> published = new ArrayList<>();
+
+    private PropertyLoadStatus loadStatus;
+
+    private PropertyLoadAvailability availability;
+
+    @BeforeEach
+    void setUp() {
+        availability = null;
+        loadStatus = new PropertyLoadStatus(event -> {
+            AvailabilityChangeEvent<?> change = (AvailabilityChangeEvent<?>) event;
+            published.add((ReadinessState) change.getState());
+            if (availability != null) {
+                availability.onApplicationEvent(change);
+            }
+        });
+        availability = new PropertyLoadAvailability(loadStatus);
+    }
+
+    @Test
+    @DisplayName("Test a node starts loading and refuses traffic until the load completes")
+    void testInitialState() {
+        // Act
+        loadStatus.loading();
+
+        // Assert
+        assertEquals(PropertyLoadStatus.State.LOADING, loadStatus.getState());
+        assertFalse(loadStatus.isReady());
+        assertNotNull(loadStatus.getStartedAt());
+        assertNull(loadStatus.getFinishedAt());
+        assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), published);
+    }
+
+    @Test
+    @DisplayName("Test readiness published at startup is held back while a background load runs")
+    void testStartupReadinessIsGated() {
+        // Arrange
+        loadStatus.loading();
+
+        // Act - Spring Boot finishes starting while the load is still running
+        loadStatus.applicationReady();
+        availability.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        // Assert
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+
+        // Act - the load completes
+        loadStatus.ready();
+
+        // Assert
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+        assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), published);
+        assertNotNull(loadStatus.getFinishedAt());
+    }
+
+    @Test
+    @DisplayName("Test a load completing before startup finishes leaves readiness to Spring Boot")
+    void testSynchronousLoad() {
+        // Act
+        loadStatus.loading();
+        loadStatus.ready();
+
+        // Assert
+        assertTrue(loadStatus.isReady());
+        assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), published);
+    }
+
+    @Test
+    @DisplayName("Test a failed load keeps refusing traffic and records the reason")
+    void testFailedLoad() {
+        // Arrange
+        loadStatus.loading();
+        loadStatus.applicationReady();
+        availability.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        // Act
+        loadStatus.failed("Disk full");
+
+        // Assert
+        assertEquals(PropertyLoadStatus.State.FAILED, loadStatus.getState());
+        assertEquals("Disk full", loadStatus.getFailure());
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, availability.getReadinessState());
+
+        // Act - a later load succeeds
+        loadStatus.loading();
+        loadStatus.ready();
+
+        // Assert
+        assertNull(loadStatus.getFailure());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    }
+}
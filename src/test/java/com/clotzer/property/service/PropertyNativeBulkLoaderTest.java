@@ -0,0 +1,174 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.entity.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the PropertyNativeBulkLoader class.
+ *
+ * <p>This test class verifies strategy selection by database product name and the lifecycle of
+ * the temporary CSV file handed to the selected strategy.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+class PropertyNativeBulkLoaderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    private Property testProperty;
+
+    @BeforeEach
+    void setUp() {
+        testProperty = new Property(
+            1L, "Test Resort", "Beachfront", "Miami", "Florida", "USA",
+            "123 Ocean Drive", "+1-305-555-0123", "info@testresort.com",
+            "10 miles from Miami International", "Beautiful beachfront resort",
+            new BigDecimal("299.99"), new BigDecimal("45.00"), "50% if cancelled within 48 hours"
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private void databaseIs(String productName) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(productName);
+    }
+
+    private PropertyNativeBulkLoader loader() {
+        return new PropertyNativeBulkLoader(jdbcTemplate,
+            List.of(new MySqlLoadDataStrategy(jdbcTemplate), new H2CsvReadStrategy(jdbcTemplate)),
+            tempDir.toString());
+    }
+
+    @Test
+    @DisplayName("Test MySQL selects the LOAD DATA strategy")
+    @SuppressWarnings("unchecked")
+    void testSelectsMySqlStrategy() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+            .thenReturn("MySQL", "jdbc:mysql://localhost:3306/properties?allowLoadLocalInfileInPath=/tmp");
+        when(jdbcTemplate.queryForObject("SELECT @@GLOBAL.local_infile", Boolean.class)).thenReturn(true);
+
+        // Act & Assert
+        assertInstanceOf(MySqlLoadDataStrategy.class, loader().getStrategy());
+    }
+
+    @Test
+    @DisplayName("Test MySQL without local infile on the connection URL fails with a clear message")
+    @SuppressWarnings("unchecked")
+    void testMySqlWithoutLocalInfile() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+            .thenReturn("MySQL", "jdbc:mysql://localhost:3306/properties?rewriteBatchedStatements=true");
+
+        // Act & Assert
+        IllegalStateException thrownException = assertThrows(IllegalStateException.class, () -> loader().getStrategy());
+        assertTrue(thrownException.getMessage().contains("allowLoadLocalInfileInPath"));
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class));
+    }
+
+    @Test
+    @DisplayName("Test MySQL with local_infile off on the server fails with a clear message")
+    @SuppressWarnings("unchecked")
+    void testMySqlServerWithoutLocalInfile() {
+        // Arrange
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+            .thenReturn("MySQL", "jdbc:mysql://localhost:3306/properties?allowLoadLocalInfile=true");
+        when(jdbcTemplate.queryForObject("SELECT @@GLOBAL.local_infile", Boolean.class)).thenReturn(false);
+
+        // Act & Assert
+        IllegalStateException thrownException = assertThrows(IllegalStateException.class, () -> loader().getStrategy());
+        assertTrue(thrownException.getMessage().contains("local_infile=ON"));
+    }
+
+    @Test
+    @DisplayName("Test connection URLs are checked for local infile settings")
+    void testAllowsLocalInfile() {
+        assertTrue(MySqlLoadDataStrategy.allowsLocalInfile("jdbc:mysql://h/db?a=1&allowLoadLocalInfileInPath=/var/tmp/x"));
+        assertTrue(MySqlLoadDataStrategy.allowsLocalInfile("jdbc:mysql://h/db?allowloadlocalinfile=TRUE"));
+        assertFalse(MySqlLoadDataStrategy.allowsLocalInfile("jdbc:mysql://h/db?allowLoadLocalInfile=false"));
+        assertFalse(MySqlLoadDataStrategy.allowsLocalInfile("jdbc:mysql://h/db?allowLoadLocalInfileInPath="));
+        assertFalse(MySqlLoadDataStrategy.allowsLocalInfile("jdbc:mysql://h/db"));
+        assertFalse(MySqlLoadDataStrategy.allowsLocalInfile(null));
+    }
+
+    @Test
+    @DisplayName("Test H2 selects the CSVREAD strategy and resolves it once")
+    void testSelectsH2Strategy() {
+        // Arrange
+        databaseIs("H2");
+        PropertyNativeBulkLoader loader = loader();
+
+        // Act
+        BulkLoadStrategy first = loader.getStrategy();
+        BulkLoadStrategy second = loader.getStrategy();
+
+        // Assert
+        assertInstanceOf(H2CsvReadStrategy.class, first);
+        assertSame(first, second);
+        verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+    }
+
+    @Test
+    @DisplayName("Test unsupported database fails with a clear message")
+    void testUnsupportedDatabase() {
+        // Arrange
+        databaseIs("PostgreSQL");
+
+        // Act & Assert
+        IllegalStateException thrownException = assertThrows(IllegalStateException.class, () -> loader().getStrategy());
+        assertTrue(thrownException.getMessage().contains("PostgreSQL"));
+    }
+
+    @Test
+    @DisplayName("Test write hands a complete CSV file to the strategy and deletes it afterwards")
+    void testWriteLoadsAndDeletesFile() {
+        // Arrange
+        databaseIs("H2");
+        List<Path> loadedFiles = new ArrayList<>();
+        when(jdbcTemplate.update(eq(H2CsvReadStrategy.LOAD_SQL), anyString())).thenAnswer(invocation -> {
+            Path file = Path.of(invocation.getArgument(1, String.class));
+            loadedFiles.add(file);
+            assertEquals(3, Files.readAllLines(file).size());
+            return 2;
+        });
+
+        // Act
+        loader().write(List.of(testProperty, testProperty));
+
+        // Assert
+        assertEquals(1, loadedFiles.size());
+        assertTrue(loadedFiles.get(0).startsWith(tempDir));
+        assertFalse(Files.exists(loadedFiles.get(0)));
+    }
+
+    @Test
+    @DisplayName("Test write with null chunk throws exception")
+    void testWriteWithNullChunk() {
+        assertThrows(IllegalArgumentException.class, () -> loader().write(null));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
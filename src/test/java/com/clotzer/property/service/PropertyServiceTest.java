@@ -3,6 +3,7 @@ package com.clotzer.property.service;
 import com.clotzer.property.PropertyService;
 import com.clotzer.property.entity.Property;
 import com.clotzer.property.repository.PropertyRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -10,7 +11,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -33,6 +38,12 @@ class PropertyServiceTest {
     @Mock
     private PropertyRepository propertyRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private PropertyService propertyService;
 
@@ -45,17 +56,18 @@ class PropertyServiceTest {
             1L, "Test Resort", "Beachfront", "Miami", "Florida", "USA",
             "123 Ocean Drive", "+1-305-555-0123", "info@testresort.com",
             "10 miles from Miami International", "Beautiful beachfront resort",
-            "299.99", "45.00", "50% if cancelled within 48 hours"
+            new BigDecimal("299.99"), new BigDecimal("45.00"), "50% if cancelled within 48 hours"
         );
 
         Property secondProperty = new Property(
             2L, "Mountain Lodge", "Mountain View", "Denver", "Colorado", "USA",
             "456 Pine Street", "+1-303-555-0456", "info@mountainlodge.com",
             "20 miles from Denver International", "Cozy mountain retreat",
-            "199.99", "30.00", "25% if cancelled within 24 hours"
+            new BigDecimal("199.99"), new BigDecimal("30.00"), "25% if cancelled within 24 hours"
         );
 
         testProperties = Arrays.asList(testProperty, secondProperty);
+        ReflectionTestUtils.setField(propertyService, "entityManager", entityManager);
     }
 
     @Test
@@ -209,4 +221,171 @@ class PropertyServiceTest {
 
         verify(propertyRepository, times(1)).saveAll(largeDataset);
     }
+
+    @Test
+    @DisplayName("Test insertPropertiesBatch persists each property without merging")
+    void testInsertPropertiesBatchSuccess() {
+        // Act & Assert - Should not throw any exception
+        assertDoesNotThrow(() -> propertyService.insertPropertiesBatch(testProperties));
+
+        // Verify - persist per entity, a single flush, and no merge through the repository
+        verify(entityManager, times(1)).persist(testProperties.get(0));
+        verify(entityManager, times(1)).persist(testProperties.get(1));
+        verify(entityManager, times(1)).flush();
+        verify(entityManager, never()).merge(any());
+        verifyNoInteractions(propertyRepository);
+    }
+
+    @Test
+    @DisplayName("Test insertPropertiesBatch wraps persistence failures")
+    void testInsertPropertiesBatchThrowsException() {
+        // Arrange
+        doThrow(new RuntimeException("Duplicate entry")).when(entityManager).flush();
+
+        // Act & Assert
+        RuntimeException thrownException = assertThrows(RuntimeException.class,
+            () -> propertyService.insertPropertiesBatch(testProperties));
+
+        assertEquals("Batch insert failed", thrownException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test insertPropertiesBatch throws exception for null list")
+    void testInsertPropertiesBatchWithNullList() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> propertyService.insertPropertiesBatch(null));
+
+        verifyNoInteractions(entityManager);
+    }
+
+    /**
+     * Creates properties with distinct IDs, so equal sublists of a chunked save cannot be confused.
+     */
+    private static List<Property> distinctProperties(int count) {
+        List<Property> properties = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            Property property = new Property();
+            property.setId(id);
+            properties.add(property);
+        }
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Test savePropertiesInChunks commits, flushes and clears once per chunk")
+    void testSavePropertiesInChunksSuccess() {
+        // Arrange
+        List<Property> properties = distinctProperties(5);
+
+        // Act
+        long saved = propertyService.savePropertiesInChunks(properties, 2);
+
+        // Assert
+        assertEquals(5L, saved);
+        verify(propertyRepository, times(1)).saveAll(properties.subList(0, 2));
+        verify(propertyRepository, times(1)).saveAll(properties.subList(2, 4));
+        verify(propertyRepository, times(1)).saveAll(properties.subList(4, 5));
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+        verify(transactionManager, times(3)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Test savePropertiesInChunks rolls back only the failing chunk")
+    void testSavePropertiesInChunksIsolatesFailure() {
+        // Arrange
+        List<Property> properties = distinctProperties(5);
+        when(propertyRepository.saveAll(anyList()))
+            .thenReturn(List.of())
+            .thenThrow(new RuntimeException("Duplicate entry"))
+            .thenReturn(List.of());
+
+        // Act
+        long saved = propertyService.savePropertiesInChunks(properties, 2);
+
+        // Assert
+        assertEquals(3L, saved);
+        verify(propertyRepository, times(3)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Test savePropertiesInChunks requires a transaction manager")
+    void testSavePropertiesInChunksWithoutTransactionManager() {
+        // Arrange
+        PropertyService service = new PropertyService(propertyRepository);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> service.savePropertiesInChunks(testProperties, 10));
+        verifyNoInteractions(propertyRepository);
+    }
+
+    @Test
+    @DisplayName("Test savePropertiesInChunks with null list throws exception")
+    void testSavePropertiesInChunksWithNullList() {
+        // Act & Assert
+        IllegalArgumentException thrownException = assertThrows(IllegalArgumentException.class,
+            () -> propertyService.savePropertiesInChunks(null, 10));
+
+        assertEquals("Properties list cannot be null", thrownException.getMessage());
+        verifyNoInteractions(propertyRepository);
+    }
+
+    @Test
+    @DisplayName("Test deletePropertiesByIds issues a single bulk delete")
+    void testDeletePropertiesByIdsSuccess() {
+        // Arrange
+        jakarta.persistence.Query query = mock(jakarta.persistence.Query.class);
+        List<Long> ids = List.of(1L, 2L);
+        when(entityManager.createQuery("DELETE FROM Property p WHERE p.id IN :ids")).thenReturn(query);
+        when(query.setParameter("ids", ids)).thenReturn(query);
+        when(query.executeUpdate()).thenReturn(2);
+
+        // Act
+        int deleted = propertyService.deletePropertiesByIds(ids);
+
+        // Assert
+        assertEquals(2, deleted);
+        verifyNoInteractions(propertyRepository);
+    }
+
+    @Test
+    @DisplayName("Test deletePropertiesByIds with no IDs does nothing")
+    void testDeletePropertiesByIdsEmpty() {
+        assertEquals(0, propertyService.deletePropertiesByIds(List.of()));
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("Test deletePropertiesByIds with null IDs throws exception")
+    void testDeletePropertiesByIdsWithNull() {
+        assertThrows(IllegalArgumentException.class, () -> propertyService.deletePropertiesByIds(null));
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("Test findPropertiesByPriceRange queries the inclusive range")
+    void testFindPropertiesByPriceRange() {
+        // Arrange
+        BigDecimal min = new BigDecimal("150");
+        BigDecimal max = new BigDecimal("300");
+        when(propertyRepository.findByPropertyPricePerNightBetweenOrderByPropertyPricePerNightAscIdAsc(min, max))
+            .thenReturn(testProperties);
+
+        // Act & Assert
+        assertEquals(testProperties, propertyService.findPropertiesByPriceRange(min, max));
+    }
+
+    @Test
+    @DisplayName("Test findPropertiesByPriceRange rejects an inverted range")
+    void testFindPropertiesByPriceRangeInverted() {
+        assertThrows(IllegalArgumentException.class,
+            () -> propertyService.findPropertiesByPriceRange(new BigDecimal("300"), new BigDecimal("150")));
+        assertThrows(IllegalArgumentException.class,
+            () -> propertyService.findPropertiesByPriceRange(null, new BigDecimal("150")));
+        verifyNoInteractions(propertyRepository);
+    }
 }
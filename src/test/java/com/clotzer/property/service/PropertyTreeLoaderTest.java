@@ -0,0 +1,116 @@
+package com.clotzer.property.service;
+
+import com.clotzer.property.PropertyService;
+import com.clotzer.property.entity.Property;
+import com.clotzer.property.loader.PropertyLoadProgress;
+import com.clotzer.property.loader.RejectedRecordHandler;
+import com.clotzer.property.repository.PropertyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the PropertyTreeLoader class.
+ *
+ * <p>This test class verifies that the tree loader saves every parsed property in chunks and hands
+ * unparseable records to the rejected record handler of the run.
+ *
+ * @author Carey Lotzer
+ * @version 1.0
+ * @since 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+class PropertyTreeLoaderTest {
+
+    private static final String RECORD = "{\"id\": %d, \"propertyName\": \"Test Resort\", \"propertyLocation\": \"Beachfront\", "
+        + "\"propertyCity\": \"Miami\", \"propertyState\": \"Florida\", \"propertyCountry\": \"USA\", "
+        + "\"propertyAddress\": \"123 Ocean Drive\", \"propertyPhoneNumber\": \"+1-305-555-0123\", "
+        + "\"propertyEmailAddress\": \"info@testresort.com\", \"propertyAirportProximity\": \"10 miles\", "
+        + "\"propertyDescription\": \"Beautiful\", \"propertyPricePerNight\": 299.99, "
+        + "\"propertyCommissionAmount\": 45.00, \"propertyCancellationPenalty\": \"50%%\"}";
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    @Mock
+    private PropertyService propertyService;
+
+    private PropertyTreeLoader treeLoader;
+
+    @BeforeEach
+    void setUp() {
+        treeLoader = new PropertyTreeLoader(new ObjectMapper(), propertyRepository, propertyService);
+        ReflectionTestUtils.setField(treeLoader, "chunkSize", 2);
+    }
+
+    private static InputStream feed(String properties) {
+        return new ByteArrayInputStream(("{\"properties\": [" + properties + "]}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PropertyLoadRun run(RejectedRecordHandler rejects) {
+        return new PropertyLoadRun(rejects, null, null, new PropertyLoadProgress(), null);
+    }
+
+    @Test
+    @DisplayName("Test parsed properties are saved in chunks of the configured size")
+    @SuppressWarnings("unchecked")
+    void testLoadSavesPropertiesInChunks() throws IOException {
+        // Arrange
+        ArgumentCaptor<List<Property>> saved = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        try (RejectedRecordHandler rejects = new RejectedRecordHandler(-1, null)) {
+            treeLoader.load(feed(RECORD.formatted(1) + "," + RECORD.formatted(2) + "," + RECORD.formatted(3)),
+                "test", run(rejects));
+        }
+
+        // Assert
+        verify(propertyService).savePropertiesInChunks(saved.capture(), eq(2));
+        assertEquals(List.of(1L, 2L, 3L), saved.getValue().stream().map(Property::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Test unparseable records are rejected and the rest saved")
+    @SuppressWarnings("unchecked")
+    void testLoadRejectsInvalidRecords() throws IOException {
+        // Arrange
+        ArgumentCaptor<List<Property>> saved = ArgumentCaptor.forClass(List.class);
+
+        // Act & Assert
+        try (RejectedRecordHandler rejects = new RejectedRecordHandler(-1, null)) {
+            treeLoader.load(feed(RECORD.formatted(1) + ", {\"id\": \"not a number\"}"), "test", run(rejects));
+            assertEquals(1, rejects.getRejectedCount());
+        }
+        verify(propertyService).savePropertiesInChunks(saved.capture(), anyInt());
+        assertEquals(List.of(1L), saved.getValue().stream().map(Property::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Test a document without a properties array saves nothing")
+    void testLoadWithoutPropertiesArray() throws IOException {
+        // Act
+        try (RejectedRecordHandler rejects = new RejectedRecordHandler(-1, null)) {
+            treeLoader.load(new ByteArrayInputStream("{\"items\": []}".getBytes(StandardCharsets.UTF_8)), "test",
+                run(rejects));
+        }
+
+        // Assert
+        verifyNoInteractions(propertyService);
+    }
+}